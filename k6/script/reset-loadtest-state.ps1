@@ -111,7 +111,10 @@ DECLARE
     'auth_error_cluster',
     'auth_error_analysis_result',
     'processed_message',
+    'outbox_message_archive',
     'outbox_message',
+    'auth_error_dedup_key',
+    'auth_error_stacktrace',
     'auth_error'
   ];
   existing_tables text[];
@@ -146,7 +149,10 @@ WITH expected(table_name) AS (
     ('auth_error_cluster'),
     ('auth_error_analysis_result'),
     ('processed_message'),
+    ('outbox_message_archive'),
     ('outbox_message'),
+    ('auth_error_dedup_key'),
+    ('auth_error_stacktrace'),
     ('auth_error')
 )
 SELECT
@@ -0,0 +1,30 @@
+-- LT-006 outbox soak 사전 준비: 발행 완료된 과거 outbox 이력을 대량으로 만든다.
+-- psql -v rows=5000000 -v days=30 -f k6/script/seed-outbox-history.sql
+--
+-- - created_at/updated_at을 최근 :days일에 고르게 분산한다. (archive-after보다 오래된 행이 대부분)
+-- - 이벤트 타입/키는 실제 적재분과 겹치지 않는 SEED 전용 값을 쓴다.
+
+\set ON_ERROR_STOP on
+
+insert into outbox_message
+    (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash,
+     status, created_at, updated_at, published_at)
+select 'SEED',
+       g::text,
+       'LT006_SEED_V1',
+       jsonb_build_object('seq', g),
+       'LT006:SEED:' || g,
+       sha256(convert_to('LT006:SEED:' || g, 'UTF8')),
+       'PUBLISHED',
+       t,
+       t,
+       t
+  from generate_series(1, :rows) as g,
+       lateral (select now() - make_interval(secs => (g::double precision / :rows) * :days * 86400)) as ts(t);
+
+analyze outbox_message;
+
+select count(*) as outbox_rows,
+       pg_size_pretty(pg_total_relation_size('outbox_message')) as outbox_total_size,
+       pg_size_pretty(pg_relation_size('ix_outbox_polling')) as polling_index_size
+  from outbox_message;
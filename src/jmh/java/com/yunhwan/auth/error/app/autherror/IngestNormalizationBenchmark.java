@@ -0,0 +1,117 @@
+package com.yunhwan.auth.error.app.autherror;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건의 수집 정책 정규화 비용(지연/할당) 비교.
+ *
+ * 실행: ./gradlew jmh  (할당량은 -prof gc 의 gc.alloc.rate.norm, B/op)
+ * - legacy: single-pass 전환 이전 구현 (replace/trim/replaceAll/matches)
+ * - singlePass: AuthFailureContextNormalizer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IngestNormalizationBenchmark {
+
+    private static final int MAX_STACKTRACE_CHARS = 8_000;
+    private static final int MAX_EXCEPTION_MESSAGE_CHARS = 1_000;
+
+    /** CRLF: 윈도우/일부 SDK가 보내는 stacktrace, LF: 대부분의 JVM 클라이언트 */
+    @Param({"LF", "CRLF"})
+    public String lineEnding;
+
+    private String provider;
+    private String clientType;
+    private String userAgentFamily;
+    private String endpoint;
+    private String principalHash;
+    private String exceptionMessage;
+    private String stacktrace;
+
+    @Setup
+    public void setUp() {
+        String nl = "CRLF".equals(lineEnding) ? "\r\n" : "\n";
+        provider = " internal-auth ";
+        clientType = "mobile app";
+        userAgentFamily = "Chrome/Stable";
+        endpoint = "/api//auth/login?token=secret&redirect=/home";
+        principalHash = "ABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCD";
+        exceptionMessage = "JWT expired at 2026-01-01T00:00:00Z. Current time: 2026-01-01T00:05:00Z" + nl;
+
+        StringBuilder sb = new StringBuilder("java.lang.IllegalStateException: token expired").append(nl);
+        while (sb.length() < 12_000) {
+            sb.append("\tat com.example.auth.TokenVerifier.verify(TokenVerifier.java:42)").append(nl);
+        }
+        stacktrace = sb.toString();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        bh.consume(Legacy.token(provider, 100));
+        bh.consume(Legacy.token(clientType, 50));
+        bh.consume(Legacy.token(userAgentFamily, 100));
+        bh.consume(Legacy.endpoint(endpoint));
+        bh.consume(Legacy.hash(principalHash));
+        bh.consume(Legacy.text(exceptionMessage, MAX_EXCEPTION_MESSAGE_CHARS));
+        bh.consume(Legacy.text(stacktrace, MAX_STACKTRACE_CHARS));
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        bh.consume(AuthFailureContextNormalizer.normalizeProvider(provider));
+        bh.consume(AuthFailureContextNormalizer.normalizeClientType(clientType));
+        bh.consume(AuthFailureContextNormalizer.normalizeUserAgentFamily(userAgentFamily));
+        bh.consume(AuthFailureContextNormalizer.normalizeEndpoint(endpoint));
+        bh.consume(AuthFailureContextNormalizer.normalizeHash(principalHash));
+        bh.consume(AuthFailureContextNormalizer.normalizeText(exceptionMessage, MAX_EXCEPTION_MESSAGE_CHARS));
+        bh.consume(AuthFailureContextNormalizer.normalizeText(stacktrace, MAX_STACKTRACE_CHARS));
+    }
+
+    private static final class Legacy {
+
+        static String text(String input, int maxChars) {
+            String s = input.replace("\r\n", "\n").replace("\r", "\n").trim();
+            if (s.isEmpty() || maxChars <= 0) {
+                return null;
+            }
+            return s.length() <= maxChars ? s : s.substring(0, maxChars);
+        }
+
+        static String token(String value, int maxChars) {
+            String normalized = value.trim().toUpperCase(Locale.ROOT)
+                    .replace('-', '_')
+                    .replaceAll("[^A-Z0-9_./]", "_")
+                    .replaceAll("_+", "_");
+            if (normalized.isEmpty()) {
+                return null;
+            }
+            return normalized.length() <= maxChars ? normalized : normalized.substring(0, maxChars);
+        }
+
+        static String endpoint(String value) {
+            String normalized = value.trim();
+            if (normalized.indexOf('?') >= 0) {
+                normalized = normalized.substring(0, normalized.indexOf('?'));
+            }
+            normalized = normalized.replaceAll("/{2,}", "/");
+            return normalized.length() <= 300 ? normalized : normalized.substring(0, 300);
+        }
+
+        static String hash(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            return normalized.matches("^[0-9a-f]{64}$") ? normalized : null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.yunhwan.auth.error.common.hash;
+
+import com.yunhwan.auth.error.domain.autherror.StackHashUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SHA-256 hex 경로 비교. (payload_hash / stack_hash)
+ *
+ * 실행: ./gradlew jmh  (할당량은 -prof gc 의 gc.alloc.rate.norm, B/op)
+ * - legacy*: 호출마다 MessageDigest.getInstance + getBytes(UTF_8) (+ stack은 lines().collect, String.format hex)
+ * - hasher*: Sha256Hasher / 현재 StackHashUtil
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Sha256HashBenchmark {
+
+    private String payloadJson;
+    private String exceptionClass;
+    private String stacktrace;
+
+    @Setup
+    public void setUp() {
+        payloadJson = "{\"authErrorId\":123456,\"requestId\":\"REQ-7f0c2a9e-1b1d-4c55-9a53-2f0f2f3d9d11\","
+                + "\"occurredAt\":\"2026-01-01T00:00:00Z\",\"errorType\":\"TOKEN_EXPIRED\","
+                + "\"message\":\"인증 토큰이 만료되었습니다\",\"endpoint\":\"/api/auth/login\"}";
+        exceptionClass = "java.lang.IllegalStateException";
+        StringBuilder sb = new StringBuilder("java.lang.IllegalStateException: token expired\n");
+        while (sb.length() < 8_000) {
+            sb.append("\tat com.example.auth.TokenVerifier.verify(TokenVerifier.java:42)\n");
+        }
+        stacktrace = sb.toString();
+    }
+
+    @Benchmark
+    public String legacyPayloadHash() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(payloadJson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String hasherPayloadHash() {
+        return Sha256Hasher.hex(payloadJson);
+    }
+
+    @Benchmark
+    public String legacyStackHash() throws NoSuchAlgorithmException {
+        String top = stacktrace.lines().limit(3).collect(Collectors.joining("\n", "", "\n"));
+        String basis = (exceptionClass + "\n" + top).trim();
+        byte[] dig = MessageDigest.getInstance("SHA-256").digest(basis.getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder(dig.length * 2);
+        for (byte b : dig) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    @Benchmark
+    public String hasherStackHash() {
+        return StackHashUtil.compute(exceptionClass, stacktrace);
+    }
+}
@@ -0,0 +1,33 @@
+package com.yunhwan.auth.error.app.api.auth;
+
+import com.yunhwan.auth.error.common.exception.IngestRejectedException;
+import com.yunhwan.auth.error.common.exception.IngestThrottledException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(assignableTypes = AuthErrorController.class)
+public class AuthErrorApiExceptionHandler {
+
+    /**
+     * ingest 보호 장치가 돌려보낸 요청: 저장되지 않았으므로 같은 requestId로 재시도하면 된다.
+     */
+    @ExceptionHandler(IngestRejectedException.class)
+    public ResponseEntity<Void> handleIngestRejected(IngestRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .build();
+    }
+
+    /**
+     * backlog 압력으로 미룬 낮은 우선순위 요청: Retry-After 이후 재시도를 기대한다.
+     */
+    @ExceptionHandler(IngestThrottledException.class)
+    public ResponseEntity<Void> handleIngestThrottled(IngestThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .build();
+    }
+}
@@ -1,43 +1,108 @@
 package com.yunhwan.auth.error.app.api.auth;
 
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorAcceptedResponse;
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorBatchRecordResponse;
 import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordRequest;
 import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordResponse;
 import com.yunhwan.auth.error.app.autherror.AuthErrorFacade;
+import com.yunhwan.auth.error.common.exception.IngestRejectedException;
+import com.yunhwan.auth.error.usecase.autherror.IngestAdmissionController;
 import com.yunhwan.auth.error.infra.metrics.MetricsConfig;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/auth-errors")
 public class AuthErrorController {
 
+    /**
+     * 배치 1건의 최대 항목 수: 한 트랜잭션/statement 크기를 제한한다.
+     */
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final String API_RECORD = "/api/auth-errors";
+    private static final String API_RECORD_BATCH = "/api/auth-errors/batch";
+    private static final String API_RECORD_ASYNC = "/api/auth-errors/async";
+
     private final AuthErrorFacade authErrorFacade;
+    private final IngestAdmissionController ingestAdmissionController;
     private final MeterRegistry meterRegistry;
 
     @PostMapping
     public ResponseEntity<AuthErrorRecordResponse> record(@Valid @RequestBody AuthErrorRecordRequest req) {
         try {
+            // backlog 압력이 높으면 낮은 우선순위 유형은 적재 전에 429로 미룬다.
+            ingestAdmissionController.admit(req.errorType());
             AuthErrorRecordResponse res = authErrorFacade.record(req);
             // 요청 유입(ingest_rate) 기준선 산출용
-            ingestCounter(MetricsConfig.RESULT_SUCCESS).increment();
+            ingestCounter(MetricsConfig.RESULT_SUCCESS, API_RECORD).increment();
             return ResponseEntity.ok(res);
+        } catch (IngestRejectedException e) {
+            // admission/bulkhead로 돌려보낸 요청은 실패(error)와 구분해서 집계
+            ingestCounter(MetricsConfig.RESULT_REJECT, API_RECORD).increment();
+            throw e;
         } catch (Exception e) {
             // 5xx/예외 시 ingest 실패 집계
-            ingestCounter(MetricsConfig.RESULT_ERROR).increment();
+            ingestCounter(MetricsConfig.RESULT_ERROR, API_RECORD).increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 수집: 로컬 journal에 기록(fsync)되면 202로 응답한다. DB 적재는 뒤에서 배치로 한다.
+     */
+    @PostMapping("/async")
+    public ResponseEntity<AuthErrorAcceptedResponse> recordAsync(@Valid @RequestBody AuthErrorRecordRequest req) {
+        try {
+            ingestAdmissionController.admit(req.errorType());
+            AuthErrorAcceptedResponse res = authErrorFacade.recordAsync(req);
+            ingestCounter(MetricsConfig.RESULT_SUCCESS, API_RECORD_ASYNC).increment();
+            return ResponseEntity.accepted().body(res);
+        } catch (IngestRejectedException e) {
+            ingestCounter(MetricsConfig.RESULT_REJECT, API_RECORD_ASYNC).increment();
+            throw e;
+        } catch (Exception e) {
+            ingestCounter(MetricsConfig.RESULT_ERROR, API_RECORD_ASYNC).increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 배치 수집: 요청 배열 전체를 한 트랜잭션(multi-row INSERT/UPSERT)으로 적재한다.
+     * 항목별 결과(중복 여부 포함)를 요청 순서대로 돌려준다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<AuthErrorBatchRecordResponse> recordBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid AuthErrorRecordRequest> reqs
+    ) {
+        try {
+            AuthErrorBatchRecordResponse res = authErrorFacade.recordBatch(reqs);
+            // ingest_rate는 항목 수 기준으로 집계해서 단건 API와 합산 가능하게 한다.
+            ingestCounter(MetricsConfig.RESULT_SUCCESS, API_RECORD_BATCH).increment(reqs.size());
+            return ResponseEntity.ok(res);
+        } catch (IngestRejectedException e) {
+            ingestCounter(MetricsConfig.RESULT_REJECT, API_RECORD_BATCH).increment(reqs.size());
+            throw e;
+        } catch (Exception e) {
+            ingestCounter(MetricsConfig.RESULT_ERROR, API_RECORD_BATCH).increment(reqs.size());
             throw e;
         }
     }
 
-    private Counter ingestCounter(String result) {
+    private Counter ingestCounter(String result, String api) {
         // api+result만 사용 (요청ID 등 금지)
         return Counter.builder(MetricsConfig.METRIC_INGEST)
                 .tag(MetricsConfig.TAG_RESULT, result)
-                .tag("api", "/api/auth-errors")
+                .tag("api", api)
                 .register(meterRegistry);
     }
 }
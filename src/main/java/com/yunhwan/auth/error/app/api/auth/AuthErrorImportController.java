@@ -0,0 +1,75 @@
+package com.yunhwan.auth.error.app.api.auth;
+
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorBulkImportResponse;
+import com.yunhwan.auth.error.app.autherror.AuthErrorBulkImportFacade;
+import com.yunhwan.auth.error.app.autherror.AuthErrorImportFormat;
+import com.yunhwan.auth.error.infra.metrics.MetricsConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * 과거 데이터 대량 적재 API. 요청 본문을 스트리밍으로 읽어 COPY로 적재한다.
+ *
+ * curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @auth_errors.ndjson \
+ *      'http://localhost:8080/api/auth-errors/import?enqueueOutbox=false'
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth-errors/import")
+@ConditionalOnProperty(name = "auth-error.bulk-import.enabled", havingValue = "true")
+public class AuthErrorImportController {
+
+    private static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    private static final String MEDIA_TYPE_CSV = "text/csv";
+
+    private final AuthErrorBulkImportFacade authErrorBulkImportFacade;
+    private final MeterRegistry meterRegistry;
+
+    @PostMapping(consumes = MEDIA_TYPE_NDJSON)
+    public AuthErrorBulkImportResponse importNdjson(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean enqueueOutbox
+    ) {
+        return importRecords(request, AuthErrorImportFormat.NDJSON, enqueueOutbox);
+    }
+
+    @PostMapping(consumes = MEDIA_TYPE_CSV)
+    public AuthErrorBulkImportResponse importCsv(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean enqueueOutbox
+    ) {
+        return importRecords(request, AuthErrorImportFormat.CSV, enqueueOutbox);
+    }
+
+    private AuthErrorBulkImportResponse importRecords(HttpServletRequest request, AuthErrorImportFormat format,
+                                                      boolean enqueueOutbox) {
+        AuthErrorBulkImportResponse res;
+        try {
+            res = authErrorBulkImportFacade.importRecords(request.getInputStream(), format, enqueueOutbox);
+        } catch (IOException e) {
+            // 이후 행을 신뢰할 수 없는 입력 오류. 이미 commit된 chunk는 재실행 시 dedup으로 건너뛴다.
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bulk import aborted: " + e.getMessage(), e);
+        }
+        rowsCounter(MetricsConfig.RESULT_SUCCESS).increment(res.inserted());
+        rowsCounter("duplicate").increment(res.duplicates());
+        rowsCounter(MetricsConfig.RESULT_REJECT).increment(res.rejected());
+        return res;
+    }
+
+    private Counter rowsCounter(String result) {
+        return Counter.builder(MetricsConfig.METRIC_BULK_IMPORT_ROWS)
+                .tag(MetricsConfig.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
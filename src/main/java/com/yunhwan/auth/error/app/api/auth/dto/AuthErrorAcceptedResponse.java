@@ -0,0 +1,8 @@
+package com.yunhwan.auth.error.app.api.auth.dto;
+
+/**
+ * 비동기 수집 응답: 적재 결과(id) 대신 접수된 requestId만 돌려준다.
+ */
+public record AuthErrorAcceptedResponse(
+        String requestId
+) {}
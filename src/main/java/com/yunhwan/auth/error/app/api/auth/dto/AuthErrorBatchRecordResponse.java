@@ -0,0 +1,21 @@
+package com.yunhwan.auth.error.app.api.auth.dto;
+
+import java.util.List;
+
+public record AuthErrorBatchRecordResponse(
+        int total,
+        int duplicates,
+        List<Item> items
+) {
+
+    /**
+     * 요청 배열과 같은 순서의 항목별 결과.
+     * duplicate=true 이면 이미 적재된(또는 같은 배치에서 앞서 등장한) requestId 이다.
+     */
+    public record Item(
+            String requestId,
+            long authErrorId,
+            long outboxId,
+            boolean duplicate
+    ) {}
+}
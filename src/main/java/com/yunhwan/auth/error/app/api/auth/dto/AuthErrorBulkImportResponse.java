@@ -0,0 +1,24 @@
+package com.yunhwan.auth.error.app.api.auth.dto;
+
+import java.util.List;
+
+/**
+ * 대량 적재 결과.
+ * - rows = inserted + duplicates + rejected
+ * - rejectedSamples는 앞에서부터 최대 maxRejectedSamples건만 담는다.
+ */
+public record AuthErrorBulkImportResponse(
+        long rows,
+        long inserted,
+        long duplicates,
+        long rejected,
+        long elapsedMs,
+        double rowsPerSecond,
+        List<RejectedRow> rejectedSamples
+) {
+    public record RejectedRow(
+            long line,
+            String requestId,
+            String reason
+    ) {}
+}
@@ -0,0 +1,137 @@
+package com.yunhwan.auth.error.app.autherror;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorBulkImportResponse;
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordRequest;
+import com.yunhwan.auth.error.app.autherror.AuthErrorImportReader.ImportRow;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBulkWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 과거 auth_error 대량 적재(backfill).
+ *
+ * 입력을 한 행씩 읽어 API와 같은 검증(Bean Validation) + 수집 정책(AuthErrorFacade)을 적용하고,
+ * chunkRows건씩 COPY 한 번(= 트랜잭션 1회)으로 적재한다. 메모리 사용량은 chunk 크기에만 비례한다.
+ *
+ * - 검증/형식 오류 행은 적재하지 않고 rejected로 센다.
+ * - chunk 적재 중 DB 오류가 나면 그때까지 commit된 chunk는 남고 예외가 전파된다.
+ *   같은 입력을 다시 넣으면 requestId dedup으로 이미 적재된 행은 duplicate로 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthErrorBulkImportFacade {
+
+    private static final long PROGRESS_LOG_INTERVAL_ROWS = 1_000_000;
+
+    private final AuthErrorFacade authErrorFacade;
+    private final AuthErrorWriter authErrorWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AuthErrorProperties authErrorProperties;
+
+    public AuthErrorBulkImportResponse importRecords(InputStream in, AuthErrorImportFormat format, boolean enqueueOutbox)
+            throws IOException {
+        AuthErrorProperties.BulkImport props = authErrorProperties.getBulkImport();
+        int chunkRows = Math.max(1, props.getChunkRows());
+        Tally tally = new Tally(Math.max(0, props.getMaxRejectedSamples()), System.nanoTime());
+
+        List<AuthErrorWriteCommand> chunk = new ArrayList<>(chunkRows);
+        try (AuthErrorImportReader reader = new AuthErrorImportReader(in, format, objectMapper)) {
+            for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+                tally.rows++;
+                String reason = row.error() != null ? row.error() : violations(row.request());
+                if (reason != null) {
+                    tally.reject(row, reason);
+                    continue;
+                }
+                chunk.add(authErrorFacade.toWriteCommand(row.request(), false));
+                if (chunk.size() >= chunkRows) {
+                    flush(chunk, enqueueOutbox, tally);
+                }
+            }
+            flush(chunk, enqueueOutbox, tally);
+        }
+
+        long elapsedNanos = System.nanoTime() - tally.startedAtNanos;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : tally.rows * 1e9 / elapsedNanos;
+        log.info("auth_error_bulk_import_done format={}, rows={}, inserted={}, duplicates={}, rejected={}, elapsedMs={}, rowsPerSecond={}",
+                format, tally.rows, tally.inserted, tally.duplicates, tally.rejected,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond));
+        return new AuthErrorBulkImportResponse(
+                tally.rows,
+                tally.inserted,
+                tally.duplicates,
+                tally.rejected,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rowsPerSecond,
+                List.copyOf(tally.rejectedSamples)
+        );
+    }
+
+    private void flush(List<AuthErrorWriteCommand> chunk, boolean enqueueOutbox, Tally tally) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        AuthErrorBulkWriteResult result = authErrorWriter.recordBulk(chunk, enqueueOutbox);
+        tally.inserted += result.inserted();
+        tally.duplicates += result.duplicates();
+        chunk.clear();
+
+        long loaded = tally.inserted + tally.duplicates;
+        if (loaded / PROGRESS_LOG_INTERVAL_ROWS != (loaded - result.inserted() - result.duplicates()) / PROGRESS_LOG_INTERVAL_ROWS) {
+            log.info("auth_error_bulk_import_progress rows={}, inserted={}, duplicates={}, rejected={}, elapsedMs={}",
+                    tally.rows, tally.inserted, tally.duplicates, tally.rejected,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tally.startedAtNanos));
+        }
+    }
+
+    private String violations(AuthErrorRecordRequest req) {
+        Set<ConstraintViolation<AuthErrorRecordRequest>> violations = validator.validate(req);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static final class Tally {
+        private final int maxRejectedSamples;
+        private final long startedAtNanos;
+        private final List<AuthErrorBulkImportResponse.RejectedRow> rejectedSamples = new ArrayList<>();
+        private long rows;
+        private long inserted;
+        private long duplicates;
+        private long rejected;
+
+        private Tally(int maxRejectedSamples, long startedAtNanos) {
+            this.maxRejectedSamples = maxRejectedSamples;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        private void reject(ImportRow row, String reason) {
+            rejected++;
+            if (rejectedSamples.size() < maxRejectedSamples) {
+                String requestId = row.request() == null ? null : row.request().requestId();
+                rejectedSamples.add(new AuthErrorBulkImportResponse.RejectedRow(row.line(), requestId, reason));
+            }
+        }
+    }
+}
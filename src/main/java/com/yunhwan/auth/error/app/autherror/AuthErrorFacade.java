@@ -1,16 +1,22 @@
 package com.yunhwan.auth.error.app.autherror;
 
 
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorAcceptedResponse;
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorBatchRecordResponse;
 import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordRequest;
 import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordResponse;
-import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorGroupCommitter;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorJournalIngestor;
 import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.IngestDbBulkhead;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
@@ -31,24 +37,74 @@ public class AuthErrorFacade {
     private static final int SAMPLE_DENOMINATOR = 100; // 100건 중 1건
 
     private final AuthErrorWriter authErrorWriter;
+    private final AuthErrorGroupCommitter authErrorGroupCommitter;
+    private final IngestDbBulkhead ingestDbBulkhead;
+    private final AuthErrorJournalIngestor authErrorJournalIngestor;
 
     public AuthErrorRecordResponse record(AuthErrorRecordRequest req) {
+        AuthErrorWriteCommand cmd = toWriteCommand(req, true);
+        // group commit 활성 시 여러 요청의 단건 적재를 한 트랜잭션으로 묶는다. (응답 계약은 동일)
+        // group commit은 flusher 수가 DB 동시성 상한이라 bulkhead를 거치지 않는다.
+        AuthErrorWriteResult result = authErrorGroupCommitter.isEnabled()
+                ? authErrorGroupCommitter.record(cmd)
+                : ingestDbBulkhead.execute(() -> authErrorWriter.record(cmd));
+        return new AuthErrorRecordResponse(result.authErrorId(), result.outboxId());
+    }
+
+    /**
+     * 비동기 수집: journal이 활성화되어 있으면 로컬 journal에 fsync한 뒤 바로 접수 응답한다.
+     * (DB 적재는 drainer가 배치로 한다) 비활성이면 동기 경로로 적재한 뒤 같은 응답을 준다.
+     */
+    public AuthErrorAcceptedResponse recordAsync(AuthErrorRecordRequest req) {
+        AuthErrorWriteCommand cmd = toWriteCommand(req, true);
+        if (authErrorJournalIngestor.isEnabled()) {
+            authErrorJournalIngestor.append(cmd);
+        } else {
+            ingestDbBulkhead.execute(() -> authErrorWriter.record(cmd));
+        }
+        return new AuthErrorAcceptedResponse(cmd.requestId());
+    }
+
+    /**
+     * 배치 수집: 항목별로 단건과 동일한 수집 정책을 적용한 뒤 한 트랜잭션으로 적재한다.
+     */
+    public AuthErrorBatchRecordResponse recordBatch(List<AuthErrorRecordRequest> reqs) {
+        List<AuthErrorWriteCommand> cmds = reqs.stream()
+                .map(req -> toWriteCommand(req, true))
+                .toList();
+
+        List<AuthErrorBatchWriteResult> results = ingestDbBulkhead.execute(() -> authErrorWriter.recordBatch(cmds));
+
+        List<AuthErrorBatchRecordResponse.Item> items = results.stream()
+                .map(r -> new AuthErrorBatchRecordResponse.Item(r.requestId(), r.authErrorId(), r.outboxId(), r.duplicate()))
+                .toList();
+        int duplicates = (int) items.stream().filter(AuthErrorBatchRecordResponse.Item::duplicate).count();
+        return new AuthErrorBatchRecordResponse(items.size(), duplicates, items);
+    }
+
+    /**
+     * 수집 정책(정규화/길이 상한)을 적용한 적재 명령. 대량 적재(import)도 같은 정책을 쓴다.
+     * samplePayloadLength: 길이 샘플 로그(1%) 여부. 대량 적재는 로그 폭증을 막기 위해 끈다.
+     */
+    AuthErrorWriteCommand toWriteCommand(AuthErrorRecordRequest req, boolean samplePayloadLength) {
         int msgBeforeLen = safeLen(req.exceptionMessage());
         int stackBeforeLen = safeLen(req.stacktrace());
 
         // "수집 정책"은 여기서 적용해서, API payload 변경이 엔티티/도메인까지 번지는 걸 막는다.
-        String exceptionMessage = sanitizeAndTruncate(req.exceptionMessage(), MAX_EXCEPTION_MESSAGE_CHARS);
-        String rootCauseMessage = sanitizeAndTruncate(req.rootCauseMessage(), MAX_EXCEPTION_MESSAGE_CHARS);
+        String exceptionMessage = AuthFailureContextNormalizer.normalizeText(req.exceptionMessage(), MAX_EXCEPTION_MESSAGE_CHARS);
+        String rootCauseMessage = AuthFailureContextNormalizer.normalizeText(req.rootCauseMessage(), MAX_EXCEPTION_MESSAGE_CHARS);
 
         // stacktrace는 용량 폭발의 주범이라 반드시 상한을 둔다.
-        String stacktrace = sanitizeAndTruncate(req.stacktrace(), MAX_STACKTRACE_CHARS);
+        String stacktrace = AuthFailureContextNormalizer.normalizeText(req.stacktrace(), MAX_STACKTRACE_CHARS);
 
         int msgAfterLen = safeLen(exceptionMessage);
         int stackAfterLen = safeLen(stacktrace);
 
-        logPayloadLenSampleIfNeeded(req.requestId(), req.exceptionClass(), msgBeforeLen, msgAfterLen, stackBeforeLen, stackAfterLen);
+        if (samplePayloadLength) {
+            logPayloadLenSampleIfNeeded(req.requestId(), req.exceptionClass(), msgBeforeLen, msgAfterLen, stackBeforeLen, stackAfterLen);
+        }
 
-        AuthErrorWriteCommand cmd = new AuthErrorWriteCommand(
+        return new AuthErrorWriteCommand(
                 req.requestId(),
                 req.occurredAt(),
 
@@ -75,8 +131,6 @@ public class AuthErrorFacade {
                 rootCauseMessage,
                 stacktrace
         );
-        AuthErrorWriteResult result = authErrorWriter.record(cmd);
-        return new AuthErrorRecordResponse(result.authErrorId(), result.outboxId());
     }
 
     private void logPayloadLenSampleIfNeeded(String requestId,
@@ -101,39 +155,6 @@ public class AuthErrorFacade {
         return s == null ? 0 : s.length();
     }
 
-    /**
-     *  (KR) 줄바꿈 정규화 후 최대 길이로 절단.
-     */
-    private static String sanitizeAndTruncate(String input, int maxChars) {
-        if (input == null) {
-            return null;
-        }
-
-        String s = normalizeLineEndings(input).trim();
-        if (s.isEmpty()) {
-            return null;
-        }
-
-        if (maxChars <= 0) {
-            // Defensive: if misconfigured, do not store the payload.
-            return null;
-        }
-
-        if (s.length() <= maxChars) {
-            return s;
-        }
-
-        return s.substring(0, maxChars);
-    }
-
-    /**
-     *  CRLF/CR을 LF로 통일해서 저장/해시/집계 안정성을 높인다.
-     */
-    private static String normalizeLineEndings(String s) {
-        // Replace CRLF first, then remaining CR.
-        return s.replace("\r\n", "\n").replace("\r", "\n");
-    }
-
     private static String firstNonBlank(String first, String second) {
         if (first != null && !first.isBlank()) {
             return first;
@@ -0,0 +1,8 @@
+package com.yunhwan.auth.error.app.autherror;
+
+public enum AuthErrorImportFormat {
+    /** 한 줄에 JSON 하나 (application/x-ndjson) */
+    NDJSON,
+    /** header 포함 RFC 4180 CSV (text/csv) */
+    CSV
+}
@@ -0,0 +1,170 @@
+package com.yunhwan.auth.error.app.autherror;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.app.api.auth.dto.AuthErrorRecordRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 적재 입력을 한 행씩 읽는다. (입력 전체를 메모리에 올리지 않음)
+ *
+ * - NDJSON: 한 줄에 AuthErrorRecordRequest JSON 하나. 빈 줄은 건너뛴다.
+ * - CSV(RFC 4180): 첫 행은 header(AuthErrorRecordRequest 필드명). 따옴표 안의 줄바꿈(stacktrace)을 허용한다.
+ *   따옴표 없는 빈 필드는 null로 본다.
+ *
+ * 행 단위 형식 오류는 ImportRow.error로 돌려주고 계속 읽는다.
+ * 이후 행을 신뢰할 수 없는 오류(닫히지 않은 따옴표로 행이 maxRecordChars를 넘는 경우 등)는 IOException.
+ */
+final class AuthErrorImportReader implements Closeable {
+
+    private static final int MAX_RECORD_CHARS = 1_000_000;
+
+    /**
+     * @param line  NDJSON은 줄 번호, CSV는 header를 제외한 레코드 번호 (1부터)
+     * @param error 형식 오류면 사유, 아니면 null
+     */
+    record ImportRow(long line, AuthErrorRecordRequest request, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final AuthErrorImportFormat format;
+    private List<String> header;
+    private long line;
+
+    AuthErrorImportReader(InputStream in, AuthErrorImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행. 입력이 끝나면 null.
+     */
+    ImportRow next() throws IOException {
+        return format == AuthErrorImportFormat.NDJSON ? nextNdjson() : nextCsv();
+    }
+
+    private ImportRow nextNdjson() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        try {
+            return new ImportRow(line, objectMapper.readValue(text, AuthErrorRecordRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(line, null, "invalid json: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRow nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.stream().map(n -> n == null ? "" : n.strip()).toList();
+        }
+        List<String> values = readCsvRecord();
+        if (values == null) {
+            return null;
+        }
+        line++;
+        if (values.size() != header.size()) {
+            return new ImportRow(line, null, "column count mismatch: expected=" + header.size() + ", actual=" + values.size());
+        }
+        Map<String, String> fields = new HashMap<>(header.size() * 2);
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        try {
+            return new ImportRow(line, objectMapper.convertValue(fields, AuthErrorRecordRequest.class), null);
+        } catch (IllegalArgumentException e) {
+            return new ImportRow(line, null, "invalid field: " + e.getMessage());
+        }
+    }
+
+    /**
+     * CSV 레코드 하나. 입력이 끝나면 null. 빈 줄은 건너뛴다.
+     */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            c = reader.read();
+        }
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        int recordChars = 0;
+        while (true) {
+            if (++recordChars > MAX_RECORD_CHARS) {
+                throw new IOException("csv record exceeds " + MAX_RECORD_CHARS + " chars (unclosed quote?). record=" + (line + 1));
+            }
+            if (inQuotes) {
+                if (c < 0) {
+                    throw new IOException("unexpected end of input inside quoted field. record=" + (line + 1));
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                values.add(fieldValue(field, quoted));
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                values.add(fieldValue(field, quoted));
+                return values;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String fieldValue(StringBuilder field, boolean quoted) {
+        return (!quoted && field.isEmpty()) ? null : field.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -2,12 +2,36 @@ package com.yunhwan.auth.error.app.autherror;
 
 import java.util.Locale;
 
+/**
+ * 수집 정책 정규화.
+ *
+ * 요청마다 돌기 때문에 정규식/중간 문자열 없이 한 번의 scan으로 처리한다.
+ * (trim → 문자 치환/축약 → 절단을 한 루프에서. 바뀔 게 없으면 원본/부분 문자열을 그대로 돌려준다)
+ * 결과는 기존 구현(replace/trim/replaceAll/matches 조합)과 문자 단위로 동일하다.
+ */
 final class AuthFailureContextNormalizer {
 
     private static final int MAX_PROVIDER_CHARS = 100;
     private static final int MAX_CLIENT_TYPE_CHARS = 50;
     private static final int MAX_ENDPOINT_CHARS = 300;
     private static final int MAX_USER_AGENT_FAMILY_CHARS = 100;
+    private static final int SHA256_HEX_CHARS = 64;
+
+    /** 토큰에 남길 수 있는 ASCII 문자: [A-Z0-9_./] */
+    private static final boolean[] TOKEN_ALLOWED = new boolean[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            TOKEN_ALLOWED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            TOKEN_ALLOWED[c] = true;
+        }
+        TOKEN_ALLOWED['_'] = true;
+        TOKEN_ALLOWED['.'] = true;
+        TOKEN_ALLOWED['/'] = true;
+    }
+
     private AuthFailureContextNormalizer() {
     }
 
@@ -19,54 +43,202 @@ final class AuthFailureContextNormalizer {
         return normalizeToken(value, MAX_CLIENT_TYPE_CHARS);
     }
 
+    static String normalizeUserAgentFamily(String value) {
+        return normalizeToken(value, MAX_USER_AGENT_FAMILY_CHARS);
+    }
+
+    /**
+     * 줄바꿈 정규화(CRLF/CR → LF) + trim + 최대 길이 절단.
+     * 공백뿐이거나 maxChars가 0 이하면 null.
+     */
+    static String normalizeText(String input, int maxChars) {
+        if (input == null) {
+            return null;
+        }
+        int start = trimStart(input);
+        int end = trimEnd(input, start);
+        if (start == end || maxChars <= 0) {
+            return null;
+        }
+
+        int cr = input.indexOf('\r', start);
+        if (cr < 0 || cr >= end) {
+            // CR이 없으면 출력 = 입력 구간
+            return input.substring(start, Math.min(end, start + maxChars));
+        }
+
+        // CR 사이 구간은 통째로 복사하고 CR/CRLF 자리에만 LF를 넣는다.
+        int limit = Math.min(end - start, maxChars);
+        StringBuilder out = new StringBuilder(limit);
+        int from = start;
+        while (cr >= 0 && cr < end && out.length() < limit) {
+            out.append(input, from, Math.min(cr, from + (limit - out.length())));
+            if (out.length() < limit) {
+                out.append('\n');
+            }
+            from = (cr + 1 < end && input.charAt(cr + 1) == '\n') ? cr + 2 : cr + 1;
+            cr = input.indexOf('\r', from);
+        }
+        if (out.length() < limit && from < end) {
+            out.append(input, from, Math.min(end, from + (limit - out.length())));
+        }
+        return out.toString();
+    }
+
+    /**
+     * trim → query string 제거 → 연속 '/' 축약 → 절단.
+     * (trim 후 '?'로 시작하면 빈 문자열이 된다. 기존 동작 유지)
+     */
     static String normalizeEndpoint(String value) {
         if (value == null) {
             return null;
         }
-        String normalized = value.trim();
-        if (normalized.isEmpty()) {
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        if (start == end) {
             return null;
         }
-        if (normalized.indexOf('?') >= 0) {
-            normalized = normalized.substring(0, normalized.indexOf('?'));
+        int query = value.indexOf('?', start);
+        if (query >= 0 && query < end) {
+            end = query;
+        }
+
+        char[] out = null;
+        int len = 0;
+        char prev = 0;
+        for (int i = start; i < end && len < MAX_ENDPOINT_CHARS; i++) {
+            char c = value.charAt(i);
+            if (c == '/' && prev == '/') {
+                if (out == null) {
+                    out = copyPrefix(value, start, len, Math.min(end - start, MAX_ENDPOINT_CHARS));
+                }
+                continue;
+            }
+            if (out != null) {
+                out[len] = c;
+            }
+            len++;
+            prev = c;
         }
-        normalized = normalized.replaceAll("/{2,}", "/");
-        return truncate(normalized, MAX_ENDPOINT_CHARS);
+        return out == null ? value.substring(start, start + len) : new String(out, 0, len);
     }
 
+    /**
+     * SHA-256 hex(64자)만 허용하고 소문자로 통일한다. 그 외(raw 값 등)는 저장하지 않는다.
+     */
     static String normalizeHash(String value) {
         if (value == null) {
             return null;
         }
-        String normalized = value.trim().toLowerCase(Locale.ROOT);
-        if (normalized.matches("^[0-9a-f]{64}$")) {
-            return normalized;
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        // 비ASCII 문자는 소문자화해도 [0-9a-f]가 되지 않으므로 ASCII hex 64자만 보면 된다.
+        if (end - start != SHA256_HEX_CHARS) {
+            return null;
         }
-        return null;
-    }
-
-    static String normalizeUserAgentFamily(String value) {
-        return normalizeToken(value, MAX_USER_AGENT_FAMILY_CHARS);
+        boolean hasUpper = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')) {
+                continue;
+            }
+            if (c >= 'A' && c <= 'F') {
+                hasUpper = true;
+                continue;
+            }
+            return null;
+        }
+        String hex = value.substring(start, end);
+        return hasUpper ? hex.toLowerCase(Locale.ROOT) : hex;
     }
 
+    /**
+     * trim → 대문자(Locale.ROOT) → [A-Z0-9_./] 외 문자는 '_' → 연속 '_' 축약 → 절단.
+     */
     private static String normalizeToken(String value, int maxChars) {
         if (value == null) {
             return null;
         }
-        String normalized = value.trim().toUpperCase(Locale.ROOT)
-                .replace('-', '_')
-                .replaceAll("[^A-Z0-9_./]", "_")
-                .replaceAll("_+", "_");
-        if (normalized.isEmpty()) {
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        if (start == end) {
             return null;
         }
-        return truncate(normalized, maxChars);
+
+        char[] out = null;
+        int len = 0;
+        char prev = 0;
+        int i = start;
+        while (i < end && len < maxChars) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                // 비ASCII: 대문자 변환이 여러 문자로 늘어나거나(ß → SS) ASCII로 바뀌는(ı → I) 경우가 있어
+                // String.toUpperCase와 같은 결과가 되도록 code point 단위로 변환한다. (Locale.ROOT는 문맥 무관)
+                int cp = value.codePointAt(i);
+                int cpLen = Character.charCount(cp);
+                if (cpLen == 2 && i + 1 >= end) {
+                    cpLen = 1; // trim 경계에 걸친 surrogate (실제로는 발생하지 않음)
+                }
+                String upper = value.substring(i, i + cpLen).toUpperCase(Locale.ROOT);
+                if (out == null) {
+                    out = copyPrefix(value, start, len, maxChars);
+                }
+                for (int k = 0; k < upper.length() && len < maxChars; k++) {
+                    char mapped = mapTokenChar(upper.charAt(k));
+                    if (mapped == '_' && prev == '_') {
+                        continue;
+                    }
+                    out[len++] = mapped;
+                    prev = mapped;
+                }
+                i += cpLen;
+                continue;
+            }
+
+            char upper = (c >= 'a' && c <= 'z') ? (char) (c - 32) : c;
+            char mapped = mapTokenChar(upper);
+            boolean skip = mapped == '_' && prev == '_';
+            if (out == null && (skip || mapped != c)) {
+                out = copyPrefix(value, start, len, maxChars);
+            }
+            if (!skip) {
+                if (out != null) {
+                    out[len] = mapped;
+                }
+                len++;
+                prev = mapped;
+            }
+            i++;
+        }
+        return out == null ? value.substring(start, start + len) : new String(out, 0, len);
+    }
+
+    private static char mapTokenChar(char upper) {
+        return upper < 128 && TOKEN_ALLOWED[upper] ? upper : '_';
+    }
+
+    /** 지금까지 원본과 같았던 구간을 출력 버퍼로 옮긴다. (처음 바뀌는 문자를 만났을 때 한 번) */
+    private static char[] copyPrefix(String value, int start, int len, int capacity) {
+        char[] out = new char[capacity];
+        value.getChars(start, start + len, out, 0);
+        return out;
+    }
+
+    /** String.trim과 같은 기준(code <= ' ') */
+    private static int trimStart(String value) {
+        int start = 0;
+        int length = value.length();
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
     }
 
-    private static String truncate(String value, int maxChars) {
-        if (value.length() <= maxChars) {
-            return value;
+    private static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
         }
-        return value.substring(0, maxChars);
+        return end;
     }
 }
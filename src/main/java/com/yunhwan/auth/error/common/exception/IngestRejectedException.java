@@ -0,0 +1,18 @@
+package com.yunhwan.auth.error.common.exception;
+
+import lombok.Getter;
+
+/**
+ * ingest 보호 장치(bulkhead 등)가 요청을 받지 않고 돌려보낼 때 사용한다.
+ * API 계층에서 Retry-After와 함께 재시도 가능한 응답으로 변환한다.
+ */
+@Getter
+public class IngestRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IngestRejectedException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.yunhwan.auth.error.common.exception;
+
+/**
+ * backlog 압력으로 낮은 우선순위 요청을 미룰 때 사용한다. (429 + Retry-After)
+ */
+public class IngestThrottledException extends IngestRejectedException {
+
+    public IngestThrottledException(String msg, long retryAfterSeconds) {
+        super(msg, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,10 @@
+package com.yunhwan.auth.error.common.exception;
+
+/**
+ * publisher confirm을 deadline 안에 받지 못함. 재시도 대상이며, poller는 이를 브로커 정체 신호로 본다.
+ */
+public class PublishConfirmTimeoutException extends RetryablePublishException {
+    public PublishConfirmTimeoutException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,151 @@
+package com.yunhwan.auth.error.common.hash;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SHA-256 hex 공용 구현. (payload_hash / stack_hash / DLQ dedupe_key)
+ *
+ * 결과는 MessageDigest("SHA-256") + value.getBytes(UTF_8) + 소문자 hex와 바이트 단위로 동일하다.
+ * - MessageDigest는 호출마다 getInstance 하지 않고 스레드 id 기준 슬롯에 빌려 쓰고 돌려준다.
+ *   (ThreadLocal을 쓰지 않으므로 virtual thread에서도 인스턴스가 스레드 수만큼 늘지 않는다)
+ * - UTF-8 인코딩은 재사용 버퍼에 청크 단위로 쓰면서 digest에 흘려 넣는다. (getBytes의 byte[] 복사 없음)
+ * - hex는 lookup table로 변환한다. (String.format 없음)
+ */
+public final class Sha256Hasher {
+
+    public static final int HEX_LENGTH = 64;
+
+    private static final int DIGEST_LENGTH = 32;
+    private static final int CHUNK_CHARS = 512;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** 동시에 빌려갈 수 있는 슬롯 수(2의 거듭제곱). 비어 있으면 새로 만들고, 슬롯이 차 있으면 버린다. */
+    private static final int SLOTS = Integer.highestOneBit(Math.max(4, Runtime.getRuntime().availableProcessors() * 2) - 1) << 1;
+    private static final AtomicReferenceArray<State> POOL = new AtomicReferenceArray<>(SLOTS);
+
+    private Sha256Hasher() {
+    }
+
+    /** value 전체의 SHA-256 소문자 hex(64자). */
+    public static String hex(CharSequence value) {
+        return hex(value, 0, value.length());
+    }
+
+    /** value[start, end) 구간의 SHA-256 소문자 hex(64자). (subSequence/substring 없이 구간만 인코딩) */
+    public static String hex(CharSequence value, int start, int end) {
+        if (start < 0 || end > value.length() || start > end) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + value.length());
+        }
+        int slot = (int) Thread.currentThread().threadId() & (SLOTS - 1);
+        State state = POOL.getAndSet(slot, null);
+        if (state == null) {
+            state = new State();
+        }
+        try {
+            return state.hex(value, start, end);
+        } finally {
+            POOL.compareAndSet(slot, null, state);
+        }
+    }
+
+    private static final class State {
+        private final MessageDigest digest;
+        private final char[] chars = new char[CHUNK_CHARS];
+        private final byte[] buffer = new byte[CHUNK_CHARS * 3];
+        private final byte[] hash = new byte[DIGEST_LENGTH];
+        private final char[] hexChars = new char[HEX_LENGTH];
+
+        private State() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 digest algorithm is unavailable", e);
+            }
+        }
+
+        private String hex(CharSequence value, int start, int end) {
+            // 이전 호출이 예외로 끝났을 수 있으므로 항상 초기화하고 시작한다.
+            digest.reset();
+            encode(value, start, end);
+            try {
+                digest.digest(hash, 0, DIGEST_LENGTH);
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-256 digest failed", e);
+            }
+            for (int i = 0; i < DIGEST_LENGTH; i++) {
+                int b = hash[i] & 0xff;
+                hexChars[i << 1] = HEX[b >>> 4];
+                hexChars[(i << 1) + 1] = HEX[b & 0x0f];
+            }
+            return new String(hexChars);
+        }
+
+        /**
+         * String.getBytes(UTF_8)와 같은 규칙으로 인코딩한다.
+         * 짝이 맞지 않는 surrogate는 '?'(0x3F)로 치환된다. (JDK 기본 replacement와 동일)
+         *
+         * String/StringBuilder는 getChars로 CHUNK_CHARS씩 char 버퍼에 옮겨 배열 위에서 인코딩한다.
+         * (CharSequence.charAt 가상 호출을 문자마다 하지 않기 위함)
+         */
+        private void encode(CharSequence value, int start, int end) {
+            int from = start;
+            while (from < end) {
+                int to = Math.min(end, from + CHUNK_CHARS);
+                if (to < end && Character.isHighSurrogate(value.charAt(to - 1))) {
+                    to--; // surrogate pair가 청크 경계에서 갈리지 않도록 한 칸 당긴다.
+                }
+                if (value instanceof String str) {
+                    str.getChars(from, to, chars, 0);
+                } else if (value instanceof StringBuilder sb) {
+                    sb.getChars(from, to, chars, 0);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        chars[i - from] = value.charAt(i);
+                    }
+                }
+                digest.update(buffer, 0, encodeChunk(to - from));
+                from = to;
+            }
+        }
+
+        /** chars[0, length)를 buffer에 UTF-8로 쓰고 바이트 수를 돌려준다. (char당 최대 3바이트) */
+        private int encodeChunk(int length) {
+            char[] src = chars;
+            byte[] buf = buffer;
+            int pos = 0;
+            int i = 0;
+            // ASCII 구간 fast path
+            while (i < length && src[i] < 0x80) {
+                buf[pos++] = (byte) src[i++];
+            }
+            for (; i < length; i++) {
+                char c = src[i];
+                if (c < 0x80) {
+                    buf[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[pos++] = (byte) (0xc0 | (c >> 6));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(src[i + 1])) {
+                        int cp = Character.toCodePoint(c, src[i + 1]);
+                        buf[pos++] = (byte) (0xf0 | (cp >> 18));
+                        buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                        buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                        buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+                        i++;
+                    } else {
+                        buf[pos++] = '?';
+                    }
+                } else {
+                    buf[pos++] = (byte) (0xe0 | (c >> 12));
+                    buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buf[pos++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+            return pos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.yunhwan.auth.error.common.hash;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.HexFormat;
+
+/**
+ * SHA-256 hex(64자) 속성 ↔ bytea(32바이트) 컬럼 변환. (V17)
+ *
+ * 엔티티/DTO/API/로그는 계속 소문자 hex 문자열을 쓰고, DB에는 32바이트로만 저장한다.
+ * 대문자 hex도 읽지만 DB에서 다시 읽으면 소문자로 돌아온다.
+ */
+@Converter
+public class Sha256HexBytesConverter implements AttributeConverter<String, byte[]> {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Override
+    public byte[] convertToDatabaseColumn(String hex) {
+        if (hex == null) {
+            return null;
+        }
+        if (hex.length() != Sha256Hasher.HEX_LENGTH) {
+            throw new IllegalArgumentException("SHA-256 hex must be " + Sha256Hasher.HEX_LENGTH + " chars. length=" + hex.length());
+        }
+        return HEX.parseHex(hex);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : HEX.formatHex(bytes);
+    }
+}
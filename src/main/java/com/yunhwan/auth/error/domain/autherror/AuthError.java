@@ -1,5 +1,6 @@
 package com.yunhwan.auth.error.domain.autherror;
 
+import com.yunhwan.auth.error.common.hash.Sha256HexBytesConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -32,7 +33,9 @@ import java.time.OffsetDateTime;
 public class AuthError {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence: flush 시 INSERT를 JDBC batch로 묶는다. allocationSize는 sequence increment와 같아야 한다. (V19)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_error_id_seq")
+    @SequenceGenerator(name = "auth_error_id_seq", sequenceName = "auth_error_id_seq", allocationSize = 50)
     private Long id;
 
     /* ===== 식별/추적 ===== */
@@ -60,11 +63,13 @@ public class AuthError {
     /* ===== 요청 컨텍스트 ===== */
     @Column(name = "http_method", length = 10)
     private String httpMethod;
-    @Column(name = "request_uri")
+    /** cold: auth_error_detail (V18) */
+    @Transient
     private String requestUri;
     @Column(name = "client_ip", length = 50)
     private String clientIp;
-    @Column(name = "user_agent")
+    /** cold: auth_error_detail (V18) */
+    @Transient
     private String userAgent;
     @Column(name = "user_id", length = 100)
     private String userId;
@@ -98,9 +103,11 @@ public class AuthError {
     private String clientType;
     @Column(name = "endpoint")
     private String endpoint;
-    @Column(name = "principal_hash", length = 64)
+    @Convert(converter = Sha256HexBytesConverter.class)
+    @Column(name = "principal_hash")
     private String principalHash;
-    @Column(name = "ip_hash", length = 64)
+    @Convert(converter = Sha256HexBytesConverter.class)
+    @Column(name = "ip_hash")
     private String ipHash;
     @Column(name = "user_agent_family", length = 100)
     private String userAgentFamily;
@@ -114,18 +121,20 @@ public class AuthError {
     private String rootCauseClass;
     @Column(name = "root_cause_message")
     private String rootCauseMessage;
-    @Column(name = "stacktrace")
+    /** cold: auth_error_detail (V18) */
+    @Transient
     private String stacktrace;
+    /** stacktrace 원문이 auth_error_stacktrace로 분리된 경우의 내용 주소 (이때 stacktrace는 null) */
+    @Column(name = "stacktrace_hash", length = 64)
+    private String stacktraceHash;
 
     /* ===== JSONB ===== */
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "request_headers", columnDefinition = "jsonb")
+    /** cold: auth_error_detail (V18) */
+    @Transient
     private Object requestHeaders;
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "request_body", columnDefinition = "jsonb")
+    @Transient
     private Object requestBody;
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "extra_context", columnDefinition = "jsonb")
+    @Transient
     private Object extraContext;
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "tags", columnDefinition = "jsonb")
@@ -163,9 +172,21 @@ public class AuthError {
     private Integer httpStatus;
 
     /* ===== 스택 그룹핑 ===== */
-    @Column(name = "stack_hash", length = 64)
+    @Convert(converter = Sha256HexBytesConverter.class)
+    @Column(name = "stack_hash")
     private String stackHash;
 
+    /* ===== cold 컬럼 로딩 상태 ===== */
+    /** DB에서 읽은 행은 cold 컬럼이 비어 있다. AuthErrorStore.loadDetail로 채운다. */
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private boolean detailDetached;
+
+    @PostLoad
+    void markDetailDetached() {
+        this.detailDetached = true;
+    }
+
     /* ===== 도메인 행위 ===== */
 
     public static AuthError record(
@@ -257,6 +278,60 @@ public class AuthError {
         this.stackHash = StackHashUtil.compute(exceptionClass, stacktrace);
     }
 
+    /**
+     * stacktrace 원문을 내용 주소 저장소로 옮긴 뒤 참조만 남긴다. stack_hash는 이미 계산되어 있으므로 그대로 둔다.
+     */
+    public void externalizeStacktrace(String traceHash) {
+        if (this.id != null) {
+            throw new IllegalStateException("stacktrace must be externalized before insert. id=" + this.id);
+        }
+        this.stacktraceHash = traceHash;
+        this.stacktrace = null;
+    }
+
+    /**
+     * cold 컬럼(request_uri, stacktrace 등)을 쓸 수 있는 상태인지. 새로 만든 엔티티는 항상 true.
+     */
+    public boolean isDetailLoaded() {
+        return !detailDetached;
+    }
+
+    /**
+     * auth_error_detail 행이 필요한지 (cold 컬럼이 하나라도 있으면 true)
+     */
+    public boolean hasDetail() {
+        return requestUri != null || userAgent != null || stacktrace != null
+                || requestHeaders != null || requestBody != null || extraContext != null;
+    }
+
+    /**
+     * 읽어 온 auth_error_detail을 반영한다. detail 행이 없으면(cold 컬럼이 모두 null) null을 넘긴다.
+     */
+    public void attachDetail(AuthErrorDetail detail) {
+        if (detail != null && !detail.getAuthErrorId().equals(this.id)) {
+            throw new IllegalArgumentException(
+                    "auth_error_detail mismatch. id=" + this.id + ", detailId=" + detail.getAuthErrorId());
+        }
+        this.requestUri = detail == null ? null : detail.getRequestUri();
+        this.userAgent = detail == null ? null : detail.getUserAgent();
+        this.stacktrace = detail == null ? null : detail.getStacktrace();
+        this.requestHeaders = detail == null ? null : detail.getRequestHeaders();
+        this.requestBody = detail == null ? null : detail.getRequestBody();
+        this.extraContext = detail == null ? null : detail.getExtraContext();
+        this.detailDetached = false;
+    }
+
+    /**
+     * EntityManager를 거치지 않는 native multi-row INSERT 경로에서 DB가 발급한 id를 반영한다.
+     * (이미 영속화된 엔티티의 id는 바꾸지 않는다)
+     */
+    public void assignGeneratedId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("auth_error id already assigned. id=" + this.id);
+        }
+        this.id = id;
+    }
+
     public void markProcessed() {
         markProcessed(null);
     }
@@ -0,0 +1,89 @@
+package com.yunhwan.auth.error.domain.autherror;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * auth_error의 cold 컬럼(1:1). 상태 전이/조회 경로는 읽지 않고 분석/진단 경로에서만 명시적으로 읽는다. (V18)
+ * auth_error와 같은 occurred_at 파티션에 둔다.
+ * id를 직접 할당하므로 Persistable로 새 행임을 알린다. (save 시 merge용 SELECT 없이 INSERT가 batch로 묶인다)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "auth_error_detail")
+public class AuthErrorDetail implements Persistable<Long> {
+
+    @Id
+    @Column(name = "auth_error_id")
+    private Long authErrorId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private OffsetDateTime occurredAt;
+
+    @Column(name = "request_uri")
+    private String requestUri;
+    @Column(name = "user_agent")
+    private String userAgent;
+    @Column(name = "stacktrace")
+    private String stacktrace;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "request_headers", columnDefinition = "jsonb")
+    private Object requestHeaders;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "request_body", columnDefinition = "jsonb")
+    private Object requestBody;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "extra_context", columnDefinition = "jsonb")
+    private Object extraContext;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return authErrorId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * INSERT 된(id가 있는) auth_error의 cold 컬럼. 모두 null이면 행을 만들지 않으므로 null을 돌려준다.
+     */
+    public static AuthErrorDetail of(AuthError authError) {
+        if (authError.getId() == null) {
+            throw new IllegalStateException("auth_error id is not assigned yet");
+        }
+        if (!authError.hasDetail()) {
+            return null;
+        }
+        return AuthErrorDetail.builder()
+                .authErrorId(authError.getId())
+                .occurredAt(authError.getOccurredAt())
+                .requestUri(authError.getRequestUri())
+                .userAgent(authError.getUserAgent())
+                .stacktrace(authError.getStacktrace())
+                .requestHeaders(authError.getRequestHeaders())
+                .requestBody(authError.getRequestBody())
+                .extraContext(authError.getExtraContext())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yunhwan.auth.error.domain.autherror;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 내용 주소(trace_hash) 기준 stacktrace 원문. 같은 trace는 한 행만 둔다.
+ * content는 codec으로 압축된 바이트다. (압축/해제는 저장 어댑터 책임)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "auth_error_stacktrace")
+public class AuthErrorStacktrace {
+
+    @Id
+    @Column(name = "trace_hash", length = 64)
+    private String traceHash;
+
+    @Column(name = "codec", nullable = false, length = 10)
+    private String codec;
+
+    @Column(name = "raw_length", nullable = false)
+    private int rawLength;
+
+    @Column(name = "content", nullable = false)
+    private byte[] content;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+}
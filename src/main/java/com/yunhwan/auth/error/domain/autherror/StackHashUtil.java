@@ -1,37 +1,48 @@
 package com.yunhwan.auth.error.domain.autherror;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import com.yunhwan.auth.error.common.hash.Sha256Hasher;
 
 public final class StackHashUtil {
+    private static final int TOP_LINES = 3;
+
     private StackHashUtil() {}
 
+    /**
+     * sha256((exceptionClass + "\n" + 상위 3줄(줄마다 "\n")).trim())
+     * 기존 stack_hash 값과 호환되도록 String.lines() 분리 규칙(\n, \r, \r\n)과 trim 기준을 그대로 따른다.
+     */
     public static String compute(String exceptionClass, String stacktrace) {
-        String basis = (safe(exceptionClass) + "\n" + topLines(stacktrace, 3)).trim();
-        return sha256Hex(basis);
-    }
+        StringBuilder basis = new StringBuilder(basisCapacity(exceptionClass, stacktrace));
+        if (exceptionClass != null) {
+            basis.append(exceptionClass);
+        }
+        basis.append('\n');
+        appendTopLines(basis, stacktrace, TOP_LINES);
 
-    private static String topLines(String s, int n) {
-        if (s == null || s.isBlank()) return "";
-        return s.lines()
-                .limit(n)
-                .collect(java.util.stream.Collectors.joining("\n", "", "\n"));
+        int start = 0;
+        int end = basis.length();
+        while (start < end && basis.charAt(start) <= ' ') start++;
+        while (end > start && basis.charAt(end - 1) <= ' ') end--;
+        return Sha256Hasher.hex(basis, start, end);
     }
 
-    private static String sha256Hex(String input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] dig = md.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hex = new StringBuilder(dig.length * 2);
-            for (byte b : dig) hex.append(String.format("%02x", b));
-            return hex.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("sha256 compute failed", e);
+    private static void appendTopLines(StringBuilder out, String s, int n) {
+        if (s == null || s.isBlank()) return;
+        int length = s.length();
+        int i = 0;
+        for (int count = 0; count < n && i < length; count++) {
+            int lineEnd = i;
+            while (lineEnd < length && s.charAt(lineEnd) != '\n' && s.charAt(lineEnd) != '\r') lineEnd++;
+            out.append(s, i, lineEnd).append('\n');
+            if (lineEnd + 1 < length && s.charAt(lineEnd) == '\r' && s.charAt(lineEnd + 1) == '\n') lineEnd++;
+            i = lineEnd + 1;
         }
     }
 
-    private static String safe(String s) {
-        return s == null ? "" : s;
+    private static int basisCapacity(String exceptionClass, String stacktrace) {
+        int head = exceptionClass == null ? 0 : exceptionClass.length();
+        // 상위 3줄만 쓰므로 stacktrace 전체 길이만큼 잡지 않는다. (부족하면 StringBuilder가 늘린다)
+        int tail = stacktrace == null ? 0 : Math.min(stacktrace.length(), 512);
+        return head + tail + 4;
     }
 }
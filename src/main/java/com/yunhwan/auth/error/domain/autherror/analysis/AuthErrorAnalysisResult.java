@@ -24,7 +24,8 @@ import java.time.OffsetDateTime;
 public class AuthErrorAnalysisResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auth_error_analysis_result_id_seq")
+    @SequenceGenerator(name = "auth_error_analysis_result_id_seq", sequenceName = "auth_error_analysis_result_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "auth_error_id", nullable = false)
@@ -1,5 +1,6 @@
 package com.yunhwan.auth.error.domain.autherror.cluster;
 
+import com.yunhwan.auth.error.common.hash.Sha256HexBytesConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -29,7 +30,8 @@ public class AuthErrorCluster {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "cluster_key", nullable = false, length = 64)
+    @Convert(converter = Sha256HexBytesConverter.class)
+    @Column(name = "cluster_key", nullable = false)
     private String clusterKey; // stack_hash
 
     @Enumerated(EnumType.STRING)
@@ -1,6 +1,7 @@
 package com.yunhwan.auth.error.domain.outbox;
 
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
+import com.yunhwan.auth.error.common.hash.Sha256HexBytesConverter;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Type;
@@ -16,9 +17,6 @@ import java.time.OffsetDateTime;
         indexes = {
                 @Index(name = "ix_outbox_polling", columnList = "status,next_retry_at,created_at"),
                 @Index(name = "ix_outbox_aggregate", columnList = "aggregate_type,aggregate_id")
-        },
-        uniqueConstraints = {
-                @UniqueConstraint(name = "ux_outbox_idempotency_key", columnNames = "idempotency_key")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,7 +27,8 @@ public class OutboxMessage {
     private static final int DEFAULT_MAX_RETRIES = 10;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_id_seq")
+    @SequenceGenerator(name = "outbox_message_id_seq", sequenceName = "outbox_message_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "aggregate_type", nullable = false, length = 100)
@@ -49,10 +48,13 @@ public class OutboxMessage {
     @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
     private String payload;
 
+    /** unique 판정은 DB generated column idempotency_key_hash(sha256)로 한다. (V17, ux_outbox_idempotency_key_hash) */
     @Column(name = "idempotency_key", nullable = false, length = 200)
     private String idempotencyKey;
 
-    @Column(name = "payload_hash", nullable = false, length = 64)
+    /** DB에는 bytea(32)로 저장한다. (V17) */
+    @Convert(converter = Sha256HexBytesConverter.class)
+    @Column(name = "payload_hash", nullable = false)
     private String payloadHash;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,574 @@
+package com.yunhwan.auth.error.infra.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalBatch;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalPosition;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorIngestJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_INGEST_JOURNAL_APPEND;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_INGEST_JOURNAL_BACKLOG_BYTES;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_INGEST_JOURNAL_CORRUPT;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_INGEST_JOURNAL_FSYNC_BATCH;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.TAG_REASON;
+
+/**
+ * memory-mapped segment 파일 기반 ingest journal.
+ *
+ * 레코드 형식: [int length][int crc32c][payload(JSON)]
+ * - length는 payload를 쓴 뒤 마지막에 쓴다. length == 0이면 아직 쓰이지 않은 영역, -1이면 segment 끝(END)이다.
+ * - segment는 segmentBytes 크기로 미리 할당하고, END 마커 4바이트는 항상 남겨 둔다.
+ *
+ * fsync batching:
+ * - append는 mapping에 쓰고 ticket을 받은 뒤, syncer가 해당 구간을 force()할 때까지 기다린다.
+ * - syncer는 fsyncIntervalMicros마다 마지막 fsync 이후 쓰인 구간을 한 번에 force()하고 대기 중인 append를 모두 깨운다.
+ *
+ * 복구:
+ * - checkpoint 파일(마지막 acknowledge 위치) 이전 segment는 삭제한다.
+ * - 마지막 segment는 처음부터 CRC를 검증하며 훑고, 유효한 끝 이후(찢어진 tail)는 0으로 지운다.
+ * - checkpoint 이후 레코드는 다시 읽혀 재적재된다. (dedup_key = requestId 라서 멱등)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth-error.ingest.journal.enabled", havingValue = "true")
+public class MappedSegmentIngestJournal implements AuthErrorIngestJournal {
+
+    static final int HEADER_BYTES = 8;
+    static final int END_MARKER = -1;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String CHECKPOINT_TMP_FILE = "checkpoint.tmp";
+    private static final int CHECKPOINT_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long fsyncIntervalNanos;
+    private final long appendTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition durableCondition = lock.newCondition();
+
+    private final Timer appendTimer;
+    private final DistributionSummary fsyncBatchSummary;
+    private final Counter corruptCrcCounter;
+    private final Counter corruptDecodeCounter;
+
+    // lock으로 보호 (writer 상태)
+    private long activeSegment;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private int writeOffset;
+    private int syncedOffset;
+    private long appendedTicket;
+
+    private volatile long durableTicket;
+    private volatile IngestJournalPosition durablePosition;
+    private volatile IngestJournalPosition checkpoint;
+    private volatile boolean running;
+    private Thread syncer;
+
+    // drainer 단일 스레드에서만 사용 (reader 상태)
+    private long readerSegment = -1;
+    private ByteBuffer readerBuffer;
+
+    public MappedSegmentIngestJournal(
+            ObjectMapper objectMapper,
+            AuthErrorProperties authErrorProperties,
+            MeterRegistry meterRegistry
+    ) {
+        AuthErrorProperties.Journal props = authErrorProperties.getIngest().getJournal();
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(props.getDirectory());
+        this.segmentBytes = props.getSegmentBytes();
+        this.fsyncIntervalNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(1, props.getFsyncIntervalMicros()));
+        this.appendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, props.getAppendTimeoutMs()));
+        if (segmentBytes < 1024) {
+            throw new IllegalArgumentException("journal segmentBytes must be >= 1024. segmentBytes=" + segmentBytes);
+        }
+
+        this.appendTimer = Timer.builder(METRIC_INGEST_JOURNAL_APPEND).register(meterRegistry);
+        this.fsyncBatchSummary = DistributionSummary.builder(METRIC_INGEST_JOURNAL_FSYNC_BATCH).register(meterRegistry);
+        this.corruptCrcCounter = Counter.builder(METRIC_INGEST_JOURNAL_CORRUPT)
+                .tag(TAG_REASON, "crc")
+                .register(meterRegistry);
+        this.corruptDecodeCounter = Counter.builder(METRIC_INGEST_JOURNAL_CORRUPT)
+                .tag(TAG_REASON, "decode")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_INGEST_JOURNAL_BACKLOG_BYTES, this, MappedSegmentIngestJournal::backlogBytes)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open ingest journal. directory=" + directory, e);
+        } finally {
+            lock.unlock();
+        }
+        running = true;
+        syncer = new Thread(this::syncLoop, "ingest-journal-syncer");
+        syncer.setDaemon(true);
+        syncer.start();
+        log.info("[IngestJournal] opened. directory={}, checkpoint={}, durable={}",
+                directory.toAbsolutePath(), checkpoint, durablePosition);
+    }
+
+    @PreDestroy
+    void close() {
+        running = false;
+        if (syncer != null) {
+            LockSupport.unpark(syncer);
+            try {
+                syncer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (activeBuffer != null) {
+                activeBuffer.force();
+                publishDurable(appendedTicket, activeSegment, writeOffset);
+            }
+            closeQuietly(activeChannel);
+            activeChannel = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void append(AuthErrorWriteCommand cmd) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(cmd);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("failed to serialize journal record. requestId=" + cmd.requestId(), e);
+        }
+        if (HEADER_BYTES + payload.length + Integer.BYTES > segmentBytes) {
+            throw new IllegalArgumentException("journal record exceeds segment size. bytes=" + payload.length);
+        }
+
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("ingest journal is closed");
+            }
+            if (writeOffset + HEADER_BYTES + payload.length + Integer.BYTES > segmentBytes) {
+                rotate();
+            }
+            activeBuffer.putInt(writeOffset + Integer.BYTES, crc(payload, 0, payload.length));
+            activeBuffer.put(writeOffset + HEADER_BYTES, payload);
+            activeBuffer.putInt(writeOffset, payload.length);
+            writeOffset += HEADER_BYTES + payload.length;
+            awaitDurable(++appendedTicket, cmd.requestId());
+        } finally {
+            lock.unlock();
+            appendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public IngestJournalPosition checkpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public IngestJournalBatch read(IngestJournalPosition from, int maxEntries) {
+        IngestJournalPosition limit = durablePosition;
+        List<AuthErrorWriteCommand> commands = new ArrayList<>(Math.min(maxEntries, 1024));
+        long segment = from.segment();
+        int offset = from.offset();
+
+        while (commands.size() < maxEntries && new IngestJournalPosition(segment, offset).compareTo(limit) < 0) {
+            ByteBuffer buf = readerBuffer(segment);
+            if (buf == null || offset + Integer.BYTES > segmentBytes) {
+                segment++;
+                offset = 0;
+                continue;
+            }
+            int length = buf.getInt(offset);
+            if (length == END_MARKER) {
+                segment++;
+                offset = 0;
+                continue;
+            }
+            if (length <= 0 || offset + HEADER_BYTES + length > segmentBytes) {
+                // durable 구간 안에서 길이가 깨졌다면 segment 나머지는 신뢰할 수 없다.
+                corruptCrcCounter.increment();
+                log.error("[IngestJournal] corrupt record length. segment={}, offset={}, length={}", segment, offset, length);
+                segment++;
+                offset = 0;
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buf.get(offset + HEADER_BYTES, payload);
+            if (crc(payload, 0, length) != buf.getInt(offset + Integer.BYTES)) {
+                corruptCrcCounter.increment();
+                log.error("[IngestJournal] crc mismatch. segment={}, offset={}, length={}", segment, offset, length);
+                segment++;
+                offset = 0;
+                continue;
+            }
+            offset += HEADER_BYTES + length;
+            try {
+                commands.add(objectMapper.readValue(payload, AuthErrorWriteCommand.class));
+            } catch (IOException e) {
+                // 형식이 바뀐 레코드 등: 재시도해도 같으므로 건너뛴다.
+                corruptDecodeCounter.increment();
+                log.error("[IngestJournal] failed to decode record. segment={}, cause={}", segment, e.toString());
+            }
+        }
+        return new IngestJournalBatch(commands, new IngestJournalPosition(segment, offset));
+    }
+
+    @Override
+    public void acknowledge(IngestJournalPosition upTo) {
+        if (upTo.compareTo(checkpoint) <= 0) {
+            return;
+        }
+        try {
+            writeCheckpoint(upTo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write journal checkpoint. position=" + upTo, e);
+        }
+        checkpoint = upTo;
+        deleteSegmentsBefore(Math.min(upTo.segment(), activeSegmentSnapshot()));
+    }
+
+    private void awaitDurable(long ticket, String requestId) {
+        long remaining = appendTimeoutNanos;
+        try {
+            while (durableTicket < ticket) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException("journal fsync timed out. requestId=" + requestId);
+                }
+                remaining = durableCondition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while awaiting journal fsync. requestId=" + requestId, e);
+        }
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                syncOnce();
+            } catch (RuntimeException e) {
+                // syncer가 죽으면 모든 append가 timeout 되므로 삼키고 계속 돈다.
+                log.error("[IngestJournal] sync error", e);
+            }
+            LockSupport.parkNanos(fsyncIntervalNanos);
+        }
+    }
+
+    void syncOnce() {
+        long ticket;
+        long segment;
+        MappedByteBuffer buffer;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            ticket = appendedTicket;
+            if (ticket == durableTicket) {
+                return;
+            }
+            segment = activeSegment;
+            buffer = activeBuffer;
+            from = syncedOffset;
+            to = writeOffset;
+        } finally {
+            lock.unlock();
+        }
+
+        // force는 lock 밖에서 한다. (그 사이 append는 계속 mapping에 쓴다)
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+
+        lock.lock();
+        try {
+            if (segment == activeSegment) {
+                syncedOffset = Math.max(syncedOffset, to);
+            }
+            if (ticket > durableTicket) {
+                fsyncBatchSummary.record(ticket - durableTicket);
+                publishDurable(ticket, segment, to);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishDurable(long ticket, long segment, int offset) {
+        if (ticket < durableTicket) {
+            return;
+        }
+        durableTicket = ticket;
+        durablePosition = new IngestJournalPosition(segment, offset);
+        durableCondition.signalAll();
+    }
+
+    /** lock 보유 상태에서 호출. 현재 segment를 END로 닫고 fsync한 뒤 다음 segment를 연다. */
+    private void rotate() {
+        activeBuffer.putInt(writeOffset, END_MARKER);
+        // 이전 segment의 남은 레코드는 여기서 확정된다. (syncer가 늦게 force해도 무해)
+        activeBuffer.force();
+        closeQuietly(activeChannel);
+        try {
+            openSegment(activeSegment + 1, true);
+            fsyncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to rotate journal segment. next=" + (activeSegment + 1), e);
+        }
+    }
+
+    private void recover() throws IOException {
+        checkpoint = readCheckpoint();
+        List<Long> segments = listSegments();
+        if (checkpoint == null) {
+            checkpoint = new IngestJournalPosition(segments.isEmpty() ? 0 : segments.get(0), 0);
+        }
+        deleteSegmentsBefore(checkpoint.segment());
+        segments.removeIf(s -> s < checkpoint.segment());
+
+        if (segments.isEmpty()) {
+            openSegment(checkpoint.segment(), true);
+            fsyncDirectory();
+        } else {
+            long last = segments.get(segments.size() - 1);
+            openSegment(last, false);
+            boolean ended = scanValidEnd();
+            if (ended) {
+                openSegment(last + 1, true);
+                fsyncDirectory();
+            }
+        }
+        syncedOffset = writeOffset;
+        durableTicket = 0;
+        appendedTicket = 0;
+        durablePosition = new IngestJournalPosition(activeSegment, writeOffset);
+    }
+
+    /**
+     * 활성 segment를 처음부터 검증해서 writeOffset을 유효한 끝으로 맞춘다.
+     * END 마커로 끝난 segment면 true.
+     */
+    private boolean scanValidEnd() {
+        int offset = 0;
+        while (offset + Integer.BYTES <= segmentBytes) {
+            int length = activeBuffer.getInt(offset);
+            if (length == END_MARKER) {
+                writeOffset = offset;
+                return true;
+            }
+            if (length <= 0 || offset + HEADER_BYTES + length + Integer.BYTES > segmentBytes) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            activeBuffer.get(offset + HEADER_BYTES, payload);
+            if (crc(payload, 0, length) != activeBuffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        writeOffset = offset;
+        if (offset + Integer.BYTES <= segmentBytes && activeBuffer.getInt(offset) != 0) {
+            // 찢어진 tail: 이후 append가 덮어쓰기 전에 남은 쓰레기가 다시 읽히지 않도록 지운다.
+            log.warn("[IngestJournal] truncating torn tail. segment={}, offset={}", activeSegment, offset);
+            for (int i = offset; i < segmentBytes; i++) {
+                activeBuffer.put(i, (byte) 0);
+            }
+            activeBuffer.force();
+        }
+        return false;
+    }
+
+    private void openSegment(long segment, boolean create) throws IOException {
+        Path path = segmentPath(segment);
+        FileChannel channel = create
+                ? FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < segmentBytes) {
+            // 미리 할당해서 append 중 파일 크기 변경(메타데이터 fsync)을 피한다.
+            channel.write(ByteBuffer.allocate(1), segmentBytes - 1L);
+            channel.force(true);
+        }
+        activeChannel = channel;
+        activeBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        activeSegment = segment;
+        writeOffset = 0;
+        syncedOffset = 0;
+    }
+
+    private ByteBuffer readerBuffer(long segment) {
+        if (segment == readerSegment) {
+            return readerBuffer;
+        }
+        Path path = segmentPath(segment);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readerBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), segmentBytes));
+            readerSegment = segment;
+            return readerBuffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to map journal segment. segment=" + segment, e);
+        }
+    }
+
+    private IngestJournalPosition readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buf.remaining() != CHECKPOINT_BYTES) {
+            throw new IllegalStateException("invalid journal checkpoint file. path=" + path);
+        }
+        long segment = buf.getLong();
+        int offset = buf.getInt();
+        int crc = buf.getInt();
+        if (crc(buf.array(), 0, 12) != crc) {
+            throw new IllegalStateException("journal checkpoint crc mismatch. path=" + path);
+        }
+        return new IngestJournalPosition(segment, offset);
+    }
+
+    private void writeCheckpoint(IngestJournalPosition position) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(CHECKPOINT_BYTES);
+        buf.putLong(position.segment()).putInt(position.offset());
+        buf.putInt(crc(buf.array(), 0, 12));
+        buf.flip();
+
+        Path tmp = directory.resolve(CHECKPOINT_TMP_FILE);
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        fsyncDirectory();
+    }
+
+    private void deleteSegmentsBefore(long segment) {
+        try {
+            for (long s : listSegments()) {
+                if (s < segment) {
+                    Files.deleteIfExists(segmentPath(s));
+                    if (s == readerSegment) {
+                        readerSegment = -1;
+                        readerBuffer = null;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 삭제 실패는 디스크 사용량만 늘어난다. 다음 acknowledge에서 다시 시도한다.
+            log.warn("[IngestJournal] failed to delete old segments. before={}, cause={}", segment, e.toString());
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX))
+                    .map(n -> Long.parseLong(n.substring(SEGMENT_PREFIX.length(), n.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private void fsyncDirectory() {
+        // 파일 생성/rename을 디렉터리 엔트리까지 확정한다. (지원하지 않는 OS/FS에서는 무시)
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("[IngestJournal] directory fsync skipped. cause={}", e.toString());
+        }
+    }
+
+    private long activeSegmentSnapshot() {
+        lock.lock();
+        try {
+            return activeSegment;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double backlogBytes() {
+        IngestJournalPosition durable = durablePosition;
+        IngestJournalPosition acked = checkpoint;
+        if (durable == null || acked == null) {
+            return 0;
+        }
+        return (double) (durable.segment() - acked.segment()) * segmentBytes + durable.offset() - acked.offset();
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("[IngestJournal] channel close failed. cause={}", e.toString());
+        }
+    }
+}
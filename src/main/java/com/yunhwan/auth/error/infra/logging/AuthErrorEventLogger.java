@@ -64,14 +64,14 @@ public class AuthErrorEventLogger implements AuthErrorEventPublisher {
 
     @Override
     public void decisionApplied(
-            AuthError authError,
+            Long authErrorId,
             AuthErrorStatus fromStatus,
             AuthErrorStatus toStatus,
             String decisionType,
             String decidedBy,
             String note
     ) {
-        Map<String, Object> evt = createBaseEvent("auth_error.decision_applied", authError);
+        Map<String, Object> evt = createBaseEvent("auth_error.decision_applied", authErrorId);
 
         evt.put("from_status", String.valueOf(fromStatus));
         evt.put("to_status", String.valueOf(toStatus));
@@ -87,11 +87,15 @@ public class AuthErrorEventLogger implements AuthErrorEventPublisher {
     }
 
     private Map<String, Object> createBaseEvent(String eventType, AuthError authError) {
+        return createBaseEvent(eventType, authError.getId());
+    }
+
+    private Map<String, Object> createBaseEvent(String eventType, Long authErrorId) {
         Map<String, Object> evt = new LinkedHashMap<>();
         evt.put("event_type", eventType);
         evt.put("event_id", UUID.randomUUID().toString());
         evt.put("occurred_at", OffsetDateTime.now(clock).toString());
-        evt.put("auth_error_id", authError.getId());
+        evt.put("auth_error_id", authErrorId);
         return evt;
     }
 
@@ -1,6 +1,7 @@
 package com.yunhwan.auth.error.infra.messaging.rabbit;
 
 import com.yunhwan.auth.error.common.exception.NonRetryablePublishException;
+import com.yunhwan.auth.error.common.exception.PublishConfirmTimeoutException;
 import com.yunhwan.auth.error.common.exception.RetryablePublishException;
 import com.yunhwan.auth.error.infra.metrics.MetricsConfig;
 import io.micrometer.core.instrument.Counter;
@@ -12,17 +13,36 @@ import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ObjLongConsumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ConfirmedRabbitPublisher {
 
+    // 배치 전체(마지막 confirm까지)에 적용되는 deadline
+    private static final long CONFIRM_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(3);
+
     private final RabbitTemplate rabbitTemplate;
     private final io.micrometer.core.instrument.MeterRegistry meterRegistry;
 
+    public record Outgoing(
+            String exchange,
+            String routingKey,
+            String payload,
+            String correlationId,
+            String metricEventType,
+            MessagePostProcessor messagePostProcessor
+    ) {
+    }
+
     public void publish(
             String exchange,
             String routingKey,
@@ -31,30 +51,91 @@ public class ConfirmedRabbitPublisher {
             String metricEventType,
             MessagePostProcessor messagePostProcessor
     ) throws Exception {
-        CorrelationData cd = new CorrelationData(correlationId);
+        Exception failure = publishAll(List.of(
+                new Outgoing(exchange, routingKey, payload, correlationId, metricEventType, messagePostProcessor)
+        )).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
-        rabbitTemplate.convertAndSend(exchange, routingKey, payload, messagePostProcessor, cd);
+    /**
+     * confirm을 기다리지 않고 모두 연달아 보낸 뒤, 하나의 deadline 안에서 confirm을 모아 기다린다.
+     * 결과는 입력 순서와 같다. (성공은 null, 실패는 그 메시지의 publish 예외: NACK/timeout은 retryable, return은 non-retryable)
+     */
+    public List<Exception> publishAll(List<Outgoing> outgoing) {
+        return publishAll(outgoing, (o, elapsedNanos) -> {});
+    }
+
+    /**
+     * publishAll과 같고, 메시지마다 전송 시작부터 confirm 도착(또는 전송 실패/timeout)까지의 시간을 onSettled로 알려준다.
+     * confirm 도착 시각은 future 완료 시점에 기록하므로 앞 메시지의 대기 순서에 밀리지 않는다.
+     */
+    public List<Exception> publishAll(List<Outgoing> outgoing, ObjLongConsumer<Outgoing> onSettled) {
+        Exception[] failures = new Exception[outgoing.size()];
+        List<CorrelationData> sent = new ArrayList<>(outgoing.size());
+        long[] sentAt = new long[outgoing.size()];
+        AtomicLongArray confirmedAt = new AtomicLongArray(outgoing.size());
+
+        // 1) 전송
+        for (int i = 0; i < outgoing.size(); i++) {
+            Outgoing o = outgoing.get(i);
+            CorrelationData cd = new CorrelationData(o.correlationId());
+            int index = i;
+            sentAt[i] = System.nanoTime();
+            cd.getFuture().whenComplete((confirm, error) -> confirmedAt.set(index, System.nanoTime()));
+            try {
+                rabbitTemplate.convertAndSend(o.exchange(), o.routingKey(), o.payload(), o.messagePostProcessor(), cd);
+                sent.add(cd);
+            } catch (Exception e) {
+                publishCounter(o.metricEventType(), MetricsConfig.RESULT_ERROR).increment();
+                failures[i] = e;
+                sent.add(null);
+                onSettled.accept(o, System.nanoTime() - sentAt[i]);
+            }
+        }
 
+        // 2) confirm 수집 (deadline 공유: 브로커 정체 시에도 배치당 최대 한 번의 timeout)
+        long deadline = System.nanoTime() + CONFIRM_TIMEOUT_NANOS;
+        for (int i = 0; i < outgoing.size(); i++) {
+            CorrelationData cd = sent.get(i);
+            if (cd == null) continue;
+            failures[i] = awaitConfirm(cd, outgoing.get(i).metricEventType(), deadline);
+            // timeout이거나 완료 콜백이 아직 기록 전이면 지금 시각으로 본다.
+            long settledAt = confirmedAt.get(i);
+            onSettled.accept(outgoing.get(i), (settledAt == 0 ? System.nanoTime() : settledAt) - sentAt[i]);
+        }
+
+        return Arrays.asList(failures);
+    }
+
+    private Exception awaitConfirm(CorrelationData cd, String metricEventType, long deadline) {
         try {
-            CorrelationData.Confirm confirm = cd.getFuture().get(3, TimeUnit.SECONDS);
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CorrelationData.Confirm confirm = cd.getFuture().get(remaining, TimeUnit.NANOSECONDS);
             if (!confirm.isAck()) {
                 publishCounter(metricEventType, MetricsConfig.RESULT_NACK).increment();
-                throw new RetryablePublishException("Broker NACK. reason=" + confirm.getReason(), null);
+                return new RetryablePublishException("Broker NACK. reason=" + confirm.getReason(), null);
             }
 
             ReturnedMessage returned = cd.getReturned();
             if (returned != null) {
                 publishCounter(metricEventType, MetricsConfig.RESULT_RETURNED).increment();
-                throw new NonRetryablePublishException("Routing failed. replyCode=" + returned.getReplyCode());
+                return new NonRetryablePublishException("Routing failed. replyCode=" + returned.getReplyCode());
             }
 
             publishCounter(metricEventType, MetricsConfig.RESULT_SUCCESS).increment();
+            return null;
         } catch (TimeoutException e) {
             publishCounter(metricEventType, MetricsConfig.RESULT_TIMEOUT).increment();
-            throw new RetryablePublishException("Confirm timeout", e);
-        } catch (Exception e) {
+            return new PublishConfirmTimeoutException("Confirm timeout", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            publishCounter(metricEventType, MetricsConfig.RESULT_ERROR).increment();
+            return e;
+        } catch (ExecutionException e) {
             publishCounter(metricEventType, MetricsConfig.RESULT_ERROR).increment();
-            throw e;
+            return e;
         }
     }
 
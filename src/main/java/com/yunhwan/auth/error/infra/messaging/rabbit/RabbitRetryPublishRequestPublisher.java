@@ -6,6 +6,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class RabbitRetryPublishRequestPublisher implements RetryPublishRequestPublisher {
@@ -17,10 +21,32 @@ public class RabbitRetryPublishRequestPublisher implements RetryPublishRequestPu
 
     @Override
     public void publish(RetryPublishRequest request) throws Exception {
+        Exception failure = publishAll(List.of(request)).get(request.getId());
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Map<Long, Exception> publishAll(List<RetryPublishRequest> requests) {
+        List<Exception> results = confirmedRabbitPublisher.publishAll(
+                requests.stream().map(this::toOutgoing).toList()
+        );
+
+        Map<Long, Exception> failures = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results.get(i) != null) {
+                failures.put(requests.get(i).getId(), results.get(i));
+            }
+        }
+        return failures;
+    }
+
+    private ConfirmedRabbitPublisher.Outgoing toOutgoing(RetryPublishRequest request) {
         String exchange = retryRoutingResolver.retryExchange(request.getEventType());
         String routingKey = retryRoutingResolver.resolve(request.getEventType(), request.getRetryCount());
 
-        confirmedRabbitPublisher.publish(
+        return new ConfirmedRabbitPublisher.Outgoing(
                 exchange,
                 routingKey,
                 request.getPayload(),
@@ -0,0 +1,56 @@
+package com.yunhwan.auth.error.infra.metrics;
+
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestPressureSignals;
+import com.yunhwan.auth.error.usecase.autherror.port.IngestPressureSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_OUTBOX_AGE_P95;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_OUTBOX_AGE_P99;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_OUTBOX_AGE_SLOPE;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_OUTBOX_BACKLOG_COUNT;
+
+/**
+ * 이미 등록된 gauge에서 부하 신호를 읽는다. (별도 DB 조회 없음)
+ * - outbox age p95/p99/slope/backlog: OutboxAgeMetricsScheduler가 10초마다 갱신
+ * - hikaricp.connections.pending: Hikari pool별 합계
+ * gauge가 없으면(스케줄러 비활성, pool 미기동) 0으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MeterRegistryIngestPressureSource implements IngestPressureSource {
+
+    static final String METRIC_HIKARI_PENDING = "hikaricp.connections.pending";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public IngestPressureSignals current() {
+        return new IngestPressureSignals(
+                gauge(METRIC_OUTBOX_AGE_P95),
+                gauge(METRIC_OUTBOX_AGE_P99),
+                gauge(METRIC_OUTBOX_AGE_SLOPE),
+                gauge(METRIC_OUTBOX_BACKLOG_COUNT),
+                gaugeSum(METRIC_HIKARI_PENDING)
+        );
+    }
+
+    private long gauge(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : toLong(gauge.value());
+    }
+
+    private long gaugeSum(String name) {
+        long sum = 0;
+        for (Gauge gauge : meterRegistry.find(name).gauges()) {
+            sum += toLong(gauge.value());
+        }
+        return sum;
+    }
+
+    private static long toLong(double value) {
+        return Double.isFinite(value) ? (long) value : 0;
+    }
+}
@@ -27,6 +27,7 @@ public final class MetricsConfig {
     public static final String METRIC_RUNTIME_CONSUMER_FAILURE_RECORDED_FAIL_UNTIL_RETRY_COUNT = "auth_error.runtime.consumer.failure.recorded_fail_until_retry_count";
     public static final String METRIC_RUNTIME_CONSUMER_FAILURE_RECORDED_INFO = "auth_error.runtime.consumer.failure.recorded.info";
     public static final String METRIC_RUNTIME_PROFILE_INFO = "auth_error.runtime.profile.info";
+    public static final String METRIC_RUNTIME_VIRTUAL_THREAD_PINNED = "auth_error.runtime.virtual_thread.pinned";
     public static final String METRIC_RECORDED_CONSUMER_CLAIM_SETUP_TOTAL = "auth_error.recorded.consumer.claim_setup";
     public static final String METRIC_RECORDED_CONSUMER_HANDLER_TOTAL = "auth_error.recorded.consumer.handler";
     public static final String METRIC_RECORDED_CONSUMER_POST_HANDLER_COMPLETION_TOTAL = "auth_error.recorded.consumer.post_handler_completion";
@@ -40,6 +41,12 @@ public final class MetricsConfig {
     public static final String METRIC_PROCESSED_MESSAGE_CLAIM_PROCESSING_UPDATE = "auth_error.processed_message.claim_processing_update";
     public static final String METRIC_PROCESSED_MESSAGE_MARK_DONE = "auth_error.processed_message.mark_done";
     public static final String METRIC_INGEST_TRANSACTION = "auth_error_ingest_transaction";
+    public static final String METRIC_INGEST_BATCH_TRANSACTION = "auth_error_ingest_batch_transaction";
+    public static final String METRIC_BULK_IMPORT_ROWS = "auth_error.bulk_import.rows";
+    public static final String METRIC_INGEST_JOURNAL_APPEND = "auth_error.ingest.journal.append";
+    public static final String METRIC_INGEST_JOURNAL_FSYNC_BATCH = "auth_error.ingest.journal.fsync_batch";
+    public static final String METRIC_INGEST_JOURNAL_BACKLOG_BYTES = "auth_error.ingest.journal.backlog_bytes";
+    public static final String METRIC_INGEST_JOURNAL_CORRUPT = "auth_error.ingest.journal.corrupt";
     public static final String METRIC_OUTBOX_POLLER_CLAIM = "auth_error_outbox_poller_claim";
     public static final String METRIC_OUTBOX_PUBLISH = "auth_error_outbox_publish";
     public static final String METRIC_OUTBOX_PUBLISH_ADAPTER = "auth_error_outbox_publish_adapter";
@@ -54,6 +61,7 @@ public final class MetricsConfig {
     public static final String TAG_PROFILE = "profile";
     public static final String TAG_OPERATION = "operation";
     public static final String TAG_MODE = "mode";
+    public static final String TAG_PATH = "path";
 
     // 고정 결과값(집계 안정성)
     public static final String RESULT_SUCCESS = "success";
@@ -0,0 +1,133 @@
+package com.yunhwan.auth.error.infra.metrics;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.METRIC_RUNTIME_VIRTUAL_THREAD_PINNED;
+import static com.yunhwan.auth.error.infra.metrics.MetricsConfig.TAG_PATH;
+
+/**
+ * virtual thread carrier pinning 감지.
+ *
+ * JFR jdk.VirtualThreadPinned 이벤트(thresholdMs 이상)를 in-process로 구독해서
+ * - auth_error.runtime.virtual_thread.pinned{path=ingest|other} 타이머로 건수/시간을 집계하고
+ * - pinning 위치(첫 애플리케이션 frame)별로 stack 일부를 주기적으로 WARN 로그로 남긴다.
+ *
+ * path=ingest는 stack에 AuthErrorController/AuthErrorFacade/AuthErrorWriter가 있는 경우다.
+ * (JFR stack depth(기본 64)보다 깊은 호출은 잘려서 other로 분류될 수 있다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth-error.ingest.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT_VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE_PREFIX = "com.yunhwan.auth.error.";
+    private static final List<String> INGEST_PATH_TYPES = List.of(
+            "com.yunhwan.auth.error.app.api.auth.AuthErrorController",
+            "com.yunhwan.auth.error.app.autherror.AuthErrorFacade",
+            "com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter"
+    );
+
+    private final AuthErrorProperties.PinningMonitor props;
+    private final Timer ingestPinnedTimer;
+    private final Timer otherPinnedTimer;
+    private final Map<String, Long> lastLoggedAtMs = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(AuthErrorProperties authErrorProperties, MeterRegistry meterRegistry) {
+        this.props = authErrorProperties.getIngest().getPinningMonitor();
+        this.ingestPinnedTimer = Timer.builder(METRIC_RUNTIME_VIRTUAL_THREAD_PINNED)
+                .tag(TAG_PATH, "ingest")
+                .register(meterRegistry);
+        this.otherPinnedTimer = Timer.builder(METRIC_RUNTIME_VIRTUAL_THREAD_PINNED)
+                .tag(TAG_PATH, "other")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable(EVENT_VIRTUAL_THREAD_PINNED)
+                    .withThreshold(Duration.ofMillis(Math.max(0, props.getThresholdMs())))
+                    .withStackTrace();
+            rs.onEvent(EVENT_VIRTUAL_THREAD_PINNED, this::onPinned);
+            rs.startAsync();
+            this.stream = rs;
+            log.info("[PinningMonitor] started. thresholdMs={}", props.getThresholdMs());
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 런타임이어도 애플리케이션 기동은 막지 않는다.
+            log.warn("[PinningMonitor] JFR recording stream unavailable. cause={}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        boolean ingest = frames.stream().anyMatch(VirtualThreadPinningMonitor::isIngestFrame);
+        (ingest ? ingestPinnedTimer : otherPinnedTimer).record(event.getDuration());
+
+        String site = pinningSite(frames);
+        long now = System.currentTimeMillis();
+        long intervalMs = Duration.ofSeconds(Math.max(0, props.getLogIntervalSeconds())).toMillis();
+        Long last = lastLoggedAtMs.get(site);
+        if (last != null && now - last < intervalMs) {
+            return;
+        }
+        lastLoggedAtMs.put(site, now);
+        log.warn("[PinningMonitor] virtual thread pinned. path={}, durationMs={}, site={}, stack=\n{}",
+                ingest ? "ingest" : "other",
+                event.getDuration().toMillis(),
+                site,
+                frames.stream()
+                        .limit(Math.max(1, props.getMaxStackFrames()))
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .collect(Collectors.joining("\n\tat ", "\tat ", "")));
+    }
+
+    private static boolean isIngestFrame(RecordedFrame frame) {
+        return frame.getMethod() != null && INGEST_PATH_TYPES.contains(frame.getMethod().getType().getName());
+    }
+
+    /** 로그 집계 키: 첫 애플리케이션 frame (없으면 top frame) */
+    private static String pinningSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(f -> f.getMethod() != null && f.getMethod().getType().getName().startsWith(APP_PACKAGE_PREFIX))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "unknown";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
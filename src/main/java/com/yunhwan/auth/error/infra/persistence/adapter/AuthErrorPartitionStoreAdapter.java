@@ -0,0 +1,186 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorPartitionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * auth_error 일 단위 파티션 DDL. (V14 참고)
+ * auth_error_detail(cold 컬럼, V18)도 같은 날짜 파티션을 함께 만들고 drop 한다.
+ * drop 시 같은 날짜의 진단 rollup(V20)도 함께 뺀다.
+ *
+ * DDL에는 bind 파라미터를 쓸 수 없으므로 이름/경계값은 LocalDate에서만 만들어 문자열로 넣는다.
+ * 인스턴스끼리 같은 파티션을 동시에 만들거나 지우지 않도록 transaction advisory lock으로 직렬화한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class AuthErrorPartitionStoreAdapter implements AuthErrorPartitionStore {
+
+    private static final String PARENT_TABLE = "auth_error";
+    private static final String DEFAULT_PARTITION = "auth_error_default";
+    private static final String PARTITION_PREFIX = "auth_error_p";
+    private static final String DETAIL_TABLE = "auth_error_detail";
+    private static final String DETAIL_DEFAULT_PARTITION = "auth_error_detail_default";
+    private static final String DETAIL_PARTITION_PREFIX = "auth_error_detail_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final List<String> ROLLUP_TABLES = List.of(
+            "auth_error_hourly_type_rollup", "auth_error_context_hourly_rollup", "auth_error_cluster_hourly_rollup");
+    /** pg_advisory_xact_lock 키 (auth_error 파티션 DDL 전용) */
+    private static final long DDL_LOCK_KEY = 0x6175_7468_5f70_6172L;
+    /** detach 시 parent ACCESS EXCLUSIVE lock 대기 상한 */
+    private static final String DETACH_LOCK_TIMEOUT = "2s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SortedSet<LocalDate> findDailyPartitions() {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(
+                """
+                select c.relname
+                  from pg_inherits i
+                  join pg_class c on c.oid = i.inhrelid
+                 where i.inhparent = cast(? as regclass)
+                   and c.relname ~ '^auth_error_p[0-9]{8}$'
+                """,
+                String.class,
+                PARENT_TABLE
+        )) {
+            days.add(LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        }
+        return days;
+    }
+
+    @Override
+    public boolean createDailyPartition(LocalDate day) {
+        lock();
+        String from = bound(day);
+        String to = bound(day.plusDays(1));
+        // detail은 auth_error와 독립적으로 확인한다. (한쪽만 있는 상태에서도 다음 실행에서 맞춰진다)
+        createDetailPartition(detailPartitionName(day), from, to);
+
+        String name = partitionName(day);
+        if (exists(name)) {
+            return false;
+        }
+
+        // 1) 붙이기 전의 독립 테이블로 만든다. (parent trigger/인덱스는 attach 시 붙는다)
+        jdbcTemplate.execute("create table " + name
+                + " (like " + PARENT_TABLE + " including defaults including constraints)");
+
+        // 2) default 파티션에 쌓인 같은 범위 행을 옮긴다. (그대로 두면 attach가 실패함)
+        //    default에서 지울 때 release trigger가 guard를 풀므로 옮긴 행의 guard를 다시 넣는다. (같은 트랜잭션)
+        jdbcTemplate.execute("with moved as (delete from " + DEFAULT_PARTITION
+                + " where occurred_at >= '" + from + "' and occurred_at < '" + to + "' returning *)"
+                + " insert into " + name + " select * from moved");
+        jdbcTemplate.execute("insert into auth_error_dedup_key (dedup_key_hash, occurred_at)"
+                + " select sha256(textsend(dedup_key)), occurred_at from " + name + " where dedup_key is not null"
+                + " on conflict do nothing");
+
+        // 3) attach: PK/partitioned index가 파티션에 자동으로 만들어진다.
+        jdbcTemplate.execute("alter table " + PARENT_TABLE + " attach partition " + name
+                + " for values from ('" + from + "') to ('" + to + "')");
+        return true;
+    }
+
+    private void createDetailPartition(String name, String from, String to) {
+        if (exists(name)) {
+            return;
+        }
+        // auth_error와 같은 순서: 독립 테이블 → default에서 같은 범위 이동 → attach (detail에는 trigger/guard 없음)
+        jdbcTemplate.execute("create table " + name
+                + " (like " + DETAIL_TABLE + " including defaults including constraints)");
+        jdbcTemplate.execute("with moved as (delete from " + DETAIL_DEFAULT_PARTITION
+                + " where occurred_at >= '" + from + "' and occurred_at < '" + to + "' returning *)"
+                + " insert into " + name + " select * from moved");
+        jdbcTemplate.execute("alter table " + DETAIL_TABLE + " attach partition " + name
+                + " for values from ('" + from + "') to ('" + to + "')");
+    }
+
+    @Override
+    public boolean dropDailyPartition(LocalDate day) {
+        lock();
+        String detailName = detailPartitionName(day);
+        String name = partitionName(day);
+        if (!exists(name)) {
+            detachAndDrop(DETAIL_TABLE, detailName);
+            return false;
+        }
+        // auth_error(id) FK가 없으므로 참조 행은 직접 정리한다. (파티션 drop은 delete trigger를 타지 않음)
+        jdbcTemplate.update("delete from auth_error_cluster_item where auth_error_id in (select id from " + name + ")");
+        jdbcTemplate.update("delete from auth_error_analysis_result where auth_error_id in (select id from " + name + ")");
+        jdbcTemplate.update("delete from auth_error_dedup_key where occurred_at >= cast(? as timestamptz) and occurred_at < cast(? as timestamptz)",
+                bound(day), bound(day.plusDays(1)));
+        deleteRollups(day);
+
+        // parent lock은 마지막에 잡아 commit까지 짧게 쥔다.
+        detachAndDrop(DETAIL_TABLE, detailName);
+        detachAndDrop(PARENT_TABLE, name);
+        return true;
+    }
+
+    /**
+     * detach 후 drop. default 파티션이 있는 parent에는 DETACH ... CONCURRENTLY를 쓸 수 없어(PostgreSQL 제약)
+     * parent의 ACCESS EXCLUSIVE lock을 잡는다. lock 대기 중에는 뒤의 적재가 모두 줄을 서므로
+     * lock_timeout으로 대기를 끊고, 실패하면 트랜잭션 전체를 되돌려 다음 주기에 다시 시도한다.
+     */
+    private void detachAndDrop(String parent, String partition) {
+        if (!exists(partition)) {
+            return;
+        }
+        jdbcTemplate.execute("set local lock_timeout = '" + DETACH_LOCK_TIMEOUT + "'");
+        jdbcTemplate.execute("alter table " + parent + " detach partition " + partition);
+        jdbcTemplate.execute("drop table " + partition);
+    }
+
+    /**
+     * 진단 rollup(V20)에서 같은 날짜(UTC) 분량을 뺀다. 반영 중인 배치가 지운 행을 다시 더하지 않도록 반영과 같은 lock을 잡는다.
+     * cluster member는 마지막으로 본 시각이 이 날짜 끝 이전인 것만 지운다. (보존 기간 drop은 오래된 날짜부터 진행)
+     */
+    private void deleteRollups(LocalDate day) {
+        jdbcTemplate.queryForObject("select pg_advisory_xact_lock(?)::text", String.class,
+                AuthErrorRollupStoreAdapter.ROLLUP_LOCK_KEY);
+        String from = bound(day);
+        String to = bound(day.plusDays(1));
+        jdbcTemplate.update("delete from auth_error_rollup_delta where occurred_at >= cast(? as timestamptz) and occurred_at < cast(? as timestamptz)",
+                from, to);
+        for (String rollup : ROLLUP_TABLES) {
+            jdbcTemplate.update("delete from " + rollup + " where bucket_hour >= cast(? as timestamptz) and bucket_hour < cast(? as timestamptz)",
+                    from, to);
+        }
+        jdbcTemplate.update("delete from auth_error_cluster_member where last_seen_at < cast(? as timestamptz)", to);
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForObject("select pg_advisory_xact_lock(?)::text", String.class, DDL_LOCK_KEY);
+    }
+
+    private boolean exists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select to_regclass(?) is not null", Boolean.class, name));
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    static String detailPartitionName(LocalDate day) {
+        return DETAIL_PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    private static String bound(LocalDate day) {
+        return OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC).toString();
+    }
+}
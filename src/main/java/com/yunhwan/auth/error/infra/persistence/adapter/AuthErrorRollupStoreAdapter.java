@@ -0,0 +1,91 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorRollupStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * auth_error_rollup_delta → rollup 반영. (V20 참고)
+ *
+ * delta를 DELETE ... RETURNING 한 결과를 같은 statement의 CTE들이 각 rollup에 upsert 한다.
+ * commit된 delta만 보이므로 늦게 commit되는 적재 트랜잭션의 행은 다음 반영에서 더해진다.
+ * rollup 행 lock 순서가 CTE마다 다를 수 있어 인스턴스 간 반영은 transaction advisory lock으로 직렬화한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class AuthErrorRollupStoreAdapter implements AuthErrorRollupStore {
+
+    /** pg_advisory_xact_lock 키 (rollup 반영/정리 전용). 파티션 drop도 같은 키로 반영과 직렬화한다. */
+    static final long ROLLUP_LOCK_KEY = 0x6175_7468_5f72_6f6cL;
+
+    private static final String FOLD_SQL = """
+            with taken as (
+                delete from auth_error_rollup_delta
+                 where id in (select id from auth_error_rollup_delta order by id limit ?)
+                returning *
+            ), type_up as (
+                insert into auth_error_hourly_type_rollup as r
+                    (bucket_hour, error_type, auth_failure_severity, auth_failure_retryable, auth_failure_security_signal,
+                     error_count, first_seen_at, last_seen_at)
+                select date_trunc('hour', occurred_at, 'UTC'), error_type, auth_failure_severity,
+                       auth_failure_retryable, auth_failure_security_signal,
+                       count(*), min(occurred_at), max(occurred_at)
+                  from taken
+                 group by 1, 2, 3, 4, 5
+                on conflict on constraint ux_auth_error_hourly_type_rollup do update
+                   set error_count = r.error_count + excluded.error_count,
+                       first_seen_at = least(r.first_seen_at, excluded.first_seen_at),
+                       last_seen_at = greatest(r.last_seen_at, excluded.last_seen_at)
+            ), context_up as (
+                insert into auth_error_context_hourly_rollup as r
+                    (bucket_hour, error_type, provider, client_type, http_status, endpoint,
+                     error_count, first_seen_at, last_seen_at)
+                select date_trunc('hour', occurred_at, 'UTC'), error_type, provider, client_type, http_status, endpoint,
+                       count(*), min(occurred_at), max(occurred_at)
+                  from taken
+                 group by 1, 2, 3, 4, 5, 6
+                on conflict on constraint ux_auth_error_context_hourly_rollup do update
+                   set error_count = r.error_count + excluded.error_count,
+                       first_seen_at = least(r.first_seen_at, excluded.first_seen_at),
+                       last_seen_at = greatest(r.last_seen_at, excluded.last_seen_at)
+            ), cluster_up as (
+                insert into auth_error_cluster_hourly_rollup as r
+                    (bucket_hour, error_type, provider, stack_hash, auth_failure_severity,
+                     error_count, first_seen_at, last_seen_at)
+                select date_trunc('hour', occurred_at, 'UTC'), error_type, provider, stack_hash, auth_failure_severity,
+                       count(*), min(occurred_at), max(occurred_at)
+                  from taken
+                 group by 1, 2, 3, 4, 5
+                on conflict on constraint ux_auth_error_cluster_hourly_rollup do update
+                   set error_count = r.error_count + excluded.error_count,
+                       first_seen_at = least(r.first_seen_at, excluded.first_seen_at),
+                       last_seen_at = greatest(r.last_seen_at, excluded.last_seen_at)
+            ), member_up as (
+                insert into auth_error_cluster_member as r
+                    (error_type, provider, stack_hash, auth_failure_severity, member_kind, member_hash, last_seen_at)
+                select t.error_type, t.provider, t.stack_hash, t.auth_failure_severity, m.kind, m.hash, max(t.occurred_at)
+                  from taken t
+                 cross join lateral (values ('P', t.principal_hash), ('I', t.ip_hash)) as m(kind, hash)
+                 where m.hash is not null
+                 group by 1, 2, 3, 4, 5, 6
+                on conflict on constraint ux_auth_error_cluster_member do update
+                   set last_seen_at = greatest(r.last_seen_at, excluded.last_seen_at)
+            )
+            select count(*) from taken
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int foldPending(int batchSize) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select pg_try_advisory_xact_lock(?)", Boolean.class, ROLLUP_LOCK_KEY))) {
+            return 0;
+        }
+        Long folded = jdbcTemplate.queryForObject(FOLD_SQL, Long.class, batchSize);
+        return folded == null ? 0 : folded.intValue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStacktrace;
+import com.yunhwan.auth.error.infra.persistence.jpa.AuthErrorStacktraceJpaRepository;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStacktraceStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * stacktrace 원문을 raw DEFLATE(zlib header 없음)로 압축해 저장한다.
+ * stacktrace는 패키지/클래스명이 반복되어 압축률이 높다. (JDK 내장 codec이라 의존성 추가 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class AuthErrorStacktraceStoreAdapter implements AuthErrorStacktraceStore {
+
+    static final String CODEC_DEFLATE = "DEFLATE";
+
+    private static final int BUFFER_BYTES = 4 * 1024;
+
+    private final AuthErrorStacktraceJpaRepository repo;
+
+    @Override
+    public void saveAllIfAbsent(Map<String, String> stacktraceByHash, OffsetDateTime now) {
+        // 동시 배치끼리 같은 trace_hash를 서로 다른 순서로 잠그지 않도록 키 순서로 넣는다.
+        List<AuthErrorStacktrace> rows = stacktraceByHash.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> AuthErrorStacktrace.builder()
+                        .traceHash(e.getKey())
+                        .codec(CODEC_DEFLATE)
+                        .rawLength(e.getValue().length())
+                        .content(deflate(e.getValue()))
+                        .createdAt(now)
+                        .build())
+                .toList();
+        repo.insertAllIgnoringConflicts(rows);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findByHash(String traceHash) {
+        return repo.findById(traceHash).map(AuthErrorStacktraceStoreAdapter::decode);
+    }
+
+    private static String decode(AuthErrorStacktrace row) {
+        if (!CODEC_DEFLATE.equals(row.getCodec())) {
+            throw new IllegalStateException("unsupported stacktrace codec=" + row.getCodec() + ", traceHash=" + row.getTraceHash());
+        }
+        return inflate(row.getContent(), row.getTraceHash());
+    }
+
+    static byte[] deflate(String stacktrace) {
+        byte[] input = stacktrace.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[BUFFER_BYTES];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String inflate(byte[] content, String traceHash) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(content);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length * 4);
+            byte[] buffer = new byte[BUFFER_BYTES];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("truncated stacktrace content. traceHash=" + traceHash);
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupt stacktrace content. traceHash=" + traceHash, e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,24 +1,48 @@
 package com.yunhwan.auth.error.infra.persistence.adapter;
 
 import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorDetail;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
+import com.yunhwan.auth.error.infra.persistence.jpa.AuthErrorDetailJpaRepository;
 import com.yunhwan.auth.error.infra.persistence.jpa.AuthErrorJpaRepository;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorIngestRow;
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 @Transactional
 public class AuthErrorStoreAdapter implements AuthErrorStore {
 
+    private static final Duration OCCURRED_AT_TOLERANCE = Duration.ofSeconds(1);
+
     private final AuthErrorJpaRepository repo;
+    private final AuthErrorDetailJpaRepository detailRepo;
+    private final Clock clock;
 
     @Override
     public AuthError save(AuthError authError) {
-        return repo.save(authError);
+        boolean isNew = authError.getId() == null;
+        AuthError saved = repo.save(authError);
+        if (isNew) {
+            // cold 컬럼은 엔티티 매핑에서 빠져 있으므로 auth_error_detail에 따로 쓴다. (V18)
+            AuthErrorDetail detail = AuthErrorDetail.of(saved);
+            if (detail != null) {
+                detailRepo.save(detail);
+            }
+        }
+        return saved;
     }
 
     @Override
@@ -26,8 +50,84 @@ public class AuthErrorStoreAdapter implements AuthErrorStore {
         return repo.findById(id);
     }
 
+    @Override
+    public Optional<AuthError> findById(Long id, OffsetDateTime occurredAt) {
+        if (occurredAt == null) {
+            return repo.findById(id);
+        }
+        // payload 직렬화/DB(마이크로초) 정밀도 차이를 흡수하도록 앞뒤로 여유를 둔다. 못 찾으면 전체 파티션에서 찾는다.
+        return repo.findByIdAndOccurredAtBetween(id, occurredAt.minus(OCCURRED_AT_TOLERANCE), occurredAt.plus(OCCURRED_AT_TOLERANCE))
+                .or(() -> repo.findById(id));
+    }
+
+    @Override
+    public AuthError loadDetail(AuthError authError) {
+        if (authError.isDetailLoaded()) {
+            return authError;
+        }
+        authError.attachDetail(detailRepo.findByAuthErrorIdAndOccurredAt(authError.getId(), authError.getOccurredAt())
+                .orElse(null));
+        return authError;
+    }
+
+    @Override
+    public Optional<AuthErrorStatus> findStatus(Long id, OffsetDateTime occurredAt) {
+        if (occurredAt == null) {
+            return repo.findStatusById(id);
+        }
+        return repo.findStatusByIdAndOccurredAtBetween(id, occurredAt.minus(OCCURRED_AT_TOLERANCE), occurredAt.plus(OCCURRED_AT_TOLERANCE))
+                .or(() -> repo.findStatusById(id));
+    }
+
+    @Override
+    public int transition(Long id, OffsetDateTime occurredAt, Set<AuthErrorStatus> expectedFrom, AuthErrorStatus to,
+                          String note) {
+        List<String> expected = expectedFrom.stream().map(Enum::name).toList();
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        if (occurredAt != null) {
+            OffsetDateTime from = occurredAt.minus(OCCURRED_AT_TOLERANCE);
+            OffsetDateTime until = occurredAt.plus(OCCURRED_AT_TOLERANCE);
+            int updated = repo.transitionWithin(id, from, until, expected, to.name(), note, now);
+            // 0건이어도 범위 안에 행이 있으면 상태 불일치다. 범위 밖(payload occurredAt 불일치)일 때만 전체 파티션에서 다시 시도한다.
+            if (updated > 0 || repo.existsByIdAndOccurredAtBetween(id, from, until)) {
+                return updated;
+            }
+        }
+        return repo.transition(id, expected, to.name(), note, now);
+    }
+
     @Override
     public Optional<AuthError> findByDedupKey(String dedupKey) {
         return repo.findByDedupKey(dedupKey);
     }
+
+    @Override
+    public List<AuthError> saveAllIgnoringDuplicates(List<AuthError> authErrors, OffsetDateTime now) {
+        if (authErrors.isEmpty()) {
+            return List.of();
+        }
+        return repo.insertAllIgnoringConflicts(authErrors, now);
+    }
+
+    @Override
+    public List<AuthError> copyAllIgnoringDuplicates(List<AuthError> authErrors, OffsetDateTime now) {
+        if (authErrors.isEmpty()) {
+            return List.of();
+        }
+        return repo.copyAllIgnoringConflicts(authErrors, now);
+    }
+
+    @Override
+    public List<AuthError> findAllByDedupKeyIn(Collection<String> dedupKeys) {
+        if (dedupKeys.isEmpty()) {
+            return List.of();
+        }
+        return repo.findAllByDedupKeyIn(dedupKeys);
+    }
+
+    @Override
+    public Optional<AuthErrorIngestRow> insertWithOutbox(AuthError authError, OutboxEnqueueCommand outboxTemplate,
+                                                         String idPlaceholder, OffsetDateTime now) {
+        return repo.insertWithOutbox(authError, outboxTemplate, idPlaceholder, now);
+    }
 }
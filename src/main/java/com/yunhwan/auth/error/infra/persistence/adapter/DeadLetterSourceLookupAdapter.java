@@ -51,13 +51,20 @@ public class DeadLetterSourceLookupAdapter implements DeadLetterSourceLookup {
     }
 
     private String findOutboxStatus(Long outboxId) {
+        // 보존 기간이 지나 archive로 옮겨진 outbox도 본다. (V15)
         List<String> rows = jdbcTemplate.query(
                 """
                 select status
                   from outbox_message
                  where id = ?
+                union all
+                select status
+                  from outbox_message_archive
+                 where id = ?
+                 limit 1
                 """,
                 (rs, rowNum) -> rs.getString("status"),
+                outboxId,
                 outboxId
         );
         return rows.isEmpty() ? null : rows.getFirst();
@@ -0,0 +1,190 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxArchiveBatchResult;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxArchiveStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * outbox_message_archive 이동/파티션 DDL. (V15 참고)
+ *
+ * DDL에는 bind 파라미터를 쓸 수 없으므로 이름/경계값은 LocalDate에서만 만들어 문자열로 넣는다.
+ * 인스턴스끼리 같은 파티션을 동시에 만들거나 지우지 않도록 transaction advisory lock으로 직렬화한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class OutboxArchiveStoreAdapter implements OutboxArchiveStore {
+
+    private static final String ARCHIVE_TABLE = "outbox_message_archive";
+    private static final String DEFAULT_PARTITION = "outbox_message_archive_default";
+    private static final String PARTITION_PREFIX = "outbox_message_archive_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    /** pg_advisory_xact_lock 키 (outbox archive 파티션 DDL 전용) */
+    private static final long DDL_LOCK_KEY = 0x6f75_7462_5f61_7263L;
+
+    /** outbox_message 컬럼 (V1, V9). archive에는 archived_at이 뒤에 붙는다. idempotency_key_hash는 generated라 넣지 않는다. (V17) */
+    private static final String COLUMNS = """
+            id, aggregate_type, aggregate_id, event_type, payload, idempotency_key, status,
+            processing_owner, retry_count, max_retries, next_retry_at, last_error,
+            created_at, updated_at, published_at, processing_started_at, payload_hash""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public OutboxArchiveBatchResult archiveTerminal(OffsetDateTime terminalBefore, OffsetDateTime expireBefore, int limit,
+                                                    OffsetDateTime now) {
+        // 한 statement: 선별(skip locked) → hot에서 delete → 보존 대상만 archive insert
+        return jdbcTemplate.queryForObject(
+                """
+                with picked as (
+                  select id
+                    from outbox_message
+                   where status in ('PUBLISHED', 'DEAD')
+                     and updated_at < ?
+                   order by updated_at
+                   limit ?
+                   for update skip locked
+                ), moved as (
+                  delete from outbox_message o
+                   using picked
+                   where o.id = picked.id
+                  returning o.*
+                ), ins as (
+                  insert into outbox_message_archive (%1$s, archived_at)
+                  select %1$s, ?
+                    from moved
+                   where created_at >= ?
+                  returning 1
+                )
+                select (select count(*) from moved) as removed,
+                       (select count(*) from ins) as archived
+                """.formatted(COLUMNS),
+                (rs, rowNum) -> {
+                    int archived = rs.getInt("archived");
+                    return new OutboxArchiveBatchResult(archived, rs.getInt("removed") - archived);
+                },
+                terminalBefore, limit, now, expireBefore
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SortedSet<LocalDate> findDailyPartitions() {
+        SortedSet<LocalDate> days = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(
+                """
+                select c.relname
+                  from pg_inherits i
+                  join pg_class c on c.oid = i.inhrelid
+                 where i.inhparent = cast(? as regclass)
+                   and c.relname ~ '^outbox_message_archive_p[0-9]{8}$'
+                """,
+                String.class,
+                ARCHIVE_TABLE
+        )) {
+            days.add(LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        }
+        return days;
+    }
+
+    @Override
+    public boolean createDailyPartition(LocalDate day) {
+        lock();
+        String name = partitionName(day);
+        if (exists(name)) {
+            return false;
+        }
+        String from = bound(day);
+        String to = bound(day.plusDays(1));
+
+        // default 파티션에 같은 범위 행이 있으면 attach가 실패하므로 먼저 옮긴다.
+        // idempotency_key_hash(generated column)도 같은 식으로 만들어야 attach 된다.
+        jdbcTemplate.execute("create table " + name
+                + " (like " + ARCHIVE_TABLE + " including defaults including constraints including generated)");
+        jdbcTemplate.execute("with moved as (delete from " + DEFAULT_PARTITION
+                + " where created_at >= '" + from + "' and created_at < '" + to + "' returning *)"
+                + " insert into " + name + " (" + COLUMNS + ", archived_at) select " + COLUMNS + ", archived_at from moved");
+        jdbcTemplate.execute("alter table " + ARCHIVE_TABLE + " attach partition " + name
+                + " for values from ('" + from + "') to ('" + to + "')");
+        return true;
+    }
+
+    @Override
+    public boolean dropDailyPartition(LocalDate day) {
+        lock();
+        String name = partitionName(day);
+        if (!exists(name)) {
+            return false;
+        }
+        jdbcTemplate.execute("alter table " + ARCHIVE_TABLE + " detach partition " + name);
+        jdbcTemplate.execute("drop table " + name);
+        return true;
+    }
+
+    @Override
+    public int purgeDefaultPartition(OffsetDateTime expireBefore) {
+        return jdbcTemplate.update("delete from " + DEFAULT_PARTITION + " where created_at < ?", expireBefore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findIdByIdempotencyKey(String idempotencyKey) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from outbox_message_archive where idempotency_key_hash = sha256(textsend(cast(? as text)))",
+                Long.class, idempotencyKey);
+        return ids.stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> findIdsByIdempotencyKeyIn(Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(idempotencyKeys.size(), "?"));
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "select a.idempotency_key, a.id from unnest(array[" + placeholders + "]) as k(idempotency_key)"
+                        + " join outbox_message_archive a"
+                        + " on a.idempotency_key_hash = sha256(textsend(cast(k.idempotency_key as text)))",
+                rs -> {
+                    ids.put(rs.getString("idempotency_key"), rs.getLong("id"));
+                },
+                idempotencyKeys.toArray()
+        );
+        return ids;
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForObject("select pg_advisory_xact_lock(?)::text", String.class, DDL_LOCK_KEY);
+    }
+
+    private boolean exists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select to_regclass(?) is not null", Boolean.class, name));
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    private static String bound(LocalDate day) {
+        return OffsetDateTime.of(day.atStartOfDay(), ZoneOffset.UTC).toString();
+    }
+}
@@ -6,6 +6,9 @@ import com.yunhwan.auth.error.infra.metrics.MetricsConfig;
 import com.yunhwan.auth.error.infra.metrics.RecordedConsumerMetricsContext;
 import com.yunhwan.auth.error.infra.persistence.jpa.OutboxJpaRepository;
 import com.yunhwan.auth.error.usecase.outbox.dto.OutboxAgeStats;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxFinalizeCommand;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
 import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -15,11 +18,14 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Repository
 @RequiredArgsConstructor
@@ -55,20 +61,58 @@ public class OutboxMessageStoreAdapter implements OutboxMessageStore {
         return repo.existsByIdempotencyKey(idempotencyKey);
     }
 
+    @Override
+    public List<OutboxMessage> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return List.of();
+        }
+        return repo.findAllByIdempotencyKeyIn(idempotencyKeys);
+    }
+
     @Override
     public OutboxMessage upsertReturning(String aggregateType, String aggregateId, String eventType,
                                          String payloadJson, String idempotencyKey, String payloadHash, OffsetDateTime now) {
         return recordRecordedPathTimer(
                 MetricsConfig.METRIC_OUTBOX_UPSERT_RETURNING,
                 eventType,
-                () -> repo.upsertReturning(aggregateType, aggregateId, eventType, payloadJson, idempotencyKey, payloadHash, now)
+                () -> repo.insertOrSelectSame(aggregateType, aggregateId, eventType, payloadJson, idempotencyKey, payloadHash)
+                        // 동시 적재분(snapshot 밖)이나 해시 불일치만 행 잠금을 거는 기존 UPSERT로 판정한다.
+                        .or(() -> repo.upsertReturning(aggregateType, aggregateId, eventType, payloadJson, idempotencyKey, payloadHash, now))
                         .orElseThrow(() -> payloadMismatch(eventType, idempotencyKey, payloadHash))
         );
     }
 
+    @Override
+    public List<OutboxMessage> upsertAllReturning(List<OutboxEnqueueCommand> commands, OffsetDateTime now) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        List<OutboxMessage> rows = repo.upsertAllReturning(commands, now);
+        if (rows.size() != commands.size()) {
+            Set<String> returnedKeys = new HashSet<>();
+            rows.forEach(row -> returnedKeys.add(row.getIdempotencyKey()));
+            OutboxEnqueueCommand mismatched = commands.stream()
+                    .filter(cmd -> !returnedKeys.contains(cmd.idempotencyKey()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException(
+                            "outbox multi-row upsert returned unexpected rows. expected=" + commands.size() + ", actual=" + rows.size()));
+            throw payloadMismatch(mismatched.eventType(), mismatched.idempotencyKey(), mismatched.payloadHash());
+        }
+        return rows;
+    }
+
     @Override
     public List<OutboxMessage> claimBatch(int batchSize, String owner, OffsetDateTime now, String scopePrefix) {
-        return repo.claimBatch(batchSize, owner, now, scopePrefix);
+        // scope 유무로 쿼리를 나눠 각자 자기 index를 쓰게 한다. (OR 조건은 generic plan에서 index를 못 쓴다)
+        if (scopePrefix == null || scopePrefix.isEmpty()) {
+            return repo.claimBatch(batchSize, owner, now);
+        }
+        return repo.claimScopedBatch(batchSize, owner, now, scopePrefix, scopeUpperBound(scopePrefix));
+    }
+
+    @Override
+    public List<OutboxMessage> claimPartitionBatch(int batchSize, String owner, OffsetDateTime now, OutboxRelayPartition partition) {
+        return repo.claimPartitionBatch(batchSize, owner, now, partition.hashFrom(), partition.hashTo());
     }
 
     @Override
@@ -76,6 +120,11 @@ public class OutboxMessageStoreAdapter implements OutboxMessageStore {
         return repo.setNextRetryAt(id, nextRetryAt, now);
     }
 
+    @Override
+    public Optional<OffsetDateTime> findEarliestRetryAfter(OffsetDateTime now) {
+        return repo.findEarliestRetryAfter(now);
+    }
+
     @Override
     public int markPublished(long id, String owner, OffsetDateTime now) {
 
@@ -92,6 +141,56 @@ public class OutboxMessageStoreAdapter implements OutboxMessageStore {
         return repo.markDead(id, owner, retryCount, lastError, now);
     }
 
+    @Override
+    public List<Long> markAllPublished(Collection<Long> ids, String owner, OffsetDateTime now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return finalizeAll(() -> repo.markAllPublished(ids, owner, now));
+    }
+
+    @Override
+    public List<Long> markAllForRetry(List<OutboxFinalizeCommand> commands, String owner, OffsetDateTime now) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        return finalizeAll(() -> repo.markAllForRetry(
+                commands.stream().map(OutboxFinalizeCommand::id).toList(),
+                commands.stream().map(OutboxFinalizeCommand::retryCount).toList(),
+                commands.stream().map(OutboxFinalizeCommand::nextRetryAt).toList(),
+                commands.stream().map(OutboxFinalizeCommand::lastError).toList(),
+                owner,
+                now
+        ));
+    }
+
+    @Override
+    public List<Long> markAllDead(List<OutboxFinalizeCommand> commands, String owner, OffsetDateTime now) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        return finalizeAll(() -> repo.markAllDead(
+                commands.stream().map(OutboxFinalizeCommand::id).toList(),
+                commands.stream().map(OutboxFinalizeCommand::retryCount).toList(),
+                commands.stream().map(OutboxFinalizeCommand::lastError).toList(),
+                owner,
+                now
+        ));
+    }
+
+    /**
+     * 단건 mark*의 @Modifying(flushAutomatically, clearAutomatically)와 같게 처리한다.
+     * 다건 마감은 RETURNING 때문에 @Modifying을 못 붙여, 관리 중인 PROCESSING 엔티티가 남지 않도록 직접 비운다.
+     */
+    private List<Long> finalizeAll(Supplier<List<Long>> update) {
+        repo.flush();
+        try {
+            return update.get();
+        } finally {
+            repo.clearPersistenceContext();
+        }
+    }
+
     @Override
     public List<OutboxMessage> pickStaleProcessing(OffsetDateTime staleBefore, int batchSize, String scopePrefix) {
         return repo.pickStaleProcessing(staleBefore, batchSize, scopePrefix);
@@ -157,6 +256,24 @@ public class OutboxMessageStoreAdapter implements OutboxMessageStore {
         }
     }
 
+    /**
+     * collate "C"(UTF-8 바이트 순서)에서 prefix로 시작하는 모든 문자열보다 큰 가장 작은 접두어.
+     * 마지막 code point를 하나 올리고, 더 올릴 수 없으면 그 앞 code point로 넘어간다.
+     */
+    static String scopeUpperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0) {
+            int cp = prefix.codePointBefore(end);
+            int start = end - Character.charCount(cp);
+            if (cp < Character.MAX_CODE_POINT) {
+                int next = cp + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : cp + 1;
+                return prefix.substring(0, start) + Character.toString(next);
+            }
+            end = start;
+        }
+        throw new IllegalArgumentException("scope prefix has no upper bound. prefix=" + prefix);
+    }
+
     @FunctionalInterface
     private interface TimedSupplier<T> {
         T get();
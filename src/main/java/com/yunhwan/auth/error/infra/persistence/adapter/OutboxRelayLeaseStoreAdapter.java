@@ -0,0 +1,80 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxRelayLeaseStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * outbox relay heartbeat/lease. (V22 참고)
+ *
+ * lease 획득은 upsert 한 statement라서, 두 인스턴스가 같은 파티션을 동시에 노려도 행 lock 순서대로 한쪽만 잡는다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class OutboxRelayLeaseStoreAdapter implements OutboxRelayLeaseStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void heartbeat(String owner, OffsetDateTime now, OffsetDateTime staleBefore) {
+        jdbcTemplate.update(
+                """
+                insert into outbox_relay_member (owner, heartbeat_at)
+                values (?, ?)
+                on conflict (owner) do update set heartbeat_at = excluded.heartbeat_at
+                """,
+                owner, now
+        );
+        jdbcTemplate.update("delete from outbox_relay_member where heartbeat_at < ?", staleBefore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findLiveMembers(OffsetDateTime aliveAfter) {
+        return jdbcTemplate.queryForList(
+                "select owner from outbox_relay_member where heartbeat_at >= ? order by owner",
+                String.class, aliveAfter);
+    }
+
+    @Override
+    public List<Integer> acquire(String owner, Collection<Integer> partitionNos, OffsetDateTime now,
+                                 OffsetDateTime leaseUntil) {
+        if (partitionNos.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                """
+                insert into outbox_relay_lease as l (partition_no, owner, lease_until)
+                select p, ?, ? from unnest(cast(? as integer[])) as t(p)
+                on conflict (partition_no) do update
+                   set owner = excluded.owner,
+                       lease_until = excluded.lease_until
+                 where l.owner = excluded.owner
+                    or l.lease_until < ?
+                returning partition_no
+                """,
+                Integer.class,
+                owner, leaseUntil, partitionNos.toArray(Integer[]::new), now
+        );
+    }
+
+    @Override
+    public int releaseExcept(String owner, Collection<Integer> keep) {
+        return jdbcTemplate.update(
+                "delete from outbox_relay_lease where owner = ? and partition_no <> all(cast(? as integer[]))",
+                owner, keep.toArray(Integer[]::new));
+    }
+
+    @Override
+    public void leave(String owner) {
+        jdbcTemplate.update("delete from outbox_relay_lease where owner = ?", owner);
+        jdbcTemplate.update("delete from outbox_relay_member where owner = ?", owner);
+    }
+}
@@ -5,10 +5,13 @@ import com.yunhwan.auth.error.domain.consumer.ProcessedStatus;
 import com.yunhwan.auth.error.infra.metrics.MetricsConfig;
 import com.yunhwan.auth.error.infra.metrics.RecordedConsumerMetricsContext;
 import com.yunhwan.auth.error.infra.persistence.jpa.ProcessedMessageJpaRepository;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionBatch;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionCursor;
 import com.yunhwan.auth.error.usecase.consumer.port.ProcessedMessageStore;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 public class ProcessedMessageStoreAdapter implements ProcessedMessageStore {
 
     private final ProcessedMessageJpaRepository repo;
+    private final JdbcTemplate jdbcTemplate;
     private final MeterRegistry meterRegistry;
 
     @Override
@@ -93,6 +97,61 @@ public class ProcessedMessageStoreAdapter implements ProcessedMessageStore {
         return Optional.ofNullable(repo.findStatusByOutboxId(outboxId));
     }
 
+    @Override
+    public ProcessedMessageCompactionBatch compactDone(OffsetDateTime processedBefore,
+                                                       ProcessedMessageCompactionCursor after, int limit) {
+        // 한 statement: keyset으로 후보 선별 → 안전 조건 통과분만 delete → 다음 cursor
+        return jdbcTemplate.queryForObject(
+                """
+                with candidates as (
+                  select outbox_id, processed_at
+                    from processed_message
+                   where status = 'DONE'
+                     and processed_at < ?
+                     and (processed_at, outbox_id) > (?, ?)
+                   order by processed_at, outbox_id
+                   limit ?
+                ), deletable as (
+                  select c.outbox_id
+                    from candidates c
+                   where not exists (select 1
+                                       from outbox_message o
+                                      where o.id = c.outbox_id
+                                        and o.status <> 'PUBLISHED')
+                     and not exists (select 1
+                                       from retry_publish_request r
+                                      where r.source_outbox_id = c.outbox_id
+                                        and r.status in ('PENDING', 'PROCESSING'))
+                ), deleted as (
+                  delete from processed_message p
+                   using deletable d
+                   where p.outbox_id = d.outbox_id
+                     and p.status = 'DONE'
+                  returning p.outbox_id
+                ), next_cursor as (
+                  select processed_at, outbox_id
+                    from candidates
+                   order by processed_at desc, outbox_id desc
+                   limit 1
+                )
+                select (select count(*) from candidates) as scanned,
+                       (select count(*) from deleted) as deleted,
+                       (select processed_at from next_cursor) as last_processed_at,
+                       (select outbox_id from next_cursor) as last_outbox_id
+                """,
+                (rs, rowNum) -> {
+                    int scanned = rs.getInt("scanned");
+                    ProcessedMessageCompactionCursor next = scanned == 0
+                            ? after
+                            : new ProcessedMessageCompactionCursor(
+                                    rs.getObject("last_processed_at", OffsetDateTime.class),
+                                    rs.getLong("last_outbox_id"));
+                    return new ProcessedMessageCompactionBatch(scanned, rs.getInt("deleted"), next);
+                },
+                processedBefore, after.processedAt(), after.outboxId(), limit
+        );
+    }
+
     private <T> T recordRecordedPathTimer(String metricName, TimedSupplier<T> supplier) {
         RecordedConsumerMetricsContext.MetricContext context =
                 RecordedConsumerMetricsContext.current().orElse(null);
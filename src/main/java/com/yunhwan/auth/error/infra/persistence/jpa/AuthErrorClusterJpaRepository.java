@@ -12,9 +12,12 @@ import java.util.Optional;
 public interface AuthErrorClusterJpaRepository extends JpaRepository<AuthErrorCluster, Long> {
     Optional<AuthErrorCluster> findByClusterKey(String clusterKey);
 
+    /**
+     * cluster_key는 stack_hash와 같은 SHA-256 bytea다. 호출자는 hex로 넘긴다. (V17)
+     */
     @Query(value = """
             insert into auth_error_cluster (cluster_key, total_count, created_at, updated_at)
-            values (:clusterKey, 0, :now, :now)
+            values (decode(:clusterKey, 'hex'), 0, :now, :now)
             on conflict (cluster_key)
             do update set updated_at = excluded.updated_at
             returning id
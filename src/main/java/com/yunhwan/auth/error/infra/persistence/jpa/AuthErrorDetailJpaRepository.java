@@ -0,0 +1,13 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthErrorDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+public interface AuthErrorDetailJpaRepository extends JpaRepository<AuthErrorDetail, Long> {
+
+    /** occurred_at을 함께 걸어 auth_error_detail 파티션 하나만 읽는다. */
+    Optional<AuthErrorDetail> findByAuthErrorIdAndOccurredAt(Long authErrorId, OffsetDateTime occurredAt);
+}
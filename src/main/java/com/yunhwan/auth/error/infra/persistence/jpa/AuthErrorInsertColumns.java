@@ -0,0 +1,241 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import jakarta.persistence.Query;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * native INSERT 경로(multi-row 등)가 공유하는 auth_error 컬럼 매핑.
+ * - JPA 엔티티 매핑과 컬럼 목록이 어긋나지 않도록 한 곳에서 관리한다.
+ * - 모든 파라미터는 CAST로 타입을 고정한다. (null 바인딩 시 타입 추론 실패 방지)
+ * - SHA-256 hash 컬럼은 hex 문자열로 바인딩하고 DB에서 bytea로 바꾼다. (V17)
+ * - cold 컬럼은 auth_error_detail에 따로 쓴다. (DETAIL_COLUMNS, V18)
+ *   JSON 컬럼(request_headers 등)은 적재 입력에 없으므로 native 경로에서 쓰지 않는다.
+ */
+final class AuthErrorInsertColumns {
+
+    private AuthErrorInsertColumns() {
+    }
+
+    record Column(String name, String sqlType, Function<AuthError, Object> extractor, boolean sha256Hex) {
+
+        Column(String name, String sqlType, Function<AuthError, Object> extractor) {
+            this(name, sqlType, extractor, false);
+        }
+
+        /** hex(64자) 속성 → bytea(32) 컬럼 */
+        static Column sha256Hex(String name, Function<AuthError, Object> extractor) {
+            return new Column(name, "bytea", extractor, true);
+        }
+    }
+
+    static final List<Column> COLUMNS = List.of(
+            /* ===== 식별/추적 ===== */
+            new Column("request_id", "varchar", AuthError::getRequestId),
+
+            /* ===== 발생/출처 ===== */
+            new Column("occurred_at", "timestamptz", AuthError::getOccurredAt),
+            new Column("received_at", "timestamptz", AuthError::getReceivedAt),
+            new Column("source_service", "varchar", AuthError::getSourceService),
+            new Column("environment", "varchar", AuthError::getEnvironment),
+
+            /* ===== 요청 컨텍스트 ===== */
+            new Column("http_method", "varchar", AuthError::getHttpMethod),
+            new Column("client_ip", "varchar", AuthError::getClientIp),
+            new Column("user_id", "varchar", AuthError::getUserId),
+            new Column("session_id", "varchar", AuthError::getSessionId),
+
+            /* ===== 에러 분류 ===== */
+            new Column("error_domain", "varchar", AuthError::getErrorDomain),
+            new Column("error_code", "varchar", AuthError::getErrorCode),
+            new Column("severity", "varchar", AuthError::getSeverity),
+            new Column("category", "varchar", AuthError::getCategory),
+
+            /* ===== 인증 실패 taxonomy ===== */
+            new Column("error_type", "varchar", a -> a.getErrorType().name()),
+            new Column("auth_failure_severity", "varchar", a -> a.getAuthFailureSeverity().name()),
+            new Column("auth_failure_retryable", "boolean", AuthError::isAuthFailureRetryable),
+            new Column("auth_failure_security_signal", "boolean", AuthError::isAuthFailureSecuritySignal),
+            new Column("provider", "varchar", AuthError::getProvider),
+            new Column("client_type", "varchar", AuthError::getClientType),
+            new Column("endpoint", "text", AuthError::getEndpoint),
+            Column.sha256Hex("principal_hash", AuthError::getPrincipalHash),
+            Column.sha256Hex("ip_hash", AuthError::getIpHash),
+            new Column("user_agent_family", "varchar", AuthError::getUserAgentFamily),
+
+            /* ===== 예외 ===== */
+            new Column("exception_class", "varchar", AuthError::getExceptionClass),
+            new Column("exception_message", "text", AuthError::getExceptionMessage),
+            new Column("root_cause_class", "varchar", AuthError::getRootCauseClass),
+            new Column("root_cause_message", "text", AuthError::getRootCauseMessage),
+            new Column("stacktrace_hash", "varchar", AuthError::getStacktraceHash),
+
+            /* ===== 처리 상태 ===== */
+            new Column("status", "varchar", a -> a.getStatus().name()),
+            new Column("retry_count", "integer", AuthError::getRetryCount),
+
+            /* ===== 중복 방지 / HTTP / 스택 그룹핑 ===== */
+            new Column("dedup_key", "varchar", AuthError::getDedupKey),
+            new Column("http_status", "integer", AuthError::getHttpStatus),
+            Column.sha256Hex("stack_hash", AuthError::getStackHash)
+    );
+
+    /**
+     * auth_error_detail(cold) 컬럼. auth_error_id/occurred_at은 INSERT 된 auth_error에서 가져온다.
+     */
+    static final List<Column> DETAIL_COLUMNS = List.of(
+            new Column("auth_error_id", "bigint", AuthError::getId),
+            new Column("occurred_at", "timestamptz", AuthError::getOccurredAt),
+            new Column("request_uri", "text", AuthError::getRequestUri),
+            new Column("user_agent", "text", AuthError::getUserAgent),
+            new Column("stacktrace", "text", AuthError::getStacktrace)
+    );
+
+    /** created_at/updated_at(auditing 컬럼)는 호출자가 넘긴 now로 채운다. */
+    static final int PARAMS_PER_ROW = COLUMNS.size() + 2;
+
+    static final int DETAIL_PARAMS_PER_ROW = DETAIL_COLUMNS.size();
+
+    static String columnList() {
+        return COLUMNS.stream()
+                .map(Column::name)
+                .collect(Collectors.joining(", ", "", ", created_at, updated_at"));
+    }
+
+    static String detailColumnList() {
+        return DETAIL_COLUMNS.stream()
+                .map(Column::name)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 1-based ordinal 파라미터(?N)로 VALUES row 하나를 만든다.
+     */
+    static String valuesRow(int firstParamIndex) {
+        StringBuilder sb = new StringBuilder("(");
+        int index = appendPlaceholders(sb, COLUMNS, firstParamIndex);
+        sb.append(", cast(?").append(index++).append(" as timestamptz), ");
+        sb.append("cast(?").append(index).append(" as timestamptz))");
+        return sb.toString();
+    }
+
+    static String detailValuesRow(int firstParamIndex) {
+        StringBuilder sb = new StringBuilder("(");
+        appendPlaceholders(sb, DETAIL_COLUMNS, firstParamIndex);
+        return sb.append(')').toString();
+    }
+
+    /**
+     * DETAIL_COLUMNS 중 auth_error_id/occurred_at을 뺀 cold 값들의 placeholder. (CTE에서 INSERT 결과와 합칠 때)
+     */
+    static String detailValuePlaceholders(int firstParamIndex) {
+        StringBuilder sb = new StringBuilder();
+        appendPlaceholders(sb, DETAIL_COLUMNS.subList(2, DETAIL_COLUMNS.size()), firstParamIndex);
+        return sb.toString();
+    }
+
+    private static int appendPlaceholders(StringBuilder sb, List<Column> columns, int firstParamIndex) {
+        int index = firstParamIndex;
+        for (Column column : columns) {
+            if (index > firstParamIndex) {
+                sb.append(", ");
+            }
+            if (column.sha256Hex()) {
+                sb.append("decode(cast(?").append(index++).append(" as varchar), 'hex')");
+            } else {
+                sb.append("cast(?").append(index++).append(" as ").append(column.sqlType()).append(')');
+            }
+        }
+        return index;
+    }
+
+    /**
+     * valuesRow(firstParamIndex)와 같은 순서로 값을 바인딩하고 다음 파라미터 번호를 돌려준다.
+     */
+    static int bind(Query query, int firstParamIndex, AuthError authError, OffsetDateTime now) {
+        int index = bindColumns(query, COLUMNS, firstParamIndex, authError);
+        query.setParameter(index++, now);
+        query.setParameter(index++, now);
+        return index;
+    }
+
+    static int bindDetail(Query query, int firstParamIndex, AuthError authError) {
+        return bindColumns(query, DETAIL_COLUMNS, firstParamIndex, authError);
+    }
+
+    /**
+     * detailValuePlaceholders(firstParamIndex)와 같은 순서로 cold 값만 바인딩한다.
+     */
+    static int bindDetailValues(Query query, int firstParamIndex, AuthError authError) {
+        return bindColumns(query, DETAIL_COLUMNS.subList(2, DETAIL_COLUMNS.size()), firstParamIndex, authError);
+    }
+
+    private static int bindColumns(Query query, List<Column> columns, int firstParamIndex, AuthError authError) {
+        int index = firstParamIndex;
+        for (Column column : columns) {
+            query.setParameter(index++, column.extractor().apply(authError));
+        }
+        return index;
+    }
+
+    /**
+     * valuesRow/bind와 같은 컬럼 순서로 COPY ... (FORMAT csv) 한 행을 쓴다.
+     * - null은 빈 필드(unquoted), 문자열은 항상 따옴표로 감싸서 빈 문자열과 구분한다.
+     * - hash 컬럼은 bytea hex 입력 형식(\x...)으로 쓴다.
+     */
+    static void writeCsvRow(Writer out, AuthError authError, OffsetDateTime now) throws IOException {
+        for (Column column : COLUMNS) {
+            Object value = column.extractor().apply(authError);
+            writeCsvValue(out, column.sha256Hex() && value != null ? "\\x" + value : value);
+            out.write(',');
+        }
+        writeCsvValue(out, now);
+        out.write(',');
+        writeCsvValue(out, now);
+        out.write('\n');
+    }
+
+    /**
+     * detailColumnList() 순서로 auth_error_detail COPY 한 행을 쓴다.
+     */
+    static void writeDetailCsvRow(Writer out, AuthError authError) throws IOException {
+        for (int i = 0; i < DETAIL_COLUMNS.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeCsvValue(out, DETAIL_COLUMNS.get(i).extractor().apply(authError));
+        }
+        out.write('\n');
+    }
+
+    private static void writeCsvValue(Writer out, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Boolean b) {
+            out.write(b ? "t" : "f");
+        } else if (value instanceof Number n) {
+            out.write(n.toString());
+        } else if (value instanceof OffsetDateTime t) {
+            out.write(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(t));
+        } else {
+            String s = value.toString();
+            out.write('"');
+            int from = 0;
+            for (int i = s.indexOf('"'); i >= 0; i = s.indexOf('"', i + 1)) {
+                out.write(s, from, i + 1 - from);
+                out.write('"');
+                from = i + 1;
+            }
+            out.write(s, from, s.length() - from);
+            out.write('"');
+        }
+    }
+}
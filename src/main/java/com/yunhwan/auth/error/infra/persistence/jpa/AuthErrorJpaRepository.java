@@ -1,11 +1,110 @@
 package com.yunhwan.auth.error.infra.persistence.jpa;
 
 import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface AuthErrorJpaRepository extends JpaRepository<AuthError, Long> {
+public interface AuthErrorJpaRepository extends JpaRepository<AuthError, Long>, AuthErrorJpaRepositoryCustom {
 
-    Optional<AuthError> findByDedupKey(String dedupKey);
+    /**
+     * dedup_key guard에 기록된 occurred_at으로 auth_error 파티션 하나만 조회한다. (실행 시점 partition pruning)
+     * guard는 dedup_key 원문 대신 sha256(textsend(dedup_key)) digest를 키로 가진다. (V17)
+     */
+    @Query(value = """
+            select a.*
+              from auth_error_dedup_key k
+              join auth_error a
+                on a.dedup_key = :dedupKey
+               and a.occurred_at = k.occurred_at
+             where k.dedup_key_hash = sha256(textsend(cast(:dedupKey as text)))
+            """, nativeQuery = true)
+    Optional<AuthError> findByDedupKey(@Param("dedupKey") String dedupKey);
+
+    @Query(value = """
+            select a.*
+              from unnest(array[:dedupKeys]) as d(dedup_key)
+              join auth_error_dedup_key k
+                on k.dedup_key_hash = sha256(textsend(cast(d.dedup_key as text)))
+              join auth_error a
+                on a.dedup_key = d.dedup_key
+               and a.occurred_at = k.occurred_at
+            """, nativeQuery = true)
+    List<AuthError> findAllByDedupKeyIn(@Param("dedupKeys") Collection<String> dedupKeys);
+
+    Optional<AuthError> findByIdAndOccurredAtBetween(Long id, OffsetDateTime from, OffsetDateTime to);
+
+    boolean existsByIdAndOccurredAtBetween(Long id, OffsetDateTime from, OffsetDateTime to);
+
+    @Query("select a.status from AuthError a where a.id = :id")
+    Optional<AuthErrorStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select a.status from AuthError a where a.id = :id and a.occurredAt between :from and :to")
+    Optional<AuthErrorStatus> findStatusByIdAndOccurredAtBetween(
+            @Param("id") Long id,
+            @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to
+    );
+
+    /**
+     * 상태 전이 SET 절. 컬럼 변경 규칙은 AuthError.mark* 와 같다.
+     * - RETRY: retry_count + 1
+     * - 분석 요청/완료 외 전이: next_retry_at 초기화
+     * - PROCESSED: last_processed_at, IGNORED/RESOLVED: resolved_at
+     * - note가 null이면 resolution_note는 그대로 둔다.
+     */
+    String TRANSITION_SET = """
+            update auth_error
+               set status = cast(:to as varchar),
+                   retry_count = case when cast(:to as varchar) = 'RETRY' then retry_count + 1 else retry_count end,
+                   next_retry_at = case when cast(:to as varchar) in ('ANALYSIS_REQUESTED', 'ANALYSIS_COMPLETED')
+                                        then next_retry_at else null end,
+                   last_processed_at = case when cast(:to as varchar) = 'PROCESSED'
+                                            then cast(:now as timestamptz) else last_processed_at end,
+                   resolved_at = case when cast(:to as varchar) in ('IGNORED', 'RESOLVED')
+                                      then cast(:now as timestamptz) else resolved_at end,
+                   resolution_note = coalesce(cast(:note as text), resolution_note),
+                   updated_at = cast(:now as timestamptz)
+            """;
+
+    /**
+     * 상태 CAS: 현재 status가 expectedFrom 중 하나일 때만 바꾸고 바뀐 행 수를 돌려준다.
+     * 엔티티를 읽지 않고 UPDATE 한 번으로 처리한다. 동시 전이는 행 잠금 후 WHERE를 다시 평가해 한쪽만 성공한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = TRANSITION_SET + """
+             where id = :id
+               and status in (:expectedFrom)
+            """, nativeQuery = true)
+    int transition(
+            @Param("id") Long id,
+            @Param("expectedFrom") Collection<String> expectedFrom,
+            @Param("to") String to,
+            @Param("note") String note,
+            @Param("now") OffsetDateTime now
+    );
+
+    /** transition과 같다. occurred_at 범위로 파티션 하나만 본다. */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = TRANSITION_SET + """
+             where id = :id
+               and occurred_at between :from and :until
+               and status in (:expectedFrom)
+            """, nativeQuery = true)
+    int transitionWithin(
+            @Param("id") Long id,
+            @Param("from") OffsetDateTime from,
+            @Param("until") OffsetDateTime until,
+            @Param("expectedFrom") Collection<String> expectedFrom,
+            @Param("to") String to,
+            @Param("note") String note,
+            @Param("now") OffsetDateTime now
+    );
 }
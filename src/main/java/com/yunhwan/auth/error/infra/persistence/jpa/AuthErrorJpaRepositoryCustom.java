@@ -0,0 +1,32 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorIngestRow;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AuthErrorJpaRepositoryCustom {
+
+    /**
+     * multi-row INSERT ... ON CONFLICT DO NOTHING RETURNING id.
+     * 실제로 INSERT된 엔티티에만 id를 채워서 돌려준다. (dedup_key 충돌분은 제외)
+     */
+    List<AuthError> insertAllIgnoringConflicts(List<AuthError> authErrors, OffsetDateTime now);
+
+    /**
+     * COPY FROM STDIN으로 임시 stage 테이블에 올린 뒤 INSERT ... SELECT ... ON CONFLICT DO NOTHING RETURNING id.
+     * 결과 계약은 insertAllIgnoringConflicts와 같다. (대량 적재용: bind 파라미터/statement 크기 제한 없음)
+     */
+    List<AuthError> copyAllIgnoringConflicts(List<AuthError> authErrors, OffsetDateTime now);
+
+    /**
+     * auth_error INSERT(dedup_key 충돌 시 DO NOTHING) + recorded outbox INSERT를 한 statement로 실행한다.
+     * - 신규: (새 authErrorId, 새 outboxId, inserted=true)
+     * - 중복: statement snapshot에서 보이는 기존 행이면 (기존 id들, inserted=false), 아니면 empty
+     */
+    Optional<AuthErrorIngestRow> insertWithOutbox(AuthError authError, OutboxEnqueueCommand outboxTemplate,
+                                                  String idPlaceholder, OffsetDateTime now);
+}
@@ -0,0 +1,274 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorIngestRow;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class AuthErrorJpaRepositoryCustomImpl implements AuthErrorJpaRepositoryCustom {
+
+    /**
+     * 한 statement의 bind 파라미터 수를 pgjdbc 상한(32767) 안쪽으로 유지한다.
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    /**
+     * COPY 경로의 세션 임시 테이블. 트랜잭션이 끝나면 비워진다.
+     */
+    private static final String COPY_STAGE_TABLE = "auth_error_copy_stage";
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuthError> insertAllIgnoringConflicts(List<AuthError> authErrors, OffsetDateTime now) {
+        List<AuthError> inserted = new ArrayList<>(authErrors.size());
+        for (int from = 0; from < authErrors.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<AuthError> chunk = authErrors.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, authErrors.size()));
+            inserted.addAll(insertChunk(chunk, now));
+        }
+        insertDetails(inserted);
+        return inserted;
+    }
+
+    private List<AuthError> insertChunk(List<AuthError> chunk, OffsetDateTime now) {
+        StringBuilder sql = new StringBuilder("insert into auth_error (")
+                .append(AuthErrorInsertColumns.columnList())
+                .append(") values ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(AuthErrorInsertColumns.valuesRow(1 + i * AuthErrorInsertColumns.PARAMS_PER_ROW));
+        }
+        // 충돌 대상(dedup_key unique)은 명시하지 않는다: 어떤 unique 충돌이든 "이미 적재됨"으로 취급한다.
+        sql.append(" on conflict do nothing returning id, request_id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        Map<String, AuthError> byRequestId = new HashMap<>(chunk.size() * 2);
+        int index = 1;
+        for (AuthError authError : chunk) {
+            index = AuthErrorInsertColumns.bind(query, index, authError, now);
+            byRequestId.put(authError.getRequestId(), authError);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<AuthError> inserted = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            AuthError authError = byRequestId.get((String) row[1]);
+            authError.assignGeneratedId(((Number) row[0]).longValue());
+            inserted.add(authError);
+        }
+        return inserted;
+    }
+
+    /**
+     * INSERT 된 auth_error의 cold 컬럼을 auth_error_detail에 쓴다. (같은 트랜잭션, cold 값이 없는 행은 건너뜀)
+     */
+    private void insertDetails(List<AuthError> inserted) {
+        List<AuthError> withDetail = inserted.stream().filter(AuthError::hasDetail).toList();
+        for (int from = 0; from < withDetail.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<AuthError> chunk = withDetail.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, withDetail.size()));
+            StringBuilder sql = new StringBuilder("insert into auth_error_detail (")
+                    .append(AuthErrorInsertColumns.detailColumnList())
+                    .append(") values ");
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(AuthErrorInsertColumns.detailValuesRow(1 + i * AuthErrorInsertColumns.DETAIL_PARAMS_PER_ROW));
+            }
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int index = 1;
+            for (AuthError authError : chunk) {
+                index = AuthErrorInsertColumns.bindDetail(query, index, authError);
+            }
+            query.executeUpdate();
+        }
+    }
+
+    @Override
+    public List<AuthError> copyAllIgnoringConflicts(List<AuthError> authErrors, OffsetDateTime now) {
+        // 같은 트랜잭션의 JDBC 커넥션에서 실행한다. (pgjdbc CopyManager는 JPA Query로 노출되지 않음)
+        return entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> copyChunk(connection, authErrors, now));
+    }
+
+    private List<AuthError> copyChunk(Connection connection, List<AuthError> authErrors, OffsetDateTime now)
+            throws SQLException {
+        String columns = AuthErrorInsertColumns.columnList();
+        try (Statement statement = connection.createStatement()) {
+            // 컬럼 타입만 가져온다. (NOT NULL/unique는 본 테이블 INSERT에서 검사)
+            statement.execute("create temporary table if not exists " + COPY_STAGE_TABLE
+                    + " on commit delete rows as select " + columns + " from auth_error with no data");
+            statement.execute("truncate " + COPY_STAGE_TABLE);
+        }
+
+        String copySql = "copy " + COPY_STAGE_TABLE + " (" + columns + ") from stdin with (format csv)";
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection.getCopyAPI().copyIn(copySql), COPY_BUFFER_BYTES),
+                StandardCharsets.UTF_8), COPY_BUFFER_BYTES)) {
+            for (AuthError authError : authErrors) {
+                AuthErrorInsertColumns.writeCsvRow(out, authError, now);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("auth_error COPY failed. rows=" + authErrors.size(), e);
+        }
+
+        String insertSql = "insert into auth_error (" + columns + ") select " + columns + " from " + COPY_STAGE_TABLE
+                + " on conflict do nothing returning id, request_id";
+        Map<String, AuthError> byRequestId = new HashMap<>(authErrors.size() * 2);
+        for (AuthError authError : authErrors) {
+            byRequestId.putIfAbsent(authError.getRequestId(), authError);
+        }
+        List<AuthError> inserted = new ArrayList<>(authErrors.size());
+        try (PreparedStatement statement = connection.prepareStatement(insertSql);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                AuthError authError = byRequestId.get(rs.getString(2));
+                authError.assignGeneratedId(rs.getLong(1));
+                inserted.add(authError);
+            }
+        }
+        copyDetails(pgConnection, inserted);
+        return inserted;
+    }
+
+    private void copyDetails(PGConnection pgConnection, List<AuthError> inserted) throws SQLException {
+        List<AuthError> withDetail = inserted.stream().filter(AuthError::hasDetail).toList();
+        if (withDetail.isEmpty()) {
+            return;
+        }
+        // 새로 발급된 id만 쓰므로 충돌이 없다. stage 없이 바로 COPY 한다.
+        String copySql = "copy auth_error_detail (" + AuthErrorInsertColumns.detailColumnList() + ") from stdin with (format csv)";
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection.getCopyAPI().copyIn(copySql), COPY_BUFFER_BYTES),
+                StandardCharsets.UTF_8), COPY_BUFFER_BYTES)) {
+            for (AuthError authError : withDetail) {
+                AuthErrorInsertColumns.writeDetailCsvRow(out, authError);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("auth_error_detail COPY failed. rows=" + withDetail.size(), e);
+        }
+    }
+
+    @Override
+    public Optional<AuthErrorIngestRow> insertWithOutbox(AuthError authError, OutboxEnqueueCommand outboxTemplate,
+                                                         String idPlaceholder, OffsetDateTime now) {
+        int p = 1 + AuthErrorInsertColumns.PARAMS_PER_ROW;
+        int aggregateType = p;
+        int eventType = p + 1;
+        int payloadTemplate = p + 2;
+        int idemKeyTemplate = p + 3;
+        int placeholder = p + 4;
+        int nowParam = p + 5;
+        int dedupKey = p + 6;
+        int detailValues = p + 7;
+
+        // cold 컬럼은 같은 statement에서 auth_error_detail로 쓴다. (V18)
+        String detailCte = !authError.hasDetail() ? "" : """
+                det as (
+                  insert into auth_error_detail (%1$s)
+                  select ins.id, ins.occurred_at, %2$s
+                  from ins
+                ),
+                """.formatted(
+                AuthErrorInsertColumns.detailColumnList(),
+                AuthErrorInsertColumns.detailValuePlaceholders(detailValues)
+        );
+
+        // payload_hash는 OutboxWriter와 같은 규칙(치환된 JSON 문자열의 UTF-8 SHA-256)으로 DB에서 계산한다. (bytea, V17)
+        String sql = """
+                with ins as (
+                  insert into auth_error (%1$s)
+                  values %2$s
+                  on conflict do nothing
+                  returning id, occurred_at
+                ),
+                %10$s
+                ob as (
+                  insert into outbox_message
+                    (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash)
+                  select cast(?%3$d as varchar),
+                         ins.id::text,
+                         cast(?%4$d as varchar),
+                         cast(replace(cast(?%5$d as text), cast(?%7$d as text), ins.id::text) as jsonb),
+                         replace(cast(?%6$d as text), cast(?%7$d as text), ins.id::text),
+                         sha256(convert_to(replace(cast(?%5$d as text), cast(?%7$d as text), ins.id::text), 'UTF8'))
+                  from ins
+                  on conflict (idempotency_key_hash)
+                  do update set updated_at = cast(?%8$d as timestamptz)
+                  where outbox_message.payload_hash = excluded.payload_hash
+                  returning id
+                )
+                select ins.id, (select ob.id from ob), true
+                from ins
+                union all
+                select a.id, o.id, false
+                from auth_error_dedup_key k
+                join auth_error a
+                  on a.dedup_key = cast(?%9$d as varchar)
+                 and a.occurred_at = k.occurred_at
+                join outbox_message o
+                  on o.idempotency_key_hash = sha256(textsend(replace(cast(?%6$d as text), cast(?%7$d as text), a.id::text)))
+                where k.dedup_key_hash = sha256(textsend(cast(?%9$d as text)))
+                  and not exists (select 1 from ins)
+                """.formatted(
+                AuthErrorInsertColumns.columnList(),
+                AuthErrorInsertColumns.valuesRow(1),
+                aggregateType, eventType, payloadTemplate, idemKeyTemplate, placeholder, nowParam, dedupKey,
+                detailCte
+        );
+
+        Query query = entityManager.createNativeQuery(sql);
+        AuthErrorInsertColumns.bind(query, 1, authError, now);
+        query.setParameter(aggregateType, outboxTemplate.aggregateType());
+        query.setParameter(eventType, outboxTemplate.eventType());
+        query.setParameter(payloadTemplate, outboxTemplate.payloadJson());
+        query.setParameter(idemKeyTemplate, outboxTemplate.idempotencyKey());
+        query.setParameter(placeholder, idPlaceholder);
+        query.setParameter(nowParam, now);
+        query.setParameter(dedupKey, authError.getDedupKey());
+        if (authError.hasDetail()) {
+            AuthErrorInsertColumns.bindDetailValues(query, detailValues, authError);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new AuthErrorIngestRow(
+                ((Number) row[0]).longValue(),
+                row[1] == null ? null : ((Number) row[1]).longValue(),
+                (Boolean) row[2]
+        ));
+    }
+}
@@ -0,0 +1,8 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStacktrace;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuthErrorStacktraceJpaRepository
+        extends JpaRepository<AuthErrorStacktrace, String>, AuthErrorStacktraceJpaRepositoryCustom {
+}
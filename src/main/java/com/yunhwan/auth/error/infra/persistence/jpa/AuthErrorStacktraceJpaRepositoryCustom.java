@@ -0,0 +1,14 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStacktrace;
+
+import java.util.List;
+
+public interface AuthErrorStacktraceJpaRepositoryCustom {
+
+    /**
+     * multi-row INSERT ... ON CONFLICT (trace_hash) DO NOTHING.
+     * 이미 있는 trace_hash는 건너뛴다. (내용 주소라 같은 키면 같은 내용)
+     */
+    void insertAllIgnoringConflicts(List<AuthErrorStacktrace> stacktraces);
+}
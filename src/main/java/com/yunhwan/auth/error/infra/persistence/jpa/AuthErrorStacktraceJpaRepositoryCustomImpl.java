@@ -0,0 +1,52 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStacktrace;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+public class AuthErrorStacktraceJpaRepositoryCustomImpl implements AuthErrorStacktraceJpaRepositoryCustom {
+
+    private static final int PARAMS_PER_ROW = 5;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAllIgnoringConflicts(List<AuthErrorStacktrace> stacktraces) {
+        for (int from = 0; from < stacktraces.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(stacktraces.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, stacktraces.size())));
+        }
+    }
+
+    private void insertChunk(List<AuthErrorStacktrace> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "insert into auth_error_stacktrace (trace_hash, codec, raw_length, content, created_at) values ");
+        for (int i = 0; i < chunk.size(); i++) {
+            int p = 1 + i * PARAMS_PER_ROW;
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(cast(?").append(p).append(" as varchar), ")
+                    .append("cast(?").append(p + 1).append(" as varchar), ")
+                    .append("cast(?").append(p + 2).append(" as integer), ")
+                    .append("cast(?").append(p + 3).append(" as bytea), ")
+                    .append("cast(?").append(p + 4).append(" as timestamptz))");
+        }
+        sql.append(" on conflict (trace_hash) do nothing");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int index = 1;
+        for (AuthErrorStacktrace stacktrace : chunk) {
+            query.setParameter(index++, stacktrace.getTraceHash());
+            query.setParameter(index++, stacktrace.getCodec());
+            query.setParameter(index++, stacktrace.getRawLength());
+            query.setParameter(index++, stacktrace.getContent());
+            query.setParameter(index++, stacktrace.getCreatedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -8,14 +8,38 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long> {
+public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>, OutboxJpaRepositoryCustom {
 
-    Optional<OutboxMessage> findByIdempotencyKey(String idempotencyKey);
+    /**
+     * 멱등성 키 조회는 unique index가 있는 digest(idempotency_key_hash = sha256(textsend(key)))로 한다. (V17)
+     */
+    @Query(value = """
+    SELECT *
+    FROM outbox_message
+    WHERE idempotency_key_hash = sha256(textsend(CAST(:idempotencyKey AS text)))
+    """, nativeQuery = true)
+    Optional<OutboxMessage> findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
 
-    boolean existsByIdempotencyKey(String idempotencyKey);
+    @Query(value = """
+    SELECT o.*
+    FROM unnest(ARRAY[:idempotencyKeys]) AS k(idempotency_key)
+    JOIN outbox_message o
+      ON o.idempotency_key_hash = sha256(textsend(CAST(k.idempotency_key AS text)))
+    """, nativeQuery = true)
+    List<OutboxMessage> findAllByIdempotencyKeyIn(@Param("idempotencyKeys") Collection<String> idempotencyKeys);
+
+    @Query(value = """
+    SELECT EXISTS (
+      SELECT 1
+      FROM outbox_message
+      WHERE idempotency_key_hash = sha256(textsend(CAST(:idempotencyKey AS text)))
+    )
+    """, nativeQuery = true)
+    boolean existsByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
 
     /**
      *
@@ -26,11 +50,11 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>
     INSERT INTO outbox_message
       (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash)
     VALUES
-      (:aggregateType, :aggregateId, :eventType, CAST(:payloadJson AS jsonb), :idempotencyKey, :payloadHash)
-    ON CONFLICT (idempotency_key)
+      (:aggregateType, :aggregateId, :eventType, CAST(:payloadJson AS jsonb), :idempotencyKey, decode(:payloadHash, 'hex'))
+    ON CONFLICT (idempotency_key_hash)
     DO UPDATE SET
       updated_at = :now
-    WHERE outbox_message.payload_hash = :payloadHash
+    WHERE outbox_message.payload_hash = EXCLUDED.payload_hash
     RETURNING *
     """, nativeQuery = true)
     Optional<OutboxMessage> upsertReturning(
@@ -45,16 +69,88 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>
 
     /**
      *
-     * Outbox select
-     * PENDING 값 조회
+     * Outbox insert (no-write 중복 경로)
+     * 신규면 INSERT, 같은 payload_hash의 기존 행이면 UPDATE 없이(새 tuple 버전 없이) 그대로 돌려준다.
+     * statement snapshot에 안 보이는 동시 적재분/해시 불일치는 empty → upsertReturning으로 처리한다.
      */
     @Query(value = """
+    WITH ins AS (
+      INSERT INTO outbox_message
+        (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash)
+      VALUES
+        (:aggregateType, :aggregateId, :eventType, CAST(:payloadJson AS jsonb), :idempotencyKey, decode(:payloadHash, 'hex'))
+      ON CONFLICT (idempotency_key_hash) DO NOTHING
+      RETURNING *
+    )
+    SELECT * FROM ins
+    UNION ALL
+    SELECT o.*
+    FROM outbox_message o
+    WHERE o.idempotency_key_hash = sha256(textsend(CAST(:idempotencyKey AS text)))
+      AND o.payload_hash = decode(:payloadHash, 'hex')
+      AND NOT EXISTS (SELECT 1 FROM ins)
+    """, nativeQuery = true)
+    Optional<OutboxMessage> insertOrSelectSame(
+            @Param("aggregateType") String aggregateType,
+            @Param("aggregateId") String aggregateId,
+            @Param("eventType") String eventType,
+            @Param("payloadJson") String payloadJson,
+            @Param("idempotencyKey") String idempotencyKey,
+            @Param("payloadHash") String payloadHash
+    );
+
+    /**
+     * 처리 가능한 PENDING 행을 claim 순서(COALESCE(next_retry_at, created_at), created_at)대로 가져온다.
+     * 새 행(next_retry_at 없음)과 재시도 due 행을 각자의 부분 index(V23) 순서로 batchSize만큼씩 읽어 합친다.
+     * 두 갈래 모두 정렬 없이 LIMIT에서 멈추고, 새 행은 created_at과 now를 비교하지 않으므로 시계 차이에 영향받지 않는다.
+     * 합친 뒤 batchSize를 넘는 행도 claim 트랜잭션이 끝날 때까지 잠겨 있어 다른 poller는 그 사이 건너뛴다.
+     */
+    String CLAIM_DUE_SQL = """
+        WITH due AS (
+          (SELECT id, created_at AS due_at, created_at
+           FROM outbox_message
+           WHERE status = 'PENDING'
+             AND next_retry_at IS NULL
+           ORDER BY created_at
+           LIMIT :batchSize
+           FOR UPDATE SKIP LOCKED)
+          UNION ALL
+          (SELECT id, next_retry_at AS due_at, created_at
+           FROM outbox_message
+           WHERE status = 'PENDING'
+             AND next_retry_at IS NOT NULL
+             AND next_retry_at <= :now
+           ORDER BY next_retry_at, created_at
+           LIMIT :batchSize
+           FOR UPDATE SKIP LOCKED)
+        ), picked AS (
+          SELECT id
+          FROM due
+          ORDER BY due_at, created_at
+          LIMIT :batchSize
+        )
+        UPDATE outbox_message o
+        SET status = 'PROCESSING',
+            processing_owner = :owner,
+            processing_started_at = :now,
+            updated_at = :now
+        FROM picked
+        WHERE o.id = picked.id
+        RETURNING o.*
+        """;
+
+    /**
+     * aggregate_id가 scope 접두어로 시작하는 행만 claim 한다. (테스트/부하 격리용)
+     * 접두어는 [scopeFrom, scopeTo) 범위 조건으로 바꿔 ix_outbox_message_claim_scope(V23)로 찾는다.
+     */
+    String CLAIM_SCOPED_SQL = """
         WITH picked AS (
           SELECT id
           FROM outbox_message
           WHERE status = 'PENDING'
+            AND (aggregate_id COLLATE "C") >= CAST(:scopeFrom AS text)
+            AND (aggregate_id COLLATE "C") < CAST(:scopeTo AS text)
             AND (next_retry_at IS NULL OR next_retry_at <= :now)
-            AND (:scopePrefix IS NULL OR aggregate_id LIKE CONCAT(:scopePrefix, '%'))
           ORDER BY COALESCE(next_retry_at, created_at), created_at
           LIMIT :batchSize
           FOR UPDATE SKIP LOCKED
@@ -67,14 +163,104 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>
         FROM picked
         WHERE o.id = picked.id
         RETURNING o.*
-        """, nativeQuery = true)
+        """;
+
+    @Query(value = CLAIM_DUE_SQL, nativeQuery = true)
     List<OutboxMessage> claimBatch(
+            @Param("batchSize") int batchSize,
+            @Param("owner") String owner,
+            @Param("now") OffsetDateTime now
+    );
+
+    @Query(value = CLAIM_SCOPED_SQL, nativeQuery = true)
+    List<OutboxMessage> claimScopedBatch(
             @Param("batchSize") int batchSize,
             @Param("owner") String owner,
             @Param("now") OffsetDateTime now,
-            @Param("scopePrefix") String scopePrefix
+            @Param("scopeFrom") String scopeFrom,
+            @Param("scopeTo") String scopeTo
+    );
+
+    /**
+     * relay 파티션(relay_hash 구간) 하나에서 claim 한다. (V22)
+     * CLAIM_DUE_SQL과 같은 두 갈래(V23 부분 index 순서)에 relay_hash 구간 조건만 더한다.
+     * 구간 밖 행은 index 순서로 읽으며 걸러내므로 한 번에 읽는 행은 대략 batchSize x 파티션 수이고, backlog 크기와는 무관하다.
+     * <p>
+     * 같은 aggregate_id의 더 이른 PENDING/PROCESSING 행이 있으면 건너뛰어 aggregate별 발행 순서를 지킨다.
+     * 앞 행이 재시도 대기(next_retry_at이 미래)여도 PENDING이므로 뒤 행은 앞 행이 발행되거나 DEAD가 될 때까지 기다린다. (head-of-line)
+     */
+    String CLAIM_PARTITION_SQL = """
+        WITH due AS (
+          (SELECT o.id, o.created_at AS due_at, o.created_at
+           FROM outbox_message o
+           WHERE o.status = 'PENDING'
+             AND o.next_retry_at IS NULL
+             AND o.relay_hash >= :hashFrom
+             AND o.relay_hash < :hashTo
+             AND NOT EXISTS (
+               SELECT 1
+               FROM outbox_message e
+               WHERE e.aggregate_id = o.aggregate_id
+                 AND e.status IN ('PENDING', 'PROCESSING')
+                 AND (e.created_at, e.id) < (o.created_at, o.id)
+             )
+           ORDER BY o.created_at
+           LIMIT :batchSize
+           FOR UPDATE SKIP LOCKED)
+          UNION ALL
+          (SELECT o.id, o.next_retry_at AS due_at, o.created_at
+           FROM outbox_message o
+           WHERE o.status = 'PENDING'
+             AND o.next_retry_at IS NOT NULL
+             AND o.next_retry_at <= :now
+             AND o.relay_hash >= :hashFrom
+             AND o.relay_hash < :hashTo
+             AND NOT EXISTS (
+               SELECT 1
+               FROM outbox_message e
+               WHERE e.aggregate_id = o.aggregate_id
+                 AND e.status IN ('PENDING', 'PROCESSING')
+                 AND (e.created_at, e.id) < (o.created_at, o.id)
+             )
+           ORDER BY o.next_retry_at, o.created_at
+           LIMIT :batchSize
+           FOR UPDATE SKIP LOCKED)
+        ), picked AS (
+          SELECT id
+          FROM due
+          ORDER BY due_at, created_at
+          LIMIT :batchSize
+        )
+        UPDATE outbox_message o
+        SET status = 'PROCESSING',
+            processing_owner = :owner,
+            processing_started_at = :now,
+            updated_at = :now
+        FROM picked
+        WHERE o.id = picked.id
+        RETURNING o.*
+        """;
+
+    @Query(value = CLAIM_PARTITION_SQL, nativeQuery = true)
+    List<OutboxMessage> claimPartitionBatch(
+            @Param("batchSize") int batchSize,
+            @Param("owner") String owner,
+            @Param("now") OffsetDateTime now,
+            @Param("hashFrom") long hashFrom,
+            @Param("hashTo") long hashTo
     );
 
+    /**
+     * 아직 때가 안 된 재시도 대기 행 중 가장 이른 next_retry_at. (ix_outbox_message_claim_retry 첫 항목)
+     */
+    @Query("""
+        select min(o.nextRetryAt)
+        from OutboxMessage o
+        where o.status = com.yunhwan.auth.error.domain.outbox.OutboxStatus.PENDING
+          and o.nextRetryAt > :now
+        """)
+    Optional<OffsetDateTime> findEarliestRetryAfter(@Param("now") OffsetDateTime now);
+
     // 테스트용: next_retry_at 세팅 (운영 코드에서도 retry 처리 시 쓰게 됨)
     @Modifying
     @Transactional
@@ -161,6 +347,90 @@ public interface OutboxJpaRepository extends JpaRepository<OutboxMessage, Long>
             @Param("now") OffsetDateTime now
     );
 
+    // === 다건 마감 (결과 분류별 문장 1회) ===
+    // 조건(status/owner)은 단건과 같고, 실제로 마감된 id만 RETURNING 한다. (건너뛴 행은 호출자가 대조)
+    // @Modifying은 결과를 update count로만 받으므로 RETURNING과 함께 쓸 수 없다.
+    // 대신 단건의 flushAutomatically/clearAutomatically는 adapter가 flush/clearPersistenceContext로 대신한다.
+    @Transactional
+    @Query(value = """
+        update outbox_message o
+           set status = 'PUBLISHED',
+               processing_owner = null,
+               processing_started_at = null,
+               last_error = null,
+               next_retry_at = null,
+               updated_at = :now,
+               published_at = :now
+          from unnest(cast(array[:ids] as bigint[])) as d(id)
+         where o.id = d.id
+           and o.status = 'PROCESSING'
+           and o.processing_owner = :owner
+        returning o.id
+        """, nativeQuery = true)
+    List<Long> markAllPublished(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("now") OffsetDateTime now
+    );
+
+    @Transactional
+    @Query(value = """
+        update outbox_message o
+           set status = 'PENDING',
+               processing_owner = null,
+               processing_started_at = null,
+               retry_count = d.retry_count,
+               next_retry_at = d.next_retry_at,
+               last_error = d.last_error,
+               updated_at = :now
+          from unnest(
+                 cast(array[:ids] as bigint[]),
+                 cast(array[:retryCounts] as integer[]),
+                 cast(array[:nextRetryAts] as timestamptz[]),
+                 cast(array[:lastErrors] as text[])
+               ) as d(id, retry_count, next_retry_at, last_error)
+         where o.id = d.id
+           and o.status = 'PROCESSING'
+           and o.processing_owner = :owner
+        returning o.id
+        """, nativeQuery = true)
+    List<Long> markAllForRetry(
+            @Param("ids") List<Long> ids,
+            @Param("retryCounts") List<Integer> retryCounts,
+            @Param("nextRetryAts") List<OffsetDateTime> nextRetryAts,
+            @Param("lastErrors") List<String> lastErrors,
+            @Param("owner") String owner,
+            @Param("now") OffsetDateTime now
+    );
+
+    @Transactional
+    @Query(value = """
+        update outbox_message o
+           set status = 'DEAD',
+               processing_owner = null,
+               processing_started_at = null,
+               retry_count = d.retry_count,
+               next_retry_at = null,
+               last_error = d.last_error,
+               updated_at = :now
+          from unnest(
+                 cast(array[:ids] as bigint[]),
+                 cast(array[:retryCounts] as integer[]),
+                 cast(array[:lastErrors] as text[])
+               ) as d(id, retry_count, last_error)
+         where o.id = d.id
+           and o.status = 'PROCESSING'
+           and o.processing_owner = :owner
+        returning o.id
+        """, nativeQuery = true)
+    List<Long> markAllDead(
+            @Param("ids") List<Long> ids,
+            @Param("retryCounts") List<Integer> retryCounts,
+            @Param("lastErrors") List<String> lastErrors,
+            @Param("owner") String owner,
+            @Param("now") OffsetDateTime now
+    );
+
     @Query(value = """
     select *
       from outbox_message
@@ -0,0 +1,21 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface OutboxJpaRepositoryCustom {
+
+    /**
+     * multi-row INSERT ... ON CONFLICT (idempotency_key_hash) DO UPDATE ... RETURNING *.
+     * payload_hash가 다른 충돌 행은 RETURNING에서 빠진다. (호출자가 mismatch로 판단)
+     */
+    List<OutboxMessage> upsertAllReturning(List<OutboxEnqueueCommand> commands, OffsetDateTime now);
+
+    /**
+     * 영속성 컨텍스트를 비운다. (@Modifying을 못 붙이는 RETURNING 마감 뒤 clearAutomatically 대신)
+     */
+    void clearPersistenceContext();
+}
@@ -0,0 +1,82 @@
+package com.yunhwan.auth.error.infra.persistence.jpa;
+
+import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OutboxJpaRepositoryCustomImpl implements OutboxJpaRepositoryCustom {
+
+    private static final int PARAMS_PER_ROW = 6;
+    private static final int MAX_ROWS_PER_STATEMENT = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OutboxMessage> upsertAllReturning(List<OutboxEnqueueCommand> commands, OffsetDateTime now) {
+        List<OutboxMessage> result = new ArrayList<>(commands.size());
+        for (int from = 0; from < commands.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<OutboxEnqueueCommand> chunk = commands.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, commands.size()));
+            result.addAll(upsertChunk(chunk, now));
+        }
+        return result;
+    }
+
+    @Override
+    public void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    private List<OutboxMessage> upsertChunk(List<OutboxEnqueueCommand> chunk, OffsetDateTime now) {
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO outbox_message
+                  (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash)
+                VALUES
+                """);
+        for (int i = 0; i < chunk.size(); i++) {
+            int p = 1 + i * PARAMS_PER_ROW;
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("  (?").append(p)
+                    .append(", ?").append(p + 1)
+                    .append(", ?").append(p + 2)
+                    .append(", CAST(?").append(p + 3).append(" AS jsonb)")
+                    .append(", ?").append(p + 4)
+                    .append(", decode(?").append(p + 5).append(", 'hex')")
+                    .append(')');
+        }
+        int nowParam = 1 + chunk.size() * PARAMS_PER_ROW;
+        // 단건 upsertReturning과 같은 계약: payload_hash가 같을 때만 기존 행을 돌려준다.
+        sql.append("""
+
+                ON CONFLICT (idempotency_key_hash)
+                DO UPDATE SET
+                  updated_at = ?%d
+                WHERE outbox_message.payload_hash = EXCLUDED.payload_hash
+                RETURNING *
+                """.formatted(nowParam));
+
+        Query query = entityManager.createNativeQuery(sql.toString(), OutboxMessage.class);
+        int index = 1;
+        for (OutboxEnqueueCommand cmd : chunk) {
+            query.setParameter(index++, cmd.aggregateType());
+            query.setParameter(index++, cmd.aggregateId());
+            query.setParameter(index++, cmd.eventType());
+            query.setParameter(index++, cmd.payloadJson());
+            query.setParameter(index++, cmd.idempotencyKey());
+            query.setParameter(index++, cmd.payloadHash());
+        }
+        query.setParameter(nowParam, now);
+
+        @SuppressWarnings("unchecked")
+        List<OutboxMessage> rows = query.getResultList();
+        return rows;
+    }
+}
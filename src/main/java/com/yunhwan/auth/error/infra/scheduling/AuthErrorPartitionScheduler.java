@@ -0,0 +1,35 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.partition.AuthErrorPartitionMaintainer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 1회 + 이후 주기적으로 auth_error 파티션을 미리 만들고 보존 기간이 지난 파티션을 drop 한다.
+ */
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth-error.partition.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class AuthErrorPartitionScheduler implements SchedulingConfigurer {
+
+    private final AuthErrorPartitionMaintainer maintainer;
+    private final AuthErrorProperties authErrorProperties;
+    private final TaskScheduler outboxTaskScheduler;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(outboxTaskScheduler);
+        taskRegistrar.addFixedDelayTask(this::tick, authErrorProperties.getPartition().getMaintenanceFixedDelayMs());
+    }
+
+    void tick() {
+        maintainer.maintain();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.rollup.AuthErrorRollupRefresher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 auth_error_rollup_delta를 진단 rollup에 반영한다.
+ */
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth-error.rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthErrorRollupScheduler implements SchedulingConfigurer {
+
+    private final AuthErrorRollupRefresher refresher;
+    private final AuthErrorProperties authErrorProperties;
+    private final TaskScheduler outboxTaskScheduler;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(outboxTaskScheduler);
+        taskRegistrar.addFixedDelayTask(this::tick, authErrorProperties.getRollup().getFixedDelayMs());
+    }
+
+    void tick() {
+        refresher.refreshOnce();
+    }
+}
@@ -0,0 +1,186 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox_message_pending 채널을 LISTEN 하다가 알림이 오면 relay(OutboxPollerScheduler 또는 OutboxRelayScheduler)를 바로 깨운다. (V21 trigger)
+ *
+ * - 연결: Hikari pool 밖의 전용 연결 하나. (LISTEN은 세션에 묶이고, pool 연결을 계속 점유하지 않기 위함)
+ * - 병합: 한 번의 getNotifications가 돌려준 알림 묶음은 wakeup 1회. 실행 중인 poll과도 scheduler에서 합쳐진다.
+ * - 장애: 연결이 끊기면 backoff 후 다시 LISTEN 한다. 그동안(그리고 끊긴 사이 놓친 알림)은 fixed-delay polling이 처리한다.
+ * - half-open: 상대가 사라진 연결은 getNotifications가 오류 없이 빈 결과만 돌려준다.
+ *   TCP keepalive를 켜고, 알림 없이 validation-interval-ms가 지나면 isValid로 확인해 실패하면 다시 연결한다.
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@ConditionalOnProperty(name = "outbox.poller.notify.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotifyListener {
+
+    static final String CHANNEL = "outbox_message_pending";
+    // pg_stat_activity에서 이 연결을 찾을 때 쓴다.
+    static final String APPLICATION_NAME = "outbox-notify-listener";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final OutboxRelayWakeup relay;
+    private final JdbcConnectionDetails connectionDetails;
+    private final OutboxProperties.Notify props;
+    private final Counter reconnectOnErrorCounter;
+    private final Counter reconnectOnValidationCounter;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listener;
+
+    public OutboxNotifyListener(
+            OutboxRelayWakeup relay,
+            JdbcConnectionDetails connectionDetails,
+            OutboxProperties outboxProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.relay = relay;
+        this.connectionDetails = connectionDetails;
+        this.props = outboxProperties.getPoller().getNotify();
+        this.reconnectOnErrorCounter = reconnectCounter(meterRegistry, "error");
+        this.reconnectOnValidationCounter = reconnectCounter(meterRegistry, "validation");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = new Thread(this::listenLoop, "outbox-notify-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener == null) {
+            return;
+        }
+        listener.interrupt();
+        try {
+            listener.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeQuietly();
+    }
+
+    private void listenLoop() {
+        while (running) {
+            Counter reason;
+            try {
+                Connection conn = listen();
+                // LISTEN 전 적재분 또는 재연결 사이 놓친 알림을 한 번에 따라잡는다.
+                relay.wakeup();
+
+                awaitNotifications(conn);
+                if (!running) {
+                    break;
+                }
+                log.warn("[outbox-notify] listen connection is not valid, retry in {}ms", props.getReconnectBackoffMs());
+                reason = reconnectOnValidationCounter;
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("[outbox-notify] listen failed, retry in {}ms. cause={}", props.getReconnectBackoffMs(), e.toString());
+                reason = reconnectOnErrorCounter;
+            }
+            closeQuietly();
+            reason.increment();
+            try {
+                TimeUnit.MILLISECONDS.sleep(Math.max(1, props.getReconnectBackoffMs()));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        closeQuietly();
+    }
+
+    /**
+     * 알림을 기다린다. 종료되거나 연결 확인(isValid)에 실패하면 돌아온다.
+     */
+    private void awaitNotifications(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        long validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, props.getValidationIntervalMs()));
+        long lastSeen = System.nanoTime();
+
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications((int) Math.max(1, props.getListenTimeoutMs()));
+            if (notifications != null && notifications.length > 0) {
+                relay.wakeup();
+                lastSeen = System.nanoTime();
+                continue;
+            }
+            if (System.nanoTime() - lastSeen >= validationIntervalNanos) {
+                if (!conn.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    return;
+                }
+                lastSeen = System.nanoTime();
+            }
+        }
+    }
+
+    private Connection listen() throws SQLException {
+        Properties info = new Properties();
+        if (connectionDetails.getUsername() != null) {
+            info.setProperty("user", connectionDetails.getUsername());
+        }
+        if (connectionDetails.getPassword() != null) {
+            info.setProperty("password", connectionDetails.getPassword());
+        }
+        info.setProperty("tcpKeepAlive", "true");
+        info.setProperty("ApplicationName", APPLICATION_NAME);
+
+        Connection conn = DriverManager.getConnection(connectionDetails.getJdbcUrl(), info);
+        connection = conn;
+        conn.setAutoCommit(true);
+        try (Statement st = conn.createStatement()) {
+            st.execute("LISTEN " + CHANNEL);
+        }
+        log.info("[outbox-notify] listening. channel={}", CHANNEL);
+        return conn;
+    }
+
+    private void closeQuietly() {
+        Connection conn = connection;
+        connection = null;
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.debug("[outbox-notify] close failed. cause={}", e.toString());
+        }
+    }
+
+    private static Counter reconnectCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(UsecaseMetrics.METRIC_OUTBOX_NOTIFY_RECONNECT)
+                .tag(UsecaseMetrics.TAG_REASON, reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,50 +1,95 @@
 package com.yunhwan.auth.error.infra.scheduling;
 
 import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
-import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
-import com.yunhwan.auth.error.usecase.outbox.OutboxPoller;
-import com.yunhwan.auth.error.usecase.outbox.OutboxProcessor;
-import com.yunhwan.auth.error.usecase.outbox.dto.OutboxClaimResult;
+import com.yunhwan.auth.error.usecase.outbox.OutboxDrainer;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxDrainResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Profile("!test")
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class OutboxPollerScheduler implements SchedulingConfigurer {
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "false", matchIfMissing = true)
+public class OutboxPollerScheduler implements SchedulingConfigurer, OutboxRelayWakeup {
 
-    private final OutboxPoller outboxPoller;
-    private final OutboxProcessor processor;
+    private final OutboxDrainer drainer;
     private final OutboxProperties props;
-    private final TaskScheduler outboxTaskScheduler;
+    // tick과 wakeup drain 모두 전용 스레드에서 돈다. (공용 outboxTaskScheduler의 다른 스케줄러를 굶기지 않는다)
+    private final TaskScheduler outboxDrainScheduler;
+
+    // 대기 중인 wakeup이 있음 (알림 폭주는 여기서 하나로 합쳐진다)
+    private final AtomicBoolean wakeupRequested = new AtomicBoolean();
+    // 한 노드에서 poll/process는 한 번에 하나만
+    private final ReentrantLock tickLock = new ReentrantLock();
+    // 다음 주기 polling 간격. 비어 있는 주기가 이어지면 두 배씩 늘리되 가장 이른 재시도 대기 시각을 넘기지 않는다. (adaptive 비활성 시 fixed-delay-ms 고정)
+    private volatile long nextDelayMs;
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
-        long delay = props.getPoller().getFixedDelayMs();
+        nextDelayMs = props.getPoller().getFixedDelayMs();
+
+        // registrar의 scheduler는 모든 SchedulingConfigurer가 같이 쓰므로 전용 scheduler에 직접 등록한다.
+        outboxDrainScheduler.schedule(this::tick, context -> {
+            Instant last = context.lastCompletion();
+            return (last == null ? Instant.now() : last).plusMillis(nextDelayMs);
+        });
+    }
 
-        taskRegistrar.setScheduler(outboxTaskScheduler);
-        taskRegistrar.addFixedDelayTask(this::tick, delay);
+    /**
+     * OutboxNotifyListener가 새 outbox 행 알림을 받으면 호출한다. 이미 예약/실행 중이면 합쳐진다.
+     */
+    @Override
+    public void wakeup() {
+        nextDelayMs = props.getPoller().getFixedDelayMs();
+        if (!wakeupRequested.getAndSet(true)) {
+            outboxDrainScheduler.execute(this::drain);
+        }
     }
 
     void tick() {
-        OutboxClaimResult result = outboxPoller.pollOnce(null);
-
-        List<OutboxMessage> claimed = result.claimed();
-        if (!claimed.isEmpty()) {
-            log.info("[outbox-poller] owner={} claimed {} messages. ids={}",
-                    result.owner(),
-                    claimed.size(),
-                    claimed.stream().map(OutboxMessage::getId).toList());
+        wakeupRequested.set(true);
+        drain();
+    }
+
+    /**
+     * wakeup 요청이 남아 있는 동안 drain을 반복한다.
+     * 다른 스레드가 실행 중이면 그 스레드가 요청을 보고 한 번 더 돈다.
+     */
+    private void drain() {
+        while (tickLock.tryLock()) {
+            try {
+                while (wakeupRequested.getAndSet(false)) {
+                    OutboxDrainResult result = drainer.drain();
+                    updateIdleBackoff(result);
+                }
+            } finally {
+                tickLock.unlock();
+            }
+            // unlock 직전에 들어온 요청을 놓치지 않는다.
+            if (!wakeupRequested.get()) {
+                return;
+            }
         }
+    }
 
-        processor.process(result.owner(), claimed);
+    private void updateIdleBackoff(OutboxDrainResult result) {
+        OutboxProperties.Poller poller = props.getPoller();
+        if (!result.idle() || !poller.getAdaptive().isEnabled()) {
+            nextDelayMs = poller.getFixedDelayMs();
+            return;
+        }
+        long max = Math.max(poller.getFixedDelayMs(), poller.getAdaptive().getMaxIdleDelayMs());
+        nextDelayMs = result.capIdleDelay(Math.min(max, Math.max(1, nextDelayMs) * 2), poller.getFixedDelayMs());
     }
 }
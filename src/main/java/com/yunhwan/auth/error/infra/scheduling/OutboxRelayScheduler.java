@@ -0,0 +1,186 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.outbox.OutboxDrainer;
+import com.yunhwan.auth.error.usecase.outbox.OutboxRelayCoordinator;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxDrainResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파티션 relay. heartbeat 주기마다 lease를 다시 나누고, 소유한 파티션마다 worker 스레드 하나가 drain 한다.
+ *
+ * - worker는 파티션이 비어 있으면 fixed-delay-ms부터 max-idle-delay-ms까지 두 배씩 쉬고, 알림(wakeup)이 오면 바로 깬다.
+ *   가장 이른 재시도 대기 시각이 그보다 앞이면 그때까지만 쉰다.
+ * - lease를 잃은 파티션의 worker는 진행 중인 batch까지만 마치고 멈춘다.
+ * - 종료 시 worker를 멈춘 뒤 lease를 반납한다.
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelayScheduler implements SchedulingConfigurer, OutboxRelayWakeup {
+
+    private final OutboxRelayCoordinator coordinator;
+    private final OutboxDrainer drainer;
+    private final OutboxProperties props;
+    private final TaskScheduler outboxTaskScheduler;
+
+    private final Map<Integer, Worker> workers = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(outboxTaskScheduler);
+        taskRegistrar.addFixedDelayTask(this::rebalance, props.getRelay().getHeartbeatMs());
+    }
+
+    @Override
+    public void wakeup() {
+        workers.values().forEach(Worker::wakeup);
+    }
+
+    synchronized void rebalance() {
+        if (stopped) {
+            return;
+        }
+        List<OutboxRelayPartition> owned;
+        try {
+            owned = coordinator.rebalance();
+        } catch (RuntimeException e) {
+            // lease 연장 실패: 만료 전까지는 그대로 돌고, 만료 후 겹쳐도 claim의 aggregate 순서 확인이 막는다.
+            log.warn("[outbox-relay] rebalance failed. cause={}", e.toString());
+            return;
+        }
+
+        // 파티션 수(partitions)가 바뀐 경우도 다른 파티션으로 본다.
+        workers.entrySet().removeIf(e -> {
+            boolean lost = !owned.contains(e.getValue().partition);
+            if (lost) {
+                e.getValue().stop();
+            }
+            return lost;
+        });
+        for (OutboxRelayPartition partition : owned) {
+            workers.computeIfAbsent(partition.partitionNo(), no -> new Worker(partition).start());
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        stopped = true;
+        workers.values().forEach(Worker::stop);
+        workers.values().forEach(Worker::join);
+        workers.clear();
+        try {
+            coordinator.leave();
+        } catch (RuntimeException e) {
+            log.warn("[outbox-relay] leave failed, leases expire after ttl. cause={}", e.toString());
+        }
+    }
+
+    private final class Worker {
+
+        private final OutboxRelayPartition partition;
+        private final Object signal = new Object();
+        private volatile boolean running = true;
+        private boolean wakeupRequested;
+        private long nextDelayMs = props.getPoller().getFixedDelayMs();
+        private Thread thread;
+
+        Worker(OutboxRelayPartition partition) {
+            this.partition = partition;
+        }
+
+        Worker start() {
+            thread = new Thread(this::loop, "outbox-relay-p" + partition.partitionNo());
+            thread.setDaemon(true);
+            thread.start();
+            return this;
+        }
+
+        void wakeup() {
+            synchronized (signal) {
+                wakeupRequested = true;
+                signal.notifyAll();
+            }
+        }
+
+        void stop() {
+            running = false;
+            wakeup();
+        }
+
+        void join() {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void loop() {
+            log.info("[outbox-relay] worker started. partition={}/{}", partition.partitionNo(), partition.partitionCount());
+            while (running) {
+                try {
+                    OutboxDrainResult result = drainer.drain(partition);
+                    updateIdleBackoff(result);
+                } catch (RuntimeException e) {
+                    log.warn("[outbox-relay] drain failed. partition={}, cause={}", partition.partitionNo(), e.toString());
+                    nextDelayMs = props.getPoller().getFixedDelayMs();
+                }
+                if (!await(nextDelayMs)) {
+                    break;
+                }
+            }
+            log.info("[outbox-relay] worker stopped. partition={}", partition.partitionNo());
+        }
+
+        private boolean await(long delayMs) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, delayMs));
+            synchronized (signal) {
+                try {
+                    while (running && !wakeupRequested) {
+                        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        if (remainingMs <= 0) {
+                            break;
+                        }
+                        signal.wait(remainingMs);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (wakeupRequested) {
+                    wakeupRequested = false;
+                    nextDelayMs = props.getPoller().getFixedDelayMs();
+                }
+            }
+            return running;
+        }
+
+        private void updateIdleBackoff(OutboxDrainResult result) {
+            OutboxProperties.Poller poller = props.getPoller();
+            if (!result.idle() || !poller.getAdaptive().isEnabled()) {
+                nextDelayMs = poller.getFixedDelayMs();
+                return;
+            }
+            long max = Math.max(poller.getFixedDelayMs(), poller.getAdaptive().getMaxIdleDelayMs());
+            nextDelayMs = result.capIdleDelay(Math.min(max, Math.max(1, nextDelayMs) * 2), poller.getFixedDelayMs());
+        }
+    }
+}
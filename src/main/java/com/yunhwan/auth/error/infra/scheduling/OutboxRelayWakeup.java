@@ -0,0 +1,10 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+/**
+ * 새 outbox 행 알림을 받았을 때 깨울 relay. (단일 poller 또는 파티션 relay 중 활성화된 쪽)
+ */
+public interface OutboxRelayWakeup {
+
+    /** 이미 예약/실행 중이면 합쳐진다. */
+    void wakeup();
+}
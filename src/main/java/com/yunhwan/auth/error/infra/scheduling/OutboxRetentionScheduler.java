@@ -0,0 +1,30 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.outbox.OutboxArchiver;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true")
+public class OutboxRetentionScheduler implements SchedulingConfigurer {
+
+    private final OutboxArchiver archiver;
+    private final OutboxProperties props;
+    private final TaskScheduler outboxTaskScheduler;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(outboxTaskScheduler);
+        taskRegistrar.addFixedDelayTask(this::tick, props.getRetention().getFixedDelayMs());
+    }
+
+    void tick() {
+        archiver.runOnce();
+    }
+}
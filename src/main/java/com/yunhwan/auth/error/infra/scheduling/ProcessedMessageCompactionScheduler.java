@@ -0,0 +1,42 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.infra.messaging.rabbit.RabbitRetryProperties;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.consumer.ProcessedMessageCompactor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth-error.processed-message-compaction.enabled", havingValue = "true")
+public class ProcessedMessageCompactionScheduler implements SchedulingConfigurer {
+
+    private final ProcessedMessageCompactor compactor;
+    private final AuthErrorProperties authErrorProperties;
+    private final RabbitRetryProperties rabbitRetryProperties;
+    private final TaskScheduler outboxTaskScheduler;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(outboxTaskScheduler);
+        taskRegistrar.addFixedDelayTask(this::tick,
+                authErrorProperties.getProcessedMessageCompaction().getFixedDelayMs());
+    }
+
+    void tick() {
+        compactor.compactOnce(redeliveryHorizon());
+    }
+
+    /** retry queue TTL 중 가장 긴 값: DONE 이후 같은 메시지가 retry queue에서 돌아올 수 있는 최대 지연 */
+    Duration redeliveryHorizon() {
+        long maxTtlMs = Math.max(rabbitRetryProperties.getTtlShort(),
+                Math.max(rabbitRetryProperties.getTtlMedium(), rabbitRetryProperties.getTtlLong()));
+        return Duration.ofMillis(maxTtlMs);
+    }
+}
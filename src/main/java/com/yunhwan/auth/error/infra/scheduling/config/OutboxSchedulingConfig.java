@@ -16,4 +16,16 @@ public class OutboxSchedulingConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * OutboxPollerScheduler 전용. drain은 batch가 가득 차 있는 동안 쉬지 않고 돌아 공용 outboxTaskScheduler를 오래 점유한다.
+     */
+    @Bean
+    public TaskScheduler outboxDrainScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-drain-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
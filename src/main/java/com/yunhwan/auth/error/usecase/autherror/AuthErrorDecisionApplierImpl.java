@@ -3,7 +3,6 @@ package com.yunhwan.auth.error.usecase.autherror;
 
 import com.yunhwan.auth.error.common.annotation.ConditionalOnOpsDecisionEnabled;
 import com.yunhwan.auth.error.common.exception.NonRetryableAuthErrorException;
-import com.yunhwan.auth.error.domain.autherror.AuthError;
 import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
 import com.yunhwan.auth.error.usecase.autherror.dto.ApplyAnalysisDecisionCommand;
 import com.yunhwan.auth.error.usecase.autherror.dto.ApplyAnalysisDecisionResult;
@@ -15,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+
 @ConditionalOnOpsDecisionEnabled
 @Slf4j
 @Service
@@ -28,37 +29,37 @@ public class AuthErrorDecisionApplierImpl implements AuthErrorDecisionApplier {
     @Transactional
     public ApplyAnalysisDecisionResult apply(ApplyAnalysisDecisionCommand cmd) {
 
-        AuthError authError = authErrorStore.findById(cmd.authErrorId())
-                .orElseThrow(() -> new NonRetryableAuthErrorException(
-                        "auth_error not found. authErrorId=" + cmd.authErrorId()
-                ));
-
-        AuthErrorStatus from  = authError.getStatus();
-        if (from  == null) {
-            throw new NonRetryableAuthErrorException("auth_error status is null. authErrorId=" + cmd.authErrorId());
-        }
-
-        // 핵심: 분석 완료 상태에서만 "결정 반영" 허용
-        if (from  != AuthErrorStatus.ANALYSIS_COMPLETED) {
-            throw new NonRetryableAuthErrorException("decision not allowed. status=" + from + ", authErrorId=" + cmd.authErrorId());
-        }
-
         String note = normalizeNote(cmd);
 
-        switch (cmd.decisionType()) {
-            case PROCESS -> authError.markProcessed(noteWithActor("process", note, cmd.decidedBy()));
-            case RETRY -> authError.markRetry();
-            case IGNORE -> authError.markIgnored(noteWithActor("ignore", note, cmd.decidedBy()));
-            case RESOLVE -> authError.resolve(noteWithActor("resolve", note, cmd.decidedBy()));
-            case FAIL -> authError.markFailed(noteWithActor("fail", note, cmd.decidedBy()));
-            default -> throw new NonRetryableAuthErrorException("unsupported decisionType=" + cmd.decisionType());
+        AuthErrorStatus from = AuthErrorStatus.ANALYSIS_COMPLETED;
+        AuthErrorStatus to = switch (cmd.decisionType()) {
+            case PROCESS -> AuthErrorStatus.PROCESSED;
+            case RETRY -> AuthErrorStatus.RETRY;
+            case IGNORE -> AuthErrorStatus.IGNORED;
+            case RESOLVE -> AuthErrorStatus.RESOLVED;
+            case FAIL -> AuthErrorStatus.FAILED;
+        };
+        String resolutionNote = switch (cmd.decisionType()) {
+            case PROCESS -> noteWithActor("process", note, cmd.decidedBy());
+            case RETRY -> null;
+            case IGNORE -> noteWithActor("ignore", note, cmd.decidedBy());
+            case RESOLVE -> noteWithActor("resolve", note, cmd.decidedBy());
+            case FAIL -> noteWithActor("fail", note, cmd.decidedBy());
+        };
+
+        // 핵심: 분석 완료 상태에서만 "결정 반영" 허용 (상태 CAS: 동시 결정은 한쪽만 반영된다)
+        int updated = authErrorStore.transition(cmd.authErrorId(), EnumSet.of(from), to, resolutionNote);
+        if (updated == 0) {
+            AuthErrorStatus current = authErrorStore.findStatus(cmd.authErrorId(), null)
+                    .orElseThrow(() -> new NonRetryableAuthErrorException(
+                            "auth_error not found. authErrorId=" + cmd.authErrorId()
+                    ));
+            throw new NonRetryableAuthErrorException("decision not allowed. status=" + current + ", authErrorId=" + cmd.authErrorId());
         }
 
-        AuthErrorStatus to = authError.getStatus();
-
         // ELK용 구조 로그
         eventPublisher.decisionApplied(
-                authError,
+                cmd.authErrorId(),
                 from,
                 to,
                 cmd.decisionType().name(),
@@ -67,9 +68,9 @@ public class AuthErrorDecisionApplierImpl implements AuthErrorDecisionApplier {
         );
 
         log.info("[AuthErrorDecision] applied. authErrorId={}, from={}, to={}, actor={}, decisionType={}",
-                authError.getId(), from, to, cmd.decidedBy(), cmd.decisionType());
+                cmd.authErrorId(), from, to, cmd.decidedBy(), cmd.decisionType());
 
-        return new ApplyAnalysisDecisionResult(authError.getId(), to);
+        return new ApplyAnalysisDecisionResult(cmd.authErrorId(), to);
     }
 
     private static String normalizeNote(ApplyAnalysisDecisionCommand cmd) {
@@ -0,0 +1,232 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 애플리케이션 레벨 group commit.
+ *
+ * 여러 요청 스레드의 단건 적재를 micro-batch(최대 maxBatchSize건 / maxLingerMicros)로 묶어
+ * AuthErrorWriter.recordBatch 한 번(= 트랜잭션/commit 1회)으로 처리한다.
+ *
+ * 실패 격리:
+ * - dedup_key 충돌은 recordBatch가 dedup hit로 흡수한다. (실패가 아님)
+ * - 배치 트랜잭션이 실패하면(poison record 등) 항목별 단건 트랜잭션으로 다시 적재해서
+ *   실패한 호출자만 예외를 받는다.
+ */
+@Slf4j
+@Service
+public class AuthErrorGroupCommitter {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final AuthErrorWriter authErrorWriter;
+    private final AuthErrorProperties.GroupCommit props;
+    private final BlockingQueue<PendingWrite> queue;
+    private final List<Thread> flushers = new ArrayList<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueWaitTimer;
+    private final Counter fallbackQueueFullCounter;
+    private final Counter fallbackBatchFailedCounter;
+
+    private volatile boolean running;
+
+    public AuthErrorGroupCommitter(
+            AuthErrorWriter authErrorWriter,
+            AuthErrorProperties authErrorProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.authErrorWriter = authErrorWriter;
+        this.props = authErrorProperties.getIngest().getGroupCommit();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity()));
+        this.batchSizeSummary = DistributionSummary.builder(UsecaseMetrics.METRIC_INGEST_GROUP_COMMIT_BATCH_SIZE)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_GROUP_COMMIT_QUEUE_WAIT)
+                .register(meterRegistry);
+        this.fallbackQueueFullCounter = Counter.builder(UsecaseMetrics.METRIC_INGEST_GROUP_COMMIT_FALLBACK)
+                .tag(UsecaseMetrics.TAG_REASON, "queue_full")
+                .register(meterRegistry);
+        this.fallbackBatchFailedCounter = Counter.builder(UsecaseMetrics.METRIC_INGEST_GROUP_COMMIT_FALLBACK)
+                .tag(UsecaseMetrics.TAG_REASON, "batch_failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!props.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < Math.max(1, props.getFlushers()); i++) {
+            Thread t = new Thread(this::flushLoop, "ingest-group-commit-" + i);
+            t.setDaemon(true);
+            t.start();
+            flushers.add(t);
+        }
+        log.info("[GroupCommit] started. maxBatchSize={}, maxLingerMicros={}, flushers={}",
+                props.getMaxBatchSize(), props.getMaxLingerMicros(), flushers.size());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        flushers.forEach(Thread::interrupt);
+        for (Thread t : flushers) {
+            try {
+                t.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // 남은 요청은 호출 스레드 대신 여기서 단건으로 마무리한다.
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::writeSingle);
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    /**
+     * group commit 경로로 적재하고 결과를 기다린다.
+     * 큐가 가득 찼거나 비활성 상태면 호출 스레드에서 단건 트랜잭션으로 적재한다.
+     */
+    public AuthErrorWriteResult record(AuthErrorWriteCommand cmd) {
+        if (!running) {
+            return authErrorWriter.record(cmd);
+        }
+        PendingWrite pending = new PendingWrite(cmd, System.nanoTime(), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            fallbackQueueFullCounter.increment();
+            return authErrorWriter.record(cmd);
+        }
+        return await(pending);
+    }
+
+    private AuthErrorWriteResult await(PendingWrite pending) {
+        try {
+            return pending.future().get(props.getAwaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("group commit failed. requestId=" + pending.cmd().requestId(), e.getCause());
+        } catch (TimeoutException e) {
+            // 적재는 뒤늦게 완료될 수 있다. 클라이언트 재시도는 requestId 멱등으로 흡수된다.
+            throw new IllegalStateException("group commit timed out. requestId=" + pending.cmd().requestId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while awaiting group commit. requestId=" + pending.cmd().requestId(), e);
+        }
+    }
+
+    private void flushLoop() {
+        int maxBatchSize = Math.max(1, props.getMaxBatchSize());
+        long lingerNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, props.getMaxLingerMicros()));
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, maxBatchSize, System.nanoTime() + lingerNanos);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // flusher 스레드가 죽으면 대기 중인 호출자가 전부 timeout 되므로 삼키고 계속 돈다.
+                log.error("[GroupCommit] flush loop error", e);
+                batch.forEach(p -> p.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingWrite> batch, int maxBatchSize, long deadlineNanos) throws InterruptedException {
+        // 이미 쌓여 있는 건은 기다리지 않고 가져온다.
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        long flushStartedAt = System.nanoTime();
+        for (PendingWrite p : batch) {
+            queueWaitTimer.record(flushStartedAt - p.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+        batchSizeSummary.record(batch.size());
+
+        List<AuthErrorWriteCommand> cmds = batch.stream().map(PendingWrite::cmd).toList();
+        List<AuthErrorBatchWriteResult> results;
+        try {
+            results = authErrorWriter.recordBatch(cmds);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            // poison record 격리: 항목별 단건 트랜잭션으로 재적재 (실패한 호출자만 예외)
+            fallbackBatchFailedCounter.increment();
+            log.warn("[GroupCommit] batch failed, falling back to single writes. size={}, cause={}",
+                    batch.size(), e.toString());
+            batch.forEach(this::writeSingle);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            AuthErrorBatchWriteResult r = results.get(i);
+            batch.get(i).future().complete(new AuthErrorWriteResult(r.authErrorId(), r.outboxId()));
+        }
+    }
+
+    private void writeSingle(PendingWrite pending) {
+        try {
+            pending.future().complete(authErrorWriter.record(pending.cmd()));
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private record PendingWrite(
+            AuthErrorWriteCommand cmd,
+            long enqueuedAtNanos,
+            CompletableFuture<AuthErrorWriteResult> future
+    ) {}
+}
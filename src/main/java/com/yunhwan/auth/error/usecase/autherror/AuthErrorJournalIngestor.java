@@ -0,0 +1,169 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalBatch;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalPosition;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorIngestJournal;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * journal 기반 비동기 ingest.
+ *
+ * - append: 요청을 로컬 journal에 fsync하고 바로 반환한다. (DB 적재를 기다리지 않음 → 202 Accepted)
+ * - drainer: 단일 스레드가 checkpoint부터 journal을 읽어 recordBatch로 큰 배치 적재 후 acknowledge 한다.
+ *
+ * 실패 처리:
+ * - 배치 트랜잭션이 실패하면 항목별 단건으로 다시 적재한다.
+ * - 입력 자체가 잘못된 항목(IllegalArgumentException/DataIntegrityViolationException)은 건너뛴다. (poison)
+ * - 그 외 실패(DB 장애 등)는 acknowledge 없이 backoff 후 같은 구간부터 다시 시도한다.
+ *   이미 적재된 항목은 dedup_key(= requestId)로 흡수되므로 재적재해도 중복이 생기지 않는다.
+ */
+@Slf4j
+@Service
+public class AuthErrorJournalIngestor {
+
+    private final AuthErrorWriter authErrorWriter;
+    private final AuthErrorIngestJournal journal;
+    private final AuthErrorProperties.Journal props;
+    private final Counter writtenCounter;
+    private final Counter poisonCounter;
+    private final Counter retryCounter;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AuthErrorJournalIngestor(
+            AuthErrorWriter authErrorWriter,
+            ObjectProvider<AuthErrorIngestJournal> journalProvider,
+            AuthErrorProperties authErrorProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.authErrorWriter = authErrorWriter;
+        this.journal = journalProvider.getIfAvailable();
+        this.props = authErrorProperties.getIngest().getJournal();
+        this.writtenCounter = drainCounter(meterRegistry, "written");
+        this.poisonCounter = drainCounter(meterRegistry, "poison");
+        this.retryCounter = drainCounter(meterRegistry, "retry");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "ingest-journal-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info("[IngestJournal] drainer started. batchSize={}, checkpoint={}",
+                props.getDrainBatchSize(), journal.checkpoint());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (drainer == null) {
+            return;
+        }
+        drainer.interrupt();
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 레코드는 다음 기동 시 checkpoint부터 다시 적재된다.
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled() && journal != null;
+    }
+
+    /**
+     * journal에 기록하고 fsync가 끝나면 반환한다. DB 적재는 drainer가 뒤에서 한다.
+     */
+    public void append(AuthErrorWriteCommand cmd) {
+        journal.append(cmd);
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.max(1, props.getDrainBatchSize());
+        IngestJournalPosition position = journal.checkpoint();
+
+        while (running) {
+            try {
+                IngestJournalBatch batch = journal.read(position, batchSize);
+                if (!batch.commands().isEmpty()) {
+                    drain(batch.commands());
+                }
+                if (batch.next().compareTo(position) > 0) {
+                    journal.acknowledge(batch.next());
+                    position = batch.next();
+                }
+                if (batch.commands().size() < batchSize) {
+                    TimeUnit.MILLISECONDS.sleep(Math.max(1, props.getDrainIdleMs()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // acknowledge 하지 않았으므로 같은 구간부터 다시 시도한다.
+                retryCounter.increment();
+                log.warn("[IngestJournal] drain failed, retrying from {}. cause={}", position, e.toString());
+                if (!backoff()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void drain(List<AuthErrorWriteCommand> cmds) {
+        try {
+            authErrorWriter.recordBatch(cmds);
+            writtenCounter.increment(cmds.size());
+            return;
+        } catch (RuntimeException e) {
+            log.warn("[IngestJournal] batch failed, falling back to single writes. size={}, cause={}",
+                    cmds.size(), e.toString());
+        }
+        cmds.forEach(this::writeSingle);
+    }
+
+    private void writeSingle(AuthErrorWriteCommand cmd) {
+        try {
+            authErrorWriter.record(cmd);
+            writtenCounter.increment();
+        } catch (IllegalArgumentException | DataIntegrityViolationException e) {
+            // 다시 시도해도 같은 결과: journal 진행을 막지 않도록 건너뛴다.
+            poisonCounter.increment();
+            log.error("[IngestJournal] skipping poison record. requestId={}, cause={}", cmd.requestId(), e.toString());
+        }
+    }
+
+    private boolean backoff() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.max(1, props.getDrainRetryBackoffMs()));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter drainCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_INGEST_JOURNAL_DRAIN)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
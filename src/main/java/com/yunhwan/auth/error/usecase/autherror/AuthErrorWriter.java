@@ -4,61 +4,107 @@ import com.yunhwan.auth.error.domain.autherror.AuthError;
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.domain.outbox.descriptor.OutboxEventDescriptor;
 import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dedup.AuthErrorDedupCache;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBulkWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorIngestRow;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorRecordedPayload;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorEventPublisher;
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import com.yunhwan.auth.error.usecase.autherror.stacktrace.AuthErrorStacktraceService;
 import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
 import com.yunhwan.auth.error.usecase.outbox.OutboxWriter;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxArchiveStore;
 import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 public class AuthErrorWriter {
 
+    /**
+     * 단일 statement 경로에서 authErrorId 자리에 넣는 placeholder.
+     * 실제 id(identity, 양수)와 겹치지 않고 JSON 숫자로 그대로 직렬화된다.
+     */
+    private static final long ID_PLACEHOLDER = Long.MIN_VALUE;
+
     private final AuthErrorStore authErrorStore;
     private final OutboxWriter outboxWriter;
     private final OutboxMessageStore outboxMessageStore;
+    private final OutboxArchiveStore outboxArchiveStore;
     private final Clock clock;
     private final AuthErrorProperties authErrorProperties;
     private final OutboxEventDescriptor<AuthErrorRecordedPayload> authErrorRecordedEventDescriptor;
     private final AuthErrorEventPublisher eventPublisher;
+    private final AuthErrorDedupCache dedupCache;
+    private final AuthErrorStacktraceService stacktraceService;
     private final MeterRegistry meterRegistry;
     private final Timer ingestTransactionTimer;
+    private final Timer ingestBatchTransactionTimer;
+    private final Timer ingestBulkTransactionTimer;
+    private final Counter singleStatementTemplateFallbackCounter;
+    private final Counter singleStatementUnresolvedFallbackCounter;
 
     public AuthErrorWriter(
             AuthErrorStore authErrorStore,
             OutboxWriter outboxWriter,
             OutboxMessageStore outboxMessageStore,
+            OutboxArchiveStore outboxArchiveStore,
             Clock clock,
             AuthErrorProperties authErrorProperties,
             OutboxEventDescriptor<AuthErrorRecordedPayload> authErrorRecordedEventDescriptor,
             AuthErrorEventPublisher eventPublisher,
+            AuthErrorDedupCache dedupCache,
+            AuthErrorStacktraceService stacktraceService,
             MeterRegistry meterRegistry
     ) {
         this.authErrorStore = authErrorStore;
         this.outboxWriter = outboxWriter;
         this.outboxMessageStore = outboxMessageStore;
+        this.outboxArchiveStore = outboxArchiveStore;
         this.clock = clock;
         this.authErrorProperties = authErrorProperties;
         this.authErrorRecordedEventDescriptor = authErrorRecordedEventDescriptor;
         this.eventPublisher = eventPublisher;
+        this.dedupCache = dedupCache;
+        this.stacktraceService = stacktraceService;
         this.meterRegistry = meterRegistry;
         this.ingestTransactionTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_TRANSACTION)
                 .tag(UsecaseMetrics.TAG_EVENT_TYPE, authErrorRecordedEventDescriptor.eventType())
                 .register(meterRegistry);
+        this.ingestBatchTransactionTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_BATCH_TRANSACTION)
+                .tag(UsecaseMetrics.TAG_EVENT_TYPE, authErrorRecordedEventDescriptor.eventType())
+                .register(meterRegistry);
+        this.ingestBulkTransactionTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_BULK_TRANSACTION)
+                .tag(UsecaseMetrics.TAG_EVENT_TYPE, authErrorRecordedEventDescriptor.eventType())
+                .register(meterRegistry);
+        this.singleStatementTemplateFallbackCounter = Counter.builder(UsecaseMetrics.METRIC_INGEST_SINGLE_STATEMENT_FALLBACK)
+                .tag(UsecaseMetrics.TAG_REASON, "template")
+                .register(meterRegistry);
+        this.singleStatementUnresolvedFallbackCounter = Counter.builder(UsecaseMetrics.METRIC_INGEST_SINGLE_STATEMENT_FALLBACK)
+                .tag(UsecaseMetrics.TAG_REASON, "unresolved_duplicate")
+                .register(meterRegistry);
     }
 
     /**
@@ -71,86 +117,306 @@ public class AuthErrorWriter {
         Timer.Sample sample = Timer.start(meterRegistry);
         String dedupKey = cmd.requestId();
         try {
-            if (dedupKey != null) {
+            // 0) 최근 적재분이면 DB를 거치지 않고 같은 결과를 돌려준다.
+            Optional<AuthErrorWriteResult> cached = dedupCache.lookup(dedupKey);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            if (authErrorProperties.getIngest().getWriteMode() == AuthErrorProperties.WriteMode.SINGLE_STATEMENT) {
+                Optional<AuthErrorWriteResult> single = recordSingleStatement(cmd);
+                if (single.isPresent()) {
+                    return remember(dedupKey, single.get());
+                }
+            }
+            // 본 적 없는 키면 사전 SELECT를 생략하고 INSERT ... ON CONFLICT DO NOTHING으로 중복을 판정한다.
+            boolean mightHaveSeen = dedupKey == null || dedupCache.mightHaveSeen(dedupKey);
+            if (dedupKey != null && mightHaveSeen) {
                 var existing = authErrorStore.findByDedupKey(dedupKey);
                 if (existing.isPresent()) {
-                    return buildExistingResult(existing.get());
+                    return remember(dedupKey, buildExistingResult(existing.get()));
                 }
+                dedupCache.recordFalsePositive();
             }
             // 1) auth_error 저장
-
             OffsetDateTime now = OffsetDateTime.now(clock);
-            AuthError toSave = AuthError.record(
-                    cmd.requestId(),
-                    cmd.occurredAt(),
-                    now,
-                    authErrorProperties.getSourceService(),
-                    authErrorProperties.getEnvironment()
-            );
+            AuthError toSave = newAuthError(cmd, now);
+            stacktraceService.externalize(List.of(toSave), now);
 
+            // dedup_key 전역 유일성은 guard trigger가 판정한다. (이미 적재된 키면 행을 건너뛰고 RETURNING에 나오지 않음)
+            List<AuthError> inserted = authErrorStore.saveAllIgnoringDuplicates(List.of(toSave), now);
+            if (inserted.isEmpty()) {
+                // 다른 요청/인스턴스/재기동 이전에 적재된 키
+                return remember(dedupKey, fetchExistingAfterConflict(dedupKey, new IllegalStateException(
+                        "auth_error conflict without visible row. requestId=" + dedupKey)));
+            }
+            AuthError saved = inserted.get(0);
 
-            // 인증 실패 taxonomy context. Outbox payload/idempotency 계약에는 포함하지 않는다.
-            toSave.applyAuthFailureContext(
-                    cmd.errorType(),
-                    cmd.provider(),
-                    cmd.clientType(),
-                    cmd.endpoint(),
-                    cmd.principalHash(),
-                    cmd.ipHash(),
-                    cmd.userAgentFamily()
-            );
+            // 2) outbox payload 최소 계약 (DLQ/추적에 유리)
+            AuthErrorRecordedPayload payload = recordedPayload(saved);
 
-            // 요청 컨텍스트
-            toSave.applyRequestContext(
-                    cmd.httpMethod(),
-                    cmd.requestUri(),
-                    cmd.clientIp(),
-                    cmd.userAgent(),
-                    cmd.userId(),
-                    cmd.sessionId()
+            OutboxMessage outbox = outboxWriter.enqueue(
+                    authErrorRecordedEventDescriptor,
+                    String.valueOf(saved.getId()), // aggregateId
+                    payload
             );
 
-            // http_status 저장 + stack_hash 계산
-            toSave.applyExceptionContext(
-                    cmd.exceptionClass(),
-                    cmd.exceptionMessage(),
-                    cmd.rootCauseClass(),
-                    cmd.rootCauseMessage(),
-                    cmd.stacktrace(),
-                    cmd.httpStatus()
-            );
+            // idempotency_key를 descriptor에서 뽑아서 이벤트 로그에 포함
+            String idemKey = authErrorRecordedEventDescriptor.idempotencyKey(payload);
+            // 이벤트 로그
+            eventPublisher.recorded(saved, outbox.getId(), idemKey);
 
-            try {
-                AuthError saved = authErrorStore.save(toSave);
-
-                // 2) outbox payload 최소 계약 (DLQ/추적에 유리)
-                AuthErrorRecordedPayload payload = new AuthErrorRecordedPayload(
-                        saved.getId(),
-                        saved.getRequestId(),
-                        saved.getOccurredAt(),
-                        saved.getReceivedAt()
-                );
-
-                OutboxMessage outbox = outboxWriter.enqueue(
-                        authErrorRecordedEventDescriptor,
-                        String.valueOf(saved.getId()), // aggregateId
-                        payload
-                );
-
-                // idempotency_key를 descriptor에서 뽑아서 이벤트 로그에 포함
-                String idemKey = authErrorRecordedEventDescriptor.idempotencyKey(payload);
-                // 이벤트 로그
-                eventPublisher.recorded(saved, outbox.getId(), idemKey);
-
-                return new AuthErrorWriteResult(saved.getId(), outbox.getId());
-            } catch (DuplicateKeyException e) {
-                return fetchExistingAfterConflict(dedupKey, e);
-            }
+            return remember(dedupKey, new AuthErrorWriteResult(saved.getId(), outbox.getId()));
         } finally {
             sample.stop(ingestTransactionTimer);
         }
     }
 
+    /**
+     * 배치 적재. 한 트랜잭션으로:
+     * 1) auth_error multi-row INSERT (dedup_key 충돌은 DO NOTHING)
+     * 2) outbox_message multi-row UPSERT/RETURNING (멱등 보장)
+     * 이미 적재된 requestId와 배치 내부 중복은 dedup hit(duplicate=true)로 돌려준다.
+     *
+     * @return 입력 순서와 동일한 항목별 결과
+     */
+    @Transactional
+    public List<AuthErrorBatchWriteResult> recordBatch(List<AuthErrorWriteCommand> cmds) {
+        if (cmds.isEmpty()) {
+            return List.of();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+
+            // 배치 내부 중복은 첫 항목만 적재 대상으로 삼는다. (ON CONFLICT가 같은 행을 두 번 다루지 않도록)
+            Map<String, AuthError> candidates = new LinkedHashMap<>();
+            for (AuthErrorWriteCommand cmd : cmds) {
+                candidates.computeIfAbsent(cmd.requestId(), key -> newAuthError(cmd, now));
+            }
+            stacktraceService.externalize(candidates.values(), now);
+
+            // 1) auth_error multi-row INSERT
+            List<AuthError> inserted = authErrorStore.saveAllIgnoringDuplicates(List.copyOf(candidates.values()), now);
+
+            Map<String, AuthErrorWriteResult> resolved = new HashMap<>();
+            Set<String> insertedKeys = new HashSet<>();
+            if (!inserted.isEmpty()) {
+                // 2) outbox multi-row UPSERT
+                Map<String, AuthErrorRecordedPayload> payloadByAggregateId = new LinkedHashMap<>();
+                for (AuthError authError : inserted) {
+                    payloadByAggregateId.put(String.valueOf(authError.getId()), recordedPayload(authError));
+                }
+                Map<String, OutboxMessage> outboxByIdemKey =
+                        outboxWriter.enqueueAll(authErrorRecordedEventDescriptor, payloadByAggregateId);
+
+                for (AuthError authError : inserted) {
+                    String idemKey = authErrorRecordedEventDescriptor.idempotencyKey(
+                            payloadByAggregateId.get(String.valueOf(authError.getId())));
+                    OutboxMessage outbox = outboxByIdemKey.get(idemKey);
+                    eventPublisher.recorded(authError, outbox.getId(), idemKey);
+                    resolved.put(authError.getRequestId(), new AuthErrorWriteResult(authError.getId(), outbox.getId()));
+                    insertedKeys.add(authError.getRequestId());
+                }
+            }
+
+            // 3) 이미 적재되어 있던 requestId (이전 요청/동시 요청)
+            List<String> existingKeys = candidates.keySet().stream()
+                    .filter(key -> !resolved.containsKey(key))
+                    .toList();
+            if (!existingKeys.isEmpty()) {
+                resolved.putAll(buildExistingResults(existingKeys));
+            }
+
+            List<AuthErrorBatchWriteResult> results = new ArrayList<>(cmds.size());
+            Set<String> seen = new HashSet<>();
+            for (AuthErrorWriteCommand cmd : cmds) {
+                String key = cmd.requestId();
+                AuthErrorWriteResult result = resolved.get(key);
+                if (result == null) {
+                    throw new IllegalStateException("auth_error missing after batch insert. requestId=" + key);
+                }
+                boolean firstOccurrence = seen.add(key);
+                boolean duplicate = !(firstOccurrence && insertedKeys.contains(key));
+                results.add(new AuthErrorBatchWriteResult(key, result.authErrorId(), result.outboxId(), duplicate));
+                if (firstOccurrence) {
+                    dedupCache.remember(key, result);
+                }
+            }
+            return results;
+        } finally {
+            sample.stop(ingestBatchTransactionTimer);
+        }
+    }
+
+    /**
+     * 대량 적재(과거 데이터 backfill). 한 트랜잭션으로:
+     * 1) auth_error COPY → INSERT ... SELECT (dedup_key 충돌은 DO NOTHING)
+     * 2) enqueueOutbox면 새로 적재된 행만 outbox multi-row UPSERT
+     *
+     * 수집 API 경로와 달리 항목별 id를 돌려주지 않고, dedup 캐시/이벤트 로그도 남기지 않는다. (행 수만큼 로그가 쌓이지 않도록)
+     */
+    @Transactional
+    public AuthErrorBulkWriteResult recordBulk(List<AuthErrorWriteCommand> cmds, boolean enqueueOutbox) {
+        if (cmds.isEmpty()) {
+            return new AuthErrorBulkWriteResult(0, 0);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+
+            Map<String, AuthError> candidates = new LinkedHashMap<>();
+            for (AuthErrorWriteCommand cmd : cmds) {
+                candidates.computeIfAbsent(cmd.requestId(), key -> newAuthError(cmd, now));
+            }
+            stacktraceService.externalize(candidates.values(), now);
+
+            List<AuthError> inserted = authErrorStore.copyAllIgnoringDuplicates(List.copyOf(candidates.values()), now);
+
+            if (enqueueOutbox && !inserted.isEmpty()) {
+                Map<String, AuthErrorRecordedPayload> payloadByAggregateId = new LinkedHashMap<>();
+                for (AuthError authError : inserted) {
+                    payloadByAggregateId.put(String.valueOf(authError.getId()), recordedPayload(authError));
+                }
+                outboxWriter.enqueueAll(authErrorRecordedEventDescriptor, payloadByAggregateId);
+            }
+            return new AuthErrorBulkWriteResult(inserted.size(), cmds.size() - inserted.size());
+        } finally {
+            sample.stop(ingestBulkTransactionTimer);
+        }
+    }
+
+    /**
+     * dedup 확인 + auth_error INSERT + outbox INSERT를 한 번의 round trip으로 처리한다.
+     * 판단할 수 없는 경우(placeholder 치환이 모호 / snapshot에 안 보이는 동시 적재분)는 empty → JPA 경로로 처리.
+     */
+    private Optional<AuthErrorWriteResult> recordSingleStatement(AuthErrorWriteCommand cmd) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        AuthError toSave = newAuthError(cmd, now);
+        stacktraceService.externalize(List.of(toSave), now);
+
+        AuthErrorRecordedPayload placeholderPayload = new AuthErrorRecordedPayload(
+                ID_PLACEHOLDER,
+                toSave.getRequestId(),
+                toSave.getOccurredAt(),
+                toSave.getReceivedAt()
+        );
+        String idPlaceholder = String.valueOf(ID_PLACEHOLDER);
+        Optional<OutboxEnqueueCommand> template =
+                outboxWriter.template(authErrorRecordedEventDescriptor, placeholderPayload, idPlaceholder);
+        if (template.isEmpty()) {
+            singleStatementTemplateFallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        Optional<AuthErrorIngestRow> row = authErrorStore.insertWithOutbox(toSave, template.get(), idPlaceholder, now);
+        if (row.isEmpty()) {
+            singleStatementUnresolvedFallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        AuthErrorIngestRow ingested = row.get();
+        if (!ingested.inserted()) {
+            return Optional.of(new AuthErrorWriteResult(ingested.authErrorId(), ingested.outboxId()));
+        }
+        if (ingested.outboxId() == null) {
+            // 새 authErrorId의 멱등키가 이미 다른 payload로 존재하는 경우. JPA 경로와 같이 트랜잭션을 실패시킨다.
+            throw new IllegalStateException("recorded outbox upsert returned no row for authErrorId=" + ingested.authErrorId());
+        }
+
+        toSave.assignGeneratedId(ingested.authErrorId());
+        String idemKey = authErrorRecordedEventDescriptor.idempotencyKey(recordedPayload(toSave));
+        eventPublisher.recorded(toSave, ingested.outboxId(), idemKey);
+        return Optional.of(new AuthErrorWriteResult(ingested.authErrorId(), ingested.outboxId()));
+    }
+
+    private AuthErrorWriteResult remember(String dedupKey, AuthErrorWriteResult result) {
+        dedupCache.remember(dedupKey, result);
+        return result;
+    }
+
+    private AuthError newAuthError(AuthErrorWriteCommand cmd, OffsetDateTime now) {
+        AuthError authError = AuthError.record(
+                cmd.requestId(),
+                cmd.occurredAt(),
+                now,
+                authErrorProperties.getSourceService(),
+                authErrorProperties.getEnvironment()
+        );
+
+        // 인증 실패 taxonomy context. Outbox payload/idempotency 계약에는 포함하지 않는다.
+        authError.applyAuthFailureContext(
+                cmd.errorType(),
+                cmd.provider(),
+                cmd.clientType(),
+                cmd.endpoint(),
+                cmd.principalHash(),
+                cmd.ipHash(),
+                cmd.userAgentFamily()
+        );
+
+        // 요청 컨텍스트
+        authError.applyRequestContext(
+                cmd.httpMethod(),
+                cmd.requestUri(),
+                cmd.clientIp(),
+                cmd.userAgent(),
+                cmd.userId(),
+                cmd.sessionId()
+        );
+
+        // http_status 저장 + stack_hash 계산
+        authError.applyExceptionContext(
+                cmd.exceptionClass(),
+                cmd.exceptionMessage(),
+                cmd.rootCauseClass(),
+                cmd.rootCauseMessage(),
+                cmd.stacktrace(),
+                cmd.httpStatus()
+        );
+        return authError;
+    }
+
+    private static AuthErrorRecordedPayload recordedPayload(AuthError authError) {
+        return new AuthErrorRecordedPayload(
+                authError.getId(),
+                authError.getRequestId(),
+                authError.getOccurredAt(),
+                authError.getReceivedAt()
+        );
+    }
+
+    private Map<String, AuthErrorWriteResult> buildExistingResults(List<String> dedupKeys) {
+        List<AuthError> existing = authErrorStore.findAllByDedupKeyIn(dedupKeys);
+        Map<String, AuthError> byIdemKey = new HashMap<>();
+        for (AuthError authError : existing) {
+            byIdemKey.put(authErrorRecordedEventDescriptor.idempotencyKey(recordedPayload(authError)), authError);
+        }
+
+        Map<String, Long> outboxIdByIdemKey = new HashMap<>();
+        for (OutboxMessage outbox : outboxMessageStore.findAllByIdempotencyKeyIn(byIdemKey.keySet())) {
+            outboxIdByIdemKey.put(outbox.getIdempotencyKey(), outbox.getId());
+        }
+        if (outboxIdByIdemKey.size() < byIdemKey.size()) {
+            // 보존 기간이 지나 archive로 옮겨진 outbox
+            List<String> archived = byIdemKey.keySet().stream()
+                    .filter(key -> !outboxIdByIdemKey.containsKey(key))
+                    .toList();
+            outboxIdByIdemKey.putAll(outboxArchiveStore.findIdsByIdempotencyKeyIn(archived));
+        }
+
+        Map<String, AuthErrorWriteResult> results = new HashMap<>();
+        outboxIdByIdemKey.forEach((idemKey, outboxId) -> {
+            AuthError authError = byIdemKey.get(idemKey);
+            results.put(authError.getRequestId(), new AuthErrorWriteResult(authError.getId(), outboxId));
+        });
+        for (AuthError authError : existing) {
+            if (!results.containsKey(authError.getRequestId())) {
+                throw new IllegalStateException("recorded outbox missing for authErrorId=" + authError.getId());
+            }
+        }
+        return results;
+    }
+
     private AuthErrorWriteResult fetchExistingAfterConflict(String dedupKey, RuntimeException cause) {
         AuthError existing = authErrorStore.findByDedupKey(dedupKey)
                 .orElseThrow(() -> cause);
@@ -158,15 +424,12 @@ public class AuthErrorWriter {
     }
 
     private AuthErrorWriteResult buildExistingResult(AuthError existing) {
-        AuthErrorRecordedPayload payload = new AuthErrorRecordedPayload(
-                existing.getId(),
-                existing.getRequestId(),
-                existing.getOccurredAt(),
-                existing.getReceivedAt()
-        );
+        AuthErrorRecordedPayload payload = recordedPayload(existing);
         String idemKey = authErrorRecordedEventDescriptor.idempotencyKey(payload);
-        OutboxMessage outbox = outboxMessageStore.findByIdempotencyKey(idemKey)
+        Long outboxId = outboxMessageStore.findByIdempotencyKey(idemKey)
+                .map(OutboxMessage::getId)
+                .or(() -> outboxArchiveStore.findIdByIdempotencyKey(idemKey))
                 .orElseThrow(() -> new IllegalStateException("recorded outbox missing for authErrorId=" + existing.getId()));
-        return new AuthErrorWriteResult(existing.getId(), outbox.getId());
+        return new AuthErrorWriteResult(existing.getId(), outboxId);
     }
 }
@@ -0,0 +1,138 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.common.exception.IngestThrottledException;
+import com.yunhwan.auth.error.domain.autherror.AuthFailureType;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestPressureSignals;
+import com.yunhwan.auth.error.usecase.autherror.port.IngestPressureSource;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * backlog 기반 ingest admission control.
+ *
+ * outbox age p95/p99/slope/backlog, Hikari pending을 0~1 압력으로 환산해서
+ * 낮은 우선순위 인증 실패부터 확률적으로 미룬다. (429 + Retry-After)
+ * - security signal(TOKEN_INVALID_SIGNATURE, RATE_LIMITED)과 HIGH severity는 항상 받는다.
+ * - LOW(INVALID_CREDENTIALS, TOKEN_EXPIRED)는 압력만큼의 비율로 미룬다. (압력 1이면 전부)
+ * - MEDIUM은 압력이 mediumSeverityShedFrom을 넘은 구간에서만 비례해서 미룬다.
+ * 압력이 커질수록 Retry-After도 길어져서 클라이언트 재시도가 backlog 회복 시간 뒤로 분산된다.
+ */
+@Component
+public class IngestAdmissionController {
+
+    private static final String RESULT_ADMITTED = "admitted";
+    private static final String RESULT_SHED = "shed";
+    private static final String SEVERITY_SECURITY = "security";
+
+    private final AuthErrorProperties.Admission props;
+    private final IngestPressureSource pressureSource;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile double pressure;
+    private volatile long nextRefreshAtNanos;
+
+    public IngestAdmissionController(
+            AuthErrorProperties authErrorProperties,
+            IngestPressureSource pressureSource,
+            MeterRegistry meterRegistry
+    ) {
+        this.props = authErrorProperties.getIngest().getAdmission();
+        this.pressureSource = pressureSource;
+        this.meterRegistry = meterRegistry;
+        this.nextRefreshAtNanos = System.nanoTime();
+        Gauge.builder(UsecaseMetrics.METRIC_INGEST_ADMISSION_PRESSURE, this, c -> c.pressure)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 받을지 판단한다. 미뤄야 하면 예외를 던진다.
+     *
+     * @throws IngestThrottledException 현재 압력에서 이 유형을 미루기로 한 경우
+     */
+    public void admit(String errorType) {
+        if (!props.isEnabled()) {
+            return;
+        }
+        AuthFailureType type = AuthFailureType.from(errorType);
+        double current = currentPressure();
+        double shedProbability = shedProbability(type, current);
+        if (shedProbability > 0 && ThreadLocalRandom.current().nextDouble() < shedProbability) {
+            counter(RESULT_SHED, type).increment();
+            throw new IngestThrottledException(
+                    "ingest deferred by backlog pressure. errorType=" + type + ", pressure=" + current,
+                    retryAfterSeconds(current));
+        }
+        counter(RESULT_ADMITTED, type).increment();
+    }
+
+    double shedProbability(AuthFailureType type, double pressure) {
+        if (type.securitySignal()) {
+            return 0;
+        }
+        return switch (type.severity()) {
+            case LOW -> pressure;
+            case MEDIUM -> {
+                double from = Math.min(Math.max(props.getMediumSeverityShedFrom(), 0), 0.99);
+                yield pressure <= from ? 0 : (pressure - from) / (1 - from);
+            }
+            case HIGH -> 0;
+        };
+    }
+
+    long retryAfterSeconds(double pressure) {
+        long min = Math.max(1, props.getMinRetryAfterSeconds());
+        long max = Math.max(min, props.getMaxRetryAfterSeconds());
+        return min + Math.round((max - min) * pressure);
+    }
+
+    /** 신호별 압력 중 최댓값. */
+    static double pressure(IngestPressureSignals signals, AuthErrorProperties.Admission props) {
+        double p = score(signals.outboxAgeP95Ms(), props.getOutboxAgeP95Ms());
+        p = Math.max(p, score(signals.outboxAgeP99Ms(), props.getOutboxAgeP99Ms()));
+        p = Math.max(p, score(signals.outboxAgeSlopeMsPer10s(), props.getOutboxAgeSlopeMsPer10s()));
+        p = Math.max(p, score(signals.outboxBacklogCount(), props.getOutboxBacklogCount()));
+        p = Math.max(p, score(signals.hikariPendingThreads(), props.getHikariPendingThreads()));
+        return p;
+    }
+
+    private static double score(long value, AuthErrorProperties.Threshold threshold) {
+        if (threshold == null || value <= threshold.getElevated()) {
+            return 0;
+        }
+        if (value >= threshold.getCritical() || threshold.getCritical() <= threshold.getElevated()) {
+            return 1;
+        }
+        return (value - threshold.getElevated()) / (threshold.getCritical() - threshold.getElevated());
+    }
+
+    private double currentPressure() {
+        long now = System.nanoTime();
+        if (now - nextRefreshAtNanos >= 0) {
+            // 동시에 여러 스레드가 갱신해도 같은 gauge를 읽으므로 결과는 같다.
+            nextRefreshAtNanos = now + TimeUnit.MILLISECONDS.toNanos(Math.max(0, props.getRefreshIntervalMs()));
+            pressure = pressure(pressureSource.current(), props);
+        }
+        return pressure;
+    }
+
+    private Counter counter(String result, AuthFailureType type) {
+        String severity = type.securitySignal()
+                ? SEVERITY_SECURITY
+                : type.severity().name().toLowerCase(Locale.ROOT);
+        return counters.computeIfAbsent(result + ":" + severity, k -> Counter.builder(UsecaseMetrics.METRIC_INGEST_ADMISSION)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .tag(UsecaseMetrics.TAG_SEVERITY, severity)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,86 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.common.exception.IngestRejectedException;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ingest 경로의 DB 동시 실행 상한(semaphore bulkhead).
+ *
+ * virtual thread 모드에서는 요청마다 스레드가 생기므로 DB 작업 동시성이 요청 수만큼 늘어난다.
+ * permit 수만큼만 Hikari에 들어가게 하고, 나머지는 여기서 (fair) 대기시킨다.
+ * - 대기는 Semaphore(AQS park)라 virtual thread가 carrier를 잡고 있지 않는다.
+ * - maxWaitMs 안에 permit을 못 얻으면 Hikari connection-timeout까지 끌지 않고 바로 503으로 돌려보낸다.
+ */
+@Component
+public class IngestDbBulkhead {
+
+    private static final String RESULT_ACQUIRED = "acquired";
+    private static final String RESULT_REJECTED = "rejected";
+
+    private final AuthErrorProperties.Bulkhead props;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Timer acquiredWaitTimer;
+    private final Timer rejectedWaitTimer;
+
+    public IngestDbBulkhead(AuthErrorProperties authErrorProperties, MeterRegistry meterRegistry) {
+        this.props = authErrorProperties.getIngest().getBulkhead();
+        this.maxConcurrent = Math.max(1, props.getMaxConcurrent());
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquiredWaitTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_BULKHEAD_WAIT)
+                .tag(UsecaseMetrics.TAG_RESULT, RESULT_ACQUIRED)
+                .register(meterRegistry);
+        this.rejectedWaitTimer = Timer.builder(UsecaseMetrics.METRIC_INGEST_BULKHEAD_WAIT)
+                .tag(UsecaseMetrics.TAG_RESULT, RESULT_REJECTED)
+                .register(meterRegistry);
+        Gauge.builder(UsecaseMetrics.METRIC_INGEST_BULKHEAD_ACTIVE, this, IngestDbBulkhead::active)
+                .register(meterRegistry);
+        Gauge.builder(UsecaseMetrics.METRIC_INGEST_BULKHEAD_QUEUED, permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    /**
+     * permit을 얻은 뒤 work를 실행한다. 비활성 상태면 그대로 실행한다.
+     *
+     * @throws IngestRejectedException maxWaitMs 안에 permit을 얻지 못한 경우
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (!props.isEnabled()) {
+            return work.get();
+        }
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(Math.max(0, props.getMaxWaitMs()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestRejectedException("interrupted while waiting for ingest bulkhead", props.getRetryAfterSeconds());
+        }
+        long waitedNanos = System.nanoTime() - startedAt;
+        if (!acquired) {
+            rejectedWaitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+            throw new IngestRejectedException(
+                    "ingest bulkhead is full. maxConcurrent=" + maxConcurrent + ", maxWaitMs=" + props.getMaxWaitMs(),
+                    props.getRetryAfterSeconds());
+        }
+        acquiredWaitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -7,6 +7,7 @@ import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorAnalysisResultStor
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorAnalyzer;
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorEventPublisher;
 import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import com.yunhwan.auth.error.usecase.autherror.stacktrace.AuthErrorStacktraceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +23,15 @@ public class AuthErrorAnalysisService {
     private final AuthErrorAnalysisResultStore resultStore;
     private final AuthErrorAnalyzer analyzer;
     private final AuthErrorEventPublisher eventPublisher;
+    private final AuthErrorStacktraceService stacktraceService;
 
+    /**
+     * 분석 결과를 저장하고 분석한 auth_error(cold 컬럼 포함)를 돌려준다. 상태는 바꾸지 않는다.
+     */
     @Transactional
-    public void analyzeAndSave(Long authErrorId) {
+    public AuthError analyzeAndSave(Long authErrorId) {
         AuthError authError = authErrorStore.findById(authErrorId)
+                .map(authErrorStore::loadDetail) // 분석 입력(stacktrace, request_uri)은 cold 컬럼이다.
                 .orElseThrow(() -> new AuthErrorNotFoundException(authErrorId));
 
         AuthErrorAnalyzer.AnalysisInput input = new AuthErrorAnalyzer.AnalysisInput(
@@ -35,7 +41,7 @@ public class AuthErrorAnalysisService {
                 authError.getExceptionMessage(),
                 authError.getRootCauseClass(),
                 authError.getRootCauseMessage(),
-                authError.getStacktrace(),
+                stacktraceService.resolve(authError), // 분리 저장된 행은 캐시/저장소에서 원문을 가져온다.
                 authError.getStackHash(),
                 authError.getRequestUri(),
                 authError.getHttpMethod()
@@ -58,5 +64,6 @@ public class AuthErrorAnalysisService {
 
         // 분석 완료 이벤트 로그
         eventPublisher.analysisCompleted(authError, saved);
+        return authError;
     }
 }
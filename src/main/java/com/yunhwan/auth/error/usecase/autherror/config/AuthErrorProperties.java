@@ -1,6 +1,8 @@
 package com.yunhwan.auth.error.usecase.autherror.config;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -22,4 +24,219 @@ public class AuthErrorProperties {
      * ex) local / dev / prod
      */
     private String environment;
+
+    private Ingest ingest = new Ingest();
+
+    private BulkImport bulkImport = new BulkImport();
+
+    private StacktraceStore stacktraceStore = new StacktraceStore();
+
+    private Partition partition = new Partition();
+
+    private ProcessedMessageCompaction processedMessageCompaction = new ProcessedMessageCompaction();
+    private Rollup rollup = new Rollup();
+
+    @Getter @Setter
+    public static class Ingest {
+        /** 단건 적재 SQL 경로 */
+        private WriteMode writeMode = WriteMode.JPA;
+        private GroupCommit groupCommit = new GroupCommit();
+        private DedupCache dedupCache = new DedupCache();
+        private Bulkhead bulkhead = new Bulkhead();
+        private PinningMonitor pinningMonitor = new PinningMonitor();
+        private Admission admission = new Admission();
+        private Journal journal = new Journal();
+    }
+
+    /**
+     * 과거 데이터 대량 적재(COPY) 설정. enabled일 때만 import API가 열린다.
+     */
+    @Getter @Setter
+    public static class BulkImport {
+        private boolean enabled = false;
+        /** 한 트랜잭션(COPY 1회)으로 적재하는 최대 행 수. 메모리 사용량은 이 값에 비례한다. */
+        private int chunkRows = 5_000;
+        /** 응답에 담는 거절 행 샘플 최대 수 (전체 거절 수는 따로 센다) */
+        private int maxRejectedSamples = 100;
+    }
+
+    /**
+     * stacktrace 분리 저장 설정. enabled면 원문을 auth_error_stacktrace에 trace 단위로 한 번만(압축) 저장하고
+     * auth_error에는 stacktrace_hash만 남긴다. 끄면 기존처럼 auth_error.stacktrace에 저장한다. (읽기는 두 형태 모두 지원)
+     */
+    @Getter @Setter
+    public static class StacktraceStore {
+        private boolean enabled = false;
+        /** 해제된 원문 캐시 최대 항목 수 (trace_hash 기준 LRU) */
+        private int cacheMaxEntries = 10_000;
+    }
+
+    /**
+     * auth_error 일 단위 파티션 유지보수. (UTC 기준)
+     */
+    @Getter @Setter
+    public static class Partition {
+        private boolean maintenanceEnabled = true;
+        private long maintenanceFixedDelayMs = 3_600_000;
+        /** 오늘 포함 미리 만들어 둘 파티션 일수. 범위 밖 행은 default 파티션으로 간다. */
+        private int precreateDays = 7;
+        /** 이 일수보다 오래된 파티션을 drop 한다. 0이면 drop 하지 않는다. */
+        private int retentionDays = 0;
+    }
+
+    /**
+     * processed_message(consumer 멱등성 원장) DONE 행 정리.
+     * 다시 전달될 수 있는 기간(가장 긴 retry TTL) + marginSeconds가 지난 행만 지운다.
+     */
+    @Getter @Setter
+    public static class ProcessedMessageCompaction {
+        private boolean enabled = false;
+        private long fixedDelayMs = 60_000;
+        private long marginSeconds = 3_600;
+        /** 한 statement로 검사/삭제하는 최대 행 수 (lock/WAL을 작게 유지) */
+        private int batchSize = 500;
+        /** 한 주기에 실행하는 최대 배치 수. 남은 행은 다음 주기에 이어서 처리한다. */
+        private int maxBatchesPerRun = 100;
+        /** 배치 사이 대기(ms). consumer 경로와 I/O를 나눠 쓰기 위한 throttle */
+        private long pauseBetweenBatchesMs = 50;
+    }
+
+    /**
+     * 진단 rollup 반영. auth_error_rollup_delta를 batch로 비워 rollup 테이블에 더한다. (V20)
+     * view는 남은 delta도 함께 집계하므로 주기는 정확도가 아니라 view 조회 비용(대기 delta 수)에만 영향을 준다.
+     */
+    @Getter @Setter
+    public static class Rollup {
+        private boolean enabled = true;
+        private long fixedDelayMs = 10_000;
+        /** 한 statement로 반영하는 최대 delta 행 수 */
+        private int batchSize = 5_000;
+        /** 한 주기에 실행하는 최대 배치 수. 남은 delta는 다음 주기에 이어서 반영한다. */
+        private int maxBatchesPerRun = 20;
+    }
+
+    public enum WriteMode {
+        /** findByDedupKey → save → outbox upsert (statement 3회 이상) */
+        JPA,
+        /** dedup + auth_error INSERT + outbox INSERT를 data-modifying CTE 한 번으로. 판단 불가 시 JPA 경로로 fallback */
+        SINGLE_STATEMENT
+    }
+
+    /**
+     * 단건 API 요청을 micro-batch로 묶어 한 트랜잭션(=commit 1회)으로 적재하는 group commit 설정.
+     */
+    @Getter @Setter
+    public static class GroupCommit {
+        private boolean enabled = false;
+        /** 한 배치 최대 건수 */
+        private int maxBatchSize = 64;
+        /** 첫 건 도착 후 추가 건을 기다리는 최대 시간(µs) */
+        private long maxLingerMicros = 2_000;
+        /** 대기 큐 상한. 가득 차면 호출 스레드에서 단건 적재로 우회한다. */
+        private int queueCapacity = 4_096;
+        /** 배치를 소비하는 flusher 스레드 수 (동시 트랜잭션 수 상한) */
+        private int flushers = 2;
+        /** 호출자가 결과를 기다리는 최대 시간(ms) */
+        private long awaitTimeoutMs = 5_000;
+    }
+
+    /**
+     * 중복 적재 fast path(최근 적재 캐시 + 본 적 없는 키 Bloom filter) 설정.
+     */
+    @Getter @Setter
+    public static class DedupCache {
+        private boolean enabled = false;
+        /** 최근 적재 캐시 최대 건수 */
+        private int maxEntries = 100_000;
+        /** 최근 적재 캐시 TTL(초). 재시도/이중 보고가 몰리는 구간만 덮으면 된다. */
+        private long ttlSeconds = 300;
+        /** Bloom filter 한 세대가 담는 키 수. 차면 세대를 교체한다. */
+        private long filterExpectedInsertions = 1_000_000;
+        /** Bloom filter 목표 false positive 비율 */
+        private double filterFpp = 0.01;
+    }
+
+    /**
+     * ingest 경로의 DB 동시 실행 상한(semaphore bulkhead).
+     * virtual thread에서는 요청 스레드 수가 사실상 무제한이라, 없으면 Hikari 대기열이 connection-timeout까지 밀린다.
+     */
+    @Getter @Setter
+    public static class Bulkhead {
+        private boolean enabled = false;
+        /** 동시에 DB 작업을 수행할 수 있는 요청 수. Hikari maximum-pool-size보다 작게 둬서 poller/consumer 몫을 남긴다. */
+        private int maxConcurrent = 8;
+        /** permit 대기 최대 시간(ms). Hikari connection-timeout(2000ms)보다 짧아야 bulkhead에서 먼저 거절된다. */
+        private long maxWaitMs = 1_000;
+        /** 거절 응답(503)의 Retry-After(초) */
+        private long retryAfterSeconds = 1;
+    }
+
+    /**
+     * virtual thread carrier pinning 감지(JFR jdk.VirtualThreadPinned) 설정.
+     */
+    @Getter @Setter
+    public static class PinningMonitor {
+        private boolean enabled = false;
+        /** 이 시간 이상 pinning된 경우만 기록한다. (JFR 기본값 20ms) */
+        private long thresholdMs = 20;
+        /** 로그에 남길 stack frame 수 */
+        private int maxStackFrames = 8;
+        /** 같은 pinning 위치(top frame) 로그 최소 간격(초) */
+        private long logIntervalSeconds = 60;
+    }
+
+    /**
+     * backlog 기반 ingest admission control 설정.
+     * 신호별로 elevated~critical 구간을 0~1 압력으로 환산하고, 가장 큰 값을 현재 압력으로 쓴다.
+     */
+    @Getter @Setter
+    public static class Admission {
+        private boolean enabled = false;
+        /** 신호 재계산 주기(ms). 원천 gauge가 10초 주기라 요청마다 다시 읽을 필요는 없다. */
+        private long refreshIntervalMs = 1_000;
+        private Threshold outboxAgeP95Ms = new Threshold(5_000, 30_000);
+        private Threshold outboxAgeP99Ms = new Threshold(10_000, 60_000);
+        /** 10초 사이 outbox age p95 증가량(ms) */
+        private Threshold outboxAgeSlopeMsPer10s = new Threshold(2_000, 10_000);
+        private Threshold outboxBacklogCount = new Threshold(5_000, 50_000);
+        private Threshold hikariPendingThreads = new Threshold(2, 10);
+        /** MEDIUM severity는 압력이 이 값을 넘은 뒤부터 미룬다. (LOW는 elevated부터) */
+        private double mediumSeverityShedFrom = 0.5;
+        /** 429 Retry-After(초). 압력에 비례해 min~max 사이에서 정한다. */
+        private long minRetryAfterSeconds = 1;
+        private long maxRetryAfterSeconds = 30;
+    }
+
+    /**
+     * 비동기(202) ingest용 로컬 write-ahead journal 설정.
+     * 요청은 memory-mapped segment에 기록되고 fsync(묶음) 후 응답한다. drainer가 뒤에서 DB로 옮긴다.
+     */
+    @Getter @Setter
+    public static class Journal {
+        private boolean enabled = false;
+        /** segment/checkpoint 파일 디렉터리. 재기동 후에도 유지되는 볼륨이어야 한다. */
+        private String directory = "data/ingest-journal";
+        /** segment 파일 크기(byte). 가득 차면 다음 segment로 넘어간다. */
+        private int segmentBytes = 64 * 1024 * 1024;
+        /** fsync 묶음 주기(µs). 이 사이에 들어온 append는 fsync 한 번으로 함께 확정된다. */
+        private long fsyncIntervalMicros = 2_000;
+        /** append 호출자가 fsync 완료를 기다리는 최대 시간(ms) */
+        private long appendTimeoutMs = 5_000;
+        /** drainer가 한 번에 recordBatch로 넘기는 최대 건수 */
+        private int drainBatchSize = 500;
+        /** 읽을 레코드가 없을 때 drainer 대기 시간(ms) */
+        private long drainIdleMs = 50;
+        /** DB 적재 실패 시 같은 구간을 다시 시도하기 전 대기 시간(ms) */
+        private long drainRetryBackoffMs = 1_000;
+    }
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Threshold {
+        /** 이 값 이하면 압력 0 */
+        private double elevated;
+        /** 이 값 이상이면 압력 1 */
+        private double critical;
+    }
 }
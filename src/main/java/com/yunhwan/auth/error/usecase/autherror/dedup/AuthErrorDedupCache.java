@@ -0,0 +1,120 @@
+package com.yunhwan.auth.error.usecase.autherror.dedup;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 중복 적재(클라이언트 재시도/게이트웨이 이중 보고) fast path.
+ *
+ * - 최근 적재 캐시: requestId → (authErrorId, outboxId). hit면 DB 없이 같은 결과를 돌려준다.
+ * - 본 적 없는 키 필터(Bloom): negative면 dedup SELECT를 생략하고 INSERT ... ON CONFLICT로 바로 간다.
+ *
+ * 캐시는 커밋 이후에만 채운다. (롤백된 id를 돌려주지 않도록)
+ * 비활성 상태면 lookup은 항상 miss, mightHaveSeen은 항상 true(= 기존 동작)다.
+ */
+@Component
+public class AuthErrorDedupCache {
+
+    private final boolean enabled;
+    private final RecentIngestCache<AuthErrorWriteResult> recent;
+    private final SeenKeyFilter filter;
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter filterNegativeCounter;
+    private final Counter filterPositiveCounter;
+    private final Counter filterFalsePositiveCounter;
+
+    public AuthErrorDedupCache(AuthErrorProperties authErrorProperties, MeterRegistry meterRegistry) {
+        AuthErrorProperties.DedupCache props = authErrorProperties.getIngest().getDedupCache();
+        this.enabled = props.isEnabled();
+        this.recent = new RecentIngestCache<>(props.getMaxEntries(), props.getTtlSeconds(), TimeUnit.SECONDS, System::nanoTime);
+        // 비활성이면 필터 메모리를 잡지 않는다.
+        this.filter = enabled ? new SeenKeyFilter(props.getFilterExpectedInsertions(), props.getFilterFpp()) : null;
+
+        this.cacheHitCounter = counter(meterRegistry, UsecaseMetrics.METRIC_INGEST_DEDUP_CACHE, "hit");
+        this.cacheMissCounter = counter(meterRegistry, UsecaseMetrics.METRIC_INGEST_DEDUP_CACHE, "miss");
+        this.filterNegativeCounter = counter(meterRegistry, UsecaseMetrics.METRIC_INGEST_DEDUP_FILTER, "negative");
+        this.filterPositiveCounter = counter(meterRegistry, UsecaseMetrics.METRIC_INGEST_DEDUP_FILTER, "positive");
+        this.filterFalsePositiveCounter = counter(meterRegistry, UsecaseMetrics.METRIC_INGEST_DEDUP_FILTER, "false_positive");
+        Gauge.builder(UsecaseMetrics.METRIC_INGEST_DEDUP_CACHE_SIZE, recent, RecentIngestCache::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<AuthErrorWriteResult> lookup(String requestId) {
+        if (!enabled || requestId == null) {
+            return Optional.empty();
+        }
+        AuthErrorWriteResult cached = recent.get(requestId);
+        if (cached == null) {
+            cacheMissCounter.increment();
+            return Optional.empty();
+        }
+        cacheHitCounter.increment();
+        return Optional.of(cached);
+    }
+
+    /**
+     * false면 이 프로세스가 본 적 없는 키다. (다른 인스턴스 적재분은 모를 수 있음)
+     */
+    public boolean mightHaveSeen(String requestId) {
+        if (!enabled || requestId == null) {
+            return true;
+        }
+        if (filter.mightContain(requestId)) {
+            filterPositiveCounter.increment();
+            return true;
+        }
+        filterNegativeCounter.increment();
+        return false;
+    }
+
+    /** 필터는 positive였지만 DB에 행이 없었던 경우 */
+    public void recordFalsePositive() {
+        if (enabled) {
+            filterFalsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 적재(또는 기존 행 확인) 결과를 기억한다.
+     * 트랜잭션 안이면 커밋 이후에 반영하고, 밖이면 즉시 반영한다.
+     */
+    public void remember(String requestId, AuthErrorWriteResult result) {
+        if (!enabled || requestId == null || result == null) {
+            return;
+        }
+        // 필터는 false positive만 늘 뿐이므로 커밋 전에 넣어도 안전하다.
+        filter.add(requestId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recent.put(requestId, result);
+                }
+            });
+            return;
+        }
+        recent.put(requestId, result);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(name)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.yunhwan.auth.error.usecase.autherror.dedup;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 적재 결과를 보관하는 크기 제한 + TTL 캐시.
+ * - 용량 초과 시 오래 들어온 키부터(FIFO) 버린다. 덮어쓴 키는 처음 들어온 순서를 유지한다.
+ * - 만료는 조회 시점에 판단한다. (별도 청소 스레드 없음)
+ * - 순서 큐의 항목(Slot)은 맵 항목과 identity로 짝지어, 만료 후 다시 들어온 키를 예전 큐 항목이 지우지 않게 한다.
+ */
+final class RecentIngestCache<V> {
+
+    private record Entry<V>(V value, long expiresAtNanos, Slot slot) {}
+
+    // 순서 큐 항목. equals를 재정의하지 않아 identity로 비교된다.
+    private static final class Slot {
+        private final String key;
+
+        private Slot(String key) {
+            this.key = key;
+        }
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Slot> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    RecentIngestCache(int maxEntries, long ttl, TimeUnit unit, LongSupplier nanoClock) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = unit.toNanos(ttl);
+        this.nanoClock = nanoClock;
+    }
+
+    V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.expiresAtNanos() >= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    void put(String key, V value) {
+        long expiresAtNanos = nanoClock.getAsLong() + ttlNanos;
+        Slot fresh = new Slot(key);
+        Entry<V> entry = entries.compute(key, (k, previous) ->
+                new Entry<>(value, expiresAtNanos, previous == null ? fresh : previous.slot()));
+        if (entry.slot() == fresh) {
+            insertionOrder.add(fresh);
+            queued.incrementAndGet();
+        }
+        evictOverflow();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        // 만료로 빠진 키도 순서 큐에는 남아 있으므로 큐 길이 기준으로 자른다. (맵/큐 모두 상한 유지)
+        while (queued.get() > maxEntries) {
+            Slot oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            // 만료 후 다시 들어온 키는 새 Slot을 가지므로 남지 않는다.
+            entries.computeIfPresent(oldest.key, (k, e) -> e.slot() == oldest ? null : e);
+        }
+    }
+}
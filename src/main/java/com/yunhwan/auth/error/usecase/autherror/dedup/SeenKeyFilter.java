@@ -0,0 +1,135 @@
+package com.yunhwan.auth.error.usecase.autherror.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "이 키를 본 적이 없다"를 빠르게 판정하는 2세대 Bloom filter.
+ *
+ * - false negative 없음(현재 프로세스가 add한 키 한정), false positive는 fpp 근처.
+ * - 현재 세대가 expectedInsertions만큼 차면 세대를 교체한다. (이전 세대는 한 주기 더 조회에 쓰인다)
+ *   → 메모리는 고정(2세대), 오래된 키는 자연스럽게 잊힌다.
+ *
+ * 다른 인스턴스/재기동 이전에 적재된 키는 모르므로, negative는 "DB 사전 조회 생략"에만 쓰고
+ * 실제 중복 판정은 INSERT ... ON CONFLICT가 맡는다.
+ */
+final class SeenKeyFilter {
+
+    private final long expectedInsertions;
+    private final int numBits;
+    private final int numHashes;
+
+    /** synchronized 대신 사용: JDK 21에서 synchronized 안의 대기는 virtual thread carrier를 pinning한다. */
+    private final ReentrantLock rotateLock = new ReentrantLock();
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    SeenKeyFilter(long expectedInsertions, double fpp) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+        long bits = (long) Math.ceil(-this.expectedInsertions * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / this.expectedInsertions * Math.log(2)));
+        this.current = new Generation(numBits);
+        this.previous = null;
+    }
+
+    boolean mightContain(String key) {
+        long h1 = hash1(key);
+        long h2 = hash2(h1);
+        Generation prev = previous;
+        return current.mightContain(h1, h2, numBits, numHashes)
+                || (prev != null && prev.mightContain(h1, h2, numBits, numHashes));
+    }
+
+    void add(String key) {
+        long h1 = hash1(key);
+        long h2 = hash2(h1);
+        Generation gen = current;
+        gen.add(h1, h2, numBits, numHashes);
+        if (gen.insertions.sum() >= expectedInsertions) {
+            rotate(gen);
+        }
+    }
+
+    int numHashes() {
+        return numHashes;
+    }
+
+    private void rotate(Generation full) {
+        rotateLock.lock();
+        try {
+            if (current != full) {
+                return; // 다른 스레드가 이미 교체함
+            }
+            previous = full;
+            current = new Generation(numBits);
+        } finally {
+            rotateLock.unlock();
+        }
+    }
+
+    /** FNV-1a 64 + fmix64 */
+    private static long hash1(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long hash2(long h1) {
+        // double hashing의 두 번째 해시. 홀수로 만들어 모든 비트를 순회할 수 있게 한다.
+        return fmix64(h1 ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final LongAdder insertions = new LongAdder();
+
+        Generation(int numBits) {
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        boolean mightContain(long h1, long h2, int numBits, int numHashes) {
+            long combined = h1;
+            for (int i = 0; i < numHashes; i++) {
+                int bit = (int) Long.remainderUnsigned(combined, numBits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        void add(long h1, long h2, int numBits, int numHashes) {
+            long combined = h1;
+            for (int i = 0; i < numHashes; i++) {
+                int bit = (int) Long.remainderUnsigned(combined, numBits);
+                int index = bit >>> 6;
+                long mask = 1L << bit;
+                long word;
+                while (((word = words.get(index)) & mask) == 0) {
+                    if (words.compareAndSet(index, word, word | mask)) {
+                        break;
+                    }
+                }
+                combined += h2;
+            }
+            insertions.increment();
+        }
+    }
+}
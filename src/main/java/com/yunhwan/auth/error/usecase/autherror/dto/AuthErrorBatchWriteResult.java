@@ -0,0 +1,12 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+/**
+ * 배치 적재 결과 (입력 순서와 동일).
+ * duplicate: 이미 적재된 requestId 이거나, 같은 배치 안에서 앞선 항목과 중복된 경우
+ */
+public record AuthErrorBatchWriteResult(
+        String requestId,
+        Long authErrorId,
+        Long outboxId,
+        boolean duplicate
+) {}
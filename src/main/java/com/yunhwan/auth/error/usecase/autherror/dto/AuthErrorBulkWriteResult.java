@@ -0,0 +1,10 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+/**
+ * 대량 적재(COPY) 한 묶음의 결과.
+ * duplicates는 이미 적재되어 있던 requestId와 묶음 내부 중복을 합한 수다.
+ */
+public record AuthErrorBulkWriteResult(
+        int inserted,
+        int duplicates
+) {}
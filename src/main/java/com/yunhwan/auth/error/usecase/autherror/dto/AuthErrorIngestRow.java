@@ -0,0 +1,7 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+/**
+ * 단일 statement 적재 결과.
+ * inserted=false면 dedup_key가 이미 적재되어 있어 기존 id를 돌려준 경우다.
+ */
+public record AuthErrorIngestRow(Long authErrorId, Long outboxId, boolean inserted) {}
@@ -0,0 +1,4 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+public record AuthErrorPartitionMaintenanceResult(int created, int dropped, int failed) {
+}
@@ -0,0 +1,4 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+public record AuthErrorRollupRefreshResult(long folded, int batches, boolean completed) {
+}
@@ -0,0 +1,9 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+import java.util.List;
+
+/**
+ * journal에서 읽은 레코드 묶음.
+ * next는 마지막으로 읽은(또는 건너뛴) 레코드 다음 위치이며, 처리 완료 후 acknowledge에 넘긴다.
+ */
+public record IngestJournalBatch(List<AuthErrorWriteCommand> commands, IngestJournalPosition next) {}
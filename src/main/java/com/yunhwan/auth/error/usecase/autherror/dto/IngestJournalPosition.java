@@ -0,0 +1,14 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+/**
+ * journal 내 위치. (segment 번호, segment 내 byte offset)
+ * 레코드 경계만 가리킨다.
+ */
+public record IngestJournalPosition(long segment, int offset) implements Comparable<IngestJournalPosition> {
+
+    @Override
+    public int compareTo(IngestJournalPosition other) {
+        int bySegment = Long.compare(segment, other.segment);
+        return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+    }
+}
@@ -0,0 +1,15 @@
+package com.yunhwan.auth.error.usecase.autherror.dto;
+
+/**
+ * ingest admission 판단에 쓰는 현재 부하 신호.
+ * 수집되지 않는 신호(스케줄러 비활성 등)는 0으로 채운다.
+ */
+public record IngestPressureSignals(
+        long outboxAgeP95Ms,
+        long outboxAgeP99Ms,
+        long outboxAgeSlopeMsPer10s,
+        long outboxBacklogCount,
+        long hikariPendingThreads
+) {
+    public static final IngestPressureSignals NONE = new IngestPressureSignals(0, 0, 0, 0, 0);
+}
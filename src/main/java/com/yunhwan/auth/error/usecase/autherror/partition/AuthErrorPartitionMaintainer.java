@@ -0,0 +1,102 @@
+package com.yunhwan.auth.error.usecase.autherror.partition;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorPartitionMaintenanceResult;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorPartitionStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.SortedSet;
+
+/**
+ * auth_error 파티션 유지보수.
+ *
+ * - 오늘(UTC)부터 precreateDays일치 파티션을 미리 만든다. (default 파티션으로 새 행이 쌓이지 않도록)
+ * - retentionDays가 있으면 그보다 오래된 파티션은 DELETE 대신 통째로 drop 한다. (vacuum/WAL 부담 없음)
+ *
+ * 파티션 하나 실패가 나머지를 막지 않도록 파티션 단위로 처리하고, 실패는 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Service
+public class AuthErrorPartitionMaintainer {
+
+    private final AuthErrorPartitionStore partitionStore;
+    private final AuthErrorProperties.Partition props;
+    private final Clock clock;
+    private final Counter createdCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public AuthErrorPartitionMaintainer(
+            AuthErrorPartitionStore partitionStore,
+            AuthErrorProperties authErrorProperties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.partitionStore = partitionStore;
+        this.props = authErrorProperties.getPartition();
+        this.clock = clock;
+        this.createdCounter = counter(meterRegistry, "created");
+        this.droppedCounter = counter(meterRegistry, "dropped");
+        this.failedCounter = counter(meterRegistry, "failed");
+    }
+
+    public AuthErrorPartitionMaintenanceResult maintain() {
+        LocalDate today = LocalDate.ofInstant(clock.instant(), ZoneOffset.UTC);
+        SortedSet<LocalDate> existing = partitionStore.findDailyPartitions();
+        int created = 0;
+        int dropped = 0;
+        int failed = 0;
+
+        for (int i = 0; i < Math.max(1, props.getPrecreateDays()); i++) {
+            LocalDate day = today.plusDays(i);
+            if (existing.contains(day)) {
+                continue;
+            }
+            try {
+                if (partitionStore.createDailyPartition(day)) {
+                    created++;
+                    createdCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                failed++;
+                failedCounter.increment();
+                log.error("[AuthErrorPartition] create failed. day={}", day, e);
+            }
+        }
+
+        if (props.getRetentionDays() > 0) {
+            LocalDate cutoff = today.minusDays(props.getRetentionDays());
+            for (LocalDate day : existing.headSet(cutoff)) {
+                try {
+                    if (partitionStore.dropDailyPartition(day)) {
+                        dropped++;
+                        droppedCounter.increment();
+                    }
+                } catch (RuntimeException e) {
+                    failed++;
+                    failedCounter.increment();
+                    log.error("[AuthErrorPartition] drop failed. day={}", day, e);
+                }
+            }
+        }
+
+        if (created > 0 || dropped > 0 || failed > 0) {
+            log.info("[AuthErrorPartition] maintained. today={}, created={}, dropped={}, failed={}",
+                    today, created, dropped, failed);
+        }
+        return new AuthErrorPartitionMaintenanceResult(created, dropped, failed);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_PARTITION_MAINTENANCE)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
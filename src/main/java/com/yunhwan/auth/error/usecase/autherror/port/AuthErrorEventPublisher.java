@@ -11,7 +11,7 @@ public interface AuthErrorEventPublisher {
     void recorded(AuthError authError, Long outboxId, String idempotencyKey);
 
     void decisionApplied(
-            AuthError authError,
+            Long authErrorId,
             AuthErrorStatus fromStatus,
             AuthErrorStatus toStatus,
             String decisionType,
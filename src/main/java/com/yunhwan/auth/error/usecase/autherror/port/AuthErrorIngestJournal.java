@@ -0,0 +1,31 @@
+package com.yunhwan.auth.error.usecase.autherror.port;
+
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalBatch;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalPosition;
+
+/**
+ * 비동기 ingest용 로컬 write-ahead journal.
+ */
+public interface AuthErrorIngestJournal {
+
+    /**
+     * 레코드를 추가하고 디스크에 fsync된 뒤 반환한다.
+     */
+    void append(AuthErrorWriteCommand cmd);
+
+    /**
+     * 마지막으로 acknowledge된 위치. (재기동 시 drain 시작점)
+     */
+    IngestJournalPosition checkpoint();
+
+    /**
+     * from부터 fsync가 끝난 레코드를 최대 maxEntries건 읽는다.
+     */
+    IngestJournalBatch read(IngestJournalPosition from, int maxEntries);
+
+    /**
+     * upTo 이전 레코드의 처리가 끝났음을 기록한다. 완전히 처리된 segment는 삭제된다.
+     */
+    void acknowledge(IngestJournalPosition upTo);
+}
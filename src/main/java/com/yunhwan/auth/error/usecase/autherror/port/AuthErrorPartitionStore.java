@@ -0,0 +1,30 @@
+package com.yunhwan.auth.error.usecase.autherror.port;
+
+import java.time.LocalDate;
+import java.util.SortedSet;
+
+/**
+ * auth_error 일 단위(UTC) range 파티션 DDL.
+ * 각 메서드는 자기 트랜잭션에서 실행되고, 인스턴스 간 동시 실행은 구현이 직렬화한다.
+ */
+public interface AuthErrorPartitionStore {
+
+    /** 현재 붙어 있는 일 단위 파티션의 날짜 (default 파티션 제외) */
+    SortedSet<LocalDate> findDailyPartitions();
+
+    /**
+     * day 파티션을 만든다. default 파티션에 그 범위 행이 있으면 새 파티션으로 옮긴다.
+     *
+     * @return 새로 만들었으면 true, 이미 있으면 false
+     */
+    boolean createDailyPartition(LocalDate day);
+
+    /**
+     * day 파티션을 통째로 drop 한다. (행 단위 DELETE 없음)
+     * 파티션 행을 참조하던 cluster_item/analysis_result, dedup_key guard와 같은 날짜의 auth_error_detail 파티션,
+     * 진단 rollup/delta도 함께 정리한다.
+     *
+     * @return drop 했으면 true, 이미 없으면 false
+     */
+    boolean dropDailyPartition(LocalDate day);
+}
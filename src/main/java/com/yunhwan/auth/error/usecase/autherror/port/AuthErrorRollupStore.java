@@ -0,0 +1,15 @@
+package com.yunhwan.auth.error.usecase.autherror.port;
+
+/**
+ * 진단 rollup(auth_error_*_rollup, auth_error_cluster_member) 증분 반영. (V20)
+ */
+public interface AuthErrorRollupStore {
+
+    /**
+     * auth_error_rollup_delta에서 최대 batchSize 행을 꺼내 rollup에 더하고 지운다. (한 트랜잭션)
+     * 다른 인스턴스가 반영 중이면 기다리지 않고 0을 돌려준다.
+     *
+     * @return 반영한 delta 행 수
+     */
+    int foldPending(int batchSize);
+}
@@ -0,0 +1,21 @@
+package com.yunhwan.auth.error.usecase.autherror.port;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 내용 주소(trace_hash) 기준 stacktrace 저장소. 압축/해제는 구현 책임이다.
+ */
+public interface AuthErrorStacktraceStore {
+
+    /**
+     * traceHash → 원문을 저장한다. 이미 있는 traceHash는 건너뛴다. (내용이 같으므로 덮어쓸 필요 없음)
+     */
+    void saveAllIfAbsent(Map<String, String> stacktraceByHash, OffsetDateTime now);
+
+    /**
+     * 해제된 원문.
+     */
+    Optional<String> findByHash(String traceHash);
+}
@@ -1,11 +1,62 @@
 package com.yunhwan.auth.error.usecase.autherror.port;
 
 import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorIngestRow;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AuthErrorStore {
     AuthError save(AuthError authError);
     Optional<AuthError> findById(Long id);
+
+    /**
+     * occurredAt(이벤트 payload 등에서 알고 있는 발생 시각)로 auth_error 파티션을 좁혀 조회한다.
+     * occurredAt이 null이면 findById와 같다.
+     */
+    Optional<AuthError> findById(Long id, OffsetDateTime occurredAt);
+
+    /**
+     * 조회한 auth_error에 cold 컬럼(auth_error_detail: request_uri, stacktrace 등)을 채운다.
+     * find* 계열은 hot 컬럼만 읽으므로 분석/진단처럼 cold 컬럼이 필요한 경로만 호출한다. 이미 채워져 있으면 조회하지 않는다.
+     */
+    AuthError loadDetail(AuthError authError);
     Optional<AuthError> findByDedupKey(String dedupKey);
+
+    /** 상태만 읽는다. occurredAt 의미는 findById(id, occurredAt)와 같다. */
+    Optional<AuthErrorStatus> findStatus(Long id, OffsetDateTime occurredAt);
+
+    /**
+     * 상태 CAS 전이: 현재 status가 expectedFrom 중 하나일 때만 to로 바꾼다. (엔티티 로딩/dirty checking 없이 UPDATE 한 번)
+     * 부수 컬럼(retry_count, resolved_at 등)은 AuthError.mark*와 같은 규칙으로 바뀐다. note가 null이면 resolution_note를 유지한다.
+     * occurredAt 의미는 findById(id, occurredAt)와 같다.
+     *
+     * @return 바뀐 행 수. 0이면 대상이 없거나 현재 상태가 expectedFrom이 아니다. (findStatus로 구분)
+     */
+    int transition(Long id, OffsetDateTime occurredAt, Set<AuthErrorStatus> expectedFrom, AuthErrorStatus to, String note);
+
+    default int transition(Long id, Set<AuthErrorStatus> expectedFrom, AuthErrorStatus to, String note) {
+        return transition(id, null, expectedFrom, to, note);
+    }
+
+    // 배치 적재: dedup_key 충돌분은 건너뛰고, 실제 INSERT된 엔티티(id 채워짐)만 돌려준다.
+    List<AuthError> saveAllIgnoringDuplicates(List<AuthError> authErrors, OffsetDateTime now);
+
+    // 대량 적재(COPY): 계약은 saveAllIgnoringDuplicates와 같다.
+    List<AuthError> copyAllIgnoringDuplicates(List<AuthError> authErrors, OffsetDateTime now);
+
+    List<AuthError> findAllByDedupKeyIn(Collection<String> dedupKeys);
+
+    /*
+     * 단일 statement 적재: dedup 확인 + auth_error INSERT + outbox INSERT를 data-modifying CTE 한 번으로 처리한다.
+     * outboxTemplate의 aggregateId/payload/idempotencyKey에 든 idPlaceholder는 DB가 발급한 authErrorId로 치환된다.
+     * 결과를 한 statement 안에서 확정할 수 없으면(동시 적재 등) empty를 돌려준다. 호출자는 JPA 경로로 처리한다.
+     */
+    Optional<AuthErrorIngestRow> insertWithOutbox(AuthError authError, OutboxEnqueueCommand outboxTemplate,
+                                                  String idPlaceholder, OffsetDateTime now);
 }
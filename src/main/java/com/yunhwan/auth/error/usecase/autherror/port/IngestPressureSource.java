@@ -0,0 +1,8 @@
+package com.yunhwan.auth.error.usecase.autherror.port;
+
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestPressureSignals;
+
+public interface IngestPressureSource {
+
+    IngestPressureSignals current();
+}
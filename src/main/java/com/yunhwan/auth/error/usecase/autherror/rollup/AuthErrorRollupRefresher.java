@@ -0,0 +1,85 @@
+package com.yunhwan.auth.error.usecase.autherror.rollup;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorRollupRefreshResult;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorRollupStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * AuthErrorRollupRefresher
+ * <p>
+ * 역할:
+ * - auth_error INSERT trigger가 쌓은 auth_error_rollup_delta를 진단 rollup 테이블에 더하고 비웁니다. (V20)
+ * - 진단 view는 rollup + 남은 delta를 함께 집계하므로, 반영이 늦어져도 결과는 같고 조회 비용만 늘어납니다.
+ * - 배치마다 commit 합니다. 실패한 배치는 롤백되어 delta가 그대로 남고 다음 주기에 다시 반영됩니다.
+ */
+@Slf4j
+@Service
+public class AuthErrorRollupRefresher {
+
+    private final AuthErrorRollupStore rollupStore;
+    private final AuthErrorProperties.Rollup props;
+    private final Counter foldedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public AuthErrorRollupRefresher(
+            AuthErrorRollupStore rollupStore,
+            AuthErrorProperties authErrorProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.rollupStore = rollupStore;
+        this.props = authErrorProperties.getRollup();
+        this.foldedCounter = counter(meterRegistry, "folded");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder(UsecaseMetrics.METRIC_ROLLUP_REFRESH_BATCH)
+                .register(meterRegistry);
+    }
+
+    public AuthErrorRollupRefreshResult refreshOnce() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        int maxBatches = Math.max(1, props.getMaxBatchesPerRun());
+
+        long folded = 0;
+        int batches = 0;
+        boolean completed = false;
+        while (batches < maxBatches) {
+            int batchFolded;
+            Timer.Sample sample = Timer.start();
+            try {
+                batchFolded = rollupStore.foldPending(batchSize);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("[auth-error-rollup] fold failed. foldedSoFar={}", folded, e);
+                break;
+            } finally {
+                sample.stop(batchTimer);
+            }
+            batches++;
+            folded += batchFolded;
+            foldedCounter.increment(batchFolded);
+
+            // 덜 찼으면 남은 delta가 없다. (다른 인스턴스가 반영 중이어도 0이 온다)
+            if (batchFolded < batchSize) {
+                completed = true;
+                break;
+            }
+        }
+
+        if (folded > 0) {
+            log.debug("[auth-error-rollup] folded={}, batches={}, completed={}", folded, batches, completed);
+        }
+        return new AuthErrorRollupRefreshResult(folded, batches, completed);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_ROLLUP_REFRESH)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.yunhwan.auth.error.usecase.autherror.stacktrace;
+
+import com.yunhwan.auth.error.common.hash.Sha256Hasher;
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStacktraceStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * stacktrace 분리 저장(내용 주소) 쓰기/읽기.
+ *
+ * - externalize: 원문 전체의 SHA-256을 trace_hash로 삼아 auth_error_stacktrace에 한 번만 저장하고,
+ *   auth_error에는 stacktrace_hash만 남긴다. 캐시에 있는 trace_hash는 이미 저장된 것이므로 INSERT를 생략한다.
+ * - resolve: auth_error.stacktrace가 있으면 그대로(분리 이전 행), 없으면 캐시 → 저장소 순으로 원문을 찾는다.
+ *
+ * 캐시는 커밋 이후에만 채운다. (롤백된 trace_hash를 저장된 것으로 착각하지 않도록)
+ * 비활성이면 externalize는 아무것도 하지 않는다. resolve는 설정과 관계없이 두 형태를 모두 읽는다.
+ */
+@Component
+public class AuthErrorStacktraceService {
+
+    private final boolean enabled;
+    private final AuthErrorStacktraceStore store;
+    private final DecompressedStacktraceCache cache;
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter writeInsertCounter;
+    private final Counter writeCachedCounter;
+
+    public AuthErrorStacktraceService(
+            AuthErrorStacktraceStore store,
+            AuthErrorProperties authErrorProperties,
+            MeterRegistry meterRegistry
+    ) {
+        AuthErrorProperties.StacktraceStore props = authErrorProperties.getStacktraceStore();
+        this.enabled = props.isEnabled();
+        this.store = store;
+        this.cache = new DecompressedStacktraceCache(props.getCacheMaxEntries());
+
+        this.cacheHitCounter = counter(meterRegistry, UsecaseMetrics.METRIC_STACKTRACE_STORE_CACHE, "hit");
+        this.cacheMissCounter = counter(meterRegistry, UsecaseMetrics.METRIC_STACKTRACE_STORE_CACHE, "miss");
+        this.writeInsertCounter = counter(meterRegistry, UsecaseMetrics.METRIC_STACKTRACE_STORE_WRITE, "insert");
+        this.writeCachedCounter = counter(meterRegistry, UsecaseMetrics.METRIC_STACKTRACE_STORE_WRITE, "cached");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * INSERT 전의 auth_error들의 stacktrace를 분리 저장하고 참조로 바꾼다. 호출자 트랜잭션 안에서 실행한다.
+     */
+    public void externalize(Collection<AuthError> authErrors, OffsetDateTime now) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, String> toSave = new LinkedHashMap<>();
+        for (AuthError authError : authErrors) {
+            String stacktrace = authError.getStacktrace();
+            if (stacktrace == null) {
+                continue;
+            }
+            String traceHash = Sha256Hasher.hex(stacktrace);
+            authError.externalizeStacktrace(traceHash);
+            if (cache.get(traceHash) != null) {
+                writeCachedCounter.increment();
+            } else if (toSave.putIfAbsent(traceHash, stacktrace) == null) {
+                writeInsertCounter.increment();
+            }
+        }
+        if (toSave.isEmpty()) {
+            return;
+        }
+        store.saveAllIfAbsent(toSave, now);
+        rememberAfterCommit(toSave);
+    }
+
+    /**
+     * auth_error의 stacktrace 원문. 분리 저장된 원문을 찾을 수 없으면 null.
+     */
+    public String resolve(AuthError authError) {
+        if (authError.getStacktrace() != null || authError.getStacktraceHash() == null) {
+            return authError.getStacktrace();
+        }
+        String traceHash = authError.getStacktraceHash();
+        String cached = cache.get(traceHash);
+        if (cached != null) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+        cacheMissCounter.increment();
+        return store.findByHash(traceHash)
+                .map(stacktrace -> {
+                    cache.putAll(Map.of(traceHash, stacktrace));
+                    return stacktrace;
+                })
+                .orElse(null);
+    }
+
+    private void rememberAfterCommit(Map<String, String> stacktraceByHash) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.putAll(stacktraceByHash);
+                }
+            });
+            return;
+        }
+        cache.putAll(stacktraceByHash);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(name)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
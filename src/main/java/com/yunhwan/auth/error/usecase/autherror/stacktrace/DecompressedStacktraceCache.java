@@ -0,0 +1,44 @@
+package com.yunhwan.auth.error.usecase.autherror.stacktrace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * trace_hash → 해제된 원문 LRU 캐시.
+ * 내용 주소라 값이 바뀌지 않으므로 TTL 없이 크기만 제한한다.
+ * (synchronized 대신 ReentrantLock: virtual thread pinning 방지)
+ */
+final class DecompressedStacktraceCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, String> entries;
+
+    DecompressedStacktraceCache(int maxEntries) {
+        int capacity = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    String get(String traceHash) {
+        lock.lock();
+        try {
+            return entries.get(traceHash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void putAll(Map<String, String> stacktraceByHash) {
+        lock.lock();
+        try {
+            entries.putAll(stacktraceByHash);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
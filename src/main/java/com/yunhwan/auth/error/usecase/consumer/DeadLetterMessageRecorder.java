@@ -3,6 +3,7 @@ package com.yunhwan.auth.error.usecase.consumer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.common.hash.Sha256Hasher;
 import com.yunhwan.auth.error.domain.consumer.DeadLetterReasonCode;
 import com.yunhwan.auth.error.domain.consumer.DeadLetterMessage;
 import com.yunhwan.auth.error.domain.consumer.ReplayStatus;
@@ -17,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -213,17 +212,7 @@ public class DeadLetterMessageRecorder {
     }
 
     private String sha256(String value) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(nullToEmpty(value).getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(hash.length * 2);
-            for (byte b : hash) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
-        }
+        return Sha256Hasher.hex(nullToEmpty(value));
     }
 
     private Long asLong(Object value) {
@@ -0,0 +1,133 @@
+package com.yunhwan.auth.error.usecase.consumer;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionBatch;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionCursor;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionResult;
+import com.yunhwan.auth.error.usecase.consumer.port.ProcessedMessageStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProcessedMessageCompactor
+ * <p>
+ * 역할:
+ * - consumer 멱등성 원장(processed_message)의 DONE 행을, 같은 메시지가 다시 전달될 수 있는 기간이 지나면 지웁니다.
+ *   ensureRowExists/claimProcessingUpdate가 다루는 테이블/인덱스를 작게 유지합니다.
+ * - 기준: processed_at < now - (redeliveryHorizon + marginSeconds)
+ * - (processed_at, outbox_id) keyset 순서로 작은 배치를 돌고, 배치 사이에 쉬어 consumer 경로와 I/O를 나눠 씁니다.
+ * <p>
+ * 안전 조건 (저장소가 statement 안에서 확인):
+ * - outbox_message가 아직 PUBLISHED가 아니면 남깁니다. (outbox 재발행으로 다시 전달될 수 있음)
+ * - 대기 중(PENDING/PROCESSING)인 retry 발행 요청이 있으면 남깁니다.
+ * - DEAD 행은 DLQ 조사용으로 남깁니다.
+ */
+@Slf4j
+@Service
+public class ProcessedMessageCompactor {
+
+    private final ProcessedMessageStore processedMessageStore;
+    private final AuthErrorProperties.ProcessedMessageCompaction props;
+    private final Clock clock;
+    private final Counter deletedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public ProcessedMessageCompactor(
+            ProcessedMessageStore processedMessageStore,
+            AuthErrorProperties authErrorProperties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.processedMessageStore = processedMessageStore;
+        this.props = authErrorProperties.getProcessedMessageCompaction();
+        this.clock = clock;
+        this.deletedCounter = counter(meterRegistry, "deleted");
+        this.skippedCounter = counter(meterRegistry, "skipped_unpublished");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder(UsecaseMetrics.METRIC_PROCESSED_MESSAGE_COMPACTION_BATCH)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param redeliveryHorizon broker가 같은 메시지를 다시 전달할 수 있는 최대 지연 (가장 긴 retry TTL)
+     */
+    public ProcessedMessageCompactionResult compactOnce(Duration redeliveryHorizon) {
+        int batchSize = Math.max(1, props.getBatchSize());
+        int maxBatches = Math.max(1, props.getMaxBatchesPerRun());
+        OffsetDateTime processedBefore = OffsetDateTime.now(clock)
+                .minus(redeliveryHorizon)
+                .minusSeconds(Math.max(0, props.getMarginSeconds()));
+
+        ProcessedMessageCompactionCursor cursor = ProcessedMessageCompactionCursor.START;
+        long deleted = 0;
+        long skipped = 0;
+        int batches = 0;
+        boolean completed = false;
+        while (batches < maxBatches) {
+            ProcessedMessageCompactionBatch batch;
+            Timer.Sample sample = Timer.start();
+            try {
+                batch = processedMessageStore.compactDone(processedBefore, cursor, batchSize);
+            } catch (RuntimeException e) {
+                // 지운 배치는 이미 commit 됐다. 남은 행은 다음 주기에 처음부터 다시 검사한다.
+                failedCounter.increment();
+                log.error("[processed-message-compaction] batch failed. cursor={}", cursor, e);
+                break;
+            } finally {
+                sample.stop(batchTimer);
+            }
+            batches++;
+            deleted += batch.deleted();
+            skipped += batch.skipped();
+            deletedCounter.increment(batch.deleted());
+            skippedCounter.increment(batch.skipped());
+            cursor = batch.next();
+
+            if (batch.scanned() < batchSize) {
+                completed = true;
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        ProcessedMessageCompactionResult result = new ProcessedMessageCompactionResult(deleted, skipped, batches, completed);
+        if (deleted > 0 || skipped > 0) {
+            log.info("[processed-message-compaction] processedBefore={}, deleted={}, skipped={}, batches={}, completed={}",
+                    processedBefore, deleted, skipped, batches, completed);
+        }
+        return result;
+    }
+
+    private boolean pause() {
+        long pauseMs = props.getPauseBetweenBatchesMs();
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_PROCESSED_MESSAGE_COMPACTION)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,17 +27,22 @@ public class RetryPublishRequestProcessor {
     private final Clock clock;
 
     public int process(String owner, List<RetryPublishRequest> claimed) {
+        if (claimed.isEmpty()) return 0;
+
+        // 배치를 연달아 보내고 confirm은 한 번에 기다린 뒤, 요청별로 마감한다.
+        Map<Long, Exception> failures = publisher.publishAll(claimed);
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
         int affected = 0;
         for (RetryPublishRequest request : claimed) {
-            OffsetDateTime now = OffsetDateTime.now(clock);
-            try {
-                publisher.publish(request);
-                affected += store.markPublished(request.getId(), owner, now);
-                log.info("[RetryPublishRequest] published. id={}, outboxId={}, eventType={}, retryCount={}",
-                        request.getId(), request.getSourceOutboxId(), request.getEventType(), request.getRetryCount());
-            } catch (Exception e) {
+            Exception e = failures.get(request.getId());
+            if (e != null) {
                 affected += handleFailure(owner, request, now, e);
+                continue;
             }
+            affected += store.markPublished(request.getId(), owner, now);
+            log.info("[RetryPublishRequest] published. id={}, outboxId={}, eventType={}, retryCount={}",
+                    request.getId(), request.getSourceOutboxId(), request.getEventType(), request.getRetryCount());
         }
         return affected;
     }
@@ -0,0 +1,14 @@
+package com.yunhwan.auth.error.usecase.consumer.dto;
+
+/**
+ * @param scanned 검사한 DONE 행 수
+ * @param deleted 지운 행 수
+ * @param next    다음 배치 시작 위치 (scanned == 0이면 입력 cursor 그대로)
+ */
+public record ProcessedMessageCompactionBatch(int scanned, int deleted, ProcessedMessageCompactionCursor next) {
+
+    /** outbox가 아직 PUBLISHED가 아니거나 대기 중인 retry 발행 요청이 있어 남긴 행 수 */
+    public int skipped() {
+        return scanned - deleted;
+    }
+}
@@ -0,0 +1,13 @@
+package com.yunhwan.auth.error.usecase.consumer.dto;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * processed_message 정리 위치. (processed_at, outbox_id) 순서에서 이 위치 이후부터 검사한다.
+ */
+public record ProcessedMessageCompactionCursor(OffsetDateTime processedAt, long outboxId) {
+
+    public static final ProcessedMessageCompactionCursor START =
+            new ProcessedMessageCompactionCursor(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 0L);
+}
@@ -0,0 +1,4 @@
+package com.yunhwan.auth.error.usecase.consumer.dto;
+
+public record ProcessedMessageCompactionResult(long deleted, long skipped, int batches, boolean completed) {
+}
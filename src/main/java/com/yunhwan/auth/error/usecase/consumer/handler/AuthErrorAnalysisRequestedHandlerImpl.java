@@ -2,6 +2,7 @@ package com.yunhwan.auth.error.usecase.consumer.handler;
 
 import com.yunhwan.auth.error.common.exception.NonRetryableAuthErrorException;
 import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
 import com.yunhwan.auth.error.usecase.autherror.analysis.AuthErrorAnalysisService;
 import com.yunhwan.auth.error.usecase.autherror.cluster.AuthErrorClusterLinker;
 import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorAnalysisRequestedPayload;
@@ -12,13 +13,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Component("authErrorAnalysisRequestedHandler")
 @RequiredArgsConstructor
 public class AuthErrorAnalysisRequestedHandlerImpl implements AuthErrorHandler{
 
+    /** 분석 가능한 상태: terminal이 아니고 아직 분석을 마치지 않은 상태 */
+    private static final Set<AuthErrorStatus> ANALYZABLE =
+            EnumSet.of(AuthErrorStatus.NEW, AuthErrorStatus.RETRY, AuthErrorStatus.ANALYSIS_REQUESTED);
+
     private final AuthErrorStore authErrorStore;
     private final AuthErrorAnalysisService analysisService;
     private final AuthErrorClusterLinker clusterLinker;
@@ -34,27 +41,31 @@ public class AuthErrorAnalysisRequestedHandlerImpl implements AuthErrorHandler{
 
         AuthErrorAnalysisRequestedPayload parsed = parser.parse(payload, outboxId);
 
-        AuthError authError = authErrorStore.findById(parsed.authErrorId())
-                .orElseThrow(() ->
-                        new NonRetryableAuthErrorException(
-                                "authError not found id=" + parsed.authErrorId()));
+        Long authErrorId = parsed.authErrorId();
 
-        //  PROCESSED, FAILED, RESOLVED, IGNORED
-        if (authError.getStatus().isTerminal()) {
+        // 0) 처리 완료(PROCESSED)로 확정하지 말고, "분석 완료"로만 둔다. 상태 CAS로 먼저 선점한다.
+        //    (분석/cluster 단계가 실패하면 함께 롤백된다. 동시 재전달은 행 잠금 뒤 0건이 되어 중복 분석하지 않는다)
+        int transitioned = authErrorStore.transition(authErrorId, parsed.occurredAt(), ANALYZABLE,
+                AuthErrorStatus.ANALYSIS_COMPLETED, null);
+        if (transitioned == 0) {
+            //  PROCESSED, FAILED, RESOLVED, IGNORED 또는 이미 분석 완료
+            AuthErrorStatus status = authErrorStore.findStatus(authErrorId, parsed.occurredAt())
+                    .orElseThrow(() ->
+                            new NonRetryableAuthErrorException(
+                                    "authError not found id=" + authErrorId));
+            log.info("[AuthErrorHandler] already analyzed/terminal -> skip. authErrorId={}, status={}, outboxId={}",
+                    authErrorId, status, outboxId);
             return;
         }
 
         // 1) 분석 수행 + 결과 저장 (여기까지가 analysis 단계의 책임)
-        analysisService.analyzeAndSave(authError.getId());
+        AuthError analyzed = analysisService.analyzeAndSave(authErrorId);
 
         // 2) Step2: stack_hash 기반 cluster upsert + link
-        clusterLinker.link(authError.getId(), authError.getStackHash());
-
-        // 3) 처리 완료(PROCESSED)로 확정하지 말고, "분석 완료"로만 둔다
-        authError.markAnalysisCompleted();
+        clusterLinker.link(authErrorId, analyzed.getStackHash());
 
         log.info("[AuthErrorHandler] analysis completed. authErrorId={}, outboxId={}",
-                authError.getId(), outboxId);
+                authErrorId, outboxId);
     }
 
     private Long requireLong(Map<String, Object> headers, String key) {
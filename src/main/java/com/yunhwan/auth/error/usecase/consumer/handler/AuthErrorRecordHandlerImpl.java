@@ -2,7 +2,6 @@ package com.yunhwan.auth.error.usecase.consumer.handler;
 
 import com.yunhwan.auth.error.common.exception.NonRetryableAuthErrorException;
 import com.yunhwan.auth.error.common.exception.RetryableAuthErrorException;
-import com.yunhwan.auth.error.domain.autherror.AuthError;
 import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.domain.outbox.descriptor.OutboxEventDescriptor;
@@ -21,7 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -29,6 +30,10 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class AuthErrorRecordHandlerImpl implements AuthErrorHandler {
 
+    /** analysis 요청이 가능한 상태: terminal이 아니고 아직 요청하지 않은 상태 */
+    private static final Set<AuthErrorStatus> ANALYSIS_REQUESTABLE =
+            EnumSet.of(AuthErrorStatus.NEW, AuthErrorStatus.RETRY, AuthErrorStatus.ANALYSIS_COMPLETED);
+
     private final AuthErrorStore authErrorStore;
     private final AuthErrorPayloadParser payloadParser;
     private final OutboxWriter outboxWriter;
@@ -61,29 +66,32 @@ public class AuthErrorRecordHandlerImpl implements AuthErrorHandler {
             throw new NonRetryableAuthErrorException("invalid payload. outboxId=" + outboxId, e);
         }
 
-        // 2) 대상 도메인 없으면 재시도 의미 없음
-        AuthError authError = recordTimer(
-                UsecaseMetrics.METRIC_RECORDED_HANDLER_AUTH_ERROR_LOOKUP,
-                eventType,
-                () -> authErrorStore.findById(payload.authErrorId())
-                        .orElseThrow(() -> new NonRetryableAuthErrorException(
-                                "auth_error not found. authErrorId=" + payload.authErrorId() + ", outboxId=" + outboxId
-                        ))
-        );
-
-        // 3) 멱등 가드: terminal 또는 이미 analysis 요청한 건 예외 없이 종료(=성공 취급)
-        AuthErrorStatus status = recordTimer(
+        // 2) 멱등 가드 겸 상태 전이: 요청 가능한 상태일 때만 ANALYSIS_REQUESTED로 바꾼다. (엔티티 로딩 없이 CAS UPDATE 한 번)
+        //    행 잠금은 커밋까지 유지되므로 같은 이벤트를 동시에 받은 consumer 중 한쪽만 아래 처리로 넘어간다.
+        Long authErrorId = payload.authErrorId();
+        int transitioned = recordTimer(
                 UsecaseMetrics.METRIC_RECORDED_HANDLER_IDEMPOTENCY_GUARD,
                 eventType,
-                authError::getStatus
+                () -> authErrorStore.transition(authErrorId, payload.occurredAt(), ANALYSIS_REQUESTABLE,
+                        AuthErrorStatus.ANALYSIS_REQUESTED, null)
         );
-        if (status != null && (status.isTerminal() || status == AuthErrorStatus.ANALYSIS_REQUESTED)) {
+
+        // 3) 전이 실패: 대상 도메인 없으면 재시도 의미 없음, terminal 또는 이미 analysis 요청한 건 예외 없이 종료(=성공 취급)
+        if (transitioned == 0) {
+            AuthErrorStatus status = recordTimer(
+                    UsecaseMetrics.METRIC_RECORDED_HANDLER_AUTH_ERROR_LOOKUP,
+                    eventType,
+                    () -> authErrorStore.findStatus(authErrorId, payload.occurredAt())
+                            .orElseThrow(() -> new NonRetryableAuthErrorException(
+                                    "auth_error not found. authErrorId=" + authErrorId + ", outboxId=" + outboxId
+                            ))
+            );
             log.info("[AuthErrorHandler] already requested/terminal -> skip. authErrorId={}, status={}, outboxId={}",
-                    authError.getId(), status, outboxId);
+                    authErrorId, status, outboxId);
             return;
         }
 
-        // 4) 비즈니스 처리
+        // 4) 비즈니스 처리 (실패하면 위 전이도 함께 롤백된다)
         try {
             // ==========================
             // TODO: 실제 비즈니스 처리
@@ -92,7 +100,7 @@ public class AuthErrorRecordHandlerImpl implements AuthErrorHandler {
             OffsetDateTime now = OffsetDateTime.now(clock);
 
             AuthErrorAnalysisRequestedPayload analysisPayload = new AuthErrorAnalysisRequestedPayload(
-                    payload.authErrorId(),
+                    authErrorId,
                     payload.requestId(),
                     payload.occurredAt(),
                     now
@@ -103,20 +111,17 @@ public class AuthErrorRecordHandlerImpl implements AuthErrorHandler {
                     eventType,
                     () -> outboxWriter.enqueue(
                             analysisRequestedDescriptor,
-                            String.valueOf(payload.authErrorId()), // aggregateId
+                            String.valueOf(authErrorId), // aggregateId
                             analysisPayload
                     )
             );
 
-            // 요청 상태
-            authError.markAnalysisRequested();
-
             log.info("[AuthErrorHandler] analysis requested. authErrorId={}, outboxId={}, analysisOutboxId={}",
-                    authError.getId(), outboxId, outbox.getId());
+                    authErrorId, outboxId, outbox.getId());
 
         } catch (IllegalArgumentException e) {
             // 입력/검증 실패: 재시도 의미 없음
-            authError.markFailed("non-retryable: " + safeMsg(e));
+            markFrom(authErrorId, payload.occurredAt(), AuthErrorStatus.FAILED, "non-retryable: " + safeMsg(e));
             throw new NonRetryableAuthErrorException("non-retryable failure. outboxId=" + outboxId, e);
 
         } catch (NonRetryableAuthErrorException | RetryableAuthErrorException e) {
@@ -125,11 +130,15 @@ public class AuthErrorRecordHandlerImpl implements AuthErrorHandler {
 
         } catch (Exception e) {
             // 외부 연동/일시 장애 등: 재시도 대상
-            authError.markRetry(); // 시간 없이 상태만
+            markFrom(authErrorId, payload.occurredAt(), AuthErrorStatus.RETRY, null); // 시간 없이 상태만
             throw new RetryableAuthErrorException("retryable failure. outboxId=" + outboxId, e);
         }
     }
 
+    private void markFrom(Long authErrorId, OffsetDateTime occurredAt, AuthErrorStatus to, String note) {
+        authErrorStore.transition(authErrorId, occurredAt, EnumSet.of(AuthErrorStatus.ANALYSIS_REQUESTED), to, note);
+    }
+
     private Long requireLong(Map<String, Object> headers, String key) {
         Object v = headers.get(key);
         if (v == null) {
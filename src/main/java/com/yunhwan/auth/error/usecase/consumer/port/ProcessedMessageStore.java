@@ -2,6 +2,8 @@ package com.yunhwan.auth.error.usecase.consumer.port;
 
 import com.yunhwan.auth.error.domain.consumer.ProcessedMessage;
 import com.yunhwan.auth.error.domain.consumer.ProcessedStatus;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionBatch;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionCursor;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -44,4 +46,10 @@ public interface ProcessedMessageStore {
     int markDeadFromRetryPublishRequest(long outboxId, OffsetDateTime now, String lastError);
 
     Optional<ProcessedStatus> findStatusByOutboxId(long outboxId);
+
+    /**
+     * processedBefore 이전에 DONE 된 행을 after 이후부터 (processed_at, outbox_id) 순으로 최대 limit건 검사해 지운다.
+     * outbox_message가 아직 PUBLISHED가 아니거나 대기 중인 retry 발행 요청이 있는 행은 남긴다. (다시 전달될 수 있음)
+     */
+    ProcessedMessageCompactionBatch compactDone(OffsetDateTime processedBefore, ProcessedMessageCompactionCursor after, int limit);
 }
@@ -2,6 +2,23 @@ package com.yunhwan.auth.error.usecase.consumer.port;
 
 import com.yunhwan.auth.error.domain.consumer.RetryPublishRequest;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface RetryPublishRequestPublisher {
     void publish(RetryPublishRequest request) throws Exception;
+
+    // 실패한 요청만 id -> 예외로 돌려준다. (기본 구현은 한 건씩 발행)
+    default Map<Long, Exception> publishAll(List<RetryPublishRequest> requests) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (RetryPublishRequest request : requests) {
+            try {
+                publish(request);
+            } catch (Exception e) {
+                failures.put(request.getId(), e);
+            }
+        }
+        return failures;
+    }
 }
@@ -6,12 +6,44 @@ public final class UsecaseMetrics {
     }
 
     public static final String METRIC_INGEST_TRANSACTION = "auth_error_ingest_transaction";
+    public static final String METRIC_INGEST_BATCH_TRANSACTION = "auth_error_ingest_batch_transaction";
+    public static final String METRIC_INGEST_BULK_TRANSACTION = "auth_error_ingest_bulk_transaction";
+    public static final String METRIC_INGEST_GROUP_COMMIT_BATCH_SIZE = "auth_error.ingest.group_commit.batch_size";
+    public static final String METRIC_INGEST_GROUP_COMMIT_QUEUE_WAIT = "auth_error.ingest.group_commit.queue_wait";
+    public static final String METRIC_INGEST_GROUP_COMMIT_FALLBACK = "auth_error.ingest.group_commit.fallback";
+    public static final String METRIC_INGEST_SINGLE_STATEMENT_FALLBACK = "auth_error.ingest.single_statement.fallback";
+    public static final String METRIC_INGEST_DEDUP_CACHE = "auth_error.ingest.dedup_cache";
+    public static final String METRIC_INGEST_DEDUP_CACHE_SIZE = "auth_error.ingest.dedup_cache.size";
+    public static final String METRIC_INGEST_DEDUP_FILTER = "auth_error.ingest.dedup_filter";
+    public static final String METRIC_INGEST_BULKHEAD_WAIT = "auth_error.ingest.bulkhead.wait";
+    public static final String METRIC_INGEST_BULKHEAD_ACTIVE = "auth_error.ingest.bulkhead.active";
+    public static final String METRIC_INGEST_BULKHEAD_QUEUED = "auth_error.ingest.bulkhead.queued";
+    public static final String METRIC_INGEST_ADMISSION = "auth_error.ingest.admission";
+    public static final String METRIC_INGEST_ADMISSION_PRESSURE = "auth_error.ingest.admission.pressure";
+    public static final String METRIC_INGEST_JOURNAL_DRAIN = "auth_error.ingest.journal.drain";
+    public static final String METRIC_STACKTRACE_STORE_CACHE = "auth_error.stacktrace_store.cache";
+    public static final String METRIC_STACKTRACE_STORE_WRITE = "auth_error.stacktrace_store.write";
+    public static final String METRIC_PARTITION_MAINTENANCE = "auth_error.partition.maintenance";
+    public static final String METRIC_PROCESSED_MESSAGE_COMPACTION = "auth_error.processed_message.compaction";
+    public static final String METRIC_PROCESSED_MESSAGE_COMPACTION_BATCH = "auth_error.processed_message.compaction.batch";
+    public static final String METRIC_ROLLUP_REFRESH = "auth_error.rollup.refresh";
+    public static final String METRIC_ROLLUP_REFRESH_BATCH = "auth_error.rollup.refresh.batch";
     public static final String METRIC_OUTBOX_POLLER_CLAIM = "auth_error_outbox_poller_claim";
+    public static final String METRIC_OUTBOX_POLLER_BATCH_SIZE = "auth_error.outbox.poller.batch_size";
+    public static final String METRIC_OUTBOX_POLLER_LOOP = "auth_error.outbox.poller.loop";
+    public static final String METRIC_OUTBOX_POLLER_BATCH_DECREASE = "auth_error.outbox.poller.batch_decrease";
     public static final String METRIC_OUTBOX_PUBLISH = "auth_error_outbox_publish";
+    public static final String METRIC_OUTBOX_PUBLISH_BATCH = "auth_error_outbox_publish_batch";
+    public static final String METRIC_OUTBOX_RELAY_PARTITIONS_OWNED = "auth_error.outbox.relay.partitions_owned";
+    public static final String METRIC_OUTBOX_NOTIFY_RECONNECT = "auth_error.outbox.notify.reconnect";
+    public static final String METRIC_OUTBOX_RETENTION = "auth_error.outbox.retention";
     public static final String METRIC_RECORDED_HANDLER_PAYLOAD_PARSE = "auth_error.recorded.handler.payload_parse";
     public static final String METRIC_RECORDED_HANDLER_AUTH_ERROR_LOOKUP = "auth_error.recorded.handler.auth_error_lookup";
     public static final String METRIC_RECORDED_HANDLER_IDEMPOTENCY_GUARD = "auth_error.recorded.handler.idempotency_guard";
     public static final String METRIC_RECORDED_HANDLER_OUTBOX_ENQUEUE_TOTAL = "auth_error.recorded.handler.outbox_enqueue";
 
     public static final String TAG_EVENT_TYPE = "event_type";
+    public static final String TAG_REASON = "reason";
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_SEVERITY = "severity";
 }
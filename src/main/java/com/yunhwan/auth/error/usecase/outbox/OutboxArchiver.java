@@ -0,0 +1,178 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxArchiveBatchResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRetentionResult;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxArchiveStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.SortedSet;
+
+/**
+ * OutboxArchiver
+ * <p>
+ * 역할:
+ * - 발행이 끝난(PUBLISHED/DEAD) 행을 archiveAfterHours가 지나면 outbox_message에서 archive로 옮깁니다.
+ *   hot 테이블(claimBatch, ix_outbox_polling)은 미처리 + 최근 행만 유지합니다.
+ * - archive는 created_at 일 단위 파티션이며, archiveRetentionDays가 지난 파티션은 통째로 drop 합니다.
+ * <p>
+ * 멱등성:
+ * - archive 전까지는 ON CONFLICT (idempotency_key_hash)가 그대로 중복 적재를 막습니다.
+ *   (idempotency_key의 sha256 generated column, unique index ux_outbox_idempotency_key_hash - V17)
+ * - archive 이후의 멱등성 키 조회(중복 요청 응답)는 archive에서 이어서 찾습니다. (AuthErrorWriter)
+ */
+@Slf4j
+@Service
+public class OutboxArchiver {
+
+    private final OutboxArchiveStore archiveStore;
+    private final OutboxProperties.Retention props;
+    private final Clock clock;
+    private final Counter archivedCounter;
+    private final Counter expiredCounter;
+    private final Counter partitionCreatedCounter;
+    private final Counter partitionDroppedCounter;
+    private final Counter failedCounter;
+
+    public OutboxArchiver(
+            OutboxArchiveStore archiveStore,
+            OutboxProperties outboxProperties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.archiveStore = archiveStore;
+        this.props = outboxProperties.getRetention();
+        this.clock = clock;
+        this.archivedCounter = counter(meterRegistry, "archived");
+        this.expiredCounter = counter(meterRegistry, "expired");
+        this.partitionCreatedCounter = counter(meterRegistry, "partition_created");
+        this.partitionDroppedCounter = counter(meterRegistry, "partition_dropped");
+        this.failedCounter = counter(meterRegistry, "failed");
+    }
+
+    public OutboxRetentionResult runOnce() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        LocalDate today = now.atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        int retentionDays = Math.max(0, props.getArchiveRetentionDays());
+        LocalDate firstKeptDay = today.minusDays(retentionDays);
+        // 보존 0일: archive 없이 지우기만 한다.
+        OffsetDateTime expireBefore = retentionDays == 0
+                ? now
+                : OffsetDateTime.of(firstKeptDay.atStartOfDay(), ZoneOffset.UTC);
+
+        Tally tally = new Tally();
+        maintainPartitions(today, firstKeptDay, retentionDays, expireBefore, tally);
+        archive(now, expireBefore, tally);
+
+        OutboxRetentionResult result = new OutboxRetentionResult(
+                tally.archived, tally.expired, tally.partitionsCreated, tally.partitionsDropped, tally.failed);
+        if (tally.archived > 0 || tally.expired > 0 || tally.partitionsDropped > 0 || tally.failed > 0) {
+            log.info("[outbox-retention] archived={}, expired={}, partitionsCreated={}, partitionsDropped={}, failed={}",
+                    result.archived(), result.expired(), result.partitionsCreated(), result.partitionsDropped(),
+                    result.failed());
+        }
+        return result;
+    }
+
+    private void maintainPartitions(LocalDate today, LocalDate firstKeptDay, int retentionDays,
+                                    OffsetDateTime expireBefore, Tally tally) {
+        SortedSet<LocalDate> existing;
+        try {
+            existing = archiveStore.findDailyPartitions();
+        } catch (RuntimeException e) {
+            tally.fail();
+            log.error("[outbox-retention] partition lookup failed", e);
+            return;
+        }
+
+        // archive 대상은 created_at <= now - archiveAfterHours 이므로 [firstKeptDay, today]면 충분하다.
+        if (retentionDays > 0) {
+            for (LocalDate day = firstKeptDay; !day.isAfter(today); day = day.plusDays(1)) {
+                if (existing.contains(day)) {
+                    continue;
+                }
+                try {
+                    if (archiveStore.createDailyPartition(day)) {
+                        tally.partitionsCreated++;
+                        partitionCreatedCounter.increment();
+                    }
+                } catch (RuntimeException e) {
+                    tally.fail();
+                    log.error("[outbox-retention] partition create failed. day={}", day, e);
+                }
+            }
+        }
+
+        for (LocalDate day : existing.headSet(firstKeptDay)) {
+            try {
+                if (archiveStore.dropDailyPartition(day)) {
+                    tally.partitionsDropped++;
+                    partitionDroppedCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                tally.fail();
+                log.error("[outbox-retention] partition drop failed. day={}", day, e);
+            }
+        }
+
+        try {
+            int purged = archiveStore.purgeDefaultPartition(expireBefore);
+            tally.expired += purged;
+            expiredCounter.increment(purged);
+        } catch (RuntimeException e) {
+            tally.fail();
+            log.error("[outbox-retention] default partition purge failed", e);
+        }
+    }
+
+    private void archive(OffsetDateTime now, OffsetDateTime expireBefore, Tally tally) {
+        int batchSize = Math.max(1, props.getBatchSize());
+        OffsetDateTime terminalBefore = now.minusHours(Math.max(1, props.getArchiveAfterHours()));
+
+        for (int i = 0; i < Math.max(1, props.getMaxBatchesPerRun()); i++) {
+            OutboxArchiveBatchResult batch;
+            try {
+                batch = archiveStore.archiveTerminal(terminalBefore, expireBefore, batchSize, now);
+            } catch (RuntimeException e) {
+                // 같은 행은 다음 주기에 다시 시도한다.
+                tally.fail();
+                log.error("[outbox-retention] archive batch failed", e);
+                return;
+            }
+            tally.archived += batch.archived();
+            tally.expired += batch.expired();
+            archivedCounter.increment(batch.archived());
+            expiredCounter.increment(batch.expired());
+            if (batch.removed() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_OUTBOX_RETENTION)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    private final class Tally {
+        private long archived;
+        private long expired;
+        private int partitionsCreated;
+        private int partitionsDropped;
+        private int failed;
+
+        private void fail() {
+            failed++;
+            failedCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+/**
+ * outbox claim batch 크기의 AIMD 조절.
+ *
+ * - 정체(confirm timeout, Hikari 대기): current × decreaseFactor (min 이상)
+ * - 가득 찬 batch이고 publish 지연이 목표 이하: current + additiveStep (max 이하)
+ * - 그 외(덜 찬 batch, 지연 초과): 그대로
+ *
+ * relay 파티션 worker 여럿이 함께 갱신하므로 갱신은 synchronized, 읽기는 volatile.
+ */
+public class OutboxBatchSizer {
+
+    private final int min;
+    private final int max;
+    private final int additiveStep;
+    private final double decreaseFactor;
+    private final long latencyTargetMs;
+
+    private volatile int current;
+
+    public OutboxBatchSizer(int initial, int min, int max, int additiveStep, double decreaseFactor, long latencyTargetMs) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.additiveStep = Math.max(1, additiveStep);
+        this.decreaseFactor = Math.min(Math.max(decreaseFactor, 0.0), 1.0);
+        this.latencyTargetMs = latencyTargetMs;
+        this.current = clamp(initial);
+    }
+
+    public int current() {
+        return current;
+    }
+
+    public synchronized void onCongestion() {
+        current = clamp((int) Math.floor(current * decreaseFactor));
+    }
+
+    public synchronized void onBatch(int requested, int claimed, long publishLatencyMs) {
+        if (claimed >= requested && publishLatencyMs <= latencyTargetMs) {
+            current = clamp(current + additiveStep);
+        }
+    }
+
+    private int clamp(int size) {
+        return Math.min(max, Math.max(min, size));
+    }
+}
@@ -1,6 +1,7 @@
 package com.yunhwan.auth.error.usecase.outbox;
 
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
 import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,4 +22,9 @@ public class OutboxClaimer {
     public List<OutboxMessage> claimBatch(int batchSize, String owner, String scopePrefixOrNull) {
         return outboxMessageStore.claimBatch(batchSize, owner, OffsetDateTime.now(clock), scopePrefixOrNull);
     }
+
+    @Transactional
+    public List<OutboxMessage> claimPartition(int batchSize, String owner, OutboxRelayPartition partition) {
+        return outboxMessageStore.claimPartitionBatch(batchSize, owner, OffsetDateTime.now(clock), partition);
+    }
 }
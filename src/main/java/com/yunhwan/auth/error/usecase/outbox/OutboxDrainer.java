@@ -0,0 +1,162 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.usecase.autherror.port.IngestPressureSource;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxClaimResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxDrainResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxProcessResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * poller 한 주기: claim -> process 를 batch가 가득 차 있는 동안 쉬지 않고 반복한다.
+ * batch 크기는 OutboxBatchSizer(AIMD)가 정한다. (adaptive 비활성 시 고정 batch-size로 한 번만)
+ * 아무것도 못 가져온 drain은 가장 이른 재시도 대기 시각을 같이 돌려줘 scheduler가 idle backoff를 그 전까지로 자른다.
+ */
+@Slf4j
+@Service
+public class OutboxDrainer {
+
+    private final OutboxPoller poller;
+    private final OutboxProcessor processor;
+    private final IngestPressureSource pressureSource;
+    private final OutboxMessageStore outboxMessageStore;
+    private final Clock clock;
+    private final OutboxProperties.Poller props;
+    private final OutboxBatchSizer batchSizer;
+    private final Counter fullLoopCounter;
+    private final Counter partialLoopCounter;
+    private final Counter emptyLoopCounter;
+    private final Counter confirmTimeoutDecreaseCounter;
+    private final Counter dbPressureDecreaseCounter;
+
+    public OutboxDrainer(
+            OutboxPoller poller,
+            OutboxProcessor processor,
+            IngestPressureSource pressureSource,
+            OutboxMessageStore outboxMessageStore,
+            Clock clock,
+            OutboxProperties outboxProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.poller = poller;
+        this.processor = processor;
+        this.pressureSource = pressureSource;
+        this.outboxMessageStore = outboxMessageStore;
+        this.clock = clock;
+        this.props = outboxProperties.getPoller();
+
+        OutboxProperties.Adaptive adaptive = props.getAdaptive();
+        this.batchSizer = new OutboxBatchSizer(
+                props.getBatchSize(),
+                adaptive.getMinBatchSize(),
+                adaptive.getMaxBatchSize(),
+                adaptive.getAdditiveStep(),
+                adaptive.getDecreaseFactor(),
+                adaptive.getPublishLatencyTargetMs()
+        );
+
+        Gauge.builder(UsecaseMetrics.METRIC_OUTBOX_POLLER_BATCH_SIZE, this, OutboxDrainer::currentBatchSize)
+                .register(meterRegistry);
+        this.fullLoopCounter = loopCounter(meterRegistry, "full");
+        this.partialLoopCounter = loopCounter(meterRegistry, "partial");
+        this.emptyLoopCounter = loopCounter(meterRegistry, "empty");
+        this.confirmTimeoutDecreaseCounter = decreaseCounter(meterRegistry, "confirm_timeout");
+        this.dbPressureDecreaseCounter = decreaseCounter(meterRegistry, "db_pressure");
+    }
+
+    public int currentBatchSize() {
+        return props.getAdaptive().isEnabled() ? batchSizer.current() : props.getBatchSize();
+    }
+
+    public OutboxDrainResult drain() {
+        return drain(batchSize -> poller.pollOnce(null, batchSize));
+    }
+
+    /** relay 파티션 하나만 drain 한다. batch 크기 조절은 인스턴스 전체가 같이 쓴다. (정체 신호가 인스턴스 단위) */
+    public OutboxDrainResult drain(OutboxRelayPartition partition) {
+        return drain(batchSize -> poller.pollPartition(partition, batchSize));
+    }
+
+    private OutboxDrainResult drain(IntFunction<OutboxClaimResult> claim) {
+        boolean adaptive = props.getAdaptive().isEnabled();
+        int batches = 0;
+        int claimedTotal = 0;
+
+        while (true) {
+            int batchSize = currentBatchSize();
+            OutboxClaimResult result = claim.apply(batchSize);
+            List<OutboxMessage> claimed = result.claimed();
+            if (!claimed.isEmpty()) {
+                log.info("[outbox-poller] owner={} claimed {} messages. batchSize={}, ids={}",
+                        result.owner(),
+                        claimed.size(),
+                        batchSize,
+                        claimed.stream().map(OutboxMessage::getId).toList());
+            }
+
+            OutboxProcessResult processed = processor.processBatch(result.owner(), claimed);
+            batches++;
+            claimedTotal += claimed.size();
+
+            boolean full = claimed.size() >= batchSize;
+            (full ? fullLoopCounter : claimed.isEmpty() ? emptyLoopCounter : partialLoopCounter).increment();
+
+            if (!adaptive) {
+                break;
+            }
+            adjust(batchSize, claimed.size(), processed);
+            if (!full) {
+                break;
+            }
+        }
+        return new OutboxDrainResult(batches, claimedTotal, claimedTotal == 0 ? nextRetryIn() : null);
+    }
+
+    /** 파티션 drain도 전체에서 가장 이른 시각을 쓴다. (일찍 깨는 것은 빈 claim 한 번뿐이다) */
+    private Duration nextRetryIn() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        return outboxMessageStore.findEarliestRetryAfter(now)
+                .map(at -> Duration.between(now, at))
+                .orElse(null);
+    }
+
+    private void adjust(int requested, int claimed, OutboxProcessResult processed) {
+        if (processed.confirmTimeouts() > 0) {
+            batchSizer.onCongestion();
+            confirmTimeoutDecreaseCounter.increment();
+            return;
+        }
+        if (claimed > 0 && pressureSource.current().hikariPendingThreads() > props.getAdaptive().getHikariPendingThreshold()) {
+            batchSizer.onCongestion();
+            dbPressureDecreaseCounter.increment();
+            return;
+        }
+        batchSizer.onBatch(requested, claimed, processed.publishMillis());
+    }
+
+    private static Counter loopCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(UsecaseMetrics.METRIC_OUTBOX_POLLER_LOOP)
+                .tag(UsecaseMetrics.TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    private static Counter decreaseCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(UsecaseMetrics.METRIC_OUTBOX_POLLER_BATCH_DECREASE)
+                .tag(UsecaseMetrics.TAG_REASON, reason)
+                .register(meterRegistry);
+    }
+}
@@ -4,6 +4,7 @@ import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
 import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
 import com.yunhwan.auth.error.usecase.outbox.dto.OutboxClaimResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
 import com.yunhwan.auth.error.usecase.outbox.port.OwnerResolver;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -36,8 +37,12 @@ public class OutboxPoller {
 
     /** 한 번 돌 때: PENDING -> PROCESSING으로 "claim"만 한다 */
     public OutboxClaimResult pollOnce(String scopePrefixOrNull) {
+        return pollOnce(scopePrefixOrNull, props.getPoller().getBatchSize());
+    }
+
+    /** batch 크기를 호출자가 정한다. (OutboxDrainer의 AIMD 조절) */
+    public OutboxClaimResult pollOnce(String scopePrefixOrNull, int batchSize) {
         String owner = ownerResolver.resolve();
-        int batchSize = props.getPoller().getBatchSize();
 
         Timer.Sample sample = Timer.start(meterRegistry);
         List<OutboxMessage> claimed;
@@ -48,4 +53,18 @@ public class OutboxPoller {
         }
         return new OutboxClaimResult(owner, claimed);
     }
+
+    /** relay 파티션 하나에서 claim 한다. (OutboxRelayScheduler의 파티션 worker) */
+    public OutboxClaimResult pollPartition(OutboxRelayPartition partition, int batchSize) {
+        String owner = ownerResolver.resolve();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<OutboxMessage> claimed;
+        try {
+            claimed = outboxClaimer.claimPartition(batchSize, owner, partition);
+        } finally {
+            sample.stop(outboxPollerClaimTimer);
+        }
+        return new OutboxClaimResult(owner, claimed);
+    }
 }
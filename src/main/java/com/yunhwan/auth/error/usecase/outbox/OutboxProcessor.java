@@ -1,10 +1,13 @@
 package com.yunhwan.auth.error.usecase.outbox;
 
 import com.yunhwan.auth.error.common.exception.NonRetryablePublishException;
+import com.yunhwan.auth.error.common.exception.PublishConfirmTimeoutException;
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.domain.outbox.decision.OutboxDecision;
 import com.yunhwan.auth.error.usecase.consumer.policy.RetryPolicy;
 import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxFinalizeCommand;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxProcessResult;
 import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
 import com.yunhwan.auth.error.usecase.outbox.port.OutboxPublisher;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -14,7 +17,13 @@ import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -25,7 +34,10 @@ public class OutboxProcessor {
     private final RetryPolicy retryPolicy;
     private final Clock clock;
     private final MeterRegistry meterRegistry;
+    // 메시지 1건의 전송 ~ confirm (batch 이전과 같은 의미)
     private final Timer outboxPublishTimer;
+    // batch 전체 publish (공유 confirm 대기 포함). AIMD의 publish 지연 신호
+    private final Timer outboxPublishBatchTimer;
 
     public OutboxProcessor(
             OutboxPublisher outboxPublisher,
@@ -41,58 +53,80 @@ public class OutboxProcessor {
         this.meterRegistry = meterRegistry;
         this.outboxPublishTimer = Timer.builder(UsecaseMetrics.METRIC_OUTBOX_PUBLISH)
                 .register(meterRegistry);
+        this.outboxPublishBatchTimer = Timer.builder(UsecaseMetrics.METRIC_OUTBOX_PUBLISH_BATCH)
+                .register(meterRegistry);
     }
 
     /**
      * poller가 claim해서 PROCESSING으로 바꾼 메시지들을 처리하고,
      * 결과에 따라 PUBLISHED / PENDING(재시도) / DEAD 로 마무리한다.
+     * 마감은 메시지마다가 아니라 결과 분류별 UPDATE 1회로 적용한다.
      */
     public int process(String owner, List<OutboxMessage> claimed) {
-        if (claimed.isEmpty()) return 0;
+        return processBatch(owner, claimed).finalized();
+    }
+
+    /**
+     * process와 같고, poller의 batch 크기 조절에 쓰는 publish 지연/confirm timeout 수를 함께 돌려준다.
+     */
+    public OutboxProcessResult processBatch(String owner, List<OutboxMessage> claimed) {
+        if (claimed.isEmpty()) return OutboxProcessResult.EMPTY;
 
         OffsetDateTime now = OffsetDateTime.now(clock);
-        int affected = 0;
+        Map<OutboxDecision.Outcome, List<Decided>> decided = new EnumMap<>(OutboxDecision.Outcome.class);
+
+        // 1) 실제 처리(예: RabbitMQ publish): 배치를 연달아 보내고 confirm은 한 번에 기다린다.
+        Map<Long, Exception> failures;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long publishNanos;
+        try {
+            failures = outboxPublisher.publishAll(claimed,
+                    (m, elapsedNanos) -> outboxPublishTimer.record(elapsedNanos, TimeUnit.NANOSECONDS));
+        } finally {
+            publishNanos = sample.stop(outboxPublishBatchTimer);
+        }
+        int confirmTimeouts = (int) failures.values().stream()
+                .filter(PublishConfirmTimeoutException.class::isInstance)
+                .count();
 
+        // 2) 성공 -> PUBLISHED, 실패 -> 정책에 따라 RETRY / DEAD
         for (OutboxMessage m : claimed) {
-            OutboxDecision decision;
-
-            try {
-                // 1) 실제 처리(예: RabbitMQ publish)
-                Timer.Sample sample = Timer.start(meterRegistry);
-                try {
-                    outboxPublisher.publish(m);
-                } finally {
-                    sample.stop(outboxPublishTimer);
-                }
-
-                // 2) 성공 -> PUBLISHED로 마감
-                decision = OutboxDecision.ofPublished();
-            } catch (Exception e) {
-                decision = decideFailure(m, e, now);
-            }
-
-            int rows = applyDecision(owner, m, decision, now);
-            affected += rows;
+            Exception e = failures.get(m.getId());
+            OutboxDecision decision = e == null ? OutboxDecision.ofPublished() : decideFailure(m, e, now);
+            decided.computeIfAbsent(decision.outcome(), k -> new ArrayList<>()).add(new Decided(m, decision));
+        }
 
-            if (rows == 0) {
-                log.warn("[OutboxProcessor] finalize skipped. outboxId={}, owner={}, status={}, retryCount={}, decision={}",
-                        m.getId(), owner, m.getStatus(), m.getRetryCount(), decisionSummary(decision));
-                continue;
-            }
+        int affected = 0;
+        for (Map.Entry<OutboxDecision.Outcome, List<Decided>> entry : decided.entrySet()) {
+            List<Decided> group = entry.getValue();
+            Set<Long> finalized = new HashSet<>(applyDecisions(owner, entry.getKey(), group, now));
+            affected += finalized.size();
+
+            for (Decided d : group) {
+                OutboxMessage m = d.message();
+                OutboxDecision decision = d.decision();
+
+                // m은 claim 시점의 스냅샷이다. (마감 후 상태는 decision 기준으로만 남긴다)
+                if (!finalized.contains(m.getId())) {
+                    log.warn("[OutboxProcessor] finalize skipped. outboxId={}, owner={}, retryCount={}, decision={}",
+                            m.getId(), owner, m.getRetryCount(), decisionSummary(decision));
+                    continue;
+                }
 
-            // 결정/마감 요약 로그
-            log.info("[OutboxProcessor] finalized. outboxId={}, owner={}, eventType={}, retryCount={} -> {}, decision={}, nextRetryAt={}, err={}",
-                    m.getId(),
-                    owner,
-                    m.getEventType(),
-                    m.getRetryCount(),
-                    decision.nextRetryCount(),
-                    decisionSummary(decision),
-                    decision.nextRetryAt(),
-                    shortErr(decision.lastError()));
+                // 결정/마감 요약 로그
+                log.info("[OutboxProcessor] finalized. outboxId={}, owner={}, eventType={}, retryCount={} -> {}, decision={}, nextRetryAt={}, err={}",
+                        m.getId(),
+                        owner,
+                        m.getEventType(),
+                        m.getRetryCount(),
+                        decision.nextRetryCount(),
+                        decisionSummary(decision),
+                        decision.nextRetryAt(),
+                        shortErr(decision.lastError()));
             }
+        }
 
-        return affected;
+        return new OutboxProcessResult(affected, confirmTimeouts, TimeUnit.NANOSECONDS.toMillis(publishNanos));
     }
 
     private OutboxDecision decideFailure(OutboxMessage m, Exception e, OffsetDateTime now) {
@@ -114,20 +148,21 @@ public class OutboxProcessor {
         return OutboxDecision.ofRetry(nextRetryCount, nextRetryAt, err);
     }
 
-    private int applyDecision(String owner, OutboxMessage m, OutboxDecision decision, OffsetDateTime now) {
-        if (decision.isPublished()) {
-            return outboxMessageStore.markPublished(m.getId(), owner, now);
+    private List<Long> applyDecisions(String owner, OutboxDecision.Outcome outcome, List<Decided> group, OffsetDateTime now) {
+        if (outcome == OutboxDecision.Outcome.PUBLISHED) {
+            return outboxMessageStore.markAllPublished(group.stream().map(d -> d.message().getId()).toList(), owner, now);
         }
-        if (decision.isDead()) {
-            return outboxMessageStore.markDead(m.getId(), owner, decision.nextRetryCount(), decision.lastError(), now);
+        List<OutboxFinalizeCommand> commands = group.stream()
+                .map(d -> new OutboxFinalizeCommand(
+                        d.message().getId(),
+                        d.decision().nextRetryCount(),
+                        d.decision().nextRetryAt(),
+                        d.decision().lastError()))
+                .toList();
+        if (outcome == OutboxDecision.Outcome.DEAD) {
+            return outboxMessageStore.markAllDead(commands, owner, now);
         }
-        return outboxMessageStore.markForRetry(
-                m.getId(), owner,
-                decision.nextRetryCount(),
-                decision.nextRetryAt(),
-                decision.lastError(),
-                now
-        );
+        return outboxMessageStore.markAllForRetry(commands, owner, now);
     }
 
     private String safeMsg(Exception e) {
@@ -149,4 +184,7 @@ public class OutboxProcessor {
         if (s == null) return null;
         return s.length() <= 120 ? s : s.substring(0, 120);
     }
+
+    private record Decided(OutboxMessage message, OutboxDecision decision) {
+    }
 }
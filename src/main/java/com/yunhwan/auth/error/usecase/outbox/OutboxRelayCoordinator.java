@@ -0,0 +1,101 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxRelayLeaseStore;
+import com.yunhwan.auth.error.usecase.outbox.port.OwnerResolver;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OutboxRelayCoordinator
+ * <p>
+ * 역할:
+ * - heartbeat를 남기고, 살아 있는 인스턴스(owner 오름차순) 사이에서 파티션 p를 p % 인스턴스 수 번째 인스턴스에 배정합니다.
+ * - 배정된 파티션의 lease를 잡거나 연장하고, 배정에서 빠진 파티션은 반납합니다.
+ * - 다른 인스턴스가 아직 lease를 쥔 파티션은 만료(또는 반납)될 때까지 가져오지 않습니다.
+ * <p>
+ * 순서:
+ * - 재분배 중 잠깐 두 worker가 같은 파티션을 claim 해도, claim 쿼리가 같은 aggregate의 더 이른 미완료 행을 확인하므로
+ *   aggregate 단위 발행 순서는 유지됩니다. (OutboxJpaRepository.claimPartitionBatch)
+ */
+@Slf4j
+@Service
+public class OutboxRelayCoordinator {
+
+    private final OutboxRelayLeaseStore leaseStore;
+    private final OwnerResolver ownerResolver;
+    private final OutboxProperties.Relay props;
+    private final Clock clock;
+
+    private volatile int ownedCount;
+
+    public OutboxRelayCoordinator(
+            OutboxRelayLeaseStore leaseStore,
+            OwnerResolver ownerResolver,
+            OutboxProperties outboxProperties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.leaseStore = leaseStore;
+        this.ownerResolver = ownerResolver;
+        this.props = outboxProperties.getRelay();
+        this.clock = clock;
+        Gauge.builder(UsecaseMetrics.METRIC_OUTBOX_RELAY_PARTITIONS_OWNED, this, c -> c.ownedCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 주기에 이 인스턴스가 lease를 가진 파티션 (partitionNo 오름차순)
+     */
+    public List<OutboxRelayPartition> rebalance() {
+        String owner = ownerResolver.resolve();
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime aliveAfter = now.minusNanos(props.getMemberTtlMs() * 1_000_000L);
+
+        leaseStore.heartbeat(owner, now, aliveAfter);
+        List<String> members = leaseStore.findLiveMembers(aliveAfter);
+        int index = members.indexOf(owner);
+        int memberCount = members.size();
+        if (index < 0) {
+            // 방금 남긴 heartbeat가 안 보이는 경우(시계 차이 등): 혼자인 것으로 보지 않고 맨 뒤에 붙인다.
+            index = memberCount;
+            memberCount++;
+        }
+
+        int partitionCount = Math.max(1, props.getPartitions());
+        List<Integer> assigned = new ArrayList<>();
+        for (int p = index; p < partitionCount; p += memberCount) {
+            assigned.add(p);
+        }
+
+        leaseStore.releaseExcept(owner, assigned);
+        List<Integer> acquired = leaseStore.acquire(
+                owner, assigned, now, now.plusNanos(props.getLeaseTtlMs() * 1_000_000L));
+
+        List<OutboxRelayPartition> owned = acquired.stream()
+                .sorted()
+                .map(p -> new OutboxRelayPartition(p, partitionCount))
+                .toList();
+        if (owned.size() != ownedCount) {
+            log.info("[outbox-relay] owner={} members={} assigned={} owned={}",
+                    owner, memberCount, assigned, owned.stream().map(OutboxRelayPartition::partitionNo).toList());
+        }
+        ownedCount = owned.size();
+        return owned;
+    }
+
+    /** 종료 시 lease와 heartbeat를 지워 다른 인스턴스가 만료를 기다리지 않고 가져가게 한다. */
+    public void leave() {
+        leaseStore.leave(ownerResolver.resolve());
+        ownedCount = 0;
+    }
+}
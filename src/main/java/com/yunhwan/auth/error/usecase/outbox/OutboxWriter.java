@@ -1,5 +1,6 @@
 package com.yunhwan.auth.error.usecase.outbox;
 
+import com.yunhwan.auth.error.common.hash.Sha256Hasher;
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.domain.outbox.descriptor.OutboxEventDescriptor;
 import com.yunhwan.auth.error.domain.outbox.policy.PayloadSerializer;
@@ -9,12 +10,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Clock;
 import java.time.OffsetDateTime;
-import java.util.HexFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -33,15 +35,68 @@ public class OutboxWriter {
      */
     @Transactional
     public <T> OutboxMessage enqueue(OutboxEventDescriptor<T> descriptor, String aggregateId, T payload) {
+        return enqueueInternal(toCommand(descriptor, aggregateId, payload));
+    }
+
+    /**
+     * 같은 descriptor의 메시지 여러 건을 multi-row UPSERT 한 번으로 적재한다.
+     * 멱등/해시 계약은 enqueue와 동일하다.
+     *
+     * @param payloadByAggregateId aggregateId -> payload
+     * @return idempotencyKey -> 적재(또는 기존) outbox 행
+     */
+    @Transactional
+    public <T> Map<String, OutboxMessage> enqueueAll(OutboxEventDescriptor<T> descriptor, Map<String, T> payloadByAggregateId) {
+        List<OutboxEnqueueCommand> commands = new ArrayList<>(payloadByAggregateId.size());
+        payloadByAggregateId.forEach((aggregateId, payload) -> commands.add(toCommand(descriptor, aggregateId, payload)));
+
+        List<OutboxMessage> rows = outboxMessageStore.upsertAllReturning(commands, OffsetDateTime.now(clock));
+        Map<String, OutboxMessage> byIdempotencyKey = new LinkedHashMap<>();
+        rows.forEach(row -> byIdempotencyKey.put(row.getIdempotencyKey(), row));
+        return byIdempotencyKey;
+    }
+
+    /**
+     * aggregate id가 DB에서 발급되기 전에(같은 statement에서) outbox를 적재하기 위한 템플릿을 만든다.
+     * placeholderPayload의 id 자리에 idPlaceholder를 넣어 직렬화하고, 저장소가 발급된 id로 치환한다.
+     *
+     * - aggregateId = idPlaceholder, payloadHash = null (치환 후 저장소에서 같은 규칙으로 계산)
+     * - placeholder가 payload/idempotencyKey에 정확히 한 번씩 나오지 않으면 치환이 모호하므로 empty
+     */
+    public <T> Optional<OutboxEnqueueCommand> template(OutboxEventDescriptor<T> descriptor, T placeholderPayload, String idPlaceholder) {
+        String payloadJson = payloadSerializer.serialize(placeholderPayload);
+        String idempotencyKey = descriptor.idempotencyKey(placeholderPayload);
+        if (occurrences(payloadJson, idPlaceholder) != 1 || occurrences(idempotencyKey, idPlaceholder) != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new OutboxEnqueueCommand(
+                descriptor.aggregateType(),
+                idPlaceholder,
+                descriptor.eventType(),
+                payloadJson,
+                idempotencyKey,
+                null
+        ));
+    }
+
+    private static int occurrences(String s, String token) {
+        int count = 0;
+        for (int i = s.indexOf(token); i >= 0; i = s.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private <T> OutboxEnqueueCommand toCommand(OutboxEventDescriptor<T> descriptor, String aggregateId, T payload) {
         String payloadJson = payloadSerializer.serialize(payload);
-        return enqueueInternal(new OutboxEnqueueCommand(
+        return new OutboxEnqueueCommand(
                 descriptor.aggregateType(),
                 aggregateId,
                 descriptor.eventType(),
                 payloadJson,
                 descriptor.idempotencyKey(payload),
                 payloadHash(payloadJson)
-        ));
+        );
     }
 
     private OutboxMessage enqueueInternal(OutboxEnqueueCommand cmd) {
@@ -57,12 +112,7 @@ public class OutboxWriter {
     }
 
     private String payloadHash(String payloadJson) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return HexFormat.of().formatHex(digest.digest(payloadJson.getBytes(StandardCharsets.UTF_8)));
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 digest algorithm is unavailable", e);
-        }
+        return Sha256Hasher.hex(payloadJson);
     }
 
 }
@@ -16,11 +16,68 @@ public class OutboxProperties {
     private Poller poller = new Poller();
     private Retry retry = new Retry();
     private Reaper reaper = new Reaper();
+    private Retention retention = new Retention();
+    private Relay relay = new Relay();
 
     @Getter @Setter
     public static class Poller {
         private int batchSize = 50;
         private long fixedDelayMs = 500;
+        private Notify notify = new Notify();
+        private Adaptive adaptive = new Adaptive();
+    }
+
+    /**
+     * batch가 가득 차면 쉬지 않고 이어서 claim 하고, batch 크기는 AIMD로 조절한다. (시작 크기는 poller.batch-size)
+     * 비어 있으면 polling 간격을 fixed-delay-ms부터 max-idle-delay-ms까지 두 배씩 늘린다. (가장 이른 재시도 대기 시각까지로 자른다)
+     */
+    @Getter @Setter
+    public static class Adaptive {
+        private boolean enabled = true;
+        private int minBatchSize = 10;
+        private int maxBatchSize = 500;
+        /** 가득 찬 batch의 publish 지연이 목표 이하이면 이만큼 늘린다. */
+        private int additiveStep = 10;
+        /** confirm timeout 또는 Hikari 대기가 보이면 이 비율로 줄인다. */
+        private double decreaseFactor = 0.5;
+        private long publishLatencyTargetMs = 200;
+        /**
+         * hikaricp.connections.pending 합계가 이 값을 넘으면 DB 압력으로 본다.
+         * 0이면 커넥션을 잠깐 기다린 스레드 하나에도 줄어든다. ingest admission elevated(2)와 맞춘다.
+         */
+        private long hikariPendingThreshold = 2;
+        private long maxIdleDelayMs = 5_000;
+    }
+
+    /**
+     * LISTEN outbox_message_pending 으로 새 행 적재 즉시 poller를 깨운다. (fixed-delay polling은 안전망으로 유지)
+     */
+    @Getter @Setter
+    public static class Notify {
+        private boolean enabled = true;
+        /** 알림 대기 한 번의 최대 시간. 종료 신호를 이 간격 안에 확인한다. */
+        private long listenTimeoutMs = 1_000;
+        /** LISTEN 연결이 끊겼을 때 재연결 전 대기. 그동안은 fixed-delay polling만 동작한다. */
+        private long reconnectBackoffMs = 5_000;
+        /** 알림 없이 이만큼 지나면 연결을 확인한다. (half-open 연결은 getNotifications가 오류 없이 빈 결과만 돌려준다) */
+        private long validationIntervalMs = 30_000;
+    }
+
+    /**
+     * aggregate_id hash 구간(논리 파티션)별 병렬 relay. 켜면 단일 poller(OutboxPollerScheduler) 대신 동작한다. (V22)
+     * 파티션은 살아 있는 인스턴스에 lease로 나눠 주고, 인스턴스는 소유한 파티션마다 worker 스레드 하나를 돌린다.
+     */
+    @Getter @Setter
+    public static class Relay {
+        private boolean enabled = false;
+        /** 논리 파티션 수. 인스턴스 수 x 인스턴스당 worker 수의 상한이 된다. */
+        private int partitions = 16;
+        /** heartbeat + 재분배 주기 */
+        private long heartbeatMs = 2_000;
+        /** 이 시간 동안 heartbeat가 없으면 인스턴스를 빠진 것으로 보고 파티션을 다시 나눈다. */
+        private long memberTtlMs = 10_000;
+        /** lease 유효 시간. heartbeat마다 연장하며, 만료 전에는 다른 인스턴스가 가져가지 않는다. */
+        private long leaseTtlMs = 10_000;
     }
 
     @Getter @Setter
@@ -35,4 +92,23 @@ public class OutboxProperties {
         private int batchSize = 100;
         private long fixedDelayMs = 5000;
     }
+
+    /**
+     * 발행이 끝난(PUBLISHED/DEAD) 행을 outbox_message_archive로 옮기고, archive 파티션을 보존 기간 후 drop 한다.
+     */
+    @Getter @Setter
+    public static class Retention {
+        private boolean enabled = false;
+        private long fixedDelayMs = 60_000;
+        /**
+         * 마지막 상태 변경(updated_at) 후 이 시간이 지나야 archive 대상이 된다.
+         * 같은 멱등성 키 재적재(재시도/재전달)가 일어날 수 있는 기간보다 길어야 한다.
+         */
+        private int archiveAfterHours = 168;
+        /** archive 보존 일수(UTC 일 단위). 0이면 archive 없이 지우기만 한다. */
+        private int archiveRetentionDays = 30;
+        private int batchSize = 5_000;
+        /** 한 주기에 처리할 최대 배치 수. 밀린 행은 다음 주기에 이어서 처리한다. */
+        private int maxBatchesPerRun = 20;
+    }
 }
@@ -0,0 +1,12 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+/**
+ * @param archived archive 테이블로 옮긴 행 수
+ * @param expired  archive 보존 기간도 지나 옮기지 않고 지운 행 수
+ */
+public record OutboxArchiveBatchResult(int archived, int expired) {
+
+    public int removed() {
+        return archived + expired;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+import java.time.Duration;
+
+/**
+ * drain 한 번(가득 찬 batch가 이어지는 동안의 반복) 결과.
+ * nextRetryIn은 비어 있던 drain에서만 채운다. (가장 이른 재시도 대기 행까지 남은 시간, 없으면 null)
+ */
+public record OutboxDrainResult(int batches, int claimed, Duration nextRetryIn) {
+
+    public boolean idle() {
+        return claimed == 0;
+    }
+
+    /**
+     * idle backoff가 가장 이른 재시도 시각을 넘기지 않게 자른다. (재시도 due는 NOTIFY가 없어 polling으로만 가져간다)
+     * 너무 잦은 polling을 막으려고 minDelayMs 밑으로는 내리지 않는다.
+     */
+    public long capIdleDelay(long delayMs, long minDelayMs) {
+        if (nextRetryIn == null) {
+            return delayMs;
+        }
+        return Math.min(delayMs, Math.max(minDelayMs, nextRetryIn.toMillis()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 다건 마감(RETRY/DEAD) 한 행의 값. DEAD는 nextRetryAt을 쓰지 않는다.
+ */
+public record OutboxFinalizeCommand(
+        long id,
+        int retryCount,
+        OffsetDateTime nextRetryAt,
+        String lastError
+) {
+}
@@ -0,0 +1,9 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+/**
+ * 한 batch 처리 결과. publishMillis는 batch 전체 publish(confirm 대기 포함) 시간이다.
+ */
+public record OutboxProcessResult(int finalized, int confirmTimeouts, long publishMillis) {
+
+    public static final OutboxProcessResult EMPTY = new OutboxProcessResult(0, 0, 0);
+}
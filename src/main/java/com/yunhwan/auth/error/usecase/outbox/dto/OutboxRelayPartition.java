@@ -0,0 +1,23 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+/**
+ * relay 논리 파티션 p/N. outbox_message.relay_hash(0 ~ 2^31-1)의 [hashFrom, hashTo) 구간을 맡는다. (V22)
+ */
+public record OutboxRelayPartition(int partitionNo, int partitionCount) {
+
+    private static final long HASH_SPACE = 1L << 31;
+
+    public OutboxRelayPartition {
+        if (partitionCount < 1 || partitionNo < 0 || partitionNo >= partitionCount) {
+            throw new IllegalArgumentException("invalid relay partition. partitionNo=" + partitionNo + ", partitionCount=" + partitionCount);
+        }
+    }
+
+    public long hashFrom() {
+        return HASH_SPACE * partitionNo / partitionCount;
+    }
+
+    public long hashTo() {
+        return HASH_SPACE * (partitionNo + 1) / partitionCount;
+    }
+}
@@ -0,0 +1,10 @@
+package com.yunhwan.auth.error.usecase.outbox.dto;
+
+public record OutboxRetentionResult(
+        long archived,
+        long expired,
+        int partitionsCreated,
+        int partitionsDropped,
+        int failed
+) {
+}
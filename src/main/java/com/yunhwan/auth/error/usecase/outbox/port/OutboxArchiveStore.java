@@ -0,0 +1,51 @@
+package com.yunhwan.auth.error.usecase.outbox.port;
+
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxArchiveBatchResult;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+
+/**
+ * 발행이 끝난 outbox 행의 archive. (created_at 기준 일 단위(UTC) range partition)
+ * 각 메서드는 자기 트랜잭션에서 실행되고, 파티션 DDL의 인스턴스 간 동시 실행은 구현이 직렬화한다.
+ */
+public interface OutboxArchiveStore {
+
+    /**
+     * updated_at이 terminalBefore 이전인 PUBLISHED/DEAD 행을 최대 limit건 outbox_message에서 옮긴다.
+     * created_at이 expireBefore 이전인 행은 archive에 넣지 않고 지우기만 한다.
+     * 다른 인스턴스가 잡고 있는 행은 건너뛴다.
+     */
+    OutboxArchiveBatchResult archiveTerminal(OffsetDateTime terminalBefore, OffsetDateTime expireBefore, int limit,
+                                             OffsetDateTime now);
+
+    /** 현재 붙어 있는 일 단위 파티션의 날짜 (default 파티션 제외) */
+    SortedSet<LocalDate> findDailyPartitions();
+
+    /**
+     * day 파티션을 만든다. default 파티션에 그 범위 행이 있으면 새 파티션으로 옮긴다.
+     *
+     * @return 새로 만들었으면 true, 이미 있으면 false
+     */
+    boolean createDailyPartition(LocalDate day);
+
+    /**
+     * day 파티션을 detach 후 drop 한다. (행 단위 DELETE 없음)
+     *
+     * @return drop 했으면 true, 이미 없으면 false
+     */
+    boolean dropDailyPartition(LocalDate day);
+
+    /** default 파티션에서 created_at이 expireBefore 이전인 행을 지운다. */
+    int purgeDefaultPartition(OffsetDateTime expireBefore);
+
+    /** archive된 outbox 행의 id. (hot 테이블에 없는 멱등성 키 조회용) */
+    Optional<Long> findIdByIdempotencyKey(String idempotencyKey);
+
+    /** idempotencyKey -> archive된 outbox id */
+    Map<String, Long> findIdsByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+}
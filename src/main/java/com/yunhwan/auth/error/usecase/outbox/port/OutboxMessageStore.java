@@ -2,8 +2,12 @@ package com.yunhwan.auth.error.usecase.outbox.port;
 
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 import com.yunhwan.auth.error.usecase.outbox.dto.OutboxAgeStats;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxEnqueueCommand;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxFinalizeCommand;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -20,6 +24,8 @@ public interface OutboxMessageStore {
 
     boolean existsByIdempotencyKey(String idempotencyKey);
 
+    List<OutboxMessage> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
     OutboxMessage upsertReturning(
             String aggregateType,
             String aggregateId,
@@ -30,6 +36,9 @@ public interface OutboxMessageStore {
             OffsetDateTime now
     );
 
+    // multi-row upsert: 모든 command에 대응하는 행을 돌려주며, payload_hash 불일치가 있으면 예외
+    List<OutboxMessage> upsertAllReturning(List<OutboxEnqueueCommand> commands, OffsetDateTime now);
+
     List<OutboxMessage> claimBatch(
             int batchSize,
             String owner,
@@ -37,14 +46,27 @@ public interface OutboxMessageStore {
             String scopePrefix
     );
 
+    // relay 파티션(relay_hash 구간) claim: aggregate별로 가장 이른 미완료 행만 가져간다.
+    List<OutboxMessage> claimPartitionBatch(int batchSize, String owner, OffsetDateTime now, OutboxRelayPartition partition);
+
     int setNextRetryAt(Long id, OffsetDateTime nextRetryAt, OffsetDateTime now);
 
+    // 아직 때가 안 된 재시도 대기 행 중 가장 이른 next_retry_at (idle polling 간격 상한)
+    Optional<OffsetDateTime> findEarliestRetryAfter(OffsetDateTime now);
+
     int markPublished(long id, String owner, OffsetDateTime now);
 
     int markForRetry(long id, String owner, int retryCount, OffsetDateTime nextRetryAt, String lastError, OffsetDateTime now);
 
     int markDead(long id, String owner, int retryCount, String lastError, OffsetDateTime now);
 
+    // 다건 마감: 결과 분류별 문장 1회. 조건(PROCESSING + owner)을 통과해 실제 마감된 id만 돌려준다.
+    List<Long> markAllPublished(Collection<Long> ids, String owner, OffsetDateTime now);
+
+    List<Long> markAllForRetry(List<OutboxFinalizeCommand> commands, String owner, OffsetDateTime now);
+
+    List<Long> markAllDead(List<OutboxFinalizeCommand> commands, String owner, OffsetDateTime now);
+
     List<OutboxMessage> pickStaleProcessing(OffsetDateTime staleBefore, int batchSize, String scopePrefix);
 
     int takeoverStaleProcessing(long id, String newOwner, OffsetDateTime now, OffsetDateTime staleBefore);
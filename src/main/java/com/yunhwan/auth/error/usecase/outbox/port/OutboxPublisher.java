@@ -2,6 +2,37 @@ package com.yunhwan.auth.error.usecase.outbox.port;
 
 import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
 public interface OutboxPublisher {
     void publish(OutboxMessage message) throws Exception;
+
+    /**
+     * 여러 메시지를 발행하고 실패한 메시지만 id -> 예외로 돌려준다. (없는 id는 성공)
+     * 기본 구현은 한 건씩 발행한다. confirm을 모아 기다릴 수 있는 구현체는 재정의한다.
+     */
+    default Map<Long, Exception> publishAll(List<OutboxMessage> messages) {
+        return publishAll(messages, (message, elapsedNanos) -> {});
+    }
+
+    /**
+     * publishAll과 같고, 메시지마다 전송부터 결과(confirm/실패)가 정해질 때까지 걸린 시간을 onSettled로 알려준다.
+     */
+    default Map<Long, Exception> publishAll(List<OutboxMessage> messages, ObjLongConsumer<OutboxMessage> onSettled) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            long start = System.nanoTime();
+            try {
+                publish(message);
+            } catch (Exception e) {
+                failures.put(message.getId(), e);
+            } finally {
+                onSettled.accept(message, System.nanoTime() - start);
+            }
+        }
+        return failures;
+    }
 }
@@ -0,0 +1,30 @@
+package com.yunhwan.auth.error.usecase.outbox.port;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * relay 인스턴스 heartbeat와 파티션 lease. (V22 outbox_relay_member / outbox_relay_lease)
+ */
+public interface OutboxRelayLeaseStore {
+
+    /** owner의 heartbeat를 남기고, heartbeat가 staleBefore 이전인 인스턴스는 지운다. */
+    void heartbeat(String owner, OffsetDateTime now, OffsetDateTime staleBefore);
+
+    /** heartbeat가 aliveAfter 이후인 인스턴스. owner 오름차순. */
+    List<String> findLiveMembers(OffsetDateTime aliveAfter);
+
+    /**
+     * partitionNos 중 비어 있거나, 만료됐거나, 이미 owner 것인 파티션의 lease를 leaseUntil까지 잡는다.
+     *
+     * @return 잡은(연장한) 파티션 번호
+     */
+    List<Integer> acquire(String owner, Collection<Integer> partitionNos, OffsetDateTime now, OffsetDateTime leaseUntil);
+
+    /** owner가 가진 lease 중 keep에 없는 파티션을 반납한다. */
+    int releaseExcept(String owner, Collection<Integer> keep);
+
+    /** owner의 lease와 heartbeat를 모두 지운다. (종료 시) */
+    void leave(String owner);
+}
@@ -0,0 +1,18 @@
+-- V13__add_auth_error_stacktrace_store.sql
+-- stacktrace 원문을 내용 주소(trace_hash) 기준으로 한 번만, 압축해서 저장한다.
+
+create table if not exists auth_error_stacktrace (
+    trace_hash   varchar(64) primary key,   -- stacktrace 원문 전체의 SHA-256 hex (stack_hash와 다름: 상위 3줄 기준 그룹 키)
+    codec        varchar(10) not null,      -- DEFLATE
+    raw_length   int not null,              -- 압축 전 문자 수
+    content      bytea not null,
+    created_at   timestamptz not null default now()
+);
+
+-- 이미 압축된 값이라 TOAST 재압축을 시도하지 않는다.
+alter table auth_error_stacktrace alter column content set storage external;
+
+-- auth_error.stacktrace가 null이고 stacktrace_hash가 있으면 원문은 auth_error_stacktrace에 있다.
+-- (내용 주소 행은 지우지 않으므로 FK를 두지 않는다. 쓰기 경로에서 행마다 FK 검사를 하지 않기 위함)
+alter table auth_error
+    add column if not exists stacktrace_hash varchar(64);
@@ -0,0 +1,225 @@
+-- V14__partition_auth_error_by_occurred_at.sql
+-- auth_error를 occurred_at 기준 일 단위 range partition으로 전환한다.
+--
+-- - 파티션: auth_error_pYYYYMMDD (UTC 하루), 범위 밖 행은 auth_error_default.
+--   이후 파티션 생성/보존 기간 drop은 AuthErrorPartitionMaintainer가 담당한다.
+-- - PK는 partition key를 포함해야 하므로 (id, occurred_at). id는 기존 sequence를 그대로 쓴다. (전역 유일)
+-- - dedup_key 전역 유일성은 auth_error_dedup_key(guard) + BEFORE INSERT trigger로 유지한다.
+--   partition 테이블의 unique index는 partition key를 포함해야 해서 dedup_key 단독 unique를 만들 수 없다.
+-- - auth_error(id)를 참조하는 FK는 둘 수 없으므로 제거한다. (파티션 drop 시 연관 행은 maintainer가 정리)
+
+-- 1) 기존 테이블을 legacy로 옮긴다. (view는 OID로 묶여 있으므로 먼저 지운다)
+drop view if exists auth_error_hourly_type_stats;
+drop view if exists auth_error_context_distribution;
+drop view if exists auth_error_cluster_summary;
+
+alter table auth_error_analysis_result drop constraint if exists fk_auth_error_analysis_result_auth_error;
+alter table auth_error_cluster_item drop constraint if exists auth_error_cluster_item_auth_error_id_fkey;
+
+alter table auth_error rename to auth_error_legacy;
+alter sequence auth_error_id_seq owned by none;
+
+-- legacy 인덱스 이름을 비워 둔다. (그대로 두면 아래 4)의 같은 이름 인덱스가 만들어지지 않고 legacy와 함께 사라진다)
+alter index if exists ix_auth_error_occurred_at rename to ix_auth_error_occurred_at_legacy;
+alter index if exists ix_auth_error_status_next_retry rename to ix_auth_error_status_next_retry_legacy;
+alter index if exists ix_auth_error_request_id rename to ix_auth_error_request_id_legacy;
+alter index if exists ix_auth_error_trace_id rename to ix_auth_error_trace_id_legacy;
+alter index if exists ix_auth_error_service_env_time rename to ix_auth_error_service_env_time_legacy;
+alter index if exists ix_auth_error_stack_hash rename to ix_auth_error_stack_hash_legacy;
+alter index if exists ix_auth_error_type_time rename to ix_auth_error_type_time_legacy;
+alter index if exists ix_auth_error_provider_type_time rename to ix_auth_error_provider_type_time_legacy;
+alter index if exists ix_auth_error_client_type_time rename to ix_auth_error_client_type_time_legacy;
+alter index if exists ix_auth_error_principal_hash_time rename to ix_auth_error_principal_hash_time_legacy;
+alter index if exists ix_auth_error_ip_hash_time rename to ix_auth_error_ip_hash_time_legacy;
+
+-- 2) 같은 컬럼/기본값/check 제약으로 partitioned table 생성 (컬럼 순서 동일)
+create table auth_error (
+    like auth_error_legacy including defaults including constraints
+) partition by range (occurred_at);
+
+alter sequence auth_error_id_seq owned by auth_error.id;
+
+alter table auth_error
+    add constraint pk_auth_error primary key (id, occurred_at);
+
+create table auth_error_default partition of auth_error default;
+
+-- 3) 기존 데이터 범위 ~ 오늘 + 7일까지 일 단위 파티션
+do $$
+declare
+    first_day date;
+    last_day  date := (now() at time zone 'UTC')::date + 7;
+    d         date;
+begin
+    select coalesce(min((occurred_at at time zone 'UTC')::date), (now() at time zone 'UTC')::date)
+      into first_day
+      from auth_error_legacy;
+    d := first_day;
+    while d <= last_day loop
+        execute format(
+            'create table if not exists %I partition of auth_error for values from (%L) to (%L)',
+            'auth_error_p' || to_char(d, 'YYYYMMDD'),
+            (d::timestamp at time zone 'UTC'),
+            ((d + 1)::timestamp at time zone 'UTC')
+        );
+        d := d + 1;
+    end loop;
+end $$;
+
+-- 4) 인덱스 (partitioned index: 파티션마다 자동 생성). 이름이 겹치면 건너뛰지 않고 실패한다.
+create index ix_auth_error_occurred_at
+    on auth_error(occurred_at desc);
+
+create index ix_auth_error_status_next_retry
+    on auth_error(status, next_retry_at)
+    where status in ('NEW','RETRY');
+
+create index ix_auth_error_request_id
+    on auth_error(request_id)
+    where request_id is not null;
+
+create index ix_auth_error_trace_id
+    on auth_error(trace_id)
+    where trace_id is not null;
+
+create index ix_auth_error_service_env_time
+    on auth_error(source_service, environment, occurred_at desc);
+
+create index ix_auth_error_stack_hash
+    on auth_error (stack_hash);
+
+create index ix_auth_error_dedup_key
+    on auth_error(dedup_key)
+    where dedup_key is not null;
+
+create index ix_auth_error_type_time
+    on auth_error(error_type, occurred_at desc);
+
+create index ix_auth_error_provider_type_time
+    on auth_error(provider, error_type, occurred_at desc)
+    where provider is not null;
+
+create index ix_auth_error_client_type_time
+    on auth_error(client_type, occurred_at desc)
+    where client_type is not null;
+
+create index ix_auth_error_principal_hash_time
+    on auth_error(principal_hash, occurred_at desc)
+    where principal_hash is not null;
+
+create index ix_auth_error_ip_hash_time
+    on auth_error(ip_hash, occurred_at desc)
+    where ip_hash is not null;
+
+-- 5) dedup_key guard: 전역 유일 + 위치(occurred_at)를 함께 기록해 조회 시 파티션 하나로 좁힌다.
+create table if not exists auth_error_dedup_key (
+    dedup_key    varchar(64) primary key,
+    occurred_at  timestamptz not null
+);
+
+create index if not exists ix_auth_error_dedup_key_occurred_at
+    on auth_error_dedup_key (occurred_at);
+
+-- 이미 claim된 dedup_key면 행을 건너뛴다. (INSERT ... ON CONFLICT DO NOTHING과 같은 결과: RETURNING에 나오지 않음)
+-- 동시 적재는 guard PK의 speculative insert가 선행 트랜잭션 종료를 기다린 뒤 판정한다.
+create or replace function auth_error_claim_dedup_key() returns trigger
+    language plpgsql as $$
+begin
+    if new.dedup_key is null then
+        return new;
+    end if;
+    insert into auth_error_dedup_key (dedup_key, occurred_at)
+    values (new.dedup_key, new.occurred_at)
+    on conflict do nothing;
+    if found then
+        return new;
+    end if;
+    return null;
+end $$;
+
+-- 6) 데이터 이전 (trigger 생성 전에 옮기고 guard는 한 번에 채운다)
+insert into auth_error select * from auth_error_legacy;
+
+insert into auth_error_dedup_key (dedup_key, occurred_at)
+select dedup_key, min(occurred_at)
+  from auth_error_legacy
+ where dedup_key is not null
+ group by dedup_key;
+
+create trigger tg_auth_error_claim_dedup_key
+    before insert on auth_error
+    for each row execute function auth_error_claim_dedup_key();
+
+-- 행 단위 delete(운영 정정 등)는 guard도 함께 풀어 같은 키를 다시 적재할 수 있게 한다.
+-- 파티션 drop은 trigger를 타지 않으므로 maintainer가 같은 범위의 guard를 따로 지운다.
+create or replace function auth_error_release_dedup_key() returns trigger
+    language plpgsql as $$
+begin
+    if old.dedup_key is not null then
+        delete from auth_error_dedup_key where dedup_key = old.dedup_key;
+    end if;
+    return old;
+end $$;
+
+create trigger tg_auth_error_release_dedup_key
+    after delete on auth_error
+    for each row execute function auth_error_release_dedup_key();
+
+drop table auth_error_legacy;
+
+-- 7) 진단 view 재생성 (V12와 동일 정의)
+create or replace view auth_error_hourly_type_stats as
+select
+    date_trunc('hour', occurred_at) as bucket_hour,
+    error_type,
+    auth_failure_severity,
+    auth_failure_retryable,
+    auth_failure_security_signal,
+    count(*) as error_count,
+    min(occurred_at) as first_seen_at,
+    max(occurred_at) as last_seen_at
+from auth_error
+group by
+    date_trunc('hour', occurred_at),
+    error_type,
+    auth_failure_severity,
+    auth_failure_retryable,
+    auth_failure_security_signal;
+
+create or replace view auth_error_context_distribution as
+select
+    date_trunc('hour', occurred_at) as bucket_hour,
+    error_type,
+    provider,
+    client_type,
+    http_status,
+    endpoint,
+    count(*) as error_count,
+    min(occurred_at) as first_seen_at,
+    max(occurred_at) as last_seen_at
+from auth_error
+group by
+    date_trunc('hour', occurred_at),
+    error_type,
+    provider,
+    client_type,
+    http_status,
+    endpoint;
+
+create or replace view auth_error_cluster_summary as
+select
+    error_type,
+    provider,
+    stack_hash,
+    auth_failure_severity,
+    count(*) as error_count,
+    count(distinct principal_hash) filter (where principal_hash is not null) as principal_hash_count,
+    count(distinct ip_hash) filter (where ip_hash is not null) as ip_hash_count,
+    min(occurred_at) as first_seen_at,
+    max(occurred_at) as last_seen_at
+from auth_error
+group by
+    error_type,
+    provider,
+    stack_hash,
+    auth_failure_severity;
@@ -0,0 +1,28 @@
+-- V15__add_outbox_message_archive.sql
+-- outbox_message 보존 기간 관리.
+--
+-- - outbox_message(hot)는 파티션하지 않는다. 적재 경로의 ON CONFLICT (idempotency_key) DO UPDATE ... RETURNING
+--   (payload_hash drift 감지)은 idempotency_key 단독 unique index가 필요하다.
+-- - 발행이 끝난(PUBLISHED/DEAD) 행은 보존 시작 기준(archive-after)이 지나면 OutboxArchiver가
+--   outbox_message_archive로 옮긴다. hot 테이블/ix_outbox_polling 크기는 미처리 + 최근 행 수에만 비례한다.
+-- - archive는 created_at 기준 일 단위(UTC) range partition(outbox_message_archive_pYYYYMMDD).
+--   보존 기간이 지난 파티션은 행 단위 DELETE 없이 통째로 drop 한다. 범위 밖 행은 default 파티션으로 간다.
+
+create table outbox_message_archive (
+    like outbox_message including constraints,
+    archived_at timestamptz not null default now()
+) partition by range (created_at);
+
+alter table outbox_message_archive
+    add constraint pk_outbox_message_archive primary key (id, created_at);
+
+create table outbox_message_archive_default partition of outbox_message_archive default;
+
+-- archive 이후 멱등성 키 조회(AuthErrorWriter 중복 응답, DLQ 원장 source 조회)용
+create index ix_outbox_message_archive_idempotency_key
+    on outbox_message_archive (idempotency_key);
+
+-- archive 대상 선별용. 미처리(PENDING/PROCESSING) 행은 포함하지 않는다.
+create index if not exists ix_outbox_terminal_updated_at
+    on outbox_message (updated_at)
+    where status in ('PUBLISHED', 'DEAD');
@@ -0,0 +1,7 @@
+-- V16__add_processed_message_compaction_index.sql
+-- processed_message 정리(ProcessedMessageCompactor)용.
+-- DONE 행을 (processed_at, outbox_id) 순서로 keyset 페이지네이션하며 작은 배치로 지운다.
+
+create index if not exists idx_processed_message_done_processed_at
+    on processed_message (processed_at, outbox_id)
+    where status = 'DONE';
@@ -0,0 +1,143 @@
+-- V17__store_hash_keys_as_bytea.sql
+-- hash/멱등성 키 컬럼을 hex text 대신 32바이트 bytea(SHA-256)로 저장한다.
+--
+-- - hex text(64자) B-tree는 같은 값을 두 배 크기로 들고, 비교도 collation을 탄다.
+--   bytea는 memcmp 비교이고 unique index 키가 32바이트로 고정된다. (page split / upsert 비용 감소)
+-- - hex hash 컬럼(payload_hash, stack_hash, principal_hash, ip_hash, cluster_key)은 decode(hex)로 그대로 바꾼다.
+--   애플리케이션/JSON/API/로그/진단 view는 계속 소문자 hex를 쓴다. (엔티티 변환기, encode(..., 'hex'))
+-- - 멱등성 키(idempotency_key, dedup_key)는 사람이 읽는 원문을 남기고, unique 판정만
+--   sha256(textsend(key)) digest로 한다. textsend는 immutable이라 generated column에 쓸 수 있다.
+--   (DB encoding UTF8 기준: textsend(key) = key의 UTF-8 바이트)
+-- - stacktrace_hash/trace_hash(V13), dead_letter_message.payload_hash는 이번 범위가 아니다. (hot path unique 아님)
+-- - auth_error(파티션 전체)와 outbox_message는 컬럼 타입 변경으로 다시 쓰인다. 배포 전 크기를 확인한다.
+
+-- 0) hex 형식이 아닌 값이 있으면 중단한다. (decode 실패를 migration 중간에서 만나지 않도록)
+do $$
+begin
+    if exists (select 1 from auth_error_cluster where cluster_key !~ '^[0-9a-f]{64}$') then
+        raise exception
+            'auth_error_cluster.cluster_key has non SHA-256 hex rows. Re-key or remove them before applying V17.';
+    end if;
+    if exists (select 1 from auth_error where stack_hash is not null and stack_hash !~ '^[0-9a-f]{64}$') then
+        raise exception
+            'auth_error.stack_hash has non SHA-256 hex rows. Recompute with StackHashUtil before applying V17.';
+    end if;
+end $$;
+
+-- 1) outbox_message: payload_hash → bytea, 멱등성 unique는 digest로
+alter table outbox_message
+    drop constraint if exists ck_outbox_payload_hash_sha256;
+
+alter table outbox_message
+    alter column payload_hash type bytea using decode(payload_hash, 'hex');
+
+alter table outbox_message
+    add constraint ck_outbox_payload_hash_sha256
+    check (octet_length(payload_hash) = 32);
+
+alter table outbox_message
+    add column idempotency_key_hash bytea
+    generated always as (sha256(textsend(idempotency_key))) stored;
+
+create unique index if not exists ux_outbox_idempotency_key_hash
+    on outbox_message (idempotency_key_hash);
+
+drop index if exists ux_outbox_idempotency_key;
+
+-- 2) outbox_message_archive: hot 테이블과 같은 형태로 맞춘다. (파티션으로 전파됨)
+alter table outbox_message_archive
+    drop constraint if exists ck_outbox_payload_hash_sha256;
+
+alter table outbox_message_archive
+    alter column payload_hash type bytea using decode(payload_hash, 'hex');
+
+alter table outbox_message_archive
+    add constraint ck_outbox_payload_hash_sha256
+    check (octet_length(payload_hash) = 32);
+
+alter table outbox_message_archive
+    add column idempotency_key_hash bytea
+    generated always as (sha256(textsend(idempotency_key))) stored;
+
+create index if not exists ix_outbox_message_archive_idempotency_key_hash
+    on outbox_message_archive (idempotency_key_hash);
+
+drop index if exists ix_outbox_message_archive_idempotency_key;
+
+-- 3) auth_error: hash 컬럼 → bytea (view가 컬럼 타입을 묶고 있으므로 먼저 지운다)
+drop view if exists auth_error_cluster_summary;
+
+alter table auth_error
+    drop constraint if exists ck_auth_error_principal_hash_sha256,
+    drop constraint if exists ck_auth_error_ip_hash_sha256;
+
+alter table auth_error
+    alter column stack_hash type bytea using decode(stack_hash, 'hex'),
+    alter column principal_hash type bytea using decode(principal_hash, 'hex'),
+    alter column ip_hash type bytea using decode(ip_hash, 'hex');
+
+alter table auth_error
+    add constraint ck_auth_error_stack_hash_sha256
+    check (stack_hash is null or octet_length(stack_hash) = 32),
+    add constraint ck_auth_error_principal_hash_sha256
+    check (principal_hash is null or octet_length(principal_hash) = 32),
+    add constraint ck_auth_error_ip_hash_sha256
+    check (ip_hash is null or octet_length(ip_hash) = 32);
+
+-- view는 hex 그대로 노출한다. (V12/V14 정의와 같은 컬럼)
+create or replace view auth_error_cluster_summary as
+select
+    error_type,
+    provider,
+    encode(stack_hash, 'hex') as stack_hash,
+    auth_failure_severity,
+    count(*) as error_count,
+    count(distinct principal_hash) filter (where principal_hash is not null) as principal_hash_count,
+    count(distinct ip_hash) filter (where ip_hash is not null) as ip_hash_count,
+    min(occurred_at) as first_seen_at,
+    max(occurred_at) as last_seen_at
+from auth_error
+group by
+    error_type,
+    provider,
+    stack_hash,
+    auth_failure_severity;
+
+-- 4) dedup guard: requestId 원문 대신 digest를 PK로 (auth_error.dedup_key 원문은 그대로 둔다)
+alter table auth_error_dedup_key
+    alter column dedup_key type bytea using sha256(textsend(dedup_key));
+
+alter table auth_error_dedup_key
+    rename column dedup_key to dedup_key_hash;
+
+create or replace function auth_error_claim_dedup_key() returns trigger
+    language plpgsql as $$
+begin
+    if new.dedup_key is null then
+        return new;
+    end if;
+    insert into auth_error_dedup_key (dedup_key_hash, occurred_at)
+    values (sha256(textsend(new.dedup_key)), new.occurred_at)
+    on conflict do nothing;
+    if found then
+        return new;
+    end if;
+    return null;
+end $$;
+
+create or replace function auth_error_release_dedup_key() returns trigger
+    language plpgsql as $$
+begin
+    if old.dedup_key is not null then
+        delete from auth_error_dedup_key where dedup_key_hash = sha256(textsend(old.dedup_key));
+    end if;
+    return old;
+end $$;
+
+-- 5) cluster_key(= stack_hash) → bytea
+alter table auth_error_cluster
+    alter column cluster_key type bytea using decode(cluster_key, 'hex');
+
+alter table auth_error_cluster
+    add constraint ck_auth_error_cluster_cluster_key_sha256
+    check (octet_length(cluster_key) = 32);
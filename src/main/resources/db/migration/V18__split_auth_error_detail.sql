@@ -0,0 +1,64 @@
+-- V18__split_auth_error_detail.sql
+-- auth_error를 hot/cold로 수직 분할한다.
+--
+-- - auth_error(hot): 식별/분류/처리 상태 컬럼만 남긴다. 상태 전이(markAnalysisRequested 등)와
+--   consumer의 상태 조회가 읽고 쓰는 tuple이 작아진다.
+-- - auth_error_detail(cold, 1:1): request_uri, user_agent, stacktrace, request_headers/request_body/extra_context.
+--   적재 시 같은 트랜잭션에서 함께 INSERT 하고, 분석/진단 경로에서만 명시적으로 읽는다.
+--   cold 컬럼이 모두 null이면 행을 만들지 않는다.
+-- - auth_error와 같은 occurred_at 기준 일 단위 파티션(auth_error_detail_pYYYYMMDD)을 두고,
+--   AuthErrorPartitionMaintainer가 auth_error 파티션과 함께 만들고 drop 한다. (FK는 둘 수 없음, V14 참고)
+
+create table auth_error_detail (
+    auth_error_id    bigint      not null,
+    occurred_at      timestamptz not null,
+    request_uri      text,
+    user_agent       text,
+    stacktrace       text,
+    request_headers  jsonb,
+    request_body     jsonb,
+    extra_context    jsonb,
+    constraint pk_auth_error_detail primary key (auth_error_id, occurred_at)
+) partition by range (occurred_at);
+
+create table auth_error_detail_default partition of auth_error_detail default;
+
+-- auth_error에 붙어 있는 일 단위 파티션과 같은 범위로 만든다.
+do $$
+declare
+    r record;
+begin
+    for r in
+        select c.relname, pg_get_expr(c.relpartbound, c.oid) as bound
+          from pg_inherits i
+          join pg_class c on c.oid = i.inhrelid
+         where i.inhparent = 'auth_error'::regclass
+           and c.relname ~ '^auth_error_p[0-9]{8}$'
+    loop
+        execute format(
+            'create table if not exists %I partition of auth_error_detail %s',
+            'auth_error_detail_p' || substr(r.relname, length('auth_error_p') + 1),
+            r.bound
+        );
+    end loop;
+end $$;
+
+-- 기존 행 이전 후 auth_error에서 cold 컬럼 제거 (drop column은 catalog만 바꾸고 기존 tuple은 재작성하지 않는다)
+insert into auth_error_detail
+    (auth_error_id, occurred_at, request_uri, user_agent, stacktrace, request_headers, request_body, extra_context)
+select id, occurred_at, request_uri, user_agent, stacktrace, request_headers, request_body, extra_context
+  from auth_error
+ where request_uri is not null
+    or user_agent is not null
+    or stacktrace is not null
+    or request_headers is not null
+    or request_body is not null
+    or extra_context is not null;
+
+alter table auth_error
+    drop column request_uri,
+    drop column user_agent,
+    drop column stacktrace,
+    drop column request_headers,
+    drop column request_body,
+    drop column extra_context;
@@ -0,0 +1,14 @@
+-- V19__pooled_id_sequences.sql
+-- JPA로 INSERT 하는 엔티티의 id를 IDENTITY 대신 pooled sequence(allocationSize = 50)로 할당한다.
+--
+-- - IDENTITY는 INSERT 직후 생성된 id를 받아야 해서 Hibernate가 행마다 즉시 INSERT 하고 JDBC batch를 끈다.
+--   sequence는 persist 시점에 id를 미리 정하므로 flush 때 같은 테이블 INSERT를 한 batch로 묶을 수 있다.
+-- - increment는 엔티티의 @SequenceGenerator(allocationSize)와 같아야 한다. (다르면 기동 시 Hibernate가 실패)
+-- - pooled optimizer는 nextval 한 번으로 (v - 49 .. v] 구간을 쓴다. native INSERT(다건 VALUES/COPY/CTE)의
+--   column default nextval도 같은 sequence를 쓰며 값 v 하나만 쓰므로 두 경로의 id는 겹치지 않는다.
+--   대신 native 경로의 id는 50씩 건너뛴다. (유일/증가만 보장, 연속은 보장하지 않음)
+-- - dead_letter_message / retry_publish_request / auth_error_cluster는 native upsert로만 INSERT 하므로 그대로 둔다.
+
+alter sequence auth_error_id_seq increment by 50;
+alter sequence auth_error_analysis_result_id_seq increment by 50;
+alter sequence outbox_message_id_seq increment by 50;
@@ -0,0 +1,240 @@
+-- V20__add_auth_error_diagnostic_rollups.sql
+-- 진단 view(auth_error_hourly_type_stats / auth_error_context_distribution / auth_error_cluster_summary)를
+-- 매 조회마다 auth_error 전체를 다시 집계하지 않도록, 증분 유지되는 rollup 테이블 위의 facade로 바꾼다.
+--
+-- - 적재: auth_error의 statement-level AFTER INSERT trigger가 새 행의 집계 차원만 auth_error_rollup_delta에 쌓는다.
+--   (단건/다건 VALUES/COPY/CTE 모든 경로. dedup trigger가 건너뛴 행은 transition table에 없으므로 쌓이지 않는다)
+-- - 반영: AuthErrorRollupRefresher가 delta를 batch로 DELETE ... RETURNING 해서 rollup에 upsert 한다.
+--   commit된 delta만 보이므로 진행 중 트랜잭션의 행을 놓치지 않는다. (id watermark는 pooled id/늦은 commit으로 구멍이 생김)
+-- - view = rollup + 아직 반영되지 않은 delta. 반영 주기와 무관하게 결과는 즉시 정확하고,
+--   조회 비용은 auth_error 행 수가 아니라 (시간 bucket × 차원) 수와 대기 delta 수에 비례한다.
+-- - bucket_hour는 UTC 정각 경계다. (auth_error 일 파티션 경계와 맞춘다. 정시 단위 offset 시간대에서는 기존과 같음)
+-- - distinct principal_hash/ip_hash는 합산할 수 없으므로 cluster별 member 테이블(집합)로 유지한다.
+-- - 파티션 drop 시 같은 날짜의 rollup/delta/member를 AuthErrorPartitionStoreAdapter가 함께 정리한다.
+--   행 단위 DELETE(운영 정정)는 rollup에 반영하지 않는다.
+
+-- 1) delta (append-only, refresher가 비운다)
+create table auth_error_rollup_delta (
+    id                            bigserial primary key,
+    occurred_at                   timestamptz not null,
+    error_type                    varchar(50) not null,
+    auth_failure_severity         varchar(10) not null,
+    auth_failure_retryable        boolean not null,
+    auth_failure_security_signal  boolean not null,
+    provider                      varchar(100),
+    client_type                   varchar(50),
+    http_status                   integer,
+    endpoint                      text,
+    stack_hash                    bytea,
+    principal_hash                bytea,
+    ip_hash                       bytea
+);
+
+create index ix_auth_error_rollup_delta_occurred_at
+    on auth_error_rollup_delta (occurred_at);
+
+-- 2) rollup 테이블. 차원에 null이 있으므로 nulls not distinct unique로 upsert 한다.
+create table auth_error_hourly_type_rollup (
+    bucket_hour                   timestamptz not null,
+    error_type                    varchar(50) not null,
+    auth_failure_severity         varchar(10) not null,
+    auth_failure_retryable        boolean not null,
+    auth_failure_security_signal  boolean not null,
+    error_count                   bigint not null,
+    first_seen_at                 timestamptz not null,
+    last_seen_at                  timestamptz not null,
+    constraint ux_auth_error_hourly_type_rollup unique nulls not distinct
+        (bucket_hour, error_type, auth_failure_severity, auth_failure_retryable, auth_failure_security_signal)
+);
+
+create table auth_error_context_hourly_rollup (
+    bucket_hour    timestamptz not null,
+    error_type     varchar(50) not null,
+    provider       varchar(100),
+    client_type    varchar(50),
+    http_status    integer,
+    endpoint       text,
+    error_count    bigint not null,
+    first_seen_at  timestamptz not null,
+    last_seen_at   timestamptz not null,
+    constraint ux_auth_error_context_hourly_rollup unique nulls not distinct
+        (bucket_hour, error_type, provider, client_type, http_status, endpoint)
+);
+
+create table auth_error_cluster_hourly_rollup (
+    bucket_hour            timestamptz not null,
+    error_type             varchar(50) not null,
+    provider               varchar(100),
+    stack_hash             bytea,
+    auth_failure_severity  varchar(10) not null,
+    error_count            bigint not null,
+    first_seen_at          timestamptz not null,
+    last_seen_at           timestamptz not null,
+    constraint ux_auth_error_cluster_hourly_rollup unique nulls not distinct
+        (bucket_hour, error_type, provider, stack_hash, auth_failure_severity)
+);
+
+-- cluster별 distinct principal_hash(P)/ip_hash(I). last_seen_at은 보존 기간 정리 기준이다.
+create table auth_error_cluster_member (
+    error_type             varchar(50) not null,
+    provider               varchar(100),
+    stack_hash             bytea,
+    auth_failure_severity  varchar(10) not null,
+    member_kind            char(1) not null,
+    member_hash            bytea not null,
+    last_seen_at           timestamptz not null,
+    constraint ck_auth_error_cluster_member_kind check (member_kind in ('P', 'I')),
+    constraint ux_auth_error_cluster_member unique nulls not distinct
+        (error_type, provider, stack_hash, auth_failure_severity, member_kind, member_hash)
+);
+
+create index ix_auth_error_cluster_member_last_seen_at
+    on auth_error_cluster_member (last_seen_at);
+
+-- 3) 기존 행 집계 (trigger 생성과 같은 트랜잭션: trigger 생성 lock이 commit까지 동시 INSERT를 막는다)
+insert into auth_error_hourly_type_rollup
+select date_trunc('hour', occurred_at, 'UTC'), error_type, auth_failure_severity,
+       auth_failure_retryable, auth_failure_security_signal,
+       count(*), min(occurred_at), max(occurred_at)
+  from auth_error
+ group by 1, 2, 3, 4, 5;
+
+insert into auth_error_context_hourly_rollup
+select date_trunc('hour', occurred_at, 'UTC'), error_type, provider, client_type, http_status, endpoint,
+       count(*), min(occurred_at), max(occurred_at)
+  from auth_error
+ group by 1, 2, 3, 4, 5, 6;
+
+insert into auth_error_cluster_hourly_rollup
+select date_trunc('hour', occurred_at, 'UTC'), error_type, provider, stack_hash, auth_failure_severity,
+       count(*), min(occurred_at), max(occurred_at)
+  from auth_error
+ group by 1, 2, 3, 4, 5;
+
+insert into auth_error_cluster_member
+select error_type, provider, stack_hash, auth_failure_severity, m.kind, m.hash, max(occurred_at)
+  from auth_error
+ cross join lateral (values ('P', principal_hash), ('I', ip_hash)) as m(kind, hash)
+ where m.hash is not null
+ group by 1, 2, 3, 4, 5, 6;
+
+-- 4) 적재 trigger (partitioned parent의 statement trigger는 모든 파티션으로 라우팅된 행을 본다)
+create or replace function auth_error_enqueue_rollup_delta() returns trigger
+    language plpgsql as $$
+begin
+    insert into auth_error_rollup_delta
+        (occurred_at, error_type, auth_failure_severity, auth_failure_retryable, auth_failure_security_signal,
+         provider, client_type, http_status, endpoint, stack_hash, principal_hash, ip_hash)
+    select occurred_at, error_type, auth_failure_severity, auth_failure_retryable, auth_failure_security_signal,
+           provider, client_type, http_status, endpoint, stack_hash, principal_hash, ip_hash
+      from new_rows;
+    return null;
+end $$;
+
+create trigger tg_auth_error_enqueue_rollup_delta
+    after insert on auth_error
+    referencing new table as new_rows
+    for each statement execute function auth_error_enqueue_rollup_delta();
+
+-- 5) 호환 facade view (컬럼 이름/타입은 V12/V14/V17과 같다: create or replace로 권한 유지)
+create or replace view auth_error_hourly_type_stats as
+select
+    s.bucket_hour,
+    cast(s.error_type as varchar(50)) as error_type,
+    cast(s.auth_failure_severity as varchar(10)) as auth_failure_severity,
+    s.auth_failure_retryable,
+    s.auth_failure_security_signal,
+    cast(sum(s.error_count) as bigint) as error_count,
+    min(s.first_seen_at) as first_seen_at,
+    max(s.last_seen_at) as last_seen_at
+from (
+    select bucket_hour, error_type, auth_failure_severity, auth_failure_retryable, auth_failure_security_signal,
+           error_count, first_seen_at, last_seen_at
+      from auth_error_hourly_type_rollup
+    union all
+    select date_trunc('hour', occurred_at, 'UTC'), error_type, auth_failure_severity,
+           auth_failure_retryable, auth_failure_security_signal,
+           count(*), min(occurred_at), max(occurred_at)
+      from auth_error_rollup_delta
+     group by 1, 2, 3, 4, 5
+) s
+group by
+    s.bucket_hour,
+    s.error_type,
+    s.auth_failure_severity,
+    s.auth_failure_retryable,
+    s.auth_failure_security_signal;
+
+create or replace view auth_error_context_distribution as
+select
+    s.bucket_hour,
+    cast(s.error_type as varchar(50)) as error_type,
+    cast(s.provider as varchar(100)) as provider,
+    cast(s.client_type as varchar(50)) as client_type,
+    s.http_status,
+    s.endpoint,
+    cast(sum(s.error_count) as bigint) as error_count,
+    min(s.first_seen_at) as first_seen_at,
+    max(s.last_seen_at) as last_seen_at
+from (
+    select bucket_hour, error_type, provider, client_type, http_status, endpoint,
+           error_count, first_seen_at, last_seen_at
+      from auth_error_context_hourly_rollup
+    union all
+    select date_trunc('hour', occurred_at, 'UTC'), error_type, provider, client_type, http_status, endpoint,
+           count(*), min(occurred_at), max(occurred_at)
+      from auth_error_rollup_delta
+     group by 1, 2, 3, 4, 5, 6
+) s
+group by
+    s.bucket_hour,
+    s.error_type,
+    s.provider,
+    s.client_type,
+    s.http_status,
+    s.endpoint;
+
+create or replace view auth_error_cluster_summary as
+with counts as (
+    select error_type, provider, stack_hash, auth_failure_severity,
+           sum(error_count) as error_count, min(first_seen_at) as first_seen_at, max(last_seen_at) as last_seen_at
+      from (
+        select error_type, provider, stack_hash, auth_failure_severity, error_count, first_seen_at, last_seen_at
+          from auth_error_cluster_hourly_rollup
+        union all
+        select error_type, provider, stack_hash, auth_failure_severity, count(*), min(occurred_at), max(occurred_at)
+          from auth_error_rollup_delta
+         group by 1, 2, 3, 4
+      ) c
+     group by error_type, provider, stack_hash, auth_failure_severity
+), members as (
+    select error_type, provider, stack_hash, auth_failure_severity, member_kind, member_hash
+      from auth_error_cluster_member
+    union
+    select d.error_type, d.provider, d.stack_hash, d.auth_failure_severity, m.kind, m.hash
+      from auth_error_rollup_delta d
+     cross join lateral (values ('P', d.principal_hash), ('I', d.ip_hash)) as m(kind, hash)
+     where m.hash is not null
+), member_counts as (
+    select error_type, provider, stack_hash, auth_failure_severity,
+           count(*) filter (where member_kind = 'P') as principal_hash_count,
+           count(*) filter (where member_kind = 'I') as ip_hash_count
+      from members
+     group by error_type, provider, stack_hash, auth_failure_severity
+)
+select
+    cast(c.error_type as varchar(50)) as error_type,
+    cast(c.provider as varchar(100)) as provider,
+    encode(c.stack_hash, 'hex') as stack_hash,
+    cast(c.auth_failure_severity as varchar(10)) as auth_failure_severity,
+    cast(c.error_count as bigint) as error_count,
+    coalesce(m.principal_hash_count, 0) as principal_hash_count,
+    coalesce(m.ip_hash_count, 0) as ip_hash_count,
+    c.first_seen_at,
+    c.last_seen_at
+from counts c
+left join member_counts m
+  on m.error_type = c.error_type
+ and m.provider is not distinct from c.provider
+ and m.stack_hash is not distinct from c.stack_hash
+ and m.auth_failure_severity = c.auth_failure_severity;
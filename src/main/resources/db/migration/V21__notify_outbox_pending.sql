@@ -0,0 +1,21 @@
+-- V21__notify_outbox_pending.sql
+-- outbox_message에 새 행이 들어오면 commit 시점에 'outbox_message_pending' 채널로 알린다.
+-- OutboxNotifyListener가 LISTEN 하다가 poller를 바로 깨운다. (fixed-delay polling은 그대로 안전망)
+--
+-- - statement-level: 다건 INSERT/upsert도 문장당 한 번. 같은 트랜잭션의 같은 (채널, payload) 알림은 PostgreSQL이 하나로 합친다.
+-- - ON CONFLICT로 기존 행만 돌려준 upsert(삽입 0건)는 알리지 않는다.
+-- - 재시도 대기(next_retry_at)로 돌아간 행은 시간이 되어야 claim 대상이므로 알리지 않는다. (polling이 처리)
+
+create or replace function outbox_message_notify_pending() returns trigger
+    language plpgsql as $$
+begin
+    if exists (select 1 from new_rows) then
+        perform pg_notify('outbox_message_pending', '');
+    end if;
+    return null;
+end $$;
+
+create trigger tg_outbox_message_notify_pending
+    after insert on outbox_message
+    referencing new table as new_rows
+    for each statement execute function outbox_message_notify_pending();
@@ -0,0 +1,27 @@
+-- V22__add_outbox_relay_partitions.sql
+-- outbox relay를 aggregate_id hash 구간(논리 파티션)별로 나눠 인스턴스/스레드가 병렬로 claim 한다. (outbox.relay.enabled)
+--
+-- - relay_hash: 0 ~ 2^31-1. 파티션 p/N 은 [p * 2^31 / N, (p + 1) * 2^31 / N) 구간이다. (N을 바꿔도 다시 계산할 것 없음)
+--   파티션 claim은 relay_hash 전용 index 대신 claim 순서 index(V23)를 순서대로 읽으며 구간 밖 행을 거른다.
+--   (relay_hash가 선두인 index로는 구간 조건과 claim 순서 정렬을 함께 만족할 수 없어 구간 전체를 정렬하게 된다)
+-- - outbox_relay_member: 살아 있는 인스턴스(owner = OwnerResolver) heartbeat.
+-- - outbox_relay_lease: 파티션별 소유자와 lease 만료 시각. 만료되거나 반납된 파티션만 다른 인스턴스가 가져간다.
+-- - aggregate 순서: 같은 aggregate_id의 더 이른 PENDING/PROCESSING 행이 있으면 claim 하지 않는다. (ix_outbox_message_aggregate_unfinished)
+
+alter table outbox_message
+    add column relay_hash integer generated always as (hashtext(aggregate_id) & 2147483647) stored;
+
+create index if not exists ix_outbox_message_aggregate_unfinished
+    on outbox_message (aggregate_id, created_at, id)
+    where status in ('PENDING', 'PROCESSING');
+
+create table if not exists outbox_relay_member (
+    owner         varchar(100) primary key,
+    heartbeat_at  timestamptz not null
+);
+
+create table if not exists outbox_relay_lease (
+    partition_no  integer primary key,
+    owner         varchar(100) not null,
+    lease_until   timestamptz not null
+);
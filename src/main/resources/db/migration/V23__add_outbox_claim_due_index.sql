@@ -0,0 +1,20 @@
+-- V23__add_outbox_claim_due_index.sql
+-- claimBatch가 backlog 크기와 상관없이 batch만큼만 읽고 멈추도록 claim 갈래별로 순서 그대로의 부분 index를 둔다.
+--
+-- - ix_outbox_message_claim_new: 새 행(next_retry_at 없음). created_at 순서.
+-- - ix_outbox_message_claim_retry: 재시도 대기 행. next_retry_at <= now 가 범위 조건이라 아직 안 된 행은 읽지 않는다.
+--   claim은 두 index를 각각 LIMIT 만큼 읽어 COALESCE(next_retry_at, created_at), created_at 순으로 합친다.
+-- - ix_outbox_message_claim_scope: scope(aggregate_id 접두어) claim. LIKE 대신 collate "C" 범위 조건으로 찾는다.
+-- - ix_outbox_polling(V1)은 reaper(PROCESSING)와 backlog 집계가 계속 쓰므로 남겨 둔다.
+
+create index if not exists ix_outbox_message_claim_new
+    on outbox_message (created_at)
+    where status = 'PENDING' and next_retry_at is null;
+
+create index if not exists ix_outbox_message_claim_retry
+    on outbox_message (next_retry_at, created_at)
+    where status = 'PENDING' and next_retry_at is not null;
+
+create index if not exists ix_outbox_message_claim_scope
+    on outbox_message ((aggregate_id collate "C"))
+    where status = 'PENDING';
@@ -0,0 +1,83 @@
+package com.yunhwan.auth.error.app.autherror;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.app.autherror.AuthErrorImportReader.ImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthErrorImportReader NDJSON/CSV 스트리밍 파싱 테스트")
+class AuthErrorImportReaderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("NDJSON은 빈 줄을 건너뛰고, 깨진 줄은 줄 번호와 함께 오류 행으로 돌려준다")
+    void reads_ndjson_and_reports_invalid_lines() throws IOException {
+        String input = """
+                {"requestId":"REQ-1","occurredAt":"2026-01-01T00:00:00Z","httpStatus":401,"exceptionClass":"E","stacktrace":"s"}
+
+                {"requestId":"REQ-2",
+                {"requestId":"REQ-3","occurredAt":"2026-01-01T00:00:01Z","httpStatus":401,"exceptionClass":"E","stacktrace":"s"}
+                """;
+
+        List<ImportRow> rows = readAll(input, AuthErrorImportFormat.NDJSON);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().requestId()).isEqualTo("REQ-1");
+        assertThat(rows.get(0).request().occurredAt()).isEqualTo(OffsetDateTime.parse("2026-01-01T00:00:00Z"));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).error()).startsWith("invalid json");
+        assertThat(rows.get(2).request().requestId()).isEqualTo("REQ-3");
+        assertThat(rows.get(2).line()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("CSV는 header 이름으로 매핑하고, 따옴표 안의 줄바꿈/쉼표/\"\" 이스케이프와 빈 필드(null)를 처리한다")
+    void reads_csv_with_quoted_multiline_fields() throws IOException {
+        String input = "requestId,occurredAt,httpStatus,exceptionClass,stacktrace,exceptionMessage\r\n"
+                + "REQ-1,2026-01-01T00:00:00Z,401,E,\"line1\nline2, with comma\",\"say \"\"hi\"\"\"\r\n"
+                + "REQ-2,2026-01-01T00:00:00Z,401,E,s,\r\n"
+                + "REQ-3,2026-01-01T00:00:00Z,not-a-number,E,s,m\n"
+                + "REQ-4,only-two-columns\n";
+
+        List<ImportRow> rows = readAll(input, AuthErrorImportFormat.CSV);
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).request().stacktrace()).isEqualTo("line1\nline2, with comma");
+        assertThat(rows.get(0).request().exceptionMessage()).isEqualTo("say \"hi\"");
+        assertThat(rows.get(0).request().httpStatus()).isEqualTo(401);
+        assertThat(rows.get(1).request().exceptionMessage()).isNull();
+        assertThat(rows.get(2).error()).startsWith("invalid field");
+        assertThat(rows.get(3).error()).startsWith("column count mismatch");
+        assertThat(rows).extracting(ImportRow::line).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표로 입력이 끝나면 이후 행을 신뢰할 수 없으므로 IOException")
+    void unclosed_quote_aborts() {
+        String input = "requestId,stacktrace\nREQ-1,\"never closed\n";
+
+        assertThatThrownBy(() -> readAll(input, AuthErrorImportFormat.CSV)).isInstanceOf(IOException.class);
+    }
+
+    private static List<ImportRow> readAll(String input, AuthErrorImportFormat format) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (AuthErrorImportReader reader = new AuthErrorImportReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, OBJECT_MAPPER)) {
+            for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
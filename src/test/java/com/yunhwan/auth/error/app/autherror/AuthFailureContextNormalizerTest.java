@@ -3,6 +3,10 @@ package com.yunhwan.auth.error.app.autherror;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("[13] Auth failure context normalizer")
@@ -36,4 +40,111 @@ class AuthFailureContextNormalizerTest {
         assertThat(AuthFailureContextNormalizer.normalizeHash("raw-user@example.com"))
                 .isNull();
     }
+
+    @Test
+    @DisplayName("줄바꿈 정규화/trim/절단은 CRLF와 CR을 LF로 통일하고 공백뿐이면 null을 돌려준다")
+    void text는_줄바꿈을_정규화하고_절단한다() {
+        assertThat(AuthFailureContextNormalizer.normalizeText("  a\r\nb\rc\n  ", 100)).isEqualTo("a\nb\nc");
+        assertThat(AuthFailureContextNormalizer.normalizeText("a\r\nbcdef", 3)).isEqualTo("a\nb");
+        assertThat(AuthFailureContextNormalizer.normalizeText(" \r\n\t ", 100)).isNull();
+        assertThat(AuthFailureContextNormalizer.normalizeText("abc", 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("single-pass 정규화 결과는 기존 regex/replace 구현과 문자 단위로 동일하다")
+    void single_pass_정규화는_기존_구현과_동일하다() {
+        List<String> edgeCases = List.of(
+                "", " ", "\t\r\n", "?", " ?a=b", "//", "/a///b//?x//y", "--__--", "a-b c.d/e",
+                "straße", "ınt", "ſtate", "ﬃx", "İd", "é😀x", "\uD83D", "a\uD83D b", "__x__",
+                "ABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCDEFABCD",
+                " abcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcd\n",
+                "abcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcdefabcg",
+                "a\r\r\nb", "\r\na\r"
+        );
+        for (String input : edgeCases) {
+            assertSameAsLegacy(input);
+        }
+
+        String alphabet = " \t\r\n-_/?.aAzZ09ßıſﬃİé😀";
+        Random random = new Random(20260101L);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(i % 100 == 0 ? 400 : 24);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertSameAsLegacy(sb.toString());
+        }
+    }
+
+    private static void assertSameAsLegacy(String input) {
+        for (int maxChars : new int[]{0, 1, 3, 50, 8_000}) {
+            assertThat(AuthFailureContextNormalizer.normalizeText(input, maxChars))
+                    .as("text(%s, %d)", input, maxChars)
+                    .isEqualTo(LegacyNormalizer.text(input, maxChars));
+        }
+        assertThat(AuthFailureContextNormalizer.normalizeClientType(input))
+                .as("token(%s)", input)
+                .isEqualTo(LegacyNormalizer.token(input, 50));
+        assertThat(AuthFailureContextNormalizer.normalizeEndpoint(input))
+                .as("endpoint(%s)", input)
+                .isEqualTo(LegacyNormalizer.endpoint(input));
+        assertThat(AuthFailureContextNormalizer.normalizeHash(input))
+                .as("hash(%s)", input)
+                .isEqualTo(LegacyNormalizer.hash(input));
+    }
+
+    /**
+     * single-pass 전환 이전 구현(비교 기준).
+     */
+    private static final class LegacyNormalizer {
+
+        static String text(String input, int maxChars) {
+            if (input == null) {
+                return null;
+            }
+            String s = input.replace("\r\n", "\n").replace("\r", "\n").trim();
+            if (s.isEmpty() || maxChars <= 0) {
+                return null;
+            }
+            return s.length() <= maxChars ? s : s.substring(0, maxChars);
+        }
+
+        static String token(String value, int maxChars) {
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.trim().toUpperCase(Locale.ROOT)
+                    .replace('-', '_')
+                    .replaceAll("[^A-Z0-9_./]", "_")
+                    .replaceAll("_+", "_");
+            if (normalized.isEmpty()) {
+                return null;
+            }
+            return normalized.length() <= maxChars ? normalized : normalized.substring(0, maxChars);
+        }
+
+        static String endpoint(String value) {
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.trim();
+            if (normalized.isEmpty()) {
+                return null;
+            }
+            if (normalized.indexOf('?') >= 0) {
+                normalized = normalized.substring(0, normalized.indexOf('?'));
+            }
+            normalized = normalized.replaceAll("/{2,}", "/");
+            return normalized.length() <= 300 ? normalized : normalized.substring(0, 300);
+        }
+
+        static String hash(String value) {
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            return normalized.matches("^[0-9a-f]{64}$") ? normalized : null;
+        }
+    }
 }
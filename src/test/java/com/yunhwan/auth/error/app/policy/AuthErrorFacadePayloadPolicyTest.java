@@ -55,8 +55,9 @@ class AuthErrorFacadePayloadPolicyTest extends AbstractStubIntegrationTest {
                 requestId
         );
 
+        // stacktrace는 cold 컬럼(auth_error_detail)이다. (V18)
         int savedStackLen = queryLengthByCandidates(
-                "auth_error",
+                "auth_error a join auth_error_detail d on d.auth_error_id = a.id and d.occurred_at = a.occurred_at",
                 "stacktrace",
                 "stack_trace",
                 "stack_trace_text",
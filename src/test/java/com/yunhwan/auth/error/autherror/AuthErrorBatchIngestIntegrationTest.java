@@ -0,0 +1,121 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-01B] AuthError 배치 수집 통합 테스트")
+class AuthErrorBatchIngestIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01B] 배치 적재 시 항목별 auth_error/outbox가 1건씩 생성되고 입력 순서대로 결과를 반환한다")
+    void 배치_적재_시_항목별_auth_error와_outbox가_생성된다() {
+        String prefix = "REQ-BATCH-" + UUID.randomUUID();
+        List<AuthErrorWriteCommand> cmds = List.of(
+                newTestCommand(prefix + "-1"),
+                newTestCommand(prefix + "-2"),
+                newTestCommand(prefix + "-3")
+        );
+
+        List<AuthErrorBatchWriteResult> results = authErrorWriter.recordBatch(cmds);
+
+        assertThat(results).hasSize(3);
+        assertThat(results).extracting(AuthErrorBatchWriteResult::requestId)
+                .containsExactly(prefix + "-1", prefix + "-2", prefix + "-3");
+        assertThat(results).noneMatch(AuthErrorBatchWriteResult::duplicate);
+        assertThat(results).extracting(AuthErrorBatchWriteResult::authErrorId).doesNotHaveDuplicates();
+
+        for (AuthErrorBatchWriteResult r : results) {
+            assertThat(countAuthErrorByRequestId(r.requestId())).isEqualTo(1L);
+            assertThat(recordedOutboxAggregateId(r.outboxId()))
+                    .withFailMessage("outbox aggregate_id는 authErrorId와 일치해야 합니다.")
+                    .isEqualTo(String.valueOf(r.authErrorId()));
+        }
+    }
+
+    @Test
+    @DisplayName("[TS-01B] 기존 적재분과 배치 내부 중복은 dedup hit로 표시되고 같은 id를 반환한다")
+    void 기존_적재분과_배치_내부_중복은_dedup_hit로_반환된다() {
+        String prefix = "REQ-BATCH-DUP-" + UUID.randomUUID();
+        AuthErrorWriteResult existing = authErrorWriter.record(newTestCommand(prefix + "-existing"));
+
+        List<AuthErrorBatchWriteResult> results = authErrorWriter.recordBatch(List.of(
+                newTestCommand(prefix + "-existing"),
+                newTestCommand(prefix + "-new"),
+                newTestCommand(prefix + "-new")
+        ));
+
+        assertThat(results.get(0).duplicate()).isTrue();
+        assertThat(results.get(0).authErrorId()).isEqualTo(existing.authErrorId());
+        assertThat(results.get(0).outboxId()).isEqualTo(existing.outboxId());
+
+        assertThat(results.get(1).duplicate()).isFalse();
+        assertThat(results.get(2).duplicate()).isTrue();
+        assertThat(results.get(2).authErrorId()).isEqualTo(results.get(1).authErrorId());
+        assertThat(results.get(2).outboxId()).isEqualTo(results.get(1).outboxId());
+
+        assertThat(countAuthErrorByRequestId(prefix + "-existing")).isEqualTo(1L);
+        assertThat(countAuthErrorByRequestId(prefix + "-new")).isEqualTo(1L);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                "stacktrace"
+        );
+    }
+
+    private long countAuthErrorByRequestId(String requestId) {
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from auth_error where request_id = ?",
+                Long.class,
+                requestId
+        );
+        return count == null ? 0L : count;
+    }
+
+    private String recordedOutboxAggregateId(Long outboxId) {
+        return jdbcTemplate.queryForObject(
+                "select aggregate_id from outbox_message where id = ? and event_type = 'auth.error.recorded.v1'",
+                String.class,
+                outboxId
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.analysis.AuthErrorAnalysisResult;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.testsupport.config.DataSourceProxyTestConfig;
+import com.yunhwan.auth.error.testsupport.config.DataSourceProxyTestConfig.Execution;
+import com.yunhwan.auth.error.testsupport.config.DataSourceProxyTestConfig.StatementRecorder;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorAnalysisResultStore;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-01H] pooled sequence + JDBC batch INSERT 통합 테스트")
+@Import(DataSourceProxyTestConfig.class)
+class AuthErrorBatchInsertIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    AuthErrorStore authErrorStore;
+
+    @Autowired
+    AuthErrorAnalysisResultStore analysisResultStore;
+
+    @Autowired
+    StatementRecorder statementRecorder;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        statementRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("[TS-01H] 한 트랜잭션의 AuthError N건은 auth_error/auth_error_detail 각각 batch 실행 1회로 INSERT 된다")
+    void 다건_저장은_테이블별_batch_한번이다() {
+        String prefix = "REQ-TS01H-" + UUID.randomUUID();
+
+        List<AuthError> saved = transactionTemplate.execute(status -> {
+            List<AuthError> result = new ArrayList<>();
+            for (int i = 0; i < ROWS; i++) {
+                result.add(authErrorStore.save(newAuthError(prefix + "-" + i)));
+            }
+            return result;
+        });
+
+        assertThat(saved).extracting(AuthError::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+        List<Execution> executions = statementRecorder.executions();
+        assertSingleBatchInsert(executions, "auth_error");
+        assertSingleBatchInsert(executions, "auth_error_detail");
+        // allocationSize(50) 안에서는 sequence 조회가 많아야 구간 경계에서 한 번 더 일어난다.
+        assertThat(executions).filteredOn(e -> e.touches("auth_error_id_seq")).hasSizeLessThanOrEqualTo(2);
+        // Persistable(isNew)로 detail 저장 시 merge용 SELECT가 없다.
+        assertThat(executions).filteredOn(e -> e.isSelect() && e.touches("auth_error_detail")).isEmpty();
+
+        Long count = jdbcTemplate.queryForObject("""
+                select count(*)
+                  from auth_error a
+                  join auth_error_detail d on d.auth_error_id = a.id and d.occurred_at = a.occurred_at
+                 where a.request_id like ?
+                """, Long.class, prefix + "%");
+        assertThat(count).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("[TS-01H] 분석 결과 N건도 batch 실행 1회로 INSERT 된다")
+    void 분석_결과_다건_저장은_batch_한번이다() {
+        long authErrorId = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                analysisResultStore.save(AuthErrorAnalysisResult.builder()
+                        .authErrorId(authErrorId)
+                        .analysisVersion("v-ts01h")
+                        .model("batch-test")
+                        .category("TEST")
+                        .severity("LOW")
+                        .summary("summary-" + i)
+                        .suggestedAction("none")
+                        .confidence(new BigDecimal("0.500"))
+                        .build());
+            }
+        });
+
+        assertSingleBatchInsert(statementRecorder.executions(), "auth_error_analysis_result");
+        Long count = jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_analysis_result where auth_error_id = ?", Long.class, authErrorId);
+        assertThat(count).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("[TS-01H] sequence increment는 엔티티 allocationSize(50)와 같다")
+    void sequence_increment는_allocationSize와_같다() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                select sequencename, increment_by
+                  from pg_sequences
+                 where sequencename in ('auth_error_id_seq', 'auth_error_analysis_result_id_seq', 'outbox_message_id_seq')
+                """);
+
+        assertThat(rows).hasSize(3)
+                .allSatisfy(row -> assertThat(((Number) row.get("increment_by")).longValue()).isEqualTo(50L));
+    }
+
+    /**
+     * Hibernate가 한 번의 executeBatch로 보냈고(batchSize = ROWS),
+     * pgjdbc가 multi-row INSERT로 다시 썼다(reWriteBatchedInserts: 행별 결과 대신 SUCCESS_NO_INFO).
+     */
+    private static void assertSingleBatchInsert(List<Execution> executions, String table) {
+        List<Execution> inserts = executions.stream().filter(e -> e.isInsertInto(table)).toList();
+
+        assertThat(inserts).hasSize(1);
+        Execution insert = inserts.get(0);
+        assertThat(insert.batch()).isTrue();
+        assertThat(insert.batchSize()).isEqualTo(ROWS);
+        assertThat(insert.updateCounts()).hasSize(ROWS).containsOnly(Statement.SUCCESS_NO_INFO);
+    }
+
+    private AuthError newAuthError(String requestId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        AuthError authError = AuthError.record(requestId, now, now, "test", "test");
+        authError.applyRequestContext("POST", "/api/login", "127.0.0.1", "JUnit", "test-user", "test-session");
+        authError.applyExceptionContext("IllegalStateException", "test exception", null, null, "trace-" + requestId, 401);
+        return authError;
+    }
+}
@@ -0,0 +1,121 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.domain.autherror.StackHashUtil;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBulkWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-01D] AuthError 대량 적재(COPY) 통합 테스트")
+class AuthErrorBulkImportIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01D] 기존 적재분/묶음 내부 중복은 duplicate로 세고, 새 행만 outbox 없이 적재한다")
+    void 대량_적재는_중복을_건너뛰고_outbox_없이_적재한다() {
+        String prefix = "REQ-BULK-" + UUID.randomUUID();
+        authErrorWriter.record(newTestCommand(prefix + "-existing", "stacktrace"));
+
+        AuthErrorBulkWriteResult result = authErrorWriter.recordBulk(List.of(
+                newTestCommand(prefix + "-existing", "stacktrace"),
+                newTestCommand(prefix + "-1", "stacktrace"),
+                newTestCommand(prefix + "-2", "stacktrace"),
+                newTestCommand(prefix + "-2", "stacktrace")
+        ), false);
+
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(count("select count(*) from auth_error where request_id like ?", prefix + "%")).isEqualTo(3L);
+        assertThat(count("""
+                select count(*) from outbox_message o
+                join auth_error a on o.aggregate_id = a.id::text
+                where a.request_id in (?, ?)
+                """, prefix + "-1", prefix + "-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("[TS-01D] COPY(csv)로 적재한 값은 따옴표/줄바꿈/null까지 그대로 저장되고 stack_hash는 단건 경로와 같다")
+    void COPY_적재값은_그대로_저장되고_stack_hash가_같다() {
+        String requestId = "REQ-BULK-ESC-" + UUID.randomUUID();
+        String stacktrace = "java.lang.IllegalStateException: \"quoted\", comma\r\n\tat a.B.c(B.java:1)\n\t한글 프레임";
+
+        authErrorWriter.recordBulk(List.of(newTestCommand(requestId, stacktrace)), false);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select d.stacktrace, encode(a.stack_hash, 'hex') as stack_hash, a.root_cause_class, a.error_type, a.auth_failure_security_signal"
+                        + " from auth_error a join auth_error_detail d on d.auth_error_id = a.id and d.occurred_at = a.occurred_at"
+                        + " where a.request_id = ?",
+                requestId
+        );
+        assertThat(row.get("stacktrace")).isEqualTo(stacktrace);
+        assertThat(row.get("stack_hash")).isEqualTo(StackHashUtil.compute("IllegalStateException", stacktrace));
+        assertThat(row.get("root_cause_class")).isNull();
+        assertThat(row.get("error_type")).isEqualTo("TOKEN_EXPIRED");
+        assertThat(row.get("auth_failure_security_signal")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("[TS-01D] enqueueOutbox면 새로 적재된 행마다 recorded outbox가 1건씩 생긴다")
+    void enqueueOutbox면_recorded_outbox가_생성된다() {
+        String prefix = "REQ-BULK-OUTBOX-" + UUID.randomUUID();
+
+        AuthErrorBulkWriteResult result = authErrorWriter.recordBulk(List.of(
+                newTestCommand(prefix + "-1", "stacktrace"),
+                newTestCommand(prefix + "-2", "stacktrace")
+        ), true);
+
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(count("""
+                select count(*) from outbox_message o
+                join auth_error a on o.aggregate_id = a.id::text
+                where a.request_id like ? and o.event_type = 'auth.error.recorded.v1'
+                """, prefix + "%")).isEqualTo(2L);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId, String stacktrace) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                stacktrace
+        );
+    }
+
+    private long count(String sql, Object... args) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count == null ? 0L : count;
+    }
+}
@@ -0,0 +1,149 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
+import com.yunhwan.auth.error.infra.messaging.rabbit.RabbitTopologyConfig;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorRecordedPayload;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import com.yunhwan.auth.error.usecase.consumer.handler.AuthErrorHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-01G] auth_error hot/cold 분할(auth_error_detail) 통합 테스트")
+class AuthErrorDetailSplitIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    AuthErrorStore authErrorStore;
+
+    @Autowired
+    @Qualifier("authErrorRecordedHandler")
+    AuthErrorHandler recordedHandler;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01G] 단건/배치/대량 경로 모두 cold 컬럼은 auth_error_detail에 같은 occurred_at으로 저장된다")
+    void cold_컬럼은_detail_테이블에_저장된다() {
+        String prefix = "REQ-DETAIL-" + UUID.randomUUID();
+
+        authErrorWriter.record(newTestCommand(prefix + "-1", "trace-1"));
+        authErrorWriter.recordBatch(List.of(newTestCommand(prefix + "-2", "trace-2")));
+        authErrorWriter.recordBulk(List.of(newTestCommand(prefix + "-3", "trace-3")), false);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                select a.request_id, d.request_uri, d.user_agent, d.stacktrace
+                  from auth_error a
+                  join auth_error_detail d on d.auth_error_id = a.id and d.occurred_at = a.occurred_at
+                 where a.request_id like ?
+                 order by a.request_id
+                """, prefix + "%");
+        assertThat(rows).hasSize(3);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i).get("request_uri")).isEqualTo("/api/login");
+            assertThat(rows.get(i).get("user_agent")).isEqualTo("JUnit");
+            assertThat(rows.get(i).get("stacktrace")).isEqualTo("trace-" + (i + 1));
+        }
+
+        Long coldColumnsOnHot = jdbcTemplate.queryForObject("""
+                select count(*) from information_schema.columns
+                 where table_name = 'auth_error'
+                   and column_name in ('request_uri', 'user_agent', 'stacktrace', 'request_headers', 'request_body', 'extra_context')
+                """, Long.class);
+        assertThat(coldColumnsOnHot).isZero();
+    }
+
+    @Test
+    @DisplayName("[TS-01G] 조회는 hot 컬럼만 읽고, loadDetail을 호출해야 cold 컬럼이 채워진다")
+    void loadDetail로만_cold_컬럼을_읽는다() {
+        String requestId = "REQ-DETAIL-LOAD-" + UUID.randomUUID();
+        Long id = authErrorWriter.record(newTestCommand(requestId, "trace-load")).authErrorId();
+
+        AuthError found = authErrorStore.findById(id).orElseThrow();
+        assertThat(found.isDetailLoaded()).isFalse();
+        assertThat(found.getStacktrace()).isNull();
+
+        authErrorStore.loadDetail(found);
+
+        assertThat(found.isDetailLoaded()).isTrue();
+        assertThat(found.getStacktrace()).isEqualTo("trace-load");
+        assertThat(found.getRequestUri()).isEqualTo("/api/login");
+        assertThat(found.getUserAgent()).isEqualTo("JUnit");
+    }
+
+    @Test
+    @DisplayName("[TS-01G] 상태 전이(recorded 처리 → ANALYSIS_REQUESTED)는 auth_error_detail 행을 다시 쓰지 않는다")
+    void 상태_전이는_detail_행을_건드리지_않는다() throws Exception {
+        String requestId = "REQ-DETAIL-HOT-" + UUID.randomUUID();
+        Long id = authErrorWriter.record(newTestCommand(requestId, "trace-hot")).authErrorId();
+        AuthError authError = authErrorStore.findById(id).orElseThrow();
+        String detailXminBefore = detailXmin(id);
+
+        String payloadJson = objectMapper.writeValueAsString(new AuthErrorRecordedPayload(
+                id, requestId, authError.getOccurredAt(), authError.getReceivedAt()));
+        recordedHandler.handle(payloadJson, headers(RabbitTopologyConfig.RK_RECORDED));
+
+        assertThat(authErrorStore.findById(id).orElseThrow().getStatus()).isEqualTo(AuthErrorStatus.ANALYSIS_REQUESTED);
+        assertThat(detailXmin(id)).isEqualTo(detailXminBefore);
+    }
+
+    private String detailXmin(Long authErrorId) {
+        return jdbcTemplate.queryForObject(
+                "select xmin::text from auth_error_detail where auth_error_id = ?", String.class, authErrorId);
+    }
+
+    private Map<String, Object> headers(String eventType) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("outboxId", 1001L);
+        headers.put("eventType", eventType);
+        headers.put("aggregateType", "auth_error");
+        return headers;
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId, String stacktrace) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                stacktrace
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorPartitionStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-01F] auth_error 일 단위 파티션 통합 테스트")
+class AuthErrorPartitionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    AuthErrorPartitionStore partitionStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01F] 행은 occurred_at 날짜 파티션에 저장되고, 같은 requestId는 단건/배치/대량 경로 모두 1건만 남는다")
+    void 날짜_파티션에_저장되고_중복은_1건만_남는다() {
+        String requestId = "REQ-PART-" + UUID.randomUUID();
+        OffsetDateTime occurredAt = OffsetDateTime.now(ZoneOffset.UTC);
+
+        AuthErrorWriteResult first = authErrorWriter.record(newTestCommand(requestId, occurredAt));
+        AuthErrorWriteResult second = authErrorWriter.record(newTestCommand(requestId, occurredAt));
+        authErrorWriter.recordBatch(List.of(newTestCommand(requestId, occurredAt)));
+        authErrorWriter.recordBulk(List.of(newTestCommand(requestId, occurredAt)), false);
+
+        assertThat(second.authErrorId()).isEqualTo(first.authErrorId());
+        assertThat(second.outboxId()).isEqualTo(first.outboxId());
+        assertThat(jdbcTemplate.queryForList(
+                "select tableoid::regclass::text from auth_error where request_id = ?", String.class, requestId))
+                .containsExactly("auth_error_p" + occurredAt.toLocalDate().toString().replace("-", ""));
+    }
+
+    @Test
+    @DisplayName("[TS-01F] partitioned auth_error에 보조 인덱스가 모두 있다 (V14 legacy 이름 충돌 회귀)")
+    void 보조_인덱스가_parent에_있다() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select indexname from pg_indexes where schemaname = current_schema() and tablename = 'auth_error'",
+                String.class);
+
+        assertThat(indexes).contains(
+                "ix_auth_error_occurred_at",
+                "ix_auth_error_status_next_retry",
+                "ix_auth_error_request_id",
+                "ix_auth_error_trace_id",
+                "ix_auth_error_service_env_time",
+                "ix_auth_error_stack_hash",
+                "ix_auth_error_dedup_key",
+                "ix_auth_error_type_time",
+                "ix_auth_error_provider_type_time",
+                "ix_auth_error_client_type_time",
+                "ix_auth_error_principal_hash_time",
+                "ix_auth_error_ip_hash_time");
+        assertThat(indexes).noneMatch(name -> name.endsWith("_legacy"));
+    }
+
+    @Test
+    @DisplayName("[TS-01F] occurred_at 범위 조회는 해당 날짜 파티션만 읽는다")
+    void occurred_at_범위_조회는_파티션_하나만_읽는다() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "explain select id from auth_error where occurred_at >= timestamptz '" + today + "T00:00:00Z'"
+                        + " and occurred_at < timestamptz '" + today.plusDays(1) + "T00:00:00Z'",
+                String.class));
+
+        assertThat(plan).contains("auth_error_p" + today.toString().replace("-", ""));
+        assertThat(plan.split("auth_error_p", -1)).hasSize(2);
+        assertThat(plan).doesNotContain("auth_error_default");
+    }
+
+    @Test
+    @DisplayName("[TS-01F] 파티션 생성 시 default 파티션 행을 옮기고, drop 하면 행과 dedup guard가 함께 사라진다")
+    void 파티션_생성은_default_행을_옮기고_drop은_행과_guard를_지운다() {
+        LocalDate day = LocalDate.of(2099, 3, 1);
+        String partition = "auth_error_p20990301";
+        partitionStore.dropDailyPartition(day);
+
+        String requestId = "REQ-PART-FUTURE-" + UUID.randomUUID();
+        OffsetDateTime occurredAt = day.atTime(12, 0).atOffset(ZoneOffset.UTC);
+        AuthErrorWriteResult before = authErrorWriter.record(newTestCommand(requestId, occurredAt));
+        assertThat(partitionOf(requestId)).containsExactly("auth_error_default");
+
+        assertThat(partitionStore.createDailyPartition(day)).isTrue();
+        assertThat(partitionStore.createDailyPartition(day)).isFalse();
+        assertThat(partitionStore.findDailyPartitions()).contains(day);
+        assertThat(partitionOf(requestId)).containsExactly(partition);
+        // 옮긴 뒤에도 dedup 유지
+        assertThat(authErrorWriter.record(newTestCommand(requestId, occurredAt)).authErrorId())
+                .isEqualTo(before.authErrorId());
+
+        assertThat(partitionStore.dropDailyPartition(day)).isTrue();
+        assertThat(partitionStore.findDailyPartitions()).doesNotContain(day);
+        assertThat(partitionOf(requestId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_dedup_key where occurred_at = ?", Long.class, occurredAt)).isZero();
+
+        // guard가 정리됐으므로 같은 requestId를 다시 적재할 수 있다.
+        AuthErrorWriteResult after = authErrorWriter.record(newTestCommand(requestId, occurredAt));
+        assertThat(after.authErrorId()).isNotEqualTo(before.authErrorId());
+        assertThat(partitionOf(requestId)).containsExactly("auth_error_default");
+        jdbcTemplate.update("delete from auth_error where request_id = ?", requestId);
+    }
+
+    private List<String> partitionOf(String requestId) {
+        return jdbcTemplate.queryForList(
+                "select tableoid::regclass::text from auth_error where request_id = ?", String.class, requestId);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId, OffsetDateTime occurredAt) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                occurredAt,
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                "java.lang.IllegalStateException: test\n\tat a.B.c(B.java:1)"
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.domain.outbox.policy.PayloadSerializer;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorRecordedPayload;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "auth-error.ingest.write-mode=single-statement")
+@DisplayName("[TS-01C] AuthError 단일 statement 적재 통합 테스트")
+class AuthErrorSingleStatementIngestIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    PayloadSerializer payloadSerializer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01C] 단일 statement 적재 결과는 JPA 경로와 같은 outbox 계약(aggregate_id/idempotency_key/payload_hash)을 만든다")
+    void 단일_statement_적재는_JPA_경로와_같은_outbox_계약을_만든다() throws Exception {
+        String requestId = "REQ-SINGLE-" + UUID.randomUUID();
+
+        AuthErrorWriteResult result = authErrorWriter.record(newTestCommand(requestId));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select id from auth_error where request_id = ?", Long.class, requestId))
+                .isEqualTo(result.authErrorId());
+
+        Map<String, Object> outbox = jdbcTemplate.queryForMap(
+                "select aggregate_id, idempotency_key, encode(payload_hash, 'hex') as payload_hash, "
+                        + "payload ->> 'occurredAt' as occurred_at, payload ->> 'receivedAt' as received_at "
+                        + "from outbox_message where id = ?",
+                result.outboxId()
+        );
+        assertThat(outbox.get("aggregate_id")).isEqualTo(String.valueOf(result.authErrorId()));
+        assertThat(outbox.get("idempotency_key")).isEqualTo("auth_error:recorded:" + result.authErrorId());
+
+        // jsonb는 문자열 값을 그대로 보존하므로 payload의 시각 문자열로 OutboxWriter 직렬화 결과를 재현할 수 있다.
+        String expectedJson = payloadSerializer.serialize(new AuthErrorRecordedPayload(
+                result.authErrorId(),
+                requestId,
+                OffsetDateTime.parse((String) outbox.get("occurred_at")),
+                OffsetDateTime.parse((String) outbox.get("received_at"))
+        ));
+        String expectedHash = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(expectedJson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(outbox.get("payload_hash"))
+                .withFailMessage("DB에서 계산한 payload_hash는 OutboxWriter 규칙과 같아야 합니다.")
+                .isEqualTo(expectedHash);
+    }
+
+    @Test
+    @DisplayName("[TS-01C] 동일 requestId 재적재 시 auth_error/outbox는 1건이고 같은 id를 반환한다")
+    void 동일_requestId_재적재_시_같은_id를_반환한다() {
+        String requestId = "REQ-SINGLE-DUP-" + UUID.randomUUID();
+        AuthErrorWriteCommand cmd = newTestCommand(requestId);
+
+        AuthErrorWriteResult first = authErrorWriter.record(cmd);
+        AuthErrorWriteResult second = authErrorWriter.record(cmd);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from auth_error where request_id = ?", Long.class, requestId)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from outbox_message where aggregate_id = ? and event_type = 'auth.error.recorded.v1'",
+                Long.class, String.valueOf(first.authErrorId()))).isEqualTo(1L);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                "stacktrace"
+        );
+    }
+}
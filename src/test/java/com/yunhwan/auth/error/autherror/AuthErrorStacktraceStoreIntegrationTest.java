@@ -0,0 +1,108 @@
+package com.yunhwan.auth.error.autherror;
+
+import com.yunhwan.auth.error.common.hash.Sha256Hasher;
+import com.yunhwan.auth.error.domain.autherror.StackHashUtil;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStacktraceStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "auth-error.stacktrace-store.enabled=true")
+@DisplayName("[TS-01E] stacktrace 분리 저장(내용 주소) 통합 테스트")
+class AuthErrorStacktraceStoreIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    AuthErrorStacktraceStore stacktraceStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-01E] 같은 stacktrace는 단건/배치/대량 경로 모두 한 행만 저장되고 auth_error에는 참조만 남는다")
+    void 같은_stacktrace는_한_번만_저장되고_참조만_남는다() {
+        String prefix = "REQ-TRACE-" + UUID.randomUUID();
+        String stacktrace = prefix + " java.lang.IllegalStateException: token expired\n"
+                + "\tat com.example.auth.TokenVerifier.verify(TokenVerifier.java:42)\n".repeat(50);
+
+        authErrorWriter.record(newTestCommand(prefix + "-1", stacktrace));
+        authErrorWriter.recordBatch(List.of(
+                newTestCommand(prefix + "-2", stacktrace),
+                newTestCommand(prefix + "-3", stacktrace)
+        ));
+        authErrorWriter.recordBulk(List.of(newTestCommand(prefix + "-4", stacktrace)), false);
+
+        String traceHash = Sha256Hasher.hex(stacktrace);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select d.stacktrace, a.stacktrace_hash, encode(a.stack_hash, 'hex') as stack_hash from auth_error a"
+                        + " left join auth_error_detail d on d.auth_error_id = a.id and d.occurred_at = a.occurred_at"
+                        + " where a.request_id like ?", prefix + "%");
+        assertThat(rows).hasSize(4).allSatisfy(row -> {
+            assertThat(row.get("stacktrace")).isNull();
+            assertThat(row.get("stacktrace_hash")).isEqualTo(traceHash);
+            // stack_hash(그룹 키)는 분리 전 원문 기준 그대로
+            assertThat(row.get("stack_hash")).isEqualTo(StackHashUtil.compute("IllegalStateException", stacktrace));
+        });
+
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "select count(*) over () as cnt, codec, raw_length, octet_length(content) as bytes "
+                        + "from auth_error_stacktrace where trace_hash = ?", traceHash);
+        assertThat(stored.get("cnt")).isEqualTo(1L);
+        assertThat(stored.get("codec")).isEqualTo("DEFLATE");
+        assertThat(stored.get("raw_length")).isEqualTo(stacktrace.length());
+        assertThat(((Number) stored.get("bytes")).intValue()).isLessThan(stacktrace.length() / 4);
+    }
+
+    @Test
+    @DisplayName("[TS-01E] 압축 저장한 원문은 줄바꿈/한글까지 그대로 복원된다")
+    void 압축_저장한_원문은_그대로_복원된다() {
+        String requestId = "REQ-TRACE-RT-" + UUID.randomUUID();
+        String stacktrace = requestId + " java.lang.IllegalStateException: \"quoted\"\r\n\tat a.B.c(B.java:1)\n\t한글 프레임 😀";
+
+        authErrorWriter.record(newTestCommand(requestId, stacktrace));
+
+        String traceHash = jdbcTemplate.queryForObject(
+                "select stacktrace_hash from auth_error where request_id = ?", String.class, requestId);
+        assertThat(stacktraceStore.findByHash(traceHash)).contains(stacktrace);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId, String stacktrace) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                stacktrace
+        );
+    }
+}
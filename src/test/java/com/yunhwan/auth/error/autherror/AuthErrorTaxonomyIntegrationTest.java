@@ -52,8 +52,8 @@ class AuthErrorTaxonomyIntegrationTest extends AbstractIntegrationTest {
                        provider,
                        client_type,
                        endpoint,
-                       principal_hash,
-                       ip_hash,
+                       encode(principal_hash, 'hex') as principal_hash,
+                       encode(ip_hash, 'hex') as ip_hash,
                        user_agent_family
                   from auth_error
                  where request_id = ?
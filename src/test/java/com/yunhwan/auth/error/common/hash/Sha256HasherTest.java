@@ -0,0 +1,112 @@
+package com.yunhwan.auth.error.common.hash;
+
+import com.yunhwan.auth.error.domain.autherror.StackHashUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Sha256Hasher 호환성 테스트")
+class Sha256HasherTest {
+
+    private static final char[] SAMPLE_CHARS = {
+            'a', 'Z', '0', ' ', '\t', '\n', '\r', '\u0000',
+            'é', '߿', 'ࠀ', '가', '￿',
+            '\ud83d', '\ude00', '\udbff', '\udc00'
+    };
+
+    @Test
+    @DisplayName("MessageDigest + getBytes(UTF_8) + 소문자 hex와 같은 값을 만든다 (비ASCII/surrogate pair 포함)")
+    void hex_matches_message_digest() {
+        assertThat(Sha256Hasher.hex(""))
+                .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        for (String s : new String[]{"abc", "{\"authErrorId\":1}", "인증 실패", "emoji 😀 end"}) {
+            assertThat(Sha256Hasher.hex(s)).isEqualTo(legacySha256(s));
+        }
+    }
+
+    @Test
+    @DisplayName("짝이 맞지 않는 surrogate는 String.getBytes(UTF_8)처럼 '?'로 인코딩된다")
+    void unpaired_surrogate_is_encoded_like_get_bytes() {
+        for (String s : new String[]{"\ud83d", "\ude00", "a\ud83db", "\ude00\ud83d", "x\ud83d😀"}) {
+            assertThat(Sha256Hasher.hex(s)).isEqualTo(legacySha256(s));
+        }
+    }
+
+    @Test
+    @DisplayName("청크 경계를 넘는 긴 입력과 구간 지정(start, end)도 같은 값을 만든다")
+    void long_input_and_range_match_message_digest() {
+        Random random = new Random(20260101L);
+        for (int i = 0; i < 200; i++) {
+            String s = randomText(random, 3_000);
+            assertThat(Sha256Hasher.hex(s)).isEqualTo(legacySha256(s));
+            assertThat(Sha256Hasher.hex(new StringBuilder(s))).isEqualTo(legacySha256(s));
+
+            int start = s.isEmpty() ? 0 : random.nextInt(s.length());
+            int end = start + random.nextInt(s.length() - start + 1);
+            assertThat(Sha256Hasher.hex(s, start, end)).isEqualTo(legacySha256(s.substring(start, end)));
+        }
+    }
+
+    @Test
+    @DisplayName("StackHashUtil은 이전 구현(lines().limit(3) + trim + String.format hex)과 같은 stack_hash를 만든다")
+    void stack_hash_matches_legacy() {
+        assertThat(StackHashUtil.compute(null, null)).isEqualTo(legacyStackHash(null, null));
+        assertThat(StackHashUtil.compute("  ", " \n ")).isEqualTo(legacyStackHash("  ", " \n "));
+        assertThat(StackHashUtil.compute("java.lang.IllegalStateException", "a\r\nb\rc\nd\n"))
+                .isEqualTo(legacyStackHash("java.lang.IllegalStateException", "a\r\nb\rc\nd\n"));
+        assertThat(StackHashUtil.compute("E", "\n\nat x\n")).isEqualTo(legacyStackHash("E", "\n\nat x\n"));
+
+        Random random = new Random(7L);
+        for (int i = 0; i < 2_000; i++) {
+            String exceptionClass = random.nextInt(10) == 0 ? null : randomText(random, 12);
+            String stacktrace = random.nextInt(10) == 0 ? null : randomText(random, 60);
+            assertThat(StackHashUtil.compute(exceptionClass, stacktrace))
+                    .as("exceptionClass=%s, stacktrace=%s", exceptionClass, stacktrace)
+                    .isEqualTo(legacyStackHash(exceptionClass, stacktrace));
+        }
+    }
+
+    private static String randomText(Random random, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(random.nextInt(4) == 0
+                    ? (char) random.nextInt(0x10000)
+                    : SAMPLE_CHARS[random.nextInt(SAMPLE_CHARS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String legacySha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Sha256Hasher 도입 이전 StackHashUtil.compute */
+    private static String legacyStackHash(String exceptionClass, String stacktrace) {
+        String top = (stacktrace == null || stacktrace.isBlank())
+                ? ""
+                : stacktrace.lines().limit(3).collect(Collectors.joining("\n", "", "\n"));
+        String basis = ((exceptionClass == null ? "" : exceptionClass) + "\n" + top).trim();
+        try {
+            byte[] dig = MessageDigest.getInstance("SHA-256").digest(basis.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(dig.length * 2);
+            for (byte b : dig) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
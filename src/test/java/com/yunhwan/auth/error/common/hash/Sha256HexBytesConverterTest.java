@@ -0,0 +1,42 @@
+package com.yunhwan.auth.error.common.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Sha256HexBytesConverter 테스트")
+class Sha256HexBytesConverterTest {
+
+    private final Sha256HexBytesConverter converter = new Sha256HexBytesConverter();
+
+    @Test
+    @DisplayName("hex(64자) ↔ 32바이트 왕복 결과는 소문자 hex다")
+    void round_trip() {
+        String hex = Sha256Hasher.hex("auth_error:recorded:1");
+
+        byte[] bytes = converter.convertToDatabaseColumn(hex);
+
+        assertThat(bytes).hasSize(32);
+        assertThat(converter.convertToEntityAttribute(bytes)).isEqualTo(hex);
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(hex.toUpperCase())))
+                .isEqualTo(hex);
+    }
+
+    @Test
+    @DisplayName("null은 그대로 null이다")
+    void null_passes_through() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("길이가 64가 아니거나 hex가 아니면 저장 전에 거부한다")
+    void rejects_non_sha256_hex() {
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn("abcd"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> converter.convertToDatabaseColumn("z".repeat(64)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.yunhwan.auth.error.consumer;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractStubIntegrationTest;
+import com.yunhwan.auth.error.usecase.consumer.ProcessedMessageCompactor;
+import com.yunhwan.auth.error.usecase.consumer.dto.ProcessedMessageCompactionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * processed_message 정리(compaction) 통합 테스트.
+ * <p>
+ * 1. 재전달 가능 기간이 지난 DONE 행만 지운다.
+ * 2. outbox가 아직 PUBLISHED가 아니거나 대기 중인 retry 발행 요청이 있으면 남긴다.
+ * 3. 남긴 행이 배치 앞쪽에 몰려 있어도 keyset cursor로 다음 행을 계속 처리한다.
+ */
+@TestPropertySource(properties = {
+        "auth-error.processed-message-compaction.batch-size=2",
+        "auth-error.processed-message-compaction.pause-between-batches-ms=0"
+})
+@DisplayName("[TS-09B] processed_message 정리 통합 테스트")
+class ProcessedMessageCompactionIntegrationTest extends AbstractStubIntegrationTest {
+
+    private static final Duration REDELIVERY_HORIZON = Duration.ofMinutes(10);
+
+    @Autowired
+    ProcessedMessageCompactor compactor;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-09B] 재전달 가능 기간이 지난 DONE 행만 지우고, 미발행 outbox/대기 중 retry 요청/DEAD/최근 행은 남긴다")
+    void 안전_조건을_통과한_오래된_DONE_행만_지운다() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime old = now.minusDays(3);
+
+        // 남겨야 하는 행을 processed_at 순서 앞쪽에 둔다. (batch-size=2보다 많음)
+        long unpublished = insertOutbox("PENDING");
+        insertProcessed(unpublished, "DONE", old.minusMinutes(3));
+        long pendingRetry = insertOutbox("PUBLISHED");
+        insertProcessed(pendingRetry, "DONE", old.minusMinutes(2));
+        insertRetryPublishRequest(pendingRetry, now);
+        long dead = insertOutbox("PUBLISHED");
+        insertProcessed(dead, "DEAD", old.minusMinutes(1));
+
+        long published = insertOutbox("PUBLISHED");
+        insertProcessed(published, "DONE", old);
+        long archived = published + 1_000_000_000L; // outbox_message에 없음 (archive 후 만료)
+        insertProcessed(archived, "DONE", old.plusMinutes(1));
+        long recent = insertOutbox("PUBLISHED");
+        insertProcessed(recent, "DONE", now.minusMinutes(5));
+
+        ProcessedMessageCompactionResult result = compactor.compactOnce(REDELIVERY_HORIZON);
+
+        assertThat(result.completed()).isTrue();
+        assertThat(result.deleted()).isGreaterThanOrEqualTo(2);
+        assertThat(result.skipped()).isGreaterThanOrEqualTo(2);
+        assertThat(exists(published)).isFalse();
+        assertThat(exists(archived)).isFalse();
+        assertThat(exists(unpublished)).isTrue();
+        assertThat(exists(pendingRetry)).isTrue();
+        assertThat(exists(dead)).isTrue();
+        assertThat(exists(recent)).isTrue();
+    }
+
+    private long insertOutbox(String status) {
+        String key = "TEST:COMPACTION:" + UUID.randomUUID();
+        return jdbcTemplate.queryForObject(
+                """
+                insert into outbox_message
+                  (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash, status)
+                values ('TEST', ?, 'TEST_EVENT', '{}'::jsonb, ?, sha256(convert_to(?, 'UTF8')), ?)
+                returning id
+                """,
+                Long.class,
+                key, key, key, status
+        );
+    }
+
+    private void insertProcessed(long outboxId, String status, OffsetDateTime at) {
+        jdbcTemplate.update(
+                """
+                insert into processed_message (outbox_id, status, processed_at, dead_at, updated_at)
+                values (?, ?, ?, ?, ?)
+                """,
+                outboxId, status,
+                "DONE".equals(status) ? at : null,
+                "DEAD".equals(status) ? at : null,
+                at
+        );
+    }
+
+    private void insertRetryPublishRequest(long outboxId, OffsetDateTime nextRetryAt) {
+        jdbcTemplate.update(
+                """
+                insert into retry_publish_request
+                  (source_outbox_id, event_type, aggregate_type, payload, retry_count, next_retry_at)
+                values (?, 'TEST_EVENT', 'TEST', '{}'::jsonb, 1, ?)
+                """,
+                outboxId, nextRetryAt
+        );
+    }
+
+    private boolean exists(long outboxId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from processed_message where outbox_id = ?)", Boolean.class, outboxId));
+    }
+}
@@ -22,6 +22,7 @@ import java.time.OffsetDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
 
 @DisplayName("[01] Retry publish request publish failure 테스트")
 class RetryPublishRequestProcessorFailureTest extends AbstractIntegrationTest {
@@ -65,6 +66,7 @@ class RetryPublishRequestProcessorFailureTest extends AbstractIntegrationTest {
                 values (?, 'RETRY_WAIT', 1, ?, ?)
                 """, 2002L, now.plusSeconds(1), now);
 
+        when(publisher.publishAll(any())).thenCallRealMethod();
         doThrow(new RetryablePublishException("confirm timeout", null))
                 .when(publisher).publish(any());
 
@@ -107,6 +109,7 @@ class RetryPublishRequestProcessorFailureTest extends AbstractIntegrationTest {
                 values (?, 'RETRY_WAIT', 1, ?, ?)
                 """, 3003L, now.plusSeconds(1), now);
 
+        when(publisher.publishAll(any())).thenCallRealMethod();
         doThrow(new RetryablePublishException("confirm timeout", null))
                 .when(publisher).publish(any());
 
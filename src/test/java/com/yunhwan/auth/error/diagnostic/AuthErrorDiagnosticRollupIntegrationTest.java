@@ -0,0 +1,169 @@
+package com.yunhwan.auth.error.diagnostic;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorPartitionStore;
+import com.yunhwan.auth.error.usecase.autherror.rollup.AuthErrorRollupRefresher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[14B] Auth error 진단 rollup 통합 테스트")
+class AuthErrorDiagnosticRollupIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String PRINCIPAL_HASH =
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String IP_HASH =
+            "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb";
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    AuthErrorRollupRefresher rollupRefresher;
+
+    @Autowired
+    AuthErrorPartitionStore partitionStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("view 결과는 delta 반영 전후로 같고, 반영 후 새 delta와 합쳐도 distinct 수가 유지된다")
+    void view_결과는_반영_전후로_같다() {
+        String provider = provider();
+        String requestId = "REQ-ROLLUP-" + UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        authErrorWriter.record(command(requestId, now, provider, PRINCIPAL_HASH, IP_HASH));
+        authErrorWriter.record(command(requestId, now, provider, PRINCIPAL_HASH, IP_HASH)); // dedup: delta도 쌓이지 않음
+        authErrorWriter.recordBatch(List.of(command("REQ-ROLLUP-" + UUID.randomUUID(), now, provider, PRINCIPAL_HASH, null)));
+        authErrorWriter.recordBulk(List.of(command("REQ-ROLLUP-" + UUID.randomUUID(), now, provider, null, null)), false);
+
+        assertThat(pendingDelta(provider)).isEqualTo(3L);
+        Map<String, Object> contextBefore = context(provider);
+        Map<String, Object> clusterBefore = cluster(provider);
+        assertThat(count(contextBefore, "error_count")).isEqualTo(3L);
+        assertThat(count(clusterBefore, "error_count")).isEqualTo(3L);
+        assertThat(count(clusterBefore, "principal_hash_count")).isEqualTo(1L);
+        assertThat(count(clusterBefore, "ip_hash_count")).isEqualTo(1L);
+
+        refreshAll();
+
+        assertThat(pendingDelta(provider)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select sum(error_count) from auth_error_context_hourly_rollup where provider = ?", Long.class, provider))
+                .isEqualTo(3L);
+        assertThat(context(provider)).isEqualTo(contextBefore);
+        assertThat(cluster(provider)).isEqualTo(clusterBefore);
+
+        // rollup(member) + 새 delta: 같은 principal은 한 번만 센다.
+        authErrorWriter.record(command("REQ-ROLLUP-" + UUID.randomUUID(), now, provider, PRINCIPAL_HASH, null));
+        Map<String, Object> clusterMixed = cluster(provider);
+        assertThat(count(clusterMixed, "error_count")).isEqualTo(4L);
+        assertThat(count(clusterMixed, "principal_hash_count")).isEqualTo(1L);
+
+        refreshAll();
+        assertThat(cluster(provider)).isEqualTo(clusterMixed);
+    }
+
+    @Test
+    @DisplayName("파티션을 drop 하면 같은 날짜의 rollup도 함께 빠진다")
+    void 파티션_drop은_같은_날짜_rollup을_지운다() {
+        LocalDate day = LocalDate.of(2099, 4, 1);
+        String provider = provider();
+        partitionStore.createDailyPartition(day);
+
+        OffsetDateTime occurredAt = day.atTime(9, 30).atOffset(ZoneOffset.UTC);
+        authErrorWriter.record(command("REQ-ROLLUP-DROP-" + UUID.randomUUID(), occurredAt, provider, PRINCIPAL_HASH, IP_HASH));
+        refreshAll();
+        assertThat(jdbcTemplate.queryForObject(
+                "select bucket_hour from auth_error_context_hourly_rollup where provider = ?", OffsetDateTime.class, provider)
+                .toInstant()).isEqualTo(day.atTime(9, 0).toInstant(ZoneOffset.UTC));
+
+        assertThat(partitionStore.dropDailyPartition(day)).isTrue();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_context_distribution where provider = ?", Long.class, provider)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_cluster_summary where provider = ?", Long.class, provider)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_cluster_member where provider = ?", Long.class, provider)).isZero();
+    }
+
+    private void refreshAll() {
+        while (!rollupRefresher.refreshOnce().completed()) {
+            // 다른 테스트가 남긴 delta까지 모두 반영한다.
+        }
+    }
+
+    private Long pendingDelta(String provider) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from auth_error_rollup_delta where provider = ?", Long.class, provider);
+    }
+
+    private Map<String, Object> context(String provider) {
+        return jdbcTemplate.queryForMap("""
+                select bucket_hour, error_count, http_status, endpoint, first_seen_at, last_seen_at
+                  from auth_error_context_distribution
+                 where provider = ?
+                """, provider);
+    }
+
+    private Map<String, Object> cluster(String provider) {
+        return jdbcTemplate.queryForMap("""
+                select stack_hash, error_count, principal_hash_count, ip_hash_count, first_seen_at, last_seen_at
+                  from auth_error_cluster_summary
+                 where provider = ?
+                """, provider);
+    }
+
+    private static long count(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+
+    private static String provider() {
+        return "ROLLUP_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+    }
+
+    private AuthErrorWriteCommand command(String requestId,
+                                          OffsetDateTime occurredAt,
+                                          String provider,
+                                          String principalHash,
+                                          String ipHash) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                occurredAt,
+                401,
+                "TOKEN_INVALID_SIGNATURE",
+                provider,
+                "WEB",
+                "/api/login",
+                principalHash,
+                ipHash,
+                "CHROME",
+                "POST",
+                "/api/login",
+                "203.0.113.10",
+                "JUnit",
+                "raw-user-not-for-readmodel",
+                "raw-session-not-for-readmodel",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                "stacktrace"
+        );
+    }
+}
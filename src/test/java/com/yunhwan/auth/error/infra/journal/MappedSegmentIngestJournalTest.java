@@ -0,0 +1,141 @@
+package com.yunhwan.auth.error.infra.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalBatch;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestJournalPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MappedSegmentIngestJournal append/replay/복구 테스트")
+class MappedSegmentIngestJournalTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("append한 레코드를 순서대로 읽고, acknowledge 후 재기동하면 그 이후부터 다시 읽는다")
+    void append_read_acknowledge_and_reopen() {
+        MappedSegmentIngestJournal journal = open(1 << 20);
+        for (int i = 0; i < 5; i++) {
+            journal.append(cmd("REQ-" + i));
+        }
+
+        IngestJournalBatch first = journal.read(journal.checkpoint(), 3);
+        assertThat(requestIds(first)).containsExactly("REQ-0", "REQ-1", "REQ-2");
+        journal.acknowledge(first.next());
+        journal.close();
+
+        MappedSegmentIngestJournal reopened = open(1 << 20);
+        assertThat(reopened.checkpoint()).isEqualTo(first.next());
+        assertThat(requestIds(reopened.read(reopened.checkpoint(), 100))).containsExactly("REQ-3", "REQ-4");
+
+        // 재기동 후 append도 이어서 기록된다.
+        reopened.append(cmd("REQ-5"));
+        assertThat(requestIds(reopened.read(reopened.checkpoint(), 100))).containsExactly("REQ-3", "REQ-4", "REQ-5");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("segment가 가득 차면 다음 segment로 넘어가고, acknowledge된 segment는 삭제된다")
+    void rotates_segments_and_deletes_acknowledged() throws IOException {
+        MappedSegmentIngestJournal journal = open(4 * 1024);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            journal.append(cmd("REQ-" + i));
+            expected.add("REQ-" + i);
+        }
+        assertThat(segmentFiles()).hasSizeGreaterThan(2);
+
+        List<String> read = new ArrayList<>();
+        IngestJournalPosition position = journal.checkpoint();
+        while (true) {
+            IngestJournalBatch batch = journal.read(position, 7);
+            if (batch.commands().isEmpty()) {
+                break;
+            }
+            read.addAll(requestIds(batch));
+            position = batch.next();
+        }
+        assertThat(read).isEqualTo(expected);
+
+        journal.acknowledge(position);
+        assertThat(segmentFiles()).hasSize(1);
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("찢어진 tail(CRC 불일치)은 복구 시 잘라내고 이후 append가 그 자리에 기록된다")
+    void truncates_torn_tail_on_recovery() throws IOException {
+        MappedSegmentIngestJournal journal = open(1 << 20);
+        journal.append(cmd("REQ-0"));
+        journal.append(cmd("REQ-1"));
+        IngestJournalBatch all = journal.read(journal.checkpoint(), 100);
+        journal.close();
+
+        // 마지막 레코드 뒤에 길이만 쓰이고 payload/CRC가 맞지 않는 레코드를 흉내낸다.
+        Path segment = segmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(16).putInt(8).putInt(12345).putLong(42L);
+            torn.flip();
+            channel.write(torn, all.next().offset());
+        }
+
+        MappedSegmentIngestJournal reopened = open(1 << 20);
+        assertThat(requestIds(reopened.read(reopened.checkpoint(), 100))).containsExactly("REQ-0", "REQ-1");
+
+        reopened.append(cmd("REQ-2"));
+        assertThat(requestIds(reopened.read(reopened.checkpoint(), 100))).containsExactly("REQ-0", "REQ-1", "REQ-2");
+        reopened.close();
+    }
+
+    private MappedSegmentIngestJournal open(int segmentBytes) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        AuthErrorProperties.Journal journal = props.getIngest().getJournal();
+        journal.setEnabled(true);
+        journal.setDirectory(dir.toString());
+        journal.setSegmentBytes(segmentBytes);
+        journal.setFsyncIntervalMicros(200);
+        MappedSegmentIngestJournal j = new MappedSegmentIngestJournal(OBJECT_MAPPER, props, new SimpleMeterRegistry());
+        j.open();
+        return j;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".wal")).sorted().toList();
+        }
+    }
+
+    private static List<String> requestIds(IngestJournalBatch batch) {
+        return batch.commands().stream().map(AuthErrorWriteCommand::requestId).toList();
+    }
+
+    private static AuthErrorWriteCommand cmd(String requestId) {
+        return new AuthErrorWriteCommand(
+                requestId, OffsetDateTime.parse("2026-01-01T00:00:00Z"), 401,
+                "TOKEN_EXPIRED", "KEYCLOAK", "WEB", "/api/auth/login", null, null, "CHROME",
+                "POST", "/api/auth/login", null, null, null, null,
+                "java.lang.IllegalStateException", "token expired", null, null,
+                "java.lang.IllegalStateException: token expired\n\tat a.b.C.d(C.java:1)"
+        );
+    }
+}
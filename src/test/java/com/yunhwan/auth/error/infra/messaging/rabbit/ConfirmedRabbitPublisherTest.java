@@ -0,0 +1,117 @@
+package com.yunhwan.auth.error.infra.messaging.rabbit;
+
+import com.yunhwan.auth.error.common.exception.NonRetryablePublishException;
+import com.yunhwan.auth.error.common.exception.PublishConfirmTimeoutException;
+import com.yunhwan.auth.error.common.exception.RetryablePublishException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 배치 publish: 모두 보낸 뒤 confirm을 모아 기다리고, ack/nack/return/timeout을 메시지별로 돌려주는지 검증한다.
+ */
+@Tag("unit")
+class ConfirmedRabbitPublisherTest {
+
+    @Test
+    @DisplayName("confirm을 기다리기 전에 모두 보내고, 결과는 입력 순서대로 메시지에 대응한다")
+    void 모두_보낸_뒤_confirm을_메시지별로_돌려준다() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        List<CorrelationData> sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            CorrelationData cd = invocation.getArgument(4);
+            sent.add(cd);
+            // 네 번째 메시지까지 전송된 뒤에야 confirm이 도착한다. (전송 중 대기하면 여기서 timeout)
+            if (sent.size() == 4) {
+                sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+                sent.get(1).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+                sent.get(2).setReturned(new ReturnedMessage(
+                        new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", "ex", "rk"));
+                sent.get(2).getFuture().complete(new CorrelationData.Confirm(true, null));
+                // 네 번째는 confirm 없음 -> timeout
+            }
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        ConfirmedRabbitPublisher publisher = new ConfirmedRabbitPublisher(rabbitTemplate, new SimpleMeterRegistry());
+
+        List<Exception> results = publisher.publishAll(List.of(
+                outgoing("c-1"), outgoing("c-2"), outgoing("c-3"), outgoing("c-4")
+        ));
+
+        assertThat(sent).extracting(CorrelationData::getId).containsExactly("c-1", "c-2", "c-3", "c-4");
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(1)).isInstanceOf(RetryablePublishException.class).hasMessageContaining("NACK");
+        assertThat(results.get(2)).isInstanceOf(NonRetryablePublishException.class).hasMessageContaining("312");
+        assertThat(results.get(3)).isInstanceOf(PublishConfirmTimeoutException.class).hasMessageContaining("timeout");
+    }
+
+    @Test
+    @DisplayName("전송 자체가 실패한 메시지만 실패로 돌려주고 나머지는 계속 보낸다")
+    void 전송_실패는_해당_메시지만_실패다() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> {
+            CorrelationData cd = invocation.getArgument(4);
+            if ("c-1".equals(cd.getId())) {
+                throw new IllegalStateException("channel closed");
+            }
+            cd.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        ConfirmedRabbitPublisher publisher = new ConfirmedRabbitPublisher(rabbitTemplate, new SimpleMeterRegistry());
+
+        List<Exception> results = publisher.publishAll(List.of(outgoing("c-1"), outgoing("c-2")));
+
+        assertThat(results.get(0)).isInstanceOf(IllegalStateException.class);
+        assertThat(results.get(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("메시지별 소요 시간은 그 메시지의 confirm 시점까지이고, 다른 메시지의 timeout 대기를 포함하지 않는다")
+    void 메시지별_소요_시간을_알려준다() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> {
+            CorrelationData cd = invocation.getArgument(4);
+            // c-2는 confirm 없음 -> timeout
+            if ("c-1".equals(cd.getId())) {
+                cd.getFuture().complete(new CorrelationData.Confirm(true, null));
+            }
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        ConfirmedRabbitPublisher publisher = new ConfirmedRabbitPublisher(rabbitTemplate, new SimpleMeterRegistry());
+
+        Map<String, Long> elapsed = new LinkedHashMap<>();
+        publisher.publishAll(List.of(outgoing("c-1"), outgoing("c-2")),
+                (o, elapsedNanos) -> elapsed.put(o.correlationId(), elapsedNanos));
+
+        assertThat(elapsed).containsOnlyKeys("c-1", "c-2");
+        assertThat(elapsed.get("c-1")).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(elapsed.get("c-2")).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    private static ConfirmedRabbitPublisher.Outgoing outgoing(String correlationId) {
+        return new ConfirmedRabbitPublisher.Outgoing("ex", "rk", "{}", correlationId, "TEST", msg -> msg);
+    }
+}
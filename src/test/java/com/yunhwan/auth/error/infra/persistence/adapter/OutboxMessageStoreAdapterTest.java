@@ -0,0 +1,49 @@
+package com.yunhwan.auth.error.infra.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * scope claim의 접두어 상한(scopeUpperBound): collate "C"(code point 순서)에서 접두어로 시작하는 모든 문자열보다 커야 한다.
+ */
+@Tag("unit")
+class OutboxMessageStoreAdapterTest {
+
+    @Test
+    @DisplayName("마지막 문자를 한 code point 올린다")
+    void 마지막_문자를_올린다() {
+        assertThat(OutboxMessageStoreAdapter.scopeUpperBound("T-abc-")).isEqualTo("T-abc.");
+        // 보조 평면 문자도 code point 단위로 올린다. (U+1F600 -> U+1F601)
+        assertThat(OutboxMessageStoreAdapter.scopeUpperBound("a" + Character.toString(0x1F600)))
+                .isEqualTo("a" + Character.toString(0x1F601));
+    }
+
+    @Test
+    @DisplayName("마지막 code point가 U+10FFFF이면 버리고 앞 문자를 올린다")
+    void 최대_code_point는_앞_문자로_넘어간다() {
+        String max = Character.toString(Character.MAX_CODE_POINT);
+
+        assertThat(OutboxMessageStoreAdapter.scopeUpperBound("ab" + max)).isEqualTo("ac");
+        assertThat(OutboxMessageStoreAdapter.scopeUpperBound("ab" + max + max)).isEqualTo("ac");
+    }
+
+    @Test
+    @DisplayName("U+D7FF 다음은 surrogate 영역을 건너뛴 U+E000이다")
+    void surrogate_영역을_건너뛴다() {
+        assertThat(OutboxMessageStoreAdapter.scopeUpperBound("a\uD7FF")).isEqualTo("a\uE000");
+    }
+
+    @Test
+    @DisplayName("모든 문자가 U+10FFFF이면 상한이 없으므로 예외")
+    void 상한이_없으면_예외() {
+        String max = Character.toString(Character.MAX_CODE_POINT);
+
+        assertThatThrownBy(() -> OutboxMessageStoreAdapter.scopeUpperBound(max + max))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no upper bound");
+    }
+}
@@ -0,0 +1,112 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.testsupport.fixtures.OutboxFixtures;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * listener 빈은 test 프로필에서 뜨지 않으므로 직접 만들고, relay 대신 wakeup 횟수만 센다.
+ */
+@DisplayName("[TS-03F] Outbox 알림 listener 통합 테스트")
+class OutboxNotifyListenerIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    JdbcConnectionDetails connectionDetails;
+    @Autowired
+    OutboxFixtures fixtures;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxNotifyListener listener;
+
+    @BeforeEach
+    void startListener() throws Exception {
+        OutboxProperties props = new OutboxProperties();
+        props.getPoller().getNotify().setListenTimeoutMs(100);
+        props.getPoller().getNotify().setReconnectBackoffMs(100);
+
+        listener = new OutboxNotifyListener(wakeups::release, connectionDetails, props, meterRegistry);
+        listener.start();
+        // LISTEN 직후 따라잡기 wakeup
+        assertThat(wakeups.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    void stopListener() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("[TS-03F] 새 outbox 행 알림은 poller를 깨운다")
+    void 알림은_poller를_깨운다() throws Exception {
+        wakeups.drainPermits();
+
+        insertOutboxRow();
+
+        assertThat(wakeups.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[TS-03F] LISTEN 연결이 끊기면 다시 연결해 따라잡고, 이후 알림도 받는다")
+    void 연결이_끊기면_다시_연결한다() throws Exception {
+        assertThat(terminateListenerBackend()).isEqualTo(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reconnects() < 1 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertThat(reconnects()).isEqualTo(1.0);
+
+        // 재연결 후 따라잡기 wakeup
+        assertThat(wakeups.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listenerBackends()).isPositive();
+
+        wakeups.drainPermits();
+        insertOutboxRow();
+        assertThat(wakeups.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void insertOutboxRow() {
+        fixtures.createAuthErrorMessage(null, "REQ-LISTENER-" + UUID.randomUUID(), "{\"val\":\"listener\"}");
+    }
+
+    private int terminateListenerBackend() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from (select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?) t",
+                Integer.class,
+                OutboxNotifyListener.APPLICATION_NAME
+        );
+    }
+
+    private int listenerBackends() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from pg_stat_activity where application_name = ?",
+                Integer.class,
+                OutboxNotifyListener.APPLICATION_NAME
+        );
+    }
+
+    private double reconnects() {
+        return meterRegistry.get(UsecaseMetrics.METRIC_OUTBOX_NOTIFY_RECONNECT)
+                .tag(UsecaseMetrics.TAG_REASON, "error")
+                .counter()
+                .count();
+    }
+}
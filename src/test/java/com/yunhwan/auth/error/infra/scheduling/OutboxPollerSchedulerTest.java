@@ -0,0 +1,46 @@
+package com.yunhwan.auth.error.infra.scheduling;
+
+import com.yunhwan.auth.error.usecase.outbox.OutboxDrainer;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxDrainResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxPollerScheduler wakeup 테스트")
+class OutboxPollerSchedulerTest {
+
+    private final ThreadPoolTaskScheduler drainScheduler = new ThreadPoolTaskScheduler();
+
+    @AfterEach
+    void shutdown() {
+        drainScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("wakeup은 공용 scheduler가 아니라 전용 drain 스레드에서 drain을 돌린다")
+    void wakeup은_전용_스레드에서_drain_한다() throws Exception {
+        drainScheduler.setPoolSize(1);
+        drainScheduler.setThreadNamePrefix("outbox-drain-");
+        drainScheduler.initialize();
+
+        OutboxDrainer drainer = mock(OutboxDrainer.class);
+        CompletableFuture<String> drainThread = new CompletableFuture<>();
+        when(drainer.drain()).thenAnswer(inv -> {
+            drainThread.complete(Thread.currentThread().getName());
+            return new OutboxDrainResult(1, 0, null);
+        });
+
+        new OutboxPollerScheduler(drainer, new OutboxProperties(), drainScheduler).wakeup();
+
+        assertThat(drainThread.get(5, TimeUnit.SECONDS)).startsWith("outbox-drain-");
+    }
+}
@@ -0,0 +1,105 @@
+package com.yunhwan.auth.error.state;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.domain.autherror.AuthErrorStatus;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-13B] AuthError 상태 CAS 전이 통합 테스트")
+class AuthErrorTransitionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    AuthErrorStore authErrorStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-13B] expectedFrom이 아닌 상태면 0건이고 아무 컬럼도 바뀌지 않는다")
+    void 기대_상태가_아니면_바꾸지_않는다() {
+        AuthError authError = createAuthError();
+
+        int updated = authErrorStore.transition(authError.getId(), authError.getOccurredAt(),
+                EnumSet.of(AuthErrorStatus.ANALYSIS_COMPLETED), AuthErrorStatus.PROCESSED, "note");
+
+        assertThat(updated).isZero();
+        Map<String, Object> row = row(authError.getId());
+        assertThat(row.get("status")).isEqualTo("NEW");
+        assertThat(row.get("resolution_note")).isNull();
+        assertThat(row.get("last_processed_at")).isNull();
+    }
+
+    @Test
+    @DisplayName("[TS-13B] 부수 컬럼은 AuthError.mark*와 같은 규칙으로 바뀐다")
+    void 부수_컬럼은_도메인_규칙과_같다() {
+        AuthError authError = createAuthError();
+        Long id = authError.getId();
+
+        assertThat(authErrorStore.transition(id, EnumSet.of(AuthErrorStatus.NEW), AuthErrorStatus.RETRY, null)).isEqualTo(1);
+        assertThat(row(id)).containsEntry("status", "RETRY").containsEntry("retry_count", 1);
+
+        assertThat(authErrorStore.transition(id, EnumSet.of(AuthErrorStatus.RETRY), AuthErrorStatus.RESOLVED, "done")).isEqualTo(1);
+        Map<String, Object> resolved = row(id);
+        assertThat(resolved).containsEntry("status", "RESOLVED").containsEntry("resolution_note", "done");
+        assertThat(resolved.get("resolved_at")).isNotNull();
+        assertThat(authErrorStore.findStatus(id, authError.getOccurredAt())).contains(AuthErrorStatus.RESOLVED);
+    }
+
+    @Test
+    @DisplayName("[TS-13B] 같은 전이를 동시에 요청하면 한쪽만 성공한다")
+    void 동시_전이는_한쪽만_성공한다() throws Exception {
+        AuthError authError = createAuthError();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authErrorStore.transition(authError.getId(), authError.getOccurredAt(),
+                            EnumSet.of(AuthErrorStatus.NEW), AuthErrorStatus.ANALYSIS_REQUESTED, null);
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(row(authError.getId())).containsEntry("status", "ANALYSIS_REQUESTED");
+    }
+
+    private AuthError createAuthError() {
+        String requestId = "REQ-TS13B-" + UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        return authErrorStore.save(AuthError.record(requestId, now, now, "test", "test"));
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbcTemplate.queryForMap(
+                "select status, retry_count, resolution_note, resolved_at, last_processed_at from auth_error where id = ?", id);
+    }
+}
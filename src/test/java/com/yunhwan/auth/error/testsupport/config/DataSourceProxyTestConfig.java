@@ -0,0 +1,86 @@
+package com.yunhwan.auth.error.testsupport.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * DataSource를 proxy로 감싸 실행된 JDBC 문장(batch 여부/크기/결과)을 기록한다.
+ * 이 설정을 @Import 한 테스트만 별도 context에서 proxy를 쓴다.
+ */
+@TestConfiguration
+public class DataSourceProxyTestConfig {
+
+    @Bean
+    public static StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(StatementRecorder statementRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) return bean;
+
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("statement-recorder")
+                        .listener(statementRecorder)
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * 실행 1회 = JDBC execute/executeBatch 호출 1회. batch면 batchSize에 묶인 행 수가 들어간다.
+     */
+    public record Execution(String sql, boolean batch, int batchSize, int[] updateCounts) {
+
+        public boolean isSelect() {
+            return sql.toLowerCase(Locale.ROOT).startsWith("select");
+        }
+
+        public boolean isInsertInto(String table) {
+            return sql.toLowerCase(Locale.ROOT).startsWith("insert into " + table + " ");
+        }
+
+        public boolean touches(String table) {
+            return sql.toLowerCase(Locale.ROOT).matches("(?s).*\\b" + table + "\\b.*");
+        }
+    }
+
+    public static class StatementRecorder implements QueryExecutionListener {
+        private final List<Execution> executions = new CopyOnWriteArrayList<>();
+
+        public void reset() {
+            executions.clear();
+        }
+
+        public List<Execution> executions() {
+            return List.copyOf(executions);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            int[] updateCounts = execInfo.getResult() instanceof int[] counts ? Arrays.copyOf(counts, counts.length) : null;
+            for (QueryInfo queryInfo : queryInfoList) {
+                executions.add(new Execution(queryInfo.getQuery().strip(), execInfo.isBatch(), execInfo.getBatchSize(), updateCounts));
+            }
+        }
+    }
+}
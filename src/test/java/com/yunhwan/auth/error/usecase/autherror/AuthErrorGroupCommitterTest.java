@@ -0,0 +1,151 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuthErrorGroupCommitter group commit 정책 테스트")
+class AuthErrorGroupCommitterTest {
+
+    private AuthErrorGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 단건 요청은 recordBatch로 묶여 적재되고 호출자별 결과를 돌려받는다")
+    void concurrent_records_are_flushed_in_one_batch() throws Exception {
+        AuthErrorWriter writer = mock(AuthErrorWriter.class);
+        when(writer.recordBatch(anyList())).thenAnswer(inv -> {
+            List<AuthErrorWriteCommand> cmds = inv.getArgument(0);
+            List<AuthErrorBatchWriteResult> results = new ArrayList<>();
+            for (AuthErrorWriteCommand cmd : cmds) {
+                long id = Long.parseLong(cmd.requestId().substring("REQ-".length()));
+                results.add(new AuthErrorBatchWriteResult(cmd.requestId(), id, id + 1000, false));
+            }
+            return results;
+        });
+        committer = startedCommitter(writer, 8, 200_000);
+
+        CountDownLatch ready = new CountDownLatch(3);
+        List<CompletableFuture<AuthErrorWriteResult>> futures = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            AuthErrorWriteCommand cmd = command("REQ-" + i);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                ready.countDown();
+                return committer.record(cmd);
+            }));
+        }
+        ready.await(1, TimeUnit.SECONDS);
+
+        for (int i = 1; i <= 3; i++) {
+            AuthErrorWriteResult result = futures.get(i - 1).get(3, TimeUnit.SECONDS);
+            assertThat(result.authErrorId()).isEqualTo((long) i);
+            assertThat(result.outboxId()).isEqualTo(i + 1000L);
+        }
+        verify(writer, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션이 실패하면 항목별 단건 적재로 격리되어 poison record 호출자만 실패한다")
+    void batch_failure_is_isolated_to_poison_record() throws Exception {
+        AuthErrorWriter writer = mock(AuthErrorWriter.class);
+        when(writer.recordBatch(anyList())).thenThrow(new IllegalArgumentException("poison"));
+        when(writer.record(argThat(cmd -> cmd != null && cmd.requestId().equals("REQ-ok"))))
+                .thenReturn(new AuthErrorWriteResult(1L, 2L));
+        when(writer.record(argThat(cmd -> cmd != null && cmd.requestId().equals("REQ-poison"))))
+                .thenThrow(new IllegalArgumentException("poison"));
+        // 두 요청이 한 배치로 묶이도록 linger를 넉넉히 둔다.
+        committer = startedCommitter(writer, 2, 2_000_000);
+
+        CompletableFuture<AuthErrorWriteResult> ok =
+                CompletableFuture.supplyAsync(() -> committer.record(command("REQ-ok")));
+        CompletableFuture<AuthErrorWriteResult> poison =
+                CompletableFuture.supplyAsync(() -> committer.record(command("REQ-poison")));
+
+        assertThat(ok.get(3, TimeUnit.SECONDS)).isEqualTo(new AuthErrorWriteResult(1L, 2L));
+        assertThatThrownBy(() -> poison.get(3, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("비활성 상태에서는 큐를 거치지 않고 단건 트랜잭션으로 적재한다")
+    void disabled_committer_writes_directly() {
+        AuthErrorWriter writer = mock(AuthErrorWriter.class);
+        AuthErrorWriteCommand cmd = command("REQ-direct");
+        when(writer.record(cmd)).thenReturn(new AuthErrorWriteResult(7L, 8L));
+
+        AuthErrorProperties props = new AuthErrorProperties();
+        committer = new AuthErrorGroupCommitter(writer, props, new SimpleMeterRegistry());
+        committer.start();
+
+        assertThat(committer.isEnabled()).isFalse();
+        assertThat(committer.record(cmd)).isEqualTo(new AuthErrorWriteResult(7L, 8L));
+        verify(writer, never()).recordBatch(anyList());
+    }
+
+    private static AuthErrorGroupCommitter startedCommitter(AuthErrorWriter writer, int maxBatchSize, long lingerMicros) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        AuthErrorProperties.GroupCommit groupCommit = props.getIngest().getGroupCommit();
+        groupCommit.setEnabled(true);
+        groupCommit.setMaxBatchSize(maxBatchSize);
+        groupCommit.setMaxLingerMicros(lingerMicros);
+        groupCommit.setFlushers(1);
+
+        AuthErrorGroupCommitter committer = new AuthErrorGroupCommitter(writer, props, new SimpleMeterRegistry());
+        committer.start();
+        return committer;
+    }
+
+    private static AuthErrorWriteCommand command(String requestId) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                "stacktrace"
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.common.exception.IngestThrottledException;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestPressureSignals;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.yunhwan.auth.error.domain.autherror.AuthFailureType.ACCOUNT_LOCKED;
+import static com.yunhwan.auth.error.domain.autherror.AuthFailureType.AUTH_PROVIDER_5XX;
+import static com.yunhwan.auth.error.domain.autherror.AuthFailureType.TOKEN_EXPIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("IngestAdmissionController backlog 기반 admission 테스트")
+class IngestAdmissionControllerTest {
+
+    private final AtomicReference<IngestPressureSignals> signals = new AtomicReference<>(IngestPressureSignals.NONE);
+
+    @Test
+    @DisplayName("임계 압력에서 LOW 유형은 429로 미루고 security signal과 HIGH 유형은 받는다")
+    void critical_pressure_sheds_low_but_admits_security_and_high() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        IngestAdmissionController controller = controller(registry);
+        signals.set(new IngestPressureSignals(0, 0, 0, 100_000, 0));
+
+        assertThatThrownBy(() -> controller.admit("TOKEN_EXPIRED"))
+                .isInstanceOf(IngestThrottledException.class)
+                .extracting(e -> ((IngestThrottledException) e).getRetryAfterSeconds())
+                .isEqualTo(30L);
+        assertThatThrownBy(() -> controller.admit("INVALID_CREDENTIALS"))
+                .isInstanceOf(IngestThrottledException.class);
+        assertThatThrownBy(() -> controller.admit("ACCOUNT_LOCKED"))
+                .isInstanceOf(IngestThrottledException.class);
+
+        for (int i = 0; i < 100; i++) {
+            assertThatCode(() -> controller.admit("TOKEN_INVALID_SIGNATURE")).doesNotThrowAnyException();
+            assertThatCode(() -> controller.admit("AUTH_PROVIDER_TIMEOUT")).doesNotThrowAnyException();
+        }
+
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_ADMISSION)
+                .tag(UsecaseMetrics.TAG_RESULT, "shed")
+                .tag(UsecaseMetrics.TAG_SEVERITY, "low").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_ADMISSION)
+                .tag(UsecaseMetrics.TAG_RESULT, "admitted")
+                .tag(UsecaseMetrics.TAG_SEVERITY, "security").counter().count()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("압력이 없으면 모든 유형을 받는다")
+    void no_pressure_admits_everything() {
+        IngestAdmissionController controller = controller(new SimpleMeterRegistry());
+
+        for (int i = 0; i < 100; i++) {
+            assertThatCode(() -> controller.admit("TOKEN_EXPIRED")).doesNotThrowAnyException();
+            assertThatCode(() -> controller.admit(null)).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    @DisplayName("압력은 신호별 elevated~critical 구간의 최댓값이고 MEDIUM은 shed 시작점 이후에만 미룬다")
+    void pressure_and_shed_probability_are_progressive() {
+        AuthErrorProperties.Admission props = new AuthErrorProperties().getIngest().getAdmission();
+        IngestAdmissionController controller = controller(new SimpleMeterRegistry());
+
+        // p95 5000~30000 구간의 중간, hikari pending 2~10 구간의 1/4
+        double p = IngestAdmissionController.pressure(new IngestPressureSignals(17_500, 0, 0, 0, 4), props);
+        assertThat(p).isCloseTo(0.5, within(1e-9));
+
+        assertThat(controller.shedProbability(TOKEN_EXPIRED, 0.3)).isCloseTo(0.3, within(1e-9));
+        assertThat(controller.shedProbability(ACCOUNT_LOCKED, 0.3)).isZero();
+        assertThat(controller.shedProbability(ACCOUNT_LOCKED, 0.75)).isCloseTo(0.5, within(1e-9));
+        assertThat(controller.shedProbability(AUTH_PROVIDER_5XX, 1.0)).isZero();
+        assertThat(controller.retryAfterSeconds(0)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("비활성 상태에서는 압력과 관계없이 받는다")
+    void disabled_admits_everything() {
+        AuthErrorProperties props = new AuthErrorProperties();
+        IngestAdmissionController controller = new IngestAdmissionController(props, signals::get, new SimpleMeterRegistry());
+        signals.set(new IngestPressureSignals(0, 0, 0, 100_000, 0));
+
+        assertThatCode(() -> controller.admit("TOKEN_EXPIRED")).doesNotThrowAnyException();
+    }
+
+    private IngestAdmissionController controller(SimpleMeterRegistry registry) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        props.getIngest().getAdmission().setEnabled(true);
+        // 테스트에서는 신호 변경이 바로 반영되도록 캐시하지 않는다.
+        props.getIngest().getAdmission().setRefreshIntervalMs(0);
+        return new IngestAdmissionController(props, signals::get, registry);
+    }
+}
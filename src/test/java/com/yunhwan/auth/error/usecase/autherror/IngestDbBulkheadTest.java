@@ -0,0 +1,89 @@
+package com.yunhwan.auth.error.usecase.autherror;
+
+import com.yunhwan.auth.error.common.exception.IngestRejectedException;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IngestDbBulkhead 동시 실행 상한 테스트")
+class IngestDbBulkheadTest {
+
+    @Test
+    @DisplayName("permit이 모두 사용 중이면 maxWaitMs 후 Retry-After와 함께 거절된다")
+    void rejects_when_permits_exhausted() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        IngestDbBulkhead bulkhead = new IngestDbBulkhead(props(1, 50), registry);
+
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> bulkhead.execute(() -> {
+            holding.countDown();
+            await(release);
+            return "held";
+        }));
+        assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_BULKHEAD_ACTIVE).gauge().value()).isEqualTo(1.0);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> "rejected"))
+                .isInstanceOf(IngestRejectedException.class)
+                .extracting(e -> ((IngestRejectedException) e).getRetryAfterSeconds())
+                .isEqualTo(1L);
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_BULKHEAD_WAIT)
+                .tag(UsecaseMetrics.TAG_RESULT, "rejected").timer().count()).isEqualTo(1L);
+
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("held");
+        assertThat(bulkhead.execute(() -> "after")).isEqualTo("after");
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_BULKHEAD_ACTIVE).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 예외로 끝나도 permit은 반환된다")
+    void releases_permit_on_failure() {
+        IngestDbBulkhead bulkhead = new IngestDbBulkhead(props(1, 0), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("비활성 상태에서는 permit 없이 바로 실행한다")
+    void disabled_bulkhead_runs_directly() {
+        AuthErrorProperties props = new AuthErrorProperties();
+        props.getIngest().getBulkhead().setMaxConcurrent(1);
+        IngestDbBulkhead bulkhead = new IngestDbBulkhead(props, new SimpleMeterRegistry());
+
+        String nested = bulkhead.execute(() -> bulkhead.execute(() -> "nested"));
+
+        assertThat(nested).isEqualTo("nested");
+    }
+
+    private static AuthErrorProperties props(int maxConcurrent, long maxWaitMs) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        AuthErrorProperties.Bulkhead bulkhead = props.getIngest().getBulkhead();
+        bulkhead.setEnabled(true);
+        bulkhead.setMaxConcurrent(maxConcurrent);
+        bulkhead.setMaxWaitMs(maxWaitMs);
+        return props;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.yunhwan.auth.error.usecase.autherror.dedup;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("중복 적재 fast path(캐시/Bloom filter) 정책 테스트")
+class AuthErrorDedupCacheTest {
+
+    @Test
+    @DisplayName("최근 적재 캐시는 TTL이 지나면 miss가 되고 용량을 넘으면 오래된 키부터 버린다")
+    void recent_cache_expires_and_evicts_oldest() {
+        AtomicLong now = new AtomicLong();
+        RecentIngestCache<String> cache = new RecentIngestCache<>(2, 10, TimeUnit.SECONDS, now::get);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("B");
+        assertThat(cache.get("c")).isEqualTo("C");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 후 다시 들어온 키는 예전 순서 항목이 밀려날 때 같이 지워지지 않는다")
+    void recent_cache_reput_after_expiry_survives_stale_eviction() {
+        AtomicLong now = new AtomicLong();
+        RecentIngestCache<String> cache = new RecentIngestCache<>(2, 10, TimeUnit.SECONDS, now::get);
+
+        cache.put("a", "A1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(cache.get("a")).isNull();
+
+        // 예전 "a" 순서 항목이 큐에 남아 있어 이번 put에서 밀려난다.
+        cache.put("a", "A2");
+        cache.put("b", "B");
+
+        assertThat(cache.get("a")).isEqualTo("A2");
+        assertThat(cache.get("b")).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("덮어쓴 키는 처음 들어온 순서로 밀려나고, 맵 크기는 용량을 넘지 않는다")
+    void recent_cache_overwrite_keeps_insertion_order() {
+        AtomicLong now = new AtomicLong();
+        RecentIngestCache<String> cache = new RecentIngestCache<>(2, 10, TimeUnit.SECONDS, now::get);
+
+        cache.put("a", "A1");
+        cache.put("b", "B");
+        cache.put("a", "A2");
+        cache.put("c", "C");
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("B");
+        assertThat(cache.get("c")).isEqualTo("C");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Bloom filter는 add한 키에 대해 false negative가 없고 세대 교체 후에도 직전 세대 키를 기억한다")
+    void seen_key_filter_has_no_false_negative() {
+        SeenKeyFilter filter = new SeenKeyFilter(1_000, 0.01);
+        for (int i = 0; i < 1_500; i++) {
+            filter.add("REQ-" + i);
+        }
+
+        // 1,000건에서 한 번 교체됐으므로 0~1,499 모두 (이전/현재 세대 중 하나에) 남아 있어야 한다.
+        for (int i = 0; i < 1_500; i++) {
+            assertThat(filter.mightContain("REQ-" + i)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 2세대를 함께 보므로 목표 fpp의 대략 2배까지 허용
+        assertThat(falsePositives).isLessThan(400);
+    }
+
+    @Test
+    @DisplayName("기억한 결과는 hit로 돌려주고, 비활성이면 항상 miss + mightHaveSeen=true(기존 동작)이다")
+    void remember_then_lookup_hits_only_when_enabled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuthErrorDedupCache cache = new AuthErrorDedupCache(properties(true), registry);
+        AuthErrorWriteResult result = new AuthErrorWriteResult(1L, 2L);
+
+        assertThat(cache.mightHaveSeen("REQ-1")).isFalse();
+        cache.remember("REQ-1", result);
+
+        assertThat(cache.lookup("REQ-1")).contains(result);
+        assertThat(cache.mightHaveSeen("REQ-1")).isTrue();
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_DEDUP_CACHE)
+                .tag(UsecaseMetrics.TAG_RESULT, "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get(UsecaseMetrics.METRIC_INGEST_DEDUP_FILTER)
+                .tag(UsecaseMetrics.TAG_RESULT, "negative").counter().count()).isEqualTo(1.0);
+
+        AuthErrorDedupCache disabled = new AuthErrorDedupCache(properties(false), new SimpleMeterRegistry());
+        disabled.remember("REQ-1", result);
+        assertThat(disabled.lookup("REQ-1")).isEmpty();
+        assertThat(disabled.mightHaveSeen("REQ-1")).isTrue();
+    }
+
+    private static AuthErrorProperties properties(boolean enabled) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        props.getIngest().getDedupCache().setEnabled(enabled);
+        props.getIngest().getDedupCache().setFilterExpectedInsertions(1_000);
+        return props;
+    }
+}
@@ -0,0 +1,91 @@
+package com.yunhwan.auth.error.usecase.autherror.partition;
+
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorPartitionMaintenanceResult;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorPartitionStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("auth_error 파티션 유지보수 정책 테스트")
+class AuthErrorPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-10T23:30:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @Test
+    @DisplayName("오늘(UTC)부터 precreateDays일치 중 없는 파티션만 만들고, retentionDays=0이면 drop 하지 않는다")
+    void creates_missing_partitions_only() {
+        InMemoryStore store = new InMemoryStore(TODAY.minusDays(30), TODAY, TODAY.plusDays(1));
+        AuthErrorPartitionMaintainer maintainer = maintainer(store, 3, 0, new SimpleMeterRegistry());
+
+        AuthErrorPartitionMaintenanceResult result = maintainer.maintain();
+
+        assertThat(result).isEqualTo(new AuthErrorPartitionMaintenanceResult(1, 0, 0));
+        assertThat(store.days).contains(TODAY.plusDays(2), TODAY.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("retentionDays보다 오래된 파티션만 drop 하고, 한 파티션 실패가 나머지를 막지 않는다")
+    void drops_expired_partitions_and_counts_failures() {
+        InMemoryStore store = new InMemoryStore(
+                TODAY.minusDays(9), TODAY.minusDays(8), TODAY.minusDays(7), TODAY.minusDays(6), TODAY);
+        store.failing.add(TODAY.minusDays(9));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuthErrorPartitionMaintainer maintainer = maintainer(store, 1, 7, registry);
+
+        AuthErrorPartitionMaintenanceResult result = maintainer.maintain();
+
+        assertThat(result).isEqualTo(new AuthErrorPartitionMaintenanceResult(0, 1, 1));
+        assertThat(store.days).containsExactly(TODAY.minusDays(9), TODAY.minusDays(7), TODAY.minusDays(6), TODAY);
+        assertThat(registry.counter(UsecaseMetrics.METRIC_PARTITION_MAINTENANCE, UsecaseMetrics.TAG_RESULT, "failed").count())
+                .isEqualTo(1.0);
+    }
+
+    private static AuthErrorPartitionMaintainer maintainer(InMemoryStore store, int precreateDays, int retentionDays,
+                                                           SimpleMeterRegistry registry) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        props.getPartition().setPrecreateDays(precreateDays);
+        props.getPartition().setRetentionDays(retentionDays);
+        return new AuthErrorPartitionMaintainer(store, props, CLOCK, registry);
+    }
+
+    private static final class InMemoryStore implements AuthErrorPartitionStore {
+        private final SortedSet<LocalDate> days = new TreeSet<>();
+        private final Set<LocalDate> failing = new HashSet<>();
+
+        private InMemoryStore(LocalDate... initial) {
+            days.addAll(Set.of(initial));
+        }
+
+        @Override
+        public SortedSet<LocalDate> findDailyPartitions() {
+            return new TreeSet<>(days);
+        }
+
+        @Override
+        public boolean createDailyPartition(LocalDate day) {
+            return days.add(day);
+        }
+
+        @Override
+        public boolean dropDailyPartition(LocalDate day) {
+            if (failing.contains(day)) {
+                throw new IllegalStateException("lock timeout");
+            }
+            return days.remove(day);
+        }
+    }
+}
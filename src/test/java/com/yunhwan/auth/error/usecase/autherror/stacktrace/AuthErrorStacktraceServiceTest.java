@@ -0,0 +1,111 @@
+package com.yunhwan.auth.error.usecase.autherror.stacktrace;
+
+import com.yunhwan.auth.error.domain.autherror.AuthError;
+import com.yunhwan.auth.error.usecase.autherror.config.AuthErrorProperties;
+import com.yunhwan.auth.error.usecase.autherror.port.AuthErrorStacktraceStore;
+import com.yunhwan.auth.error.usecase.metrics.UsecaseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("stacktrace 분리 저장 쓰기/읽기 정책 테스트")
+class AuthErrorStacktraceServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("같은 trace는 한 번만 저장하고, 이미 저장(캐시)된 trace는 INSERT를 생략한다")
+    void externalize_saves_each_trace_once() {
+        InMemoryStore store = new InMemoryStore();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuthErrorStacktraceService service = service(store, true, registry);
+
+        AuthError a = authError("REQ-1", "trace-A");
+        AuthError b = authError("REQ-2", "trace-A");
+        AuthError c = authError("REQ-3", null);
+        service.externalize(List.of(a, b, c), NOW);
+
+        assertThat(a.getStacktrace()).isNull();
+        assertThat(a.getStacktraceHash()).isNotNull().isEqualTo(b.getStacktraceHash());
+        assertThat(c.getStacktraceHash()).isNull();
+        assertThat(store.saveCalls).containsExactly(Map.of(a.getStacktraceHash(), "trace-A"));
+
+        service.externalize(List.of(authError("REQ-4", "trace-A")), NOW);
+        assertThat(store.saveCalls).hasSize(1);
+        assertThat(registry.counter(UsecaseMetrics.METRIC_STACKTRACE_STORE_WRITE, UsecaseMetrics.TAG_RESULT, "cached").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("분리 전 행은 auth_error.stacktrace를 그대로, 분리된 행은 캐시 → 저장소 순으로 읽는다")
+    void resolve_reads_inline_or_external() {
+        InMemoryStore store = new InMemoryStore();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuthErrorStacktraceService writer = service(store, true, registry);
+        AuthError external = authError("REQ-1", "trace-B");
+        writer.externalize(List.of(external), NOW);
+
+        // 다른 인스턴스(캐시 없음)에서 읽는 경우
+        AuthErrorStacktraceService reader = service(store, false, registry);
+        assertThat(reader.resolve(authError("REQ-0", "inline"))).isEqualTo("inline");
+        assertThat(reader.resolve(external)).isEqualTo("trace-B");
+        assertThat(reader.resolve(external)).isEqualTo("trace-B");
+        assertThat(store.findCalls).isEqualTo(1);
+        assertThat(registry.counter(UsecaseMetrics.METRIC_STACKTRACE_STORE_CACHE, UsecaseMetrics.TAG_RESULT, "hit").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성이면 stacktrace를 auth_error에 그대로 둔다")
+    void disabled_keeps_inline() {
+        InMemoryStore store = new InMemoryStore();
+        AuthError a = authError("REQ-1", "trace-C");
+
+        service(store, false, new SimpleMeterRegistry()).externalize(List.of(a), NOW);
+
+        assertThat(a.getStacktrace()).isEqualTo("trace-C");
+        assertThat(a.getStacktraceHash()).isNull();
+        assertThat(store.saveCalls).isEmpty();
+    }
+
+    private static AuthErrorStacktraceService service(AuthErrorStacktraceStore store, boolean enabled,
+                                                      SimpleMeterRegistry registry) {
+        AuthErrorProperties props = new AuthErrorProperties();
+        props.getStacktraceStore().setEnabled(enabled);
+        props.getStacktraceStore().setCacheMaxEntries(100);
+        return new AuthErrorStacktraceService(store, props, registry);
+    }
+
+    private static AuthError authError(String requestId, String stacktrace) {
+        AuthError authError = AuthError.record(requestId, NOW, NOW, "auth-api", "test");
+        authError.applyExceptionContext("IllegalStateException", "msg", null, null, stacktrace, 401);
+        return authError;
+    }
+
+    private static final class InMemoryStore implements AuthErrorStacktraceStore {
+        private final Map<String, String> rows = new HashMap<>();
+        private final List<Map<String, String>> saveCalls = new ArrayList<>();
+        private int findCalls;
+
+        @Override
+        public void saveAllIfAbsent(Map<String, String> stacktraceByHash, OffsetDateTime now) {
+            saveCalls.add(Map.copyOf(stacktraceByHash));
+            stacktraceByHash.forEach(rows::putIfAbsent);
+        }
+
+        @Override
+        public Optional<String> findByHash(String traceHash) {
+            findCalls++;
+            return Optional.ofNullable(rows.get(traceHash));
+        }
+    }
+}
@@ -49,6 +49,7 @@ class RetryPublishRequestProcessorTest {
         );
         RetryPublishRequest request = request(10L, 2002L, 0);
 
+        when(publisher.publishAll(any())).thenCallRealMethod();
         doThrow(new RetryablePublishException("confirm timeout", null))
                 .when(publisher).publish(any());
         when(store.markForRetry(eq(10L), eq("owner-1"), eq(1), any(), eq("confirm timeout"), any()))
@@ -77,6 +78,7 @@ class RetryPublishRequestProcessorTest {
         );
         RetryPublishRequest request = request(11L, 3003L, 1);
 
+        when(publisher.publishAll(any())).thenCallRealMethod();
         doThrow(new RetryablePublishException("confirm timeout", null))
                 .when(publisher).publish(any());
         when(store.markDead(eq(11L), eq("owner-1"), eq(2), eq("confirm timeout"), any()))
@@ -0,0 +1,158 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractStubIntegrationTest;
+import com.yunhwan.auth.error.usecase.autherror.AuthErrorWriter;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorBatchWriteResult;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteCommand;
+import com.yunhwan.auth.error.usecase.autherror.dto.AuthErrorWriteResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRetentionResult;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxArchiveStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 보존 기간 관리(archive) 통합 테스트.
+ * <p>
+ * 1. archive-after가 지난 PUBLISHED/DEAD 행만 hot 테이블에서 created_at 일 단위 archive 파티션으로 옮긴다.
+ * 2. archive 이후에도 같은 requestId 재요청은 기존 authErrorId/outboxId를 돌려준다. (멱등성 유지)
+ * 3. archive 보존 기간이 지난 행/파티션은 지운다.
+ */
+@DisplayName("[TS-03B] Outbox archive/보존 기간 통합 테스트")
+class OutboxArchiveIntegrationTest extends AbstractStubIntegrationTest {
+
+    @Autowired
+    OutboxArchiver outboxArchiver;
+
+    @Autowired
+    OutboxArchiveStore outboxArchiveStore;
+
+    @Autowired
+    AuthErrorWriter authErrorWriter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[TS-03B] 보존 시작 기준이 지난 PUBLISHED 행은 archive 파티션으로 옮겨지고, 같은 requestId 재요청은 같은 outboxId를 돌려준다")
+    void archive된_outbox도_멱등_응답에_쓰인다() {
+        String requestId = "REQ-ARCHIVE-" + UUID.randomUUID();
+        AuthErrorWriteResult first = authErrorWriter.record(newTestCommand(requestId));
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(8);
+        age(first.outboxId(), "PUBLISHED", createdAt);
+
+        OutboxRetentionResult result = outboxArchiver.runOnce();
+
+        assertThat(result.archived()).isPositive();
+        assertThat(countHot(first.outboxId())).isZero();
+        assertThat(jdbcTemplate.queryForList(
+                "select tableoid::regclass::text from outbox_message_archive where id = ?", String.class, first.outboxId()))
+                .containsExactly("outbox_message_archive_p" + createdAt.toLocalDate().toString().replace("-", ""));
+
+        AuthErrorWriteResult again = authErrorWriter.record(newTestCommand(requestId));
+        List<AuthErrorBatchWriteResult> batch = authErrorWriter.recordBatch(List.of(newTestCommand(requestId)));
+
+        assertThat(again).isEqualTo(first);
+        assertThat(batch).singleElement().satisfies(r -> {
+            assertThat(r.duplicate()).isTrue();
+            assertThat(r.outboxId()).isEqualTo(first.outboxId());
+        });
+        // archive된 키로 hot 테이블에 새 outbox가 생기지 않는다.
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from outbox_message where aggregate_id = ?", Long.class, String.valueOf(first.authErrorId())))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("[TS-03B] 미처리 행과 보존 시작 기준 전의 행은 옮기지 않고, archive 보존 기간이 지난 행은 지우기만 한다")
+    void 미처리_행은_유지하고_보존_기간이_지난_행은_지운다() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        long pendingOld = insertOutbox("PENDING", now.minusDays(10));
+        long publishedRecent = insertOutbox("PUBLISHED", now.minusHours(1));
+        long deadExpired = insertOutbox("DEAD", now.minusDays(45));
+
+        OutboxRetentionResult result = outboxArchiver.runOnce();
+
+        assertThat(result.expired()).isPositive();
+        assertThat(countHot(pendingOld)).isEqualTo(1);
+        assertThat(countHot(publishedRecent)).isEqualTo(1);
+        assertThat(countHot(deadExpired)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from outbox_message_archive where id = ?", Long.class, deadExpired)).isZero();
+    }
+
+    @Test
+    @DisplayName("[TS-03B] 보존 기간 안의 archive 파티션은 미리 만들고, 지난 파티션은 detach 후 drop 한다")
+    void 보존_기간이_지난_archive_파티션은_drop_한다() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate expiredDay = today.minusDays(60);
+        outboxArchiveStore.createDailyPartition(expiredDay);
+        assertThat(outboxArchiveStore.findDailyPartitions()).contains(expiredDay);
+
+        outboxArchiver.runOnce();
+
+        assertThat(outboxArchiveStore.findDailyPartitions())
+                .doesNotContain(expiredDay)
+                .contains(today.minusDays(30), today);
+    }
+
+    private void age(long outboxId, String status, OffsetDateTime at) {
+        jdbcTemplate.update(
+                "update outbox_message set status = ?, created_at = ?, updated_at = ?, published_at = ? where id = ?",
+                status, at, at, at, outboxId);
+    }
+
+    private long insertOutbox(String status, OffsetDateTime at) {
+        String key = "TEST:ARCHIVE:" + UUID.randomUUID();
+        return jdbcTemplate.queryForObject(
+                """
+                insert into outbox_message
+                  (aggregate_type, aggregate_id, event_type, payload, idempotency_key, payload_hash,
+                   status, created_at, updated_at)
+                values ('TEST', ?, 'TEST_EVENT', '{}'::jsonb, ?, sha256(convert_to(?, 'UTF8')), ?, ?, ?)
+                returning id
+                """,
+                Long.class,
+                key, key, key, status, at, at
+        );
+    }
+
+    private long countHot(long outboxId) {
+        return jdbcTemplate.queryForObject("select count(*) from outbox_message where id = ?", Long.class, outboxId);
+    }
+
+    private AuthErrorWriteCommand newTestCommand(String requestId) {
+        return new AuthErrorWriteCommand(
+                requestId,
+                OffsetDateTime.now(),
+                401,
+                "TOKEN_EXPIRED",
+                "KEYCLOAK",
+                "WEB",
+                "/api/login",
+                null,
+                null,
+                null,
+                "POST",
+                "/api/login",
+                "127.0.0.1",
+                "JUnit",
+                "test-user",
+                "test-session",
+                "IllegalStateException",
+                "test exception",
+                null,
+                null,
+                null
+        );
+    }
+}
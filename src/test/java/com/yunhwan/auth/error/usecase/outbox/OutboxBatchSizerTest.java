@@ -0,0 +1,47 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxBatchSizer AIMD 테스트")
+class OutboxBatchSizerTest {
+
+    @Test
+    @DisplayName("가득 찬 batch의 publish 지연이 목표 이하이면 additiveStep만큼 늘고 max에서 멈춘다")
+    void 가득_찬_batch는_더해서_늘린다() {
+        OutboxBatchSizer sizer = new OutboxBatchSizer(50, 10, 70, 10, 0.5, 200);
+
+        sizer.onBatch(50, 50, 30);
+        assertThat(sizer.current()).isEqualTo(60);
+
+        sizer.onBatch(60, 60, 30);
+        sizer.onBatch(70, 70, 30);
+        assertThat(sizer.current()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("덜 찬 batch나 목표를 넘는 지연은 크기를 바꾸지 않는다")
+    void 덜_찬_batch나_지연_초과는_그대로다() {
+        OutboxBatchSizer sizer = new OutboxBatchSizer(50, 10, 500, 10, 0.5, 200);
+
+        sizer.onBatch(50, 49, 30);
+        sizer.onBatch(50, 50, 201);
+
+        assertThat(sizer.current()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("정체 신호는 곱해서 줄이고 min 아래로 내려가지 않는다")
+    void 정체는_곱해서_줄인다() {
+        OutboxBatchSizer sizer = new OutboxBatchSizer(50, 10, 500, 10, 0.5, 200);
+
+        sizer.onCongestion();
+        assertThat(sizer.current()).isEqualTo(25);
+
+        sizer.onCongestion();
+        sizer.onCongestion();
+        assertThat(sizer.current()).isEqualTo(10);
+    }
+}
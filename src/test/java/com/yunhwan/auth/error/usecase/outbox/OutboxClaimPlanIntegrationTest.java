@@ -0,0 +1,116 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.infra.persistence.jpa.OutboxJpaRepository;
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 큰 PENDING backlog에서 claim 쿼리가 정렬 없이 batch만큼만 읽는지 실행 계획으로 확인한다. (V23)
+ * <p>
+ * 합성 backlog는 한 트랜잭션 안에서 만들고 rollback 한다.
+ * 기본 행 수는 계획 모양만 확인할 만큼 작고, 5M 행은 ./gradlew claimPlanTest 로 돌린다.
+ */
+@DisplayName("[TS-03E] Outbox claim 실행 계획 회귀 테스트")
+class OutboxClaimPlanIntegrationTest extends AbstractIntegrationTest {
+
+    private static final long BACKLOG_ROWS = Long.getLong("outbox.claim-plan.rows", 50_000L);
+    private static final int BATCH_SIZE = 50;
+    private static final int PARTITIONS = 16;
+    private static final String SCOPE = "PLAN-SCOPE-";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void vacuum() {
+        // rollback된 합성 행을 정리하고 통계를 되돌린다.
+        jdbcTemplate.execute("vacuum analyze outbox_message");
+    }
+
+    @Test
+    @DisplayName("[TS-03E] claim과 파티션 claim은 갈래별 부분 index를 순서대로 batch만큼만 읽고, scope claim은 접두어 index로 찾는다")
+    void claim은_정렬_없이_batch만큼만_읽는다() {
+        transactionTemplate.executeWithoutResult(status -> {
+            seedBacklog();
+
+            String due = explainAnalyze(OutboxJpaRepository.CLAIM_DUE_SQL);
+            assertThat(due).doesNotContain("Seq Scan");
+            assertThat(actualRows(due, "ix_outbox_message_claim_new")).isLessThanOrEqualTo(BATCH_SIZE);
+            assertThat(actualRows(due, "ix_outbox_message_claim_retry")).isLessThanOrEqualTo(BATCH_SIZE);
+
+            String scoped = explainAnalyze(OutboxJpaRepository.CLAIM_SCOPED_SQL
+                    .replace(":scopeFrom", "'" + SCOPE + "'")
+                    .replace(":scopeTo", "'PLAN-SCOPE.'"));
+            assertThat(scoped).contains("ix_outbox_message_claim_scope");
+            assertThat(scoped).doesNotContain("Seq Scan");
+
+            // 파티션 claim(V22): 같은 index를 읽으며 hash 구간 밖 행만 거른다.
+            String partition = explainAnalyze(OutboxJpaRepository.CLAIM_PARTITION_SQL
+                    .replace(":hashFrom", "0")
+                    .replace(":hashTo", String.valueOf((1L << 31) / PARTITIONS)));
+            assertThat(partition).doesNotContain("Seq Scan");
+            assertThat(actualRows(partition, "ix_outbox_message_claim_new")).isLessThanOrEqualTo(BATCH_SIZE);
+            assertThat(actualRows(partition, "ix_outbox_message_claim_retry")).isLessThanOrEqualTo(BATCH_SIZE);
+
+            status.setRollbackOnly();
+        });
+    }
+
+    /**
+     * 70% 새 행, 10% 재시도 due(1시간 전), 10% 재시도 대기(1시간 뒤), 10% 발행 완료.
+     * 5000건 중 1건은 SCOPE 접두어를 쓴다. created_at은 다른 테스트가 남긴 행보다 앞서도록 하루 전부터 1ms 간격이다.
+     */
+    private void seedBacklog() {
+        jdbcTemplate.update(
+                """
+                insert into outbox_message
+                    (aggregate_type, aggregate_id, event_type, payload, idempotency_key, status,
+                     next_retry_at, created_at, updated_at, payload_hash)
+                select 'PLAN',
+                       case when g % 5000 = 0 then ? || g else 'PLAN-' || g end,
+                       'PLAN_V1',
+                       '{}'::jsonb,
+                       'PLAN:' || ? || ':' || g,
+                       case when g % 10 = 0 then 'PUBLISHED' else 'PENDING' end,
+                       case g % 10 when 1 then now() + interval '1 hour'
+                                   when 2 then now() - interval '1 hour' end,
+                       now() - interval '1 day' + g * interval '1 millisecond',
+                       now(),
+                       sha256(int8send(g))
+                  from generate_series(1, ?) g
+                """,
+                SCOPE, UUID.randomUUID().toString(), BACKLOG_ROWS
+        );
+        jdbcTemplate.execute("analyze outbox_message");
+    }
+
+    private String explainAnalyze(String claimSql) {
+        String sql = claimSql
+                .replace(":batchSize", String.valueOf(BATCH_SIZE))
+                .replace(":owner", "'plan-test'")
+                .replace(":now", "cast('" + OffsetDateTime.now(ZoneOffset.UTC) + "' as timestamptz)");
+        return String.join("\n", jdbcTemplate.queryForList(
+                "explain (analyze, costs off, timing off, summary off) " + sql, String.class));
+    }
+
+    private static long actualRows(String plan, String index) {
+        Matcher m = Pattern.compile("Index Scan using " + index + " on outbox_message.*\\(actual rows=(\\d+)").matcher(plan);
+        assertThat(m.find()).as("index scan on %s in plan:\n%s", index, plan).isTrue();
+        return Long.parseLong(m.group(1));
+    }
+}
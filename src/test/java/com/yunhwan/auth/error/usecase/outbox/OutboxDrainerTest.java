@@ -0,0 +1,147 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.usecase.autherror.dto.IngestPressureSignals;
+import com.yunhwan.auth.error.usecase.autherror.port.IngestPressureSource;
+import com.yunhwan.auth.error.usecase.outbox.config.OutboxProperties;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxClaimResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxDrainResult;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxProcessResult;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxDrainer 반복/멈춤/backoff 테스트")
+class OutboxDrainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final OutboxPoller poller = mock(OutboxPoller.class);
+    private final OutboxProcessor processor = mock(OutboxProcessor.class);
+    private final IngestPressureSource pressureSource = mock(IngestPressureSource.class);
+    private final OutboxMessageStore outboxMessageStore = mock(OutboxMessageStore.class);
+    private final OutboxProperties props = new OutboxProperties();
+    private final OutboxMessage message = mock(OutboxMessage.class);
+
+    @BeforeEach
+    void setUp() {
+        props.getPoller().setBatchSize(50);
+        when(pressureSource.current()).thenReturn(IngestPressureSignals.NONE);
+        when(outboxMessageStore.findEarliestRetryAfter(any())).thenReturn(Optional.empty());
+        when(processor.processBatch(anyString(), anyList()))
+                .thenAnswer(inv -> new OutboxProcessResult(inv.<List<?>>getArgument(1).size(), 0, 10));
+    }
+
+    @Test
+    @DisplayName("batch가 가득 차 있는 동안 이어서 claim 하고, 덜 찬 batch에서 멈춘다")
+    void 가득_찬_batch는_이어서_돈다() {
+        when(poller.pollOnce(any(), anyInt())).thenReturn(claimed(50), claimed(60), claimed(3));
+
+        OutboxDrainResult result = drainer().drain();
+
+        assertThat(result.batches()).isEqualTo(3);
+        assertThat(result.claimed()).isEqualTo(113);
+        assertThat(result.idle()).isFalse();
+        assertThat(result.nextRetryIn()).isNull();
+        // 가득 찬 batch마다 additive-step(10)만큼 늘려 요청한다.
+        verify(poller).pollOnce(null, 50);
+        verify(poller).pollOnce(null, 60);
+        verify(poller).pollOnce(null, 70);
+        verify(outboxMessageStore, never()).findEarliestRetryAfter(any());
+    }
+
+    @Test
+    @DisplayName("adaptive 비활성이면 가득 찬 batch여도 한 번만 돈다")
+    void adaptive_비활성이면_한_번만_돈다() {
+        props.getPoller().getAdaptive().setEnabled(false);
+        when(poller.pollOnce(any(), anyInt())).thenReturn(claimed(50));
+
+        OutboxDrainer drainer = drainer();
+        OutboxDrainResult result = drainer.drain();
+
+        assertThat(result.batches()).isEqualTo(1);
+        assertThat(drainer.currentBatchSize()).isEqualTo(50);
+        verify(poller, times(1)).pollOnce(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("confirm timeout이 있으면 다음 batch를 줄여서 요청한다")
+    void confirm_timeout은_batch를_줄인다() {
+        when(poller.pollOnce(any(), anyInt())).thenReturn(claimed(50), claimed(0));
+        when(processor.processBatch(anyString(), anyList()))
+                .thenReturn(new OutboxProcessResult(49, 1, 10), OutboxProcessResult.EMPTY);
+
+        OutboxDrainer drainer = drainer();
+        drainer.drain();
+
+        verify(poller).pollOnce(null, 25);
+        assertThat(drainer.currentBatchSize()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Hikari 대기 스레드가 threshold를 넘을 때만 DB 압력으로 줄인다")
+    void hikari_대기는_threshold를_넘어야_줄인다() {
+        props.getPoller().getAdaptive().setHikariPendingThreshold(2);
+        when(poller.pollOnce(any(), anyInt())).thenReturn(claimed(10));
+        OutboxDrainer drainer = drainer();
+
+        when(pressureSource.current()).thenReturn(pending(2));
+        drainer.drain();
+        assertThat(drainer.currentBatchSize()).isEqualTo(50);
+
+        when(pressureSource.current()).thenReturn(pending(3));
+        drainer.drain();
+        assertThat(drainer.currentBatchSize()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("비어 있는 drain은 가장 이른 재시도 대기 시각을 돌려주고, idle backoff는 그때까지로 잘린다")
+    void 비어_있으면_재시도_시각까지만_쉰다() {
+        when(poller.pollOnce(any(), anyInt())).thenReturn(claimed(0));
+        OffsetDateTime now = OffsetDateTime.now(CLOCK);
+        when(outboxMessageStore.findEarliestRetryAfter(now)).thenReturn(Optional.of(now.plusSeconds(2)));
+
+        OutboxDrainResult result = drainer().drain();
+
+        assertThat(result.idle()).isTrue();
+        assertThat(result.nextRetryIn()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(result.capIdleDelay(5_000, 500)).isEqualTo(2_000);
+        assertThat(result.capIdleDelay(1_000, 500)).isEqualTo(1_000);
+        assertThat(new OutboxDrainResult(1, 0, Duration.ofMillis(10)).capIdleDelay(5_000, 500)).isEqualTo(500);
+        assertThat(new OutboxDrainResult(1, 0, null).capIdleDelay(5_000, 500)).isEqualTo(5_000);
+    }
+
+    private OutboxDrainer drainer() {
+        return new OutboxDrainer(poller, processor, pressureSource, outboxMessageStore, CLOCK, props, new SimpleMeterRegistry());
+    }
+
+    private OutboxClaimResult claimed(int size) {
+        return new OutboxClaimResult("owner-1", Collections.nCopies(size, message));
+    }
+
+    private static IngestPressureSignals pending(long threads) {
+        return new IngestPressureSignals(0, 0, 0, 0, threads);
+    }
+}
@@ -0,0 +1,63 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.testsupport.base.AbstractIntegrationTest;
+import com.yunhwan.auth.error.testsupport.fixtures.OutboxFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-03C] Outbox 적재 알림(LISTEN/NOTIFY) 통합 테스트")
+class OutboxNotifyTriggerIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CHANNEL = "outbox_message_pending";
+
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    OutboxFixtures fixtures;
+
+    @Test
+    @DisplayName("[TS-03C] 새 outbox 행은 commit 시 알림을 보내고, 기존 행을 돌려준 upsert는 알리지 않는다")
+    void 새_행만_알림을_보낸다() throws Exception {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(true);
+            try (Statement st = conn.createStatement()) {
+                st.execute("LISTEN " + CHANNEL);
+            }
+            PGConnection pg = conn.unwrap(PGConnection.class);
+            drain(pg);
+
+            String reqId = "REQ-NOTIFY-" + UUID.randomUUID();
+            fixtures.createAuthErrorMessage(null, reqId, "{\"val\":\"notify\"}");
+
+            PGNotification[] received = pg.getNotifications(5_000);
+            assertThat(received).isNotEmpty();
+            assertThat(received).allSatisfy(n -> assertThat(n.getName()).isEqualTo(CHANNEL));
+
+            // 같은 키/payload 재적재: 삽입 0건
+            fixtures.createAuthErrorMessage(null, reqId, "{\"val\":\"notify\"}");
+
+            PGNotification[] none = pg.getNotifications(300);
+            assertThat(none == null ? 0 : none.length).isZero();
+        }
+    }
+
+    private static void drain(PGConnection pg) throws Exception {
+        // 다른 테스트가 남긴 알림은 버린다.
+        while (true) {
+            PGNotification[] pending = pg.getNotifications(100);
+            if (pending == null || pending.length == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -147,4 +147,44 @@ class OutboxProcessingIntegrationTest extends AbstractStubIntegrationTest {
                 .withFailMessage("에러 메시지가 기록되어야 합니다.")
                 .contains("Test exception");
     }
+
+    @Test
+    @DisplayName("[TS-08] 결과 분류별로 한 번에 마감하고, owner가 바뀐 행만 건너뛴다")
+    void 결과_분류별로_한번에_마감하고_owner가_바뀐_행만_건너뛴다() {
+        // Given: 3건 claim, 첫 publish만 retryable 실패
+        String scope = newTestScope();
+        for (int i = 0; i < 3; i++) {
+            fixtures.createAuthErrorMessage(scope, "REQ-BATCH-" + i + "-" + UUID.randomUUID(), "{\"val\":\"batch\"}");
+        }
+        testPublisher.failNextRetryable();
+
+        OutboxClaimResult result = poller.pollOnce(scope);
+        List<OutboxMessage> claimed = result.claimed();
+        assertThat(claimed).hasSize(3);
+
+        // 마감 전에 다른 owner가 세 번째 행을 takeover
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        assertThat(outboxMessageStore.takeoverStaleProcessing(claimed.get(2).getId(), "other-owner", now, now.plusMinutes(1)))
+                .isEqualTo(1);
+
+        // When
+        int affected = processor.process(result.owner(), claimed);
+
+        // Then: 처리 순서대로 RETRY / PUBLISHED, takeover된 행은 건너뛴다
+        assertThat(affected).isEqualTo(2);
+
+        OutboxMessage retried = outboxMessageStore.findById(claimed.get(0).getId()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retried.getRetryCount()).isEqualTo(1);
+        assertThat(retried.getNextRetryAt()).isNotNull();
+        assertThat(retried.getLastError()).contains("Test exception");
+
+        OutboxMessage published = outboxMessageStore.findById(claimed.get(1).getId()).orElseThrow();
+        assertThat(published.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(published.getPublishedAt()).isNotNull();
+
+        OutboxMessage skipped = outboxMessageStore.findById(claimed.get(2).getId()).orElseThrow();
+        assertThat(skipped.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(skipped.getProcessingOwner()).isEqualTo("other-owner");
+    }
 }
@@ -0,0 +1,149 @@
+package com.yunhwan.auth.error.usecase.outbox;
+
+import com.yunhwan.auth.error.domain.outbox.OutboxMessage;
+import com.yunhwan.auth.error.testsupport.base.AbstractStubIntegrationTest;
+import com.yunhwan.auth.error.usecase.outbox.dto.OutboxRelayPartition;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxMessageStore;
+import com.yunhwan.auth.error.usecase.outbox.port.OutboxRelayLeaseStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("[TS-03D] Outbox 파티션 relay 통합 테스트")
+class OutboxRelayPartitionIntegrationTest extends AbstractStubIntegrationTest {
+
+    private static final int PARTITIONS = 16;
+
+    @Autowired
+    OutboxClaimer claimer;
+    @Autowired
+    OutboxMessageStore outboxMessageStore;
+    @Autowired
+    OutboxRelayLeaseStore leaseStore;
+    @Autowired
+    OutboxRelayCoordinator coordinator;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    Clock clock;
+
+    @BeforeEach
+    void clearLeases() {
+        jdbcTemplate.update("delete from outbox_relay_lease");
+        jdbcTemplate.update("delete from outbox_relay_member");
+    }
+
+    @Test
+    @DisplayName("[TS-03D] 파티션 claim은 자기 hash 구간만 가져오고, 같은 aggregate는 앞 행이 끝나야 다음 행을 가져온다")
+    void 파티션_claim은_aggregate_순서를_지킨다() {
+        String aggregateId = newTestScope() + "AGG-" + UUID.randomUUID();
+        OutboxMessage first = insert(aggregateId, "EVT_1");
+        OutboxMessage second = insert(aggregateId, "EVT_2");
+
+        OutboxRelayPartition mine = partitionOf(first.getId());
+        OutboxRelayPartition other = new OutboxRelayPartition((mine.partitionNo() + 1) % PARTITIONS, PARTITIONS);
+        String owner = "relay-test-" + UUID.randomUUID();
+
+        assertThat(ids(claimer.claimPartition(500, owner, other))).doesNotContain(first.getId(), second.getId());
+
+        List<Long> claimed = ids(claimer.claimPartition(500, owner, mine));
+        assertThat(claimed).contains(first.getId()).doesNotContain(second.getId());
+
+        // 앞 행이 PROCESSING인 동안에도 다음 행은 막힌다.
+        assertThat(ids(claimer.claimPartition(500, owner, mine))).doesNotContain(second.getId());
+
+        outboxMessageStore.markPublished(first.getId(), owner, OffsetDateTime.now(clock));
+        assertThat(ids(claimer.claimPartition(500, owner, mine))).contains(second.getId());
+    }
+
+    @Test
+    @DisplayName("[TS-03D] 앞 행이 재시도 대기 중이면 같은 aggregate의 뒤 행도 기다리고, 재시도 시각이 지나면 앞 행부터 가져온다")
+    void 재시도_대기_중인_앞_행이_뒤_행을_막는다() {
+        String aggregateId = newTestScope() + "AGG-" + UUID.randomUUID();
+        OutboxMessage first = insert(aggregateId, "EVT_1");
+        OutboxMessage second = insert(aggregateId, "EVT_2");
+
+        OutboxRelayPartition mine = partitionOf(first.getId());
+        String owner = "relay-test-" + UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        assertThat(ids(claimer.claimPartition(500, owner, mine))).contains(first.getId());
+        assertThat(outboxMessageStore.markForRetry(first.getId(), owner, 1, now.plusHours(1), "boom", now)).isEqualTo(1);
+
+        assertThat(ids(claimer.claimPartition(500, owner, mine))).doesNotContain(first.getId(), second.getId());
+
+        outboxMessageStore.setNextRetryAt(first.getId(), now.minusSeconds(1), now);
+        List<Long> claimed = ids(claimer.claimPartition(500, owner, mine));
+        assertThat(claimed).contains(first.getId()).doesNotContain(second.getId());
+    }
+
+    @Test
+    @DisplayName("[TS-03D] 다른 인스턴스가 쥔 lease는 만료 전에는 가져오지 못하고, 만료 후에는 가져온다")
+    void lease는_만료_후에만_넘어간다() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        assertThat(leaseStore.acquire("relay-a", List.of(0, 1), now, now.plusSeconds(10))).containsExactlyInAnyOrder(0, 1);
+        assertThat(leaseStore.acquire("relay-b", List.of(1, 2), now, now.plusSeconds(10))).containsExactly(2);
+
+        // 자기 lease는 연장된다.
+        assertThat(leaseStore.acquire("relay-a", List.of(1), now.plusSeconds(5), now.plusSeconds(15))).containsExactly(1);
+
+        OffsetDateTime later = now.plusSeconds(20);
+        assertThat(leaseStore.acquire("relay-b", List.of(1), later, later.plusSeconds(10))).containsExactly(1);
+
+        assertThat(leaseStore.releaseExcept("relay-a", List.of(1))).isEqualTo(1);
+        assertThat(leaseStore.acquire("relay-b", List.of(0), now, now.plusSeconds(10))).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("[TS-03D] 살아 있는 인스턴스 사이에 파티션을 나누고, 빠진 인스턴스의 lease는 반납 후 넘어간다")
+    void 살아_있는_인스턴스끼리_파티션을_나눈다() {
+        // owner 정렬 순서상 항상 이 인스턴스(ownerResolver) 앞에 오는 다른 인스턴스
+        String peer = "";
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        leaseStore.heartbeat(peer, now, now.minusMinutes(1));
+
+        List<OutboxRelayPartition> owned = coordinator.rebalance();
+
+        assertThat(owned).isNotEmpty()
+                .allSatisfy(p -> assertThat(p.partitionNo() % 2).isEqualTo(1))
+                .allSatisfy(p -> assertThat(p.partitionCount()).isEqualTo(PARTITIONS));
+
+        // peer가 빠지면(leave) 전체를 가져온다.
+        leaseStore.leave(peer);
+        assertThat(coordinator.rebalance()).hasSize(PARTITIONS);
+
+        coordinator.leave();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_relay_lease", Integer.class)).isZero();
+    }
+
+    private OutboxMessage insert(String aggregateId, String eventType) {
+        return outboxMessageStore.upsertReturning(
+                "AUTH_ERROR",
+                aggregateId,
+                eventType,
+                "{\"val\":\"" + eventType + "\"}",
+                "AUTH_ERROR:" + aggregateId + ":" + eventType,
+                "ab".repeat(32),
+                OffsetDateTime.now(clock)
+        );
+    }
+
+    private OutboxRelayPartition partitionOf(long id) {
+        long hash = jdbcTemplate.queryForObject("select relay_hash from outbox_message where id = ?", Long.class, id);
+        return new OutboxRelayPartition((int) (hash * PARTITIONS / (1L << 31)), PARTITIONS);
+    }
+
+    private static List<Long> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getId).toList();
+    }
+}